@@ -54,4 +54,73 @@ public @interface ContainerCache {
      * @since 2.4.0
      */
     TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * <p>Whether to coalesce concurrent loads of the same keys.<br />
+     * If enabled, when multiple threads miss the cache for the same key at the same time,
+     * only one of them will actually load it from the container,
+     * and the others will wait for the result of that load.
+     *
+     * @return whether to coalesce concurrent loads
+     * @since 2.8.0
+     */
+    boolean coalesceLoading() default false;
+
+    /**
+     * The maximum time in milliseconds to wait for a load
+     * which is performed by another thread when {@link #coalesceLoading()} is enabled,
+     * if the load is not completed in time, the keys will be loaded from the container directly.
+     *
+     * @return time to wait, in milliseconds
+     * @since 2.8.0
+     */
+    long coalesceTimeout() default 3000L;
+
+    /**
+     * <p>The time to live of the negative cache,
+     * which is used to cache the keys that have no corresponding value in the container,
+     * its time unit is same as {@link #timeUnit()}.<br />
+     * Default to 0L, which means the negative cache is disabled,
+     * and if it is less than 0, the negative cache will never proactive evict.
+     *
+     * @return time to live of the negative cache
+     * @since 2.8.0
+     */
+    long negativeExpirationTime() default 0L;
+
+    /**
+     * <p>The time after which the cached value will be refreshed asynchronously,
+     * its time unit is same as {@link #timeUnit()}.<br />
+     * When a cached value older than it is requested, the stale value will be returned directly,
+     * and a background task will reload it from the container,
+     * the {@link #expirationTime()} still works as the hard limit of the cached value.<br />
+     * Default to -1L, which means the refresh-ahead is disabled.
+     *
+     * @return time to refresh
+     * @since 2.8.0
+     */
+    long refreshTime() default -1L;
+
+    /**
+     * <p>The maximum number of entries the cache may contain.<br />
+     * It only works when the cache manager supports size-bounded cache,
+     * such as {@code CaffeineCacheManager}.<br />
+     * Default to -1L, which means the default bound of the cache manager will be used.
+     *
+     * @return maximum size
+     * @since 2.8.0
+     */
+    long maximumSize() default -1L;
+
+    /**
+     * <p>The maximum weight of entries the cache may contain,
+     * the weight of each entry is computed by the weigher registered in the cache manager.<br />
+     * It only works when the cache manager supports weight-bounded cache,
+     * such as {@code CaffeineCacheManager}, and it takes precedence over {@link #maximumSize()}.<br />
+     * Default to -1L, which means the cache is not bounded by weight.
+     *
+     * @return maximum weight
+     * @since 2.8.0
+     */
+    long maximumWeight() default -1L;
 }
@@ -1,5 +1,6 @@
 package cn.crane4j.core.cache;
 
+import cn.crane4j.core.util.CollectionUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -7,11 +8,16 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Abstract cache manager.
@@ -22,6 +28,9 @@ import java.util.concurrent.TimeUnit;
 public abstract class AbstractCacheManager implements CacheManager {
 
     private final ConcurrentMap<String, AbstractCacheObject<?>> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+    private final List<Consumer<CacheStatistics>> statisticsListeners = new CopyOnWriteArrayList<>();
+    private final Set<String> publishedStatistics = ConcurrentHashMap.newKeySet();
 
     /**
      * Get cache instance by name,
@@ -46,19 +55,104 @@ public abstract class AbstractCacheManager implements CacheManager {
      * @param timeUnit   time unit
      * @return cache instance
      */
-    @SuppressWarnings("unchecked")
     @NonNull
     @Override
     public <K> CacheObject<K> createCache(
         String name, Long expireTime, TimeUnit timeUnit) {
-        AbstractCacheObject<Object> cacheObject = doCreateCache(name, expireTime, timeUnit);
-        AbstractCacheObject<?> old = caches.put(name, cacheObject);
+        return createCache(new CacheDefinition.Impl(name, null, expireTime, timeUnit));
+    }
+
+    /**
+     * Create cache instance by the cache definition, if cache instance already created,
+     * remove the old cache instance and create a new cache instance.
+     *
+     * @param definition cache definition
+     * @return cache instance
+     * @since 2.8.0
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    @Override
+    public <K> CacheObject<K> createCache(CacheDefinition definition) {
+        CacheStatistics cacheStatistics = getOrCreateStatistics(definition.getName());
+        AbstractCacheObject<Object> cacheObject = doCreateCache(definition);
+        cacheObject.setNegativeExpireTime(resolveNegativeExpireTime(definition));
+        cacheObject.setStatistics(cacheStatistics);
+        cacheStatistics.bindSize(cacheObject::size);
+        AbstractCacheObject<?> old = caches.put(definition.getName(), cacheObject);
         if (Objects.nonNull(old)) {
             invalidate(old);
         }
+        // notify the listeners after the statistics is bound to the cache,
+        // so that they can know whether the size and evictions are supported
+        if (publishedStatistics.add(definition.getName())) {
+            statisticsListeners.forEach(listener -> listener.accept(cacheStatistics));
+        }
         return (CacheObject<K>)cacheObject;
     }
 
+    private static long resolveNegativeExpireTime(CacheDefinition definition) {
+        long negativeExpireTime = definition.getNegativeExpireTime();
+        if (negativeExpireTime <= 0L) {
+            return negativeExpireTime;
+        }
+        TimeUnit timeUnit = Objects.isNull(definition.getTimeUnit()) ?
+            TimeUnit.MILLISECONDS : definition.getTimeUnit();
+        return Math.max(1L, timeUnit.toMillis(negativeExpireTime));
+    }
+
+
+    /**
+     * Get the statistics of the cache with the specified name,
+     * if the statistics still not created, create it.<br />
+     * The statistics will be retained even if the cache is removed or recreated,
+     * and the listeners will be notified after the first cache with the name is created.
+     *
+     * @param name cache name
+     * @return statistics
+     * @since 2.8.0
+     */
+    protected CacheStatistics getOrCreateStatistics(String name) {
+        return CollectionUtils.computeIfAbsent(statistics, name, CacheStatistics::new);
+    }
+
+    /**
+     * Get the statistics of the cache with the specified name,
+     * if the cache still not created by {@link #createCache}, return null.
+     *
+     * @param name cache name
+     * @return statistics
+     * @since 2.8.0
+     */
+    @Nullable
+    @Override
+    public CacheStatistics getStatistics(String name) {
+        return statistics.get(name);
+    }
+
+    /**
+     * Get the statistics of all caches which are created by this manager.
+     *
+     * @return statistics
+     * @since 2.8.0
+     */
+    @Override
+    public Collection<CacheStatistics> getAllStatistics() {
+        return Collections.unmodifiableCollection(statistics.values());
+    }
+
+    /**
+     * Add a listener which will be called when the statistics of a cache is created and bound to the cache,
+     * the statistics which are already bound will be passed to the listener immediately.
+     *
+     * @param listener listener
+     * @since 2.8.0
+     */
+    @Override
+    public void addStatisticsListener(Consumer<CacheStatistics> listener) {
+        statisticsListeners.add(listener);
+        publishedStatistics.forEach(name -> listener.accept(statistics.get(name)));
+    }
 
     /**
      * Remove cache.
@@ -96,6 +190,18 @@ public abstract class AbstractCacheManager implements CacheManager {
     @NonNull
     protected abstract <K> AbstractCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit);
 
+    /**
+     * Create cache instance by the cache definition.
+     *
+     * @param definition cache definition
+     * @return cache instance
+     * @since 2.8.0
+     */
+    @NonNull
+    protected <K> AbstractCacheObject<K> doCreateCache(CacheDefinition definition) {
+        return doCreateCache(definition.getName(), definition.getExpireTime(), definition.getTimeUnit());
+    }
+
     /**
      * Invalidate cache.
      *
@@ -119,5 +225,98 @@ public abstract class AbstractCacheManager implements CacheManager {
         @Setter
         private volatile boolean invalid = false;
         private final String name;
+
+        /**
+         * Expire time of the negative cache in milliseconds,
+         * 0 means the negative cache is disabled, and less than 0 means never expire.
+         *
+         * @since 2.8.0
+         */
+        @Setter
+        private long negativeExpireTime = 0L;
+
+        /**
+         * Statistics of the cache, it's set by cache manager after the cache object is created.
+         *
+         * @since 2.8.0
+         */
+        @NonNull
+        @Setter
+        private volatile CacheStatistics statistics = CacheStatistics.NONE;
+
+        /**
+         * Whether the negative cache is enabled.
+         *
+         * @return boolean
+         * @since 2.8.0
+         */
+        protected boolean isNegativeCacheEnabled() {
+            return negativeExpireTime != 0L;
+        }
+
+        /**
+         * <p>Add a negative cache for the key.<br />
+         * The default implementation stores a {@link NegativeEntry} by {@link #put},
+         * the subclass which uses it should resolve the stored value by {@link #resolveValue}.
+         *
+         * @param key key
+         * @since 2.8.0
+         */
+        @Override
+        public void putNegative(K key) {
+            if (isNegativeCacheEnabled()) {
+                long expireAt = negativeExpireTime < 0L ?
+                    Long.MAX_VALUE : System.currentTimeMillis() + negativeExpireTime;
+                put(key, new NegativeEntry(expireAt));
+            }
+        }
+
+        /**
+         * Resolve the stored value, if it's an expired {@link NegativeEntry},
+         * remove it by {@link #removeExpiredNegativeEntry}.
+         *
+         * @param key key
+         * @param value stored value
+         * @return {@link #NEGATIVE_VALUE} if the value is an unexpired negative entry, otherwise the value itself
+         * @since 2.8.0
+         */
+        @Nullable
+        protected Object resolveValue(K key, @Nullable Object value) {
+            if (!(value instanceof NegativeEntry)) {
+                return value;
+            }
+            if (((NegativeEntry)value).getExpireAt() > System.currentTimeMillis()) {
+                return NEGATIVE_VALUE;
+            }
+            removeExpiredNegativeEntry(key, (NegativeEntry)value);
+            return null;
+        }
+
+        /**
+         * <p>Remove the expired negative entry of the key,
+         * only if the key is still mapped to the given entry,
+         * so that the value put by other threads after the entry is read will not be removed.<br />
+         * The default implementation does nothing, the expired entry will be ignored until it is overwritten.
+         *
+         * @param key key
+         * @param entry expired negative entry which is read from the cache
+         * @see #resolveValue
+         * @since 2.8.0
+         */
+        protected void removeExpiredNegativeEntry(K key, NegativeEntry entry) {
+            // do nothing
+        }
+    }
+
+    /**
+     * The stored value of the negative cache.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    protected static class NegativeEntry {
+        private final long expireAt;
     }
 }
@@ -81,7 +81,7 @@ public abstract class AbstractMapCacheManager extends AbstractCacheManager {
         @Nullable
         @Override
         public Object get(K key) {
-            return map.get(key);
+            return resolveValue(key, map.get(key));
         }
 
         /**
@@ -116,6 +116,27 @@ public abstract class AbstractMapCacheManager extends AbstractCacheManager {
             map.remove(key);
         }
 
+        /**
+         * Remove the expired negative entry only if the key is still mapped to it.
+         *
+         * @param key key
+         * @param entry expired negative entry which is read from the cache
+         */
+        @Override
+        protected void removeExpiredNegativeEntry(K key, NegativeEntry entry) {
+            map.remove(key, entry);
+        }
+
+        /**
+         * Get the current size of the cache.
+         *
+         * @return size
+         */
+        @Override
+        public long size() {
+            return map.size();
+        }
+
         /**
          * Clear all cache value.
          */
@@ -2,6 +2,7 @@ package cn.crane4j.core.cache;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.concurrent.TimeUnit;
@@ -44,6 +45,78 @@ public interface CacheDefinition {
      */
     TimeUnit getTimeUnit();
 
+    /**
+     * Whether to coalesce concurrent loads of the same keys into one load.
+     *
+     * @return whether to coalesce concurrent loads
+     * @see CacheableContainer
+     * @since 2.8.0
+     */
+    default boolean isCoalesceLoading() {
+        return false;
+    }
+
+    /**
+     * Get the maximum time in milliseconds to wait for a load which is performed by another thread.
+     *
+     * @return time to wait, in milliseconds
+     * @see CacheableContainer
+     * @since 2.8.0
+     */
+    default long getCoalesceTimeout() {
+        return 3000L;
+    }
+
+    /**
+     * <p>Get the expiry time of the negative cache,
+     * which is used to cache the keys that have no corresponding value in the container.<br />
+     * If it is 0, the negative cache is disabled,
+     * and if it is less than 0, the negative cache will never proactive evict.
+     *
+     * @return expire time of the negative cache, its time unit is same as {@link #getTimeUnit()}
+     * @see CacheObject#putNegative
+     * @since 2.8.0
+     */
+    default long getNegativeExpireTime() {
+        return 0L;
+    }
+
+    /**
+     * <p>Get the time after which the cached value will be refreshed asynchronously.<br />
+     * If it is less than or equal to 0, the refresh-ahead is disabled.
+     *
+     * @return refresh time, its time unit is same as {@link #getTimeUnit()}
+     * @see CacheableContainer
+     * @since 2.8.0
+     */
+    default long getRefreshTime() {
+        return -1L;
+    }
+
+    /**
+     * <p>Get the maximum number of entries the cache may contain.<br />
+     * If it is less than or equal to 0, the default bound of the cache manager will be used.
+     *
+     * @return maximum size
+     * @see CaffeineCacheManager
+     * @since 2.8.0
+     */
+    default long getMaximumSize() {
+        return -1L;
+    }
+
+    /**
+     * <p>Get the maximum weight of entries the cache may contain.<br />
+     * If it is less than or equal to 0, the cache is not bounded by weight.
+     *
+     * @return maximum weight
+     * @see CaffeineCacheManager
+     * @since 2.8.0
+     */
+    default long getMaximumWeight() {
+        return -1L;
+    }
+
     /**
      * <p>Implementation of {@link CacheDefinition}.
      *
@@ -57,5 +130,17 @@ public interface CacheDefinition {
         private final String cacheManager;
         private final Long expireTime;
         private final TimeUnit timeUnit;
+        @Setter
+        private boolean coalesceLoading = false;
+        @Setter
+        private long coalesceTimeout = 3000L;
+        @Setter
+        private long negativeExpireTime = 0L;
+        @Setter
+        private long refreshTime = -1L;
+        @Setter
+        private long maximumSize = -1L;
+        @Setter
+        private long maximumWeight = -1L;
     }
 }
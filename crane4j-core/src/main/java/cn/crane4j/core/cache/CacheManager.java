@@ -4,7 +4,10 @@ import cn.crane4j.core.support.NamedComponent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * {@link CacheObject} manager.
@@ -14,12 +17,15 @@ import java.util.concurrent.TimeUnit;
  * @see GuavaCacheManager
  * @see AbstractMapCacheManager#newWeakConcurrentMapCacheManager()
  * @see AbstractMapCacheManager#newConcurrentHashMapCacheManager()
+ * @see TwoLevelCacheManager
+ * @see CaffeineCacheManager
  * @since 2.4.0
  */
 public interface CacheManager extends NamedComponent {
 
     String DEFAULT_MAP_CACHE_MANAGER_NAME = "MapCacheManager";
     String DEFAULT_GUAVA_CACHE_MANAGER_NAME = "GuavaCacheManager";
+    String DEFAULT_CAFFEINE_CACHE_MANAGER_NAME = "CaffeineCacheManager";
 
     /**
      * Create cache instance, if cache instance already created,
@@ -34,6 +40,20 @@ public interface CacheManager extends NamedComponent {
     @NonNull
     <K> CacheObject<K> createCache(String name, Long expireTime, TimeUnit timeUnit);
 
+    /**
+     * Create cache instance by the cache definition, if cache instance already created,
+     * remove the old cache instance and create a new cache instance.
+     *
+     * @param definition cache definition
+     * @param <K> key type
+     * @return cache instance
+     * @since 2.8.0
+     */
+    @NonNull
+    default <K> CacheObject<K> createCache(CacheDefinition definition) {
+        return createCache(definition.getName(), definition.getExpireTime(), definition.getTimeUnit());
+    }
+
     /**
      * Get cache instance by name,
      * if cache instance still not created by {@link #createCache}, return null.
@@ -59,4 +79,39 @@ public interface CacheManager extends NamedComponent {
      * Clear all caches.
      */
     void clearAll();
+
+    /**
+     * Get the statistics of the cache with the specified name,
+     * if the cache still not created by {@link #createCache}, return null.
+     *
+     * @param name cache name
+     * @return statistics
+     * @since 2.8.0
+     */
+    @Nullable
+    default CacheStatistics getStatistics(String name) {
+        return null;
+    }
+
+    /**
+     * Get the statistics of all caches which are created by this manager.
+     *
+     * @return statistics
+     * @since 2.8.0
+     */
+    default Collection<CacheStatistics> getAllStatistics() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Add a listener which will be called when the statistics of a cache is created and bound to the cache,
+     * the statistics which are already bound will be passed to the listener immediately.<br />
+     * It's useful for the monitoring system to register the metrics of the caches which are created lazily.
+     *
+     * @param listener listener
+     * @since 2.8.0
+     */
+    default void addStatisticsListener(Consumer<CacheStatistics> listener) {
+        // do nothing
+    }
 }
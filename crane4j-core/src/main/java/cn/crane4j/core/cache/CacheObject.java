@@ -19,6 +19,15 @@ import java.util.Objects;
  */
 public interface CacheObject<K> {
 
+    /**
+     * The value of the negative cache,
+     * which means the key has no corresponding value in the data source.
+     *
+     * @see #putNegative
+     * @since 2.8.0
+     */
+    Object NEGATIVE_VALUE = NegativeValue.INSTANCE;
+
     /**
      * Get the name of this cache.
      *
@@ -92,6 +101,36 @@ public interface CacheObject<K> {
      */
     void putIfAbsent(K key, Object value);
 
+    /**
+     * <p>Add a negative cache for the key,
+     * which means the key has no corresponding value in the data source.<br />
+     * After that, {@link #get} and {@link #getAll} will return {@link #NEGATIVE_VALUE} for the key
+     * until the negative cache expired.
+     *
+     * <p>The default implementation does nothing, which means the negative cache is not supported.
+     *
+     * @param key key
+     * @see CacheDefinition#getNegativeExpireTime()
+     * @since 2.8.0
+     */
+    default void putNegative(K key) {
+        // do nothing
+    }
+
+    /**
+     * Add negative caches for the keys.
+     *
+     * @param keys keys
+     * @see #putNegative
+     * @since 2.8.0
+     */
+    default void putAllNegative(Iterable<K> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return;
+        }
+        keys.forEach(this::putNegative);
+    }
+
     /**
      * Remove cache value.
      *
@@ -115,4 +154,37 @@ public interface CacheObject<K> {
      * Clear all cache value.
      */
     void clear();
+
+    /**
+     * Get the current size of the cache,
+     * if the cache does not support to get the size, return -1.
+     *
+     * @return size
+     * @since 2.8.0
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Get the statistics of the cache.<br />
+     * The default implementation returns {@link CacheStatistics#NONE},
+     * which means the statistics is not supported.
+     *
+     * @return statistics
+     * @see CacheManager#getStatistics(String)
+     * @since 2.8.0
+     */
+    default CacheStatistics getStatistics() {
+        return CacheStatistics.NONE;
+    }
+
+    /**
+     * Type of {@link #NEGATIVE_VALUE}.
+     *
+     * @since 2.8.0
+     */
+    enum NegativeValue {
+        INSTANCE
+    }
 }
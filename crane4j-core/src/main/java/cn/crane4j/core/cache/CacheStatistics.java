@@ -0,0 +1,246 @@
+package cn.crane4j.core.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Statistics of a named cache, it records the hits, misses, loads,
+ * load time and evictions of the cache since it was first created by {@link CacheManager},
+ * and it will not be reset when the cache object is recreated.
+ *
+ * <p>The hits and misses are recorded by {@link CacheableContainer},
+ * and the evictions are recorded by the cache manager
+ * if the underlying cache supports to notify the eviction,
+ * such as {@link CaffeineCacheManager} and {@link GuavaCacheManager} with the default cache factory.
+ * For the other caches, e.g. the caches created by {@link AbstractMapCacheManager},
+ * the evictions are unknown and {@link #getEvictionCount()} returns -1.
+ *
+ * @author huangchengxing
+ * @see CacheManager#getStatistics(String)
+ * @see CacheObject#getStatistics()
+ * @since 2.8.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CacheStatistics {
+
+    /**
+     * A statistics which records nothing,
+     * it's used by the cache object which does not support statistics.
+     */
+    public static final CacheStatistics NONE = new CacheStatistics("", false);
+
+    /**
+     * Name of the cache.
+     */
+    @Getter
+    private final String name;
+    private final boolean recording;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private volatile boolean evictionRecorded = false;
+    private volatile LongSupplier sizeSupplier = () -> -1L;
+
+    /**
+     * Create a {@link CacheStatistics} instance which records statistics.
+     *
+     * @param name name of the cache
+     */
+    public CacheStatistics(String name) {
+        this(name, true);
+    }
+
+    /**
+     * Bind the supplier of current size of the cache.
+     *
+     * @param sizeSupplier supplier of current size
+     */
+    public void bindSize(@NonNull LongSupplier sizeSupplier) {
+        this.sizeSupplier = Objects.requireNonNull(sizeSupplier);
+    }
+
+    /**
+     * Record the hits of the cache.
+     *
+     * @param count count of hits
+     */
+    public void recordHits(int count) {
+        if (recording && count > 0) {
+            hitCount.add(count);
+        }
+    }
+
+    /**
+     * Record the misses of the cache.
+     *
+     * @param count count of misses
+     */
+    public void recordMisses(int count) {
+        if (recording && count > 0) {
+            missCount.add(count);
+        }
+    }
+
+    /**
+     * Record a successful load of the missed values.
+     *
+     * @param loadTime time spent on loading, in nanoseconds
+     */
+    public void recordLoadSuccess(long loadTime) {
+        if (recording) {
+            loadSuccessCount.increment();
+            totalLoadTime.add(loadTime);
+        }
+    }
+
+    /**
+     * Record a failed load of the missed values.
+     *
+     * @param loadTime time spent on loading, in nanoseconds
+     */
+    public void recordLoadFailure(long loadTime) {
+        if (recording) {
+            loadFailureCount.increment();
+            totalLoadTime.add(loadTime);
+        }
+    }
+
+    /**
+     * Mark the evictions of the cache are recorded,
+     * it should be called by the cache manager if the underlying cache supports to notify the eviction,
+     * otherwise the count of evictions is unknown.
+     *
+     * @see #getEvictionCount()
+     */
+    public void markEvictionRecorded() {
+        this.evictionRecorded = recording;
+    }
+
+    /**
+     * Record the evictions of the cache.
+     *
+     * @param count count of evictions
+     * @see #markEvictionRecorded()
+     */
+    public void recordEvictions(int count) {
+        if (recording && count > 0) {
+            evictionCount.add(count);
+        }
+    }
+
+    /**
+     * Get count of the keys which are found in the cache.
+     *
+     * @return count of hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Get count of the keys which are not found in the cache.
+     *
+     * @return count of misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Get count of the requested keys.
+     *
+     * @return count of requests
+     */
+    public long getRequestCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    /**
+     * Get the ratio of hits to requests,
+     * if there is no request, return 1.0.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0L ? 1.0D : (double)getHitCount() / requestCount;
+    }
+
+    /**
+     * Get count of the successful loads.
+     *
+     * @return count of successful loads
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount.sum();
+    }
+
+    /**
+     * Get count of the failed loads.
+     *
+     * @return count of failed loads
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount.sum();
+    }
+
+    /**
+     * Get count of the loads.
+     *
+     * @return count of loads
+     */
+    public long getLoadCount() {
+        return getLoadSuccessCount() + getLoadFailureCount();
+    }
+
+    /**
+     * Get the total time spent on loading, in nanoseconds.
+     *
+     * @return total load time
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+    /**
+     * Get count of the values which are evicted by the size bound, expiration or garbage collection,
+     * if the evictions are not recorded by the cache manager, return -1.
+     *
+     * @return count of evictions
+     * @see #markEvictionRecorded()
+     */
+    public long getEvictionCount() {
+        return evictionRecorded ? evictionCount.sum() : -1L;
+    }
+
+    /**
+     * Get the current size of the cache,
+     * if the cache does not support to get the size, return -1.
+     *
+     * @return size
+     * @see CacheObject#size()
+     */
+    public long getSize() {
+        return sizeSupplier.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics(name=" + name
+            + ", hitCount=" + getHitCount()
+            + ", missCount=" + getMissCount()
+            + ", loadSuccessCount=" + getLoadSuccessCount()
+            + ", loadFailureCount=" + getLoadFailureCount()
+            + ", totalLoadTime=" + getTotalLoadTime()
+            + ", evictionCount=" + getEvictionCount() + ")";
+    }
+}
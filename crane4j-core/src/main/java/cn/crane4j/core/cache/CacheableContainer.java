@@ -2,12 +2,34 @@ package cn.crane4j.core.cache;
 
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerDelegate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +39,27 @@ import java.util.stream.Collectors;
  * If some key sets do not exist in the cache,
  * it will be obtained from the original container and added to the cache for this batch of keys.
  *
+ * <p>If {@link CacheDefinition#isCoalesceLoading()} is enabled,
+ * concurrent loads of the same keys will be coalesced into one load,
+ * the thread which first misses the cache will load the keys from the original container,
+ * and the other threads will wait for the result of that load
+ * within {@link CacheDefinition#getCoalesceTimeout()} milliseconds.
+ * If the load is failed or not completed in time, they will load the keys from the original container by themselves.
+ *
+ * <p>If {@link CacheDefinition#getNegativeExpireTime()} is not 0,
+ * the keys which have no corresponding value in the original container will be cached as negative cache,
+ * they will not be obtained from the original container again until the negative cache expired.
+ *
+ * <p>If {@link CacheDefinition#getRefreshTime()} is greater than 0,
+ * the cached values older than it will still be returned,
+ * but they will be reloaded from the original container by {@link #refreshExecutor} in background,
+ * the expiry time of the cache is still the hard limit of the cached values.
+ * If a key is no longer returned by the original container when refreshing,
+ * its cached value will be removed, or replaced by negative cache if the negative cache is enabled.
+ * The negative caches are never refreshed.
+ *
+ * <p>The hits, misses and loads will be recorded to the {@link CacheStatistics} of the current cache object.
+ *
  * @author huangchengxing
  * @param <K> key type
  * @see CacheObject
@@ -28,11 +71,59 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CacheableContainer<K> implements ContainerDelegate<K> {
 
+    /**
+     * The maximum number of refresh deadlines if {@link CacheDefinition#getMaximumSize()} is not specified.
+     */
+    private static final long DEFAULT_REFRESH_DEADLINES_MAXIMUM_SIZE = 10000L;
+
+    /**
+     * The maximum number of pending refreshes of the default refresh executor.
+     */
+    private static final int DEFAULT_REFRESH_QUEUE_CAPACITY = 1024;
+
+    /**
+     * <p>The default executor used to refresh the stale values in background, which is shared by all containers.<br />
+     * Its threads are daemon threads and will be released when idle,
+     * and the refresh which exceeds the queue capacity will be rejected and retried on the next access.
+     */
+    private static final Executor DEFAULT_REFRESH_EXECUTOR = createDefaultRefreshExecutor();
+
     private final Container<K> container;
     private final CacheDefinition cacheDefinition;
     private final CacheManager cacheManager;
     private volatile CacheObject<K> currentCache;
 
+    /**
+     * Loads which are in progress, only used when {@link CacheDefinition#isCoalesceLoading()} is enabled.
+     */
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<K, CompletableFuture<Object>> loadings = new ConcurrentHashMap<>(16);
+
+    /**
+     * Keys which are refreshing in background,
+     * only used when {@link CacheDefinition#getRefreshTime()} is greater than 0.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<K> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Time in nanos after which the cached value need to be refreshed,
+     * it will be recreated with the current cache object.<br />
+     * It is bounded by the expire time and the maximum size of the cache definition.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Cache<K, Long> refreshDeadlines;
+
+    /**
+     * The executor used to refresh the stale values in background,
+     * the loads of container may block the thread, so do not use the common pool.
+     *
+     * @since 2.8.0
+     */
+    @NonNull
+    @Setter
+    private Executor refreshExecutor = DEFAULT_REFRESH_EXECUTOR;
+
     /**
      * <p>Enter a batch of key values to return data source objects grouped by key values.
      * If part of the key value entered has been cached,
@@ -41,33 +132,279 @@ public class CacheableContainer<K> implements ContainerDelegate<K> {
      * @param keys keys
      * @return data source objects grouped by key value
      */
-    @SuppressWarnings("unchecked")
     @Override
     public Map<K, ?> get(Collection<K> keys) {
         CacheObject<K> current = getCurrentCache();
         Map<K, Object> caches = current.getAll(keys);
+        CacheStatistics statistics = current.getStatistics();
 
         // all keys are not cached?
         if (caches.isEmpty()) {
+            statistics.recordMisses(keys.size());
             if (log.isDebugEnabled()) {
                 log.debug("get none cached keys [{}] from container [{}]", keys, container.getNamespace());
             }
-            Map<K, Object> values = (Map<K, Object>)container.get(keys);
-            current.putAll(values);
-            return values;
+            return loadFromContainer(current, keys);
+        }
+
+        // some cached values are stale?
+        if (isRefreshAheadEnabled()) {
+            refreshIfNecessary(current, caches);
         }
 
         // some keys are cached?
         keys = keys.stream()
             .filter(k -> !caches.containsKey(k)).collect(Collectors.toSet());
+        statistics.recordHits(caches.size());
+        statistics.recordMisses(keys.size());
+        if (keys.isEmpty()) {
+            return removeNegativeValues(caches);
+        }
         if (log.isDebugEnabled()) {
             log.debug("get none cached keys [{}] from container [{}]", keys, container.getNamespace());
         }
-        Map<K, Object> values = (Map<K, Object>)container.get(keys);
-        current.putAll(values);
+        Map<K, Object> values = loadFromContainer(current, keys);
         // merge cached values and none cached values
         caches.putAll(values);
-        return caches;
+        return removeNegativeValues(caches);
+    }
+
+    private Map<K, Object> removeNegativeValues(Map<K, Object> caches) {
+        if (!isNegativeCacheEnabled() || !caches.containsValue(CacheObject.NEGATIVE_VALUE)) {
+            return caches;
+        }
+        Map<K, Object> results = new HashMap<>(caches.size());
+        caches.forEach((k, v) -> {
+            if (v != CacheObject.NEGATIVE_VALUE) {
+                results.put(k, v);
+            }
+        });
+        return results;
+    }
+
+    private boolean isNegativeCacheEnabled() {
+        return cacheDefinition.getNegativeExpireTime() != 0L;
+    }
+
+    private boolean isRefreshAheadEnabled() {
+        return cacheDefinition.getRefreshTime() > 0L;
+    }
+
+    private long getRefreshTimeNanos() {
+        TimeUnit timeUnit = Objects.isNull(cacheDefinition.getTimeUnit()) ?
+            TimeUnit.MILLISECONDS : cacheDefinition.getTimeUnit();
+        return timeUnit.toNanos(cacheDefinition.getRefreshTime());
+    }
+
+    /**
+     * Refresh the cached values which are stale in background.
+     *
+     * The negative caches are not refreshed, they are only controlled by the negative expire time.
+     *
+     * @param cache cache object
+     * @param caches cached values
+     */
+    private void refreshIfNecessary(CacheObject<K> cache, Map<K, Object> caches) {
+        Cache<K, Long> deadlines = refreshDeadlines;
+        if (Objects.isNull(deadlines)) {
+            return;
+        }
+        long now = System.nanoTime();
+        List<K> staleKeys = new ArrayList<>();
+        for (Map.Entry<K, Object> entry : caches.entrySet()) {
+            K key = entry.getKey();
+            if (Objects.isNull(key) || entry.getValue() == CacheObject.NEGATIVE_VALUE) {
+                continue;
+            }
+            Long deadline = deadlines.getIfPresent(key);
+            // the value may be cached by other container instance, we consider it as fresh
+            if (Objects.isNull(deadline)) {
+                deadlines.put(key, now + getRefreshTimeNanos());
+            } else if (deadline - now <= 0L && refreshingKeys.add(key)) {
+                staleKeys.add(key);
+            }
+        }
+        if (staleKeys.isEmpty()) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("refresh stale keys [{}] of container [{}] in background", staleKeys, container.getNamespace());
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(cache, staleKeys));
+        } catch (RejectedExecutionException ex) {
+            log.warn("refresh of keys [{}] for container [{}] is rejected", staleKeys, container.getNamespace());
+            staleKeys.forEach(refreshingKeys::remove);
+        }
+    }
+
+    private void refresh(CacheObject<K> cache, List<K> staleKeys) {
+        try {
+            Map<K, Object> values = doLoadFromContainer(cache, staleKeys);
+            List<K> absentKeys = staleKeys.stream()
+                .filter(k -> !values.containsKey(k))
+                .collect(Collectors.toList());
+            if (absentKeys.isEmpty()) {
+                return;
+            }
+            // the keys which are no longer returned are not need to be refreshed,
+            // they have been cached as negative cache if it is enabled,
+            // otherwise remove their stale values instead of returning them until expired
+            Cache<K, Long> deadlines = refreshDeadlines;
+            if (Objects.nonNull(deadlines)) {
+                deadlines.invalidateAll(absentKeys);
+            }
+            if (!isNegativeCacheEnabled()) {
+                cache.removeAll(absentKeys);
+            }
+        } catch (Exception ex) {
+            log.warn("refresh keys [{}] of container [{}] fail: {}", staleKeys, container.getNamespace(), ex.getMessage(), ex);
+        } finally {
+            staleKeys.forEach(refreshingKeys::remove);
+        }
+    }
+
+    /**
+     * Load values of the none cached keys from the container, and put them into the cache.
+     *
+     * @param cache cache object
+     * @param keys none cached keys
+     * @return values
+     * @see CacheDefinition#isCoalesceLoading()
+     */
+    protected Map<K, Object> loadFromContainer(CacheObject<K> cache, Collection<K> keys) {
+        if (!cacheDefinition.isCoalesceLoading()) {
+            return doLoadFromContainer(cache, keys);
+        }
+
+        // register loads for the keys which are not loading by other threads
+        Map<K, CompletableFuture<Object>> ownedLoadings = new HashMap<>(keys.size());
+        Map<K, CompletableFuture<Object>> otherLoadings = new HashMap<>(8);
+        List<K> ownedKeys = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            if (Objects.isNull(key)) {
+                ownedKeys.add(null);
+                continue;
+            }
+            CompletableFuture<Object> loading = new CompletableFuture<>();
+            CompletableFuture<Object> existing = loadings.putIfAbsent(key, loading);
+            if (Objects.isNull(existing)) {
+                ownedKeys.add(key);
+                ownedLoadings.put(key, loading);
+            } else {
+                otherLoadings.put(key, existing);
+            }
+        }
+
+        Map<K, Object> results = new HashMap<>(keys.size());
+        if (!ownedKeys.isEmpty()) {
+            results.putAll(loadOwnedKeys(cache, ownedKeys, ownedLoadings));
+        }
+        if (!otherLoadings.isEmpty()) {
+            results.putAll(waitForOtherLoadings(cache, otherLoadings));
+        }
+        return results;
+    }
+
+    private Map<K, Object> loadOwnedKeys(
+        CacheObject<K> cache, List<K> ownedKeys, Map<K, CompletableFuture<Object>> ownedLoadings) {
+        try {
+            Map<K, Object> values = loadNoneCachedOwnedKeys(cache, ownedKeys, ownedLoadings);
+            ownedLoadings.forEach((key, loading) -> loading.complete(values.get(key)));
+            return values;
+        } catch (RuntimeException ex) {
+            ownedLoadings.values().forEach(loading -> loading.completeExceptionally(ex));
+            throw ex;
+        } finally {
+            ownedLoadings.forEach(loadings::remove);
+        }
+    }
+
+    private Map<K, Object> loadNoneCachedOwnedKeys(
+        CacheObject<K> cache, List<K> ownedKeys, Map<K, CompletableFuture<Object>> ownedLoadings) {
+        // the keys may be cached by the previous loader after we missed the cache and before we registered
+        Map<K, Object> cached = ownedLoadings.isEmpty() ?
+            Collections.emptyMap() : cache.getAll(ownedLoadings.keySet());
+        if (cached.isEmpty()) {
+            return doLoadFromContainer(cache, ownedKeys);
+        }
+        List<K> noneCachedKeys = ownedKeys.stream()
+            .filter(k -> !cached.containsKey(k))
+            .collect(Collectors.toList());
+        Map<K, Object> values = new HashMap<>(ownedKeys.size());
+        cached.forEach((k, v) -> {
+            if (v != CacheObject.NEGATIVE_VALUE) {
+                values.put(k, v);
+            }
+        });
+        if (!noneCachedKeys.isEmpty()) {
+            values.putAll(doLoadFromContainer(cache, noneCachedKeys));
+        }
+        return values;
+    }
+
+    private Map<K, Object> waitForOtherLoadings(
+        CacheObject<K> cache, Map<K, CompletableFuture<Object>> otherLoadings) {
+        Map<K, Object> results = new HashMap<>(otherLoadings.size());
+        List<K> fallbackKeys = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cacheDefinition.getCoalesceTimeout());
+        for (Map.Entry<K, CompletableFuture<Object>> entry : otherLoadings.entrySet()) {
+            K key = entry.getKey();
+            try {
+                Object value = entry.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (Objects.nonNull(value)) {
+                    results.put(key, value);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fallbackKeys.add(key);
+            } catch (ExecutionException | TimeoutException ex) {
+                fallbackKeys.add(key);
+            }
+        }
+        // the load performed by other thread is failed or timeout, load them by self
+        if (!fallbackKeys.isEmpty()) {
+            log.warn(
+                "wait for loading of keys [{}] from container [{}] failed or timeout, load them directly",
+                fallbackKeys, container.getNamespace()
+            );
+            results.putAll(doLoadFromContainer(cache, fallbackKeys));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, Object> doLoadFromContainer(CacheObject<K> cache, Collection<K> keys) {
+        CacheStatistics statistics = cache.getStatistics();
+        long startTime = System.nanoTime();
+        Map<K, Object> values;
+        try {
+            values = (Map<K, Object>)container.get(keys);
+        } catch (RuntimeException ex) {
+            statistics.recordLoadFailure(System.nanoTime() - startTime);
+            throw ex;
+        }
+        statistics.recordLoadSuccess(System.nanoTime() - startTime);
+        values = Objects.isNull(values) ? new HashMap<>(0) : values;
+        cache.putAll(values);
+        // record the time when the loaded values need to be refreshed
+        Cache<K, Long> deadlines = refreshDeadlines;
+        if (isRefreshAheadEnabled() && Objects.nonNull(deadlines)) {
+            long deadline = System.nanoTime() + getRefreshTimeNanos();
+            Map<K, Object> loaded = values;
+            keys.stream()
+                .filter(k -> Objects.nonNull(k) && loaded.containsKey(k))
+                .forEach(k -> deadlines.put(k, deadline));
+        }
+        // cache the keys which have no corresponding value as negative cache
+        if (isNegativeCacheEnabled()) {
+            Map<K, Object> loaded = values;
+            List<K> absentKeys = keys.stream()
+                .filter(k -> Objects.nonNull(k) && !loaded.containsKey(k))
+                .collect(Collectors.toList());
+            cache.putAllNegative(absentKeys);
+        }
+        return values;
     }
 
     /**
@@ -83,12 +420,40 @@ public class CacheableContainer<K> implements ContainerDelegate<K> {
                     if (log.isDebugEnabled()) {
                         log.debug("recreate cache object for container [{}], because it is invalid or null", container.getNamespace());
                     }
-                    currentCache = cacheManager.createCache(
-                        cacheDefinition.getName(), cacheDefinition.getExpireTime(), cacheDefinition.getTimeUnit()
-                    );
+                    currentCache = cacheManager.createCache(cacheDefinition);
+                    refreshDeadlines = isRefreshAheadEnabled() ? createRefreshDeadlines() : null;
                 }
             }
         }
         return currentCache;
     }
+
+    private static Executor createDefaultRefreshExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(DEFAULT_REFRESH_QUEUE_CAPACITY),
+            task -> {
+                Thread thread = new Thread(task, "crane4j-cache-refresh-executor-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private Cache<K, Long> createRefreshDeadlines() {
+        // the deadline which is evicted will be recreated when the key is accessed again,
+        // so the refresh is only delayed, and the number of deadlines should always be bounded
+        long maximumSize = cacheDefinition.getMaximumSize() > 0L ?
+            cacheDefinition.getMaximumSize() : DEFAULT_REFRESH_DEADLINES_MAXIMUM_SIZE;
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize);
+        // the deadline is meaningless after the cached value expired
+        Long expireTime = cacheDefinition.getExpireTime();
+        if (Objects.nonNull(expireTime) && expireTime > 0L && Objects.nonNull(cacheDefinition.getTimeUnit())) {
+            builder.expireAfterWrite(expireTime, cacheDefinition.getTimeUnit());
+        }
+        return builder.build();
+    }
 }
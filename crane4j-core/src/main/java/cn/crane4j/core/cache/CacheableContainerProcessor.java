@@ -3,8 +3,10 @@ package cn.crane4j.core.cache;
 import cn.crane4j.annotation.ContainerCache;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.container.ContainerDelegate;
 import cn.crane4j.core.container.lifecycle.ContainerLifecycleProcessor;
 import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.util.ConfigurationUtil;
 import cn.crane4j.core.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -13,6 +15,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -40,6 +43,17 @@ public class CacheableContainerProcessor implements ContainerLifecycleProcessor
     @Setter
     private CacheDefinitionRetriever cacheDefinitionRetriever = (definition, container) -> null;
 
+    /**
+     * The executor used by the cacheable containers to refresh the stale values in background,
+     * if it is not specified, the default executor of {@link CacheableContainer} will be used.
+     *
+     * @see CacheableContainer#setRefreshExecutor
+     * @since 2.8.0
+     */
+    @Nullable
+    @Setter
+    private Executor refreshExecutor;
+
     /**
      * Callback when the container is created.
      *
@@ -62,8 +76,11 @@ public class CacheableContainerProcessor implements ContainerLifecycleProcessor
             cacheDefinition.getCacheManager(), CacheManager.DEFAULT_MAP_CACHE_MANAGER_NAME
         );
         CacheManager cacheManager = configuration.getCacheManager(cacheManagerName);
-        container = new CacheableContainer<>(container, cacheDefinition, cacheManager);
-        return container;
+        CacheableContainer<Object> cacheableContainer = new CacheableContainer<>(container, cacheDefinition, cacheManager);
+        if (Objects.nonNull(refreshExecutor)) {
+            cacheableContainer.setRefreshExecutor(refreshExecutor);
+        }
+        return cacheableContainer;
     }
 
     @Nullable
@@ -76,16 +93,21 @@ public class CacheableContainerProcessor implements ContainerLifecycleProcessor
     }
 
     /**
-     * Get container class.
+     * Get cache definition from the {@link ContainerCache} annotated on the class of container,
+     * if the container is a {@link ContainerDelegate}, the delegated containers are also checked.
      *
      * @param container container
      * @return annotation
      */
     protected CacheDefinition getCacheDefinitionFromContainer(Container<Object> container) {
-        ContainerCache annotation = container.getClass().getAnnotation(ContainerCache.class);
-        return Objects.isNull(annotation) ? null : new CacheDefinition.Impl(
-            container.getNamespace(), annotation.cacheManager(),
-            annotation.expirationTime(), annotation.timeUnit()
+        Container<?> current = container;
+        ContainerCache annotation = current.getClass().getAnnotation(ContainerCache.class);
+        while (Objects.isNull(annotation) && current instanceof ContainerDelegate) {
+            current = ((ContainerDelegate<?>)current).getContainer();
+            annotation = current.getClass().getAnnotation(ContainerCache.class);
+        }
+        return Objects.isNull(annotation) ? null : ConfigurationUtil.createCacheDefinition(
+            container.getNamespace(), annotation.cacheManager(), annotation
         );
     }
 
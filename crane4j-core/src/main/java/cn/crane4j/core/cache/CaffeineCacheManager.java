@@ -0,0 +1,268 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>An implementation of the {@link CacheManager} that
+ * creates a cache instance what stores data in the {@link Cache} of Caffeine.<br />
+ * Unlike the other in-process cache managers, each cache created by it always has a hard bound,
+ * when the bound is exceeded, entries will be evicted by the W-TinyLFU policy of Caffeine,
+ * which admits and retains entries according to their access frequency.
+ *
+ * <p>The bound of cache is determined in the following order:
+ * <ul>
+ *     <li>if {@link CacheDefinition#getMaximumWeight()} greater than 0,
+ *     the cache is bounded by weight, and the weight of each entry is computed by
+ *     the weigher registered by {@link #registerWeigher}, or {@link #defaultWeigher} if not registered;</li>
+ *     <li>if {@link CacheDefinition#getMaximumSize()} greater than 0, the cache is bounded by it;</li>
+ *     <li>otherwise, the cache is bounded by {@link #defaultMaximumSize};</li>
+ * </ul>
+ *
+ * @author huangchengxing
+ * @see Caffeine
+ * @since 2.8.0
+ */
+@NoArgsConstructor
+public class CaffeineCacheManager extends AbstractCacheManager {
+
+    /**
+     * Default maximum size of cache which does not specify the bound.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000L;
+
+    /**
+     * The maximum size of cache which does not specify the bound.
+     */
+    @Getter
+    @Setter
+    private long defaultMaximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * The weigher used by the cache which is bounded by weight but has no registered weigher,
+     * default to weigh each entry as 1.
+     */
+    @NonNull
+    @Setter
+    private Weigher<Object, Object> defaultWeigher = Weigher.singletonWeigher();
+
+    /**
+     * Weighers for specified caches.
+     */
+    private final Map<String, Weigher<Object, Object>> weighers = new ConcurrentHashMap<>(8);
+
+    /**
+     * Get the component name.
+     *
+     * @return String
+     */
+    @Override
+    public String getName() {
+        return CacheManager.DEFAULT_CAFFEINE_CACHE_MANAGER_NAME;
+    }
+
+    /**
+     * Register a weigher for the specified cache,
+     * it will be used when the cache is created next time.
+     *
+     * @param cacheName cache name
+     * @param weigher weigher
+     */
+    public void registerWeigher(String cacheName, @NonNull Weigher<Object, Object> weigher) {
+        Asserts.isNotNull(weigher, "weigher must not be null");
+        weighers.put(cacheName, weigher);
+    }
+
+    /**
+     * Create cache instance.
+     *
+     * @param name cache name
+     * @param expireTime expire time
+     * @param timeUnit   time unit
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> CaffeineCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        return doCreateCache(new CacheDefinition.Impl(name, null, expireTime, timeUnit));
+    }
+
+    /**
+     * Create cache instance by the cache definition.
+     *
+     * @param definition cache definition
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> CaffeineCacheObject<K> doCreateCache(CacheDefinition definition) {
+        CacheStatistics statistics = getOrCreateStatistics(definition.getName());
+        statistics.markEvictionRecorded();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .removalListener((k, v, cause) -> {
+                if (cause.wasEvicted()) {
+                    statistics.recordEvictions(1);
+                }
+            });
+        if (definition.getMaximumWeight() > 0L) {
+            Weigher<Object, Object> weigher = weighers.getOrDefault(definition.getName(), defaultWeigher);
+            builder.maximumWeight(definition.getMaximumWeight())
+                .weigher(new NegativeEntryAwareWeigher(weigher));
+        } else {
+            long maximumSize = definition.getMaximumSize() > 0L ?
+                definition.getMaximumSize() : defaultMaximumSize;
+            builder.maximumSize(maximumSize);
+        }
+        Long expireTime = definition.getExpireTime();
+        if (Objects.nonNull(expireTime) && expireTime > 0L) {
+            TimeUnit timeUnit = Objects.isNull(definition.getTimeUnit()) ?
+                TimeUnit.MILLISECONDS : definition.getTimeUnit();
+            builder.expireAfterWrite(expireTime, timeUnit);
+        }
+        return new CaffeineCacheObject<>(definition.getName(), builder.build());
+    }
+
+    /**
+     * A weigher which weighs the negative entry as 1,
+     * and delegates the others to the actual weigher.
+     */
+    private static class NegativeEntryAwareWeigher implements Weigher<Object, Object> {
+
+        private final Weigher<Object, Object> delegate;
+
+        NegativeEntryAwareWeigher(Weigher<Object, Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int weigh(@NonNull Object key, @NonNull Object value) {
+            return value instanceof NegativeEntry ? 1 : delegate.weigh(key, value);
+        }
+    }
+
+    /**
+     * A {@link CacheObject} implementation that stores data in the {@link Cache} of Caffeine.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    protected static class CaffeineCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final Cache<Object, Object> cache;
+
+        public CaffeineCacheObject(String name, Cache<Object, Object> cache) {
+            super(name);
+            this.cache = cache;
+        }
+
+        /**
+         * Get the cache according to the key value.
+         *
+         * @param key key
+         * @return cache value
+         */
+        @Nullable
+        @Override
+        public Object get(K key) {
+            return resolveValue(key, cache.getIfPresent(key));
+        }
+
+        /**
+         * Add cache value.
+         *
+         * @param key   key
+         * @param value value
+         */
+        @Override
+        public void put(K key, Object value) {
+            cache.put(key, value);
+        }
+
+        /**
+         * Add all cache value.
+         *
+         * @param caches caches
+         */
+        @Override
+        public void putAll(Map<K, Object> caches) {
+            if (CollectionUtils.isNotEmpty(caches)) {
+                cache.putAll(caches);
+            }
+        }
+
+        /**
+         * Add cache value if it does not exist.
+         *
+         * @param key   key
+         * @param value cache value
+         */
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            cache.asMap().putIfAbsent(key, value);
+        }
+
+        /**
+         * Remove cache value.
+         *
+         * @param key key
+         */
+        @Override
+        public void remove(K key) {
+            cache.invalidate(key);
+        }
+
+        /**
+         * Remove the expired negative entry only if the key is still mapped to it.
+         *
+         * @param key key
+         * @param entry expired negative entry which is read from the cache
+         */
+        @Override
+        protected void removeExpiredNegativeEntry(K key, NegativeEntry entry) {
+            cache.asMap().remove(key, entry);
+        }
+
+        /**
+         * Remove all cache value.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            if (CollectionUtils.isNotEmpty(keys)) {
+                cache.invalidateAll(keys);
+            }
+        }
+
+        /**
+         * Get the current size of the cache.
+         *
+         * @return size
+         */
+        @Override
+        public long size() {
+            return cache.estimatedSize();
+        }
+
+        /**
+         * Clear all cache value.
+         */
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package cn.crane4j.core.cache;
 import cn.crane4j.core.util.Asserts;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -12,9 +13,13 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.concurrent.TimeUnit;
 
 /**
- * An implementation of the {@link CacheManager} that
+ * <p>An implementation of the {@link CacheManager} that
  * creates a cache instance what stores data in the {@link Cache}.
  *
+ * <p>If the {@link #cacheFactory} is a {@link RemovalAwareCacheFactory},
+ * the evictions of cache will be recorded to the {@link CacheStatistics} of the cache,
+ * otherwise the count of evictions is unknown.
+ *
  * @author huangchengxing
  * @since 2.4.0
  */
@@ -49,7 +54,18 @@ public class GuavaCacheManager extends AbstractCacheManager {
     @Override
     @NonNull
     protected <K> GuavaCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
-        Cache<Object, Object> cache = cacheFactory.getCache(expireTime, timeUnit);
+        Cache<Object, Object> cache;
+        if (cacheFactory instanceof RemovalAwareCacheFactory) {
+            CacheStatistics statistics = getOrCreateStatistics(name);
+            statistics.markEvictionRecorded();
+            cache = ((RemovalAwareCacheFactory)cacheFactory).getCache(expireTime, timeUnit, notification -> {
+                if (notification.wasEvicted()) {
+                    statistics.recordEvictions(1);
+                }
+            });
+        } else {
+            cache = cacheFactory.getCache(expireTime, timeUnit);
+        }
         Asserts.isNotNull(cache, "Cache factory must not be null");
         return new GuavaCacheObject<>(name, cache);
     }
@@ -72,6 +88,40 @@ public class GuavaCacheManager extends AbstractCacheManager {
         Cache<Object, Object> getCache(Long expireTime, TimeUnit timeUnit);
     }
 
+    /**
+     * A {@link CacheFactory} which supports to notify the removals of the created cache.
+     *
+     * @author huangchengxing
+     * @see CacheBuilder#removalListener
+     * @since 2.8.0
+     */
+    @FunctionalInterface
+    public interface RemovalAwareCacheFactory extends CacheFactory {
+
+        /**
+         * Get the cache instance.
+         *
+         * @param expireTime expire time
+         * @param timeUnit  time unit
+         * @return guava cache instance
+         */
+        @Override
+        default Cache<Object, Object> getCache(Long expireTime, TimeUnit timeUnit) {
+            return getCache(expireTime, timeUnit, notification -> {});
+        }
+
+        /**
+         * Get the cache instance which notifies the removals to the given listener.
+         *
+         * @param expireTime expire time
+         * @param timeUnit  time unit
+         * @param removalListener removal listener
+         * @return guava cache instance
+         */
+        Cache<Object, Object> getCache(
+            Long expireTime, TimeUnit timeUnit, RemovalListener<Object, Object> removalListener);
+    }
+
     /**
      * A default {@link CacheFactory} implementation,
      * if expire time greater than 0, use {@link CacheBuilder#expireAfterWrite(long, TimeUnit)},
@@ -79,7 +129,7 @@ public class GuavaCacheManager extends AbstractCacheManager {
      *
      * @author huangchengxing
      */
-    public static class DefaultCacheFactory implements CacheFactory {
+    public static class DefaultCacheFactory implements RemovalAwareCacheFactory {
 
         public static final DefaultCacheFactory INSTANCE = new DefaultCacheFactory();
 
@@ -92,16 +142,33 @@ public class GuavaCacheManager extends AbstractCacheManager {
          */
         @Override
         public Cache<Object, Object> getCache(Long expireTime, TimeUnit timeUnit) {
+            return createBuilder(expireTime, timeUnit).build();
+        }
+
+        /**
+         * Get the cache instance which notifies the removals to the given listener.
+         *
+         * @param expireTime expire time
+         * @param timeUnit  time unit
+         * @param removalListener removal listener
+         * @return guava cache instance
+         * @since 2.8.0
+         */
+        @Override
+        public Cache<Object, Object> getCache(
+            Long expireTime, TimeUnit timeUnit, RemovalListener<Object, Object> removalListener) {
+            return createBuilder(expireTime, timeUnit).removalListener(removalListener).build();
+        }
+
+        private static CacheBuilder<Object, Object> createBuilder(Long expireTime, TimeUnit timeUnit) {
             Asserts.isNotEquals(expireTime, 0L, "Expire time must not be 0");
             if (expireTime > 1) {
                 return CacheBuilder.newBuilder()
-                    .expireAfterWrite(expireTime, timeUnit)
-                    .build();
+                    .expireAfterWrite(expireTime, timeUnit);
             }
             // if expire time less than 0, use weak keys and weak values
             return CacheBuilder.newBuilder()
-                .weakKeys().weakValues()
-                .build();
+                .weakKeys().weakValues();
         }
     }
 
@@ -129,7 +196,7 @@ public class GuavaCacheManager extends AbstractCacheManager {
         @Nullable
         @Override
         public Object get(K key) {
-            return cache.getIfPresent(key);
+            return resolveValue(key, cache.getIfPresent(key));
         }
 
         /**
@@ -165,6 +232,27 @@ public class GuavaCacheManager extends AbstractCacheManager {
             cache.invalidate(key);
         }
 
+        /**
+         * Remove the expired negative entry only if the key is still mapped to it.
+         *
+         * @param key key
+         * @param entry expired negative entry which is read from the cache
+         */
+        @Override
+        protected void removeExpiredNegativeEntry(K key, NegativeEntry entry) {
+            cache.asMap().remove(key, entry);
+        }
+
+        /**
+         * Get the current size of the cache.
+         *
+         * @return size
+         */
+        @Override
+        public long size() {
+            return cache.size();
+        }
+
         /**
          * Clear all cache value.
          */
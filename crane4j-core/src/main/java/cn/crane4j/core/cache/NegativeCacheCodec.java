@@ -0,0 +1,63 @@
+package cn.crane4j.core.cache;
+
+import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>Codec of the negative cache for the cache managers which store values in remote, e.g. redis.<br />
+ * The negative cache is stored as {@link #NEGATIVE_CACHE_VALUE},
+ * which starts with the reserved prefix {@link #RESERVED_PREFIX}.
+ * To avoid the collision with the real values,
+ * a string value which starts with the reserved prefix is escaped
+ * by adding another prefix before it is written by {@link #encode},
+ * and restored by {@link #decode} after it is read.
+ *
+ * @author huangchengxing
+ * @see CacheObject#putNegative
+ * @since 2.8.0
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class NegativeCacheCodec {
+
+    /**
+     * The reserved prefix of the stored string values.
+     */
+    public static final String RESERVED_PREFIX = "\u0000crane4j:";
+
+    /**
+     * The value which is stored in remote for the negative cache.
+     */
+    public static final String NEGATIVE_CACHE_VALUE = RESERVED_PREFIX + "negative";
+
+    /**
+     * Encode the value before it is written,
+     * if the value is a string starting with the reserved prefix, escape it.
+     *
+     * @param value value
+     * @return stored value
+     */
+    @Nullable
+    public static Object encode(@Nullable Object value) {
+        return isReserved(value) ? RESERVED_PREFIX + value : value;
+    }
+
+    /**
+     * Decode the value after it is read.
+     *
+     * @param value stored value
+     * @return {@link CacheObject#NEGATIVE_VALUE} if the value is the negative cache, otherwise the original value
+     */
+    @Nullable
+    public static Object decode(@Nullable Object value) {
+        if (!isReserved(value)) {
+            return value;
+        }
+        String str = (String)value;
+        return NEGATIVE_CACHE_VALUE.equals(str) ?
+            CacheObject.NEGATIVE_VALUE : str.substring(RESERVED_PREFIX.length());
+    }
+
+    private static boolean isReserved(@Nullable Object value) {
+        return value instanceof String && ((String)value).startsWith(RESERVED_PREFIX);
+    }
+}
@@ -0,0 +1,510 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>A {@link CacheManager} that combines a local cache manager as the first level cache
+ * and a remote cache manager (e.g. redis) as the second level cache.<br />
+ * When getting values, the first level cache will be accessed first,
+ * and only the keys which are not found in it will be obtained from the second level cache,
+ * then the values obtained from the second level cache will be put into the first level cache.
+ *
+ * <p>When values are written or removed, both levels will be updated.
+ * Values written by {@link CacheObject#put} and other put methods are regarded as fills after cache misses
+ * (e.g. by {@link CacheableContainer}), they are the same as the values in other nodes,
+ * so no message will be sent for them.<br />
+ * When values are removed, cleared, or explicitly overwritten by {@link TwoLevelCacheObject#overwrite}
+ * and {@link TwoLevelCacheObject#overwriteAll}, an {@link Invalidation} will be broadcast by {@link InvalidationBroadcaster},
+ * so that other nodes can evict the stale values from their first level cache.
+ *
+ * <p>Values filled by other nodes are never broadcast,
+ * so the first level cache must expire by itself to bound the staleness.
+ * The first level cache created by {@link #TwoLevelCacheManager(CacheManager, InvalidationBroadcaster, long, long, TimeUnit)}
+ * expires after the smaller one of the local expire time and the expire time of the cache definition,
+ * the value copied from the second level cache may therefore be served
+ * for at most the local expire time after it is expired or changed in the second level cache.
+ *
+ * <p><b>NOTE</b>: The local and remote cache managers should be used by this manager only,
+ * and the local cache manager should be bounded to avoid unpredictable memory usage,
+ * its expire time should also be short enough if it is specified by the user.
+ *
+ * @author huangchengxing
+ * @see InvalidationBroadcaster
+ * @since 2.8.0
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    /**
+     * The default expire time of the first level cache in milliseconds.
+     */
+    public static final long DEFAULT_LOCAL_EXPIRE_TIME = 60000L;
+
+    /**
+     * Unique id of current node, which is used to ignore the invalidation sent by itself.
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final InvalidationBroadcaster broadcaster;
+
+    /**
+     * Create a {@link TwoLevelCacheManager} instance.
+     *
+     * @param localCacheManager cache manager of first level cache
+     * @param remoteCacheManager cache manager of second level cache
+     * @param broadcaster broadcaster used to notify other nodes to evict their first level cache
+     */
+    public TwoLevelCacheManager(
+        CacheManager localCacheManager, CacheManager remoteCacheManager, InvalidationBroadcaster broadcaster) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.broadcaster = broadcaster;
+        broadcaster.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Create a {@link TwoLevelCacheManager} instance,
+     * which uses a {@link GuavaCacheManager} with the specified maximum size as the first level cache,
+     * and the values in it expire after {@link #DEFAULT_LOCAL_EXPIRE_TIME} at most.
+     *
+     * @param remoteCacheManager cache manager of second level cache
+     * @param broadcaster broadcaster used to notify other nodes to evict their first level cache
+     * @param localMaximumSize maximum size of each first level cache
+     */
+    public TwoLevelCacheManager(
+        CacheManager remoteCacheManager, InvalidationBroadcaster broadcaster, long localMaximumSize) {
+        this(remoteCacheManager, broadcaster, localMaximumSize, DEFAULT_LOCAL_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a {@link TwoLevelCacheManager} instance,
+     * which uses a {@link GuavaCacheManager} with the specified maximum size as the first level cache,
+     * and the values in it expire after the smaller one of {@code localExpireTime}
+     * and the expire time of the cache definition.
+     *
+     * @param remoteCacheManager cache manager of second level cache
+     * @param broadcaster broadcaster used to notify other nodes to evict their first level cache
+     * @param localMaximumSize maximum size of each first level cache
+     * @param localExpireTime maximum expire time of each first level cache, must be greater than 0
+     * @param localTimeUnit time unit of {@code localExpireTime}
+     */
+    public TwoLevelCacheManager(
+        CacheManager remoteCacheManager, InvalidationBroadcaster broadcaster,
+        long localMaximumSize, long localExpireTime, TimeUnit localTimeUnit) {
+        this(createBoundedLocalCacheManager(localMaximumSize, localExpireTime, localTimeUnit), remoteCacheManager, broadcaster);
+    }
+
+    private static CacheManager createBoundedLocalCacheManager(
+        long maximumSize, long localExpireTime, TimeUnit localTimeUnit) {
+        Asserts.isTrue(localExpireTime > 0L, "local expire time must be greater than 0");
+        long localExpireNanos = localTimeUnit.toNanos(localExpireTime);
+        GuavaCacheManager cacheManager = new GuavaCacheManager();
+        cacheManager.setCacheFactory((expireTime, timeUnit) -> {
+            long expireNanos = localExpireNanos;
+            if (Objects.nonNull(expireTime) && expireTime > 0L) {
+                expireNanos = Math.min(expireNanos, timeUnit.toNanos(expireTime));
+            }
+            return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireNanos, TimeUnit.NANOSECONDS)
+                .build();
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Create cache instance.
+     *
+     * @param name       cache name
+     * @param expireTime expire time
+     * @param timeUnit   time unit
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> TwoLevelCacheObject<K> doCreateCache(String name, Long expireTime, TimeUnit timeUnit) {
+        return doCreateCache(new CacheDefinition.Impl(name, null, expireTime, timeUnit));
+    }
+
+    /**
+     * Create cache instance by the cache definition.
+     *
+     * @param definition cache definition
+     * @return cache instance
+     */
+    @NonNull
+    @Override
+    protected <K> TwoLevelCacheObject<K> doCreateCache(CacheDefinition definition) {
+        CacheObject<K> local = localCacheManager.createCache(definition);
+        CacheObject<K> remote = remoteCacheManager.createCache(definition);
+        return new TwoLevelCacheObject<>(definition.getName(), local, remote);
+    }
+
+    /**
+     * Remove cache, the caches in first and second level will also be removed.
+     *
+     * @param name cache name
+     */
+    @Override
+    public void removeCache(String name) {
+        super.removeCache(name);
+        localCacheManager.removeCache(name);
+        remoteCacheManager.removeCache(name);
+    }
+
+    /**
+     * Clear all caches, the caches in first and second level will also be cleared.
+     */
+    @Override
+    public void clearAll() {
+        super.clearAll();
+        localCacheManager.clearAll();
+        remoteCacheManager.clearAll();
+    }
+
+    /**
+     * Invalidate cache.<br />
+     * The caches in first and second level are invalidated by their own cache managers
+     * when they are recreated or removed, so we only need to mark the cache as invalid.
+     *
+     * @param cacheObject cache object
+     */
+    @Override
+    protected void invalidate(AbstractCacheObject<?> cacheObject) {
+        cacheObject.setInvalid(true);
+    }
+
+    /**
+     * Evict the first level cache when receiving an invalidation from other nodes.
+     *
+     * @param invalidation invalidation
+     */
+    @SuppressWarnings("unchecked")
+    protected void onInvalidation(Invalidation invalidation) {
+        if (Objects.equals(nodeId, invalidation.getSource())) {
+            return;
+        }
+        CacheObject<Object> cache = getCache(invalidation.getCacheName());
+        if (!(cache instanceof TwoLevelCacheManager.TwoLevelCacheObject)) {
+            return;
+        }
+        CacheObject<Object> local = ((TwoLevelCacheObject<Object>)cache).getLocal();
+        Collection<Object> keys = invalidation.getKeys();
+        if (Objects.isNull(keys)) {
+            log.debug("clear local cache [{}] by invalidation from node [{}]", invalidation.getCacheName(), invalidation.getSource());
+            local.clear();
+        } else {
+            local.removeAll(keys);
+        }
+    }
+
+    /**
+     * A {@link CacheObject} which combines a local cache and a remote cache.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @Getter
+    public class TwoLevelCacheObject<K> extends AbstractCacheObject<K> {
+
+        private final CacheObject<K> local;
+        private final CacheObject<K> remote;
+
+        protected TwoLevelCacheObject(String name, CacheObject<K> local, CacheObject<K> remote) {
+            super(name);
+            this.local = local;
+            this.remote = remote;
+        }
+
+        /**
+         * Get the cache according to the key value.
+         *
+         * @param key key
+         * @return cache value
+         */
+        @Nullable
+        @Override
+        public Object get(K key) {
+            Object value = local.get(key);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+            value = remote.get(key);
+            if (Objects.nonNull(value)) {
+                putToLocal(key, value);
+            }
+            return value;
+        }
+
+        /**
+         * Get all caches according to the key values,
+         * only the keys which are not found in local cache will be obtained from remote cache.
+         *
+         * @param keys keys
+         * @return cache value
+         */
+        @Override
+        public Map<K, Object> getAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return Collections.emptyMap();
+            }
+            Map<K, Object> results = new HashMap<>(local.getAll(keys));
+            List<K> missingKeys = new ArrayList<>();
+            keys.forEach(key -> {
+                if (!results.containsKey(key)) {
+                    missingKeys.add(key);
+                }
+            });
+            if (missingKeys.isEmpty()) {
+                return results;
+            }
+            Map<K, Object> remoteValues = remote.getAll(missingKeys);
+            remoteValues.forEach(this::putToLocal);
+            results.putAll(remoteValues);
+            return results;
+        }
+
+        private void putToLocal(K key, Object value) {
+            if (value == NEGATIVE_VALUE) {
+                local.putNegative(key);
+            } else {
+                local.put(key, value);
+            }
+        }
+
+        /**
+         * Add cache value, no invalidation will be broadcast.
+         *
+         * @param key   key
+         * @param value value
+         * @see #overwrite
+         */
+        @Override
+        public void put(K key, Object value) {
+            remote.put(key, value);
+            local.put(key, value);
+        }
+
+        /**
+         * Add all cache value, no invalidation will be broadcast.
+         *
+         * @param caches caches
+         * @see #overwriteAll
+         */
+        @Override
+        public void putAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            remote.putAll(caches);
+            local.putAll(caches);
+        }
+
+        /**
+         * Overwrite cache value,
+         * and notify other nodes to evict the stale value from their first level cache.
+         *
+         * @param key   key
+         * @param value value
+         */
+        public void overwrite(K key, Object value) {
+            put(key, value);
+            broadcast(Collections.singletonList(key));
+        }
+
+        /**
+         * Overwrite all cache value,
+         * and notify other nodes to evict the stale values from their first level cache.
+         *
+         * @param caches caches
+         */
+        public void overwriteAll(Map<K, Object> caches) {
+            if (CollectionUtils.isEmpty(caches)) {
+                return;
+            }
+            putAll(caches);
+            broadcast(caches.keySet());
+        }
+
+        /**
+         * Add cache value if it does not exist.
+         *
+         * @param key   key
+         * @param value cache value
+         */
+        @Override
+        public void putIfAbsent(K key, Object value) {
+            remote.putIfAbsent(key, value);
+            // the value in remote cache may not be the given value
+            local.remove(key);
+        }
+
+        /**
+         * Add a negative cache for the key, no invalidation will be broadcast.
+         *
+         * @param key key
+         */
+        @Override
+        public void putNegative(K key) {
+            remote.putNegative(key);
+            local.putNegative(key);
+        }
+
+        /**
+         * Add negative caches for the keys, no invalidation will be broadcast.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void putAllNegative(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            remote.putAllNegative(keys);
+            local.putAllNegative(keys);
+        }
+
+        /**
+         * Remove cache value.
+         *
+         * @param key key
+         */
+        @Override
+        public void remove(K key) {
+            remote.remove(key);
+            local.remove(key);
+            broadcast(Collections.singletonList(key));
+        }
+
+        /**
+         * Remove all cache value.
+         *
+         * @param keys keys
+         */
+        @Override
+        public void removeAll(Iterable<K> keys) {
+            if (CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            remote.removeAll(keys);
+            local.removeAll(keys);
+            broadcast(keys);
+        }
+
+        /**
+         * Get the current size of the first level cache.
+         *
+         * @return size
+         */
+        @Override
+        public long size() {
+            return local.size();
+        }
+
+        /**
+         * Clear all cache value.
+         */
+        @Override
+        public void clear() {
+            remote.clear();
+            local.clear();
+            broadcaster.broadcast(new Invalidation(nodeId, getName(), null));
+        }
+
+        private void broadcast(Iterable<K> keys) {
+            List<Object> invalidKeys = new ArrayList<>();
+            keys.forEach(invalidKeys::add);
+            broadcaster.broadcast(new Invalidation(nodeId, getName(), invalidKeys));
+        }
+    }
+
+    /**
+     * A broadcaster used to notify all nodes to evict their first level cache.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    public interface InvalidationBroadcaster {
+
+        /**
+         * A broadcaster which does nothing, it's useful when there is only one node.
+         */
+        InvalidationBroadcaster NONE = new InvalidationBroadcaster() {
+            @Override
+            public void broadcast(Invalidation invalidation) {
+                // do nothing
+            }
+            @Override
+            public void subscribe(Consumer<Invalidation> listener) {
+                // do nothing
+            }
+        };
+
+        /**
+         * Broadcast the invalidation to all nodes.
+         *
+         * @param invalidation invalidation
+         */
+        void broadcast(Invalidation invalidation);
+
+        /**
+         * Subscribe the invalidation from all nodes.
+         *
+         * @param listener listener
+         */
+        void subscribe(Consumer<Invalidation> listener);
+    }
+
+    /**
+     * Message of cache invalidation.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Invalidation implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * id of the node which sends the invalidation
+         */
+        private String source;
+
+        /**
+         * name of the cache
+         */
+        private String cacheName;
+
+        /**
+         * keys to be evicted, if it is null, all values of the cache will be evicted
+         */
+        @Nullable
+        private Collection<Object> keys;
+    }
+}
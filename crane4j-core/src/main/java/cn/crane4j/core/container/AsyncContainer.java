@@ -0,0 +1,176 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.util.CollectionUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link Container} which obtains data source objects asynchronously.<br />
+ * It is suitable for the data sources which are accessed by non-blocking clients,
+ * executors such as {@link cn.crane4j.core.executor.NonBlockingBeanOperationExecutor}
+ * will compose the returned {@link CompletionStage} instead of waiting for it in a pool thread.
+ *
+ * <p>The blocking {@link #get} is still available,
+ * it waits for the result of {@link #getAsync} in the caller thread.
+ * Other containers can be adapted to this interface by {@link #adapt}.
+ *
+ * <p><b>NOTE</b>: The decorators which only implement {@link ContainerDelegate},
+ * such as {@link cn.crane4j.core.cache.CacheableContainer}, {@link BatchingContainer}
+ * and {@link ScopedMemoizingContainer}, are not {@link AsyncContainer} even if they wrap one.
+ * They are adapted by {@link #adapt} as blocking containers,
+ * so a thread of the executor will wait for the wrapped {@link AsyncContainer} by {@link #get},
+ * and a warning will be logged when such a container is adapted for the first time.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see cn.crane4j.core.executor.NonBlockingBeanOperationExecutor
+ * @since 2.8.0
+ */
+public interface AsyncContainer<K> extends Container<K> {
+
+    /**
+     * Create an {@link AsyncContainer} from lambda expression.
+     *
+     * @param namespace namespace
+     * @param lambda lambda expression which returns data source objects grouped by key value asynchronously
+     * @param <K> key type
+     * @return container
+     */
+    static <K> AsyncContainer<K> forLambda(
+        String namespace, Function<Collection<K>, CompletionStage<Map<K, ?>>> lambda) {
+        Objects.requireNonNull(namespace, "container namespace must not null");
+        Objects.requireNonNull(lambda, "lambda must not null");
+        return new LambdaAsyncContainer<>(namespace, lambda);
+    }
+
+    /**
+     * <p>Adapt the container to {@link AsyncContainer}.<br />
+     * If the container is not an {@link AsyncContainer},
+     * its blocking {@link #get} will be invoked in the specified executor,
+     * even if it is a {@link ContainerDelegate} which wraps an {@link AsyncContainer}.
+     *
+     * @param container container
+     * @param executor executor used to invoke the blocking container
+     * @param <K> key type
+     * @return async container
+     */
+    @SuppressWarnings("unchecked")
+    static <K> AsyncContainer<K> adapt(@NonNull Container<K> container, @NonNull Executor executor) {
+        return container instanceof AsyncContainer ?
+            (AsyncContainer<K>)container : BlockingContainerAdapter.create(container, executor);
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values asynchronously.
+     *
+     * @param keys keys
+     * @return stage of data source objects grouped by key value
+     */
+    CompletionStage<Map<K, ?>> getAsync(Collection<K> keys);
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * it waits for the result of {@link #getAsync} in the caller thread.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    default Map<K, ?> get(Collection<K> keys) {
+        try {
+            return getAsync(keys).toCompletableFuture().join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * An {@link AsyncContainer} implemented by lambda expression.
+     *
+     * @param <K> key type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    class LambdaAsyncContainer<K> implements AsyncContainer<K> {
+
+        @Getter
+        private final String namespace;
+        private final Function<Collection<K>, CompletionStage<Map<K, ?>>> lambda;
+
+        @Override
+        public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+            return lambda.apply(keys);
+        }
+    }
+
+    /**
+     * An {@link AsyncContainer} which invokes the blocking container in the specified executor.
+     *
+     * @param <K> key type
+     */
+    @Slf4j
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    class BlockingContainerAdapter<K> implements AsyncContainer<K>, ContainerDelegate<K> {
+
+        /**
+         * Decorators which wrap an {@link AsyncContainer} and have been warned.
+         */
+        private static final Map<Container<?>, Boolean> WARNED_DECORATORS = CollectionUtils.newWeakKeysConcurrentMap();
+
+        @Getter
+        private final Container<K> container;
+        private final Executor executor;
+
+        private static <K> BlockingContainerAdapter<K> create(Container<K> container, Executor executor) {
+            if (wrapsAsyncContainer(container) && Objects.isNull(WARNED_DECORATORS.putIfAbsent(container, Boolean.TRUE))) {
+                log.warn(
+                    "container [{}] wraps an async container by [{}] which is not an async container, "
+                        + "the thread of executor will be blocked while waiting for it",
+                    container.getNamespace(), container.getClass().getName()
+                );
+            }
+            return new BlockingContainerAdapter<>(container, executor);
+        }
+
+        private static boolean wrapsAsyncContainer(Container<?> container) {
+            Container<?> current = container;
+            while (current instanceof ContainerDelegate) {
+                current = ((ContainerDelegate<?>)current).getContainer();
+                if (current instanceof AsyncContainer) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String getNamespace() {
+            return container.getNamespace();
+        }
+
+        @Override
+        public CompletionStage<Map<K, ?>> getAsync(Collection<K> keys) {
+            return CompletableFuture.supplyAsync(() -> container.get(keys), executor);
+        }
+
+        @Override
+        public Map<K, ?> get(Collection<K> keys) {
+            return container.get(keys);
+        }
+    }
+}
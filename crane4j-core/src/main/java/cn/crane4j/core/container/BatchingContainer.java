@@ -0,0 +1,177 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.container.lifecycle.BatchingContainerProcessor;
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>Data source container wrapper class which merges the keys of concurrent calls into one batch.<br />
+ * The first caller of a batch waits at most {@link #getWindowNanos()} for other callers,
+ * then the keys collected in this period will be obtained from the original container by one call,
+ * and the results will be distributed to each caller according to the keys it requested.<br />
+ * If the number of keys in the batch reaches {@link #getMaxBatchSize()} before the window closed,
+ * the batch will be dispatched immediately by the caller which fills it.
+ *
+ * <p>Batching trades a little latency (at most the window) for fewer calls to the original container,
+ * so it is suitable for containers which are queried by many concurrent requests,
+ * such as containers backed by database or remote service.
+ * If the original container throws an exception, all callers of the batch will receive it.
+ *
+ * @author huangchengxing
+ * @param <K> key type
+ * @see BatchingContainerProcessor
+ * @since 2.8.0
+ */
+@Slf4j
+public class BatchingContainer<K> implements ContainerDelegate<K> {
+
+    @Getter
+    private final Container<K> container;
+    @Getter
+    private final long windowNanos;
+    @Getter
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+
+    /**
+     * Batch which is collecting keys, guarded by {@link #lock}.
+     */
+    private Batch<K> pending;
+
+    /**
+     * Create a {@link BatchingContainer} instance.
+     *
+     * @param container original container
+     * @param window max time to wait for other callers
+     * @param timeUnit time unit of window
+     * @param maxBatchSize max number of keys in one batch
+     */
+    public BatchingContainer(
+        @NonNull Container<K> container, long window, @NonNull TimeUnit timeUnit, int maxBatchSize) {
+        Asserts.isTrue(window >= 0L, "window of batching container must not be negative");
+        Asserts.isTrue(maxBatchSize > 0, "max batch size of batching container must be greater than 0");
+        this.container = container;
+        this.windowNanos = timeUnit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values,
+     * the keys will be obtained from the original container with keys of other concurrent callers.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Batch<K> batch;
+        boolean leader = false;
+        boolean closed = false;
+        synchronized (lock) {
+            if (Objects.isNull(pending)) {
+                pending = new Batch<>();
+                leader = true;
+            }
+            batch = pending;
+            batch.keys.addAll(keys);
+            if (batch.keys.size() >= maxBatchSize) {
+                pending = null;
+                closed = true;
+            }
+        }
+        if (closed) {
+            dispatch(batch);
+        } else if (leader) {
+            awaitWindow(batch);
+        }
+        return pick(batch, keys);
+    }
+
+    /**
+     * Wait for other callers until the window closed or the batch is dispatched by other caller,
+     * then dispatch the batch if it is still pending.
+     *
+     * @param batch batch
+     */
+    private void awaitWindow(Batch<K> batch) {
+        try {
+            batch.result.get(windowNanos, TimeUnit.NANOSECONDS);
+            return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException | ExecutionException ex) {
+            // window closed or batch is dispatched and failed
+        }
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch<K> batch) {
+        if (log.isDebugEnabled()) {
+            log.debug("get batched keys [{}] from container [{}]", batch.keys, container.getNamespace());
+        }
+        try {
+            Map<K, ?> results = Containers.getInChunks(container, batch.keys, null);
+            batch.result.complete(Objects.isNull(results) ? Collections.emptyMap() : results);
+        } catch (Throwable ex) {
+            batch.result.completeExceptionally(ex);
+        }
+    }
+
+    private Map<K, ?> pick(Batch<K> batch, Collection<K> keys) {
+        Map<K, ?> results;
+        try {
+            results = batch.result.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+        Map<K, Object> picked = new HashMap<>(keys.size());
+        for (K key : keys) {
+            Object value = results.get(key);
+            if (Objects.nonNull(value)) {
+                picked.put(key, value);
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * Keys and result of a batch.
+     *
+     * @param <K> key type
+     */
+    private static class Batch<K> {
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final CompletableFuture<Map<K, ?>> result = new CompletableFuture<>();
+    }
+}
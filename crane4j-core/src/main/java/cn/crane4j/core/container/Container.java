@@ -90,6 +90,20 @@ public interface Container<K> {
      */
     Map<K, ?> get(Collection<K> keys);
 
+    /**
+     * <p>Get the max number of keys which can be passed to {@link #get} in one call,
+     * such as the limit of the IN-list of SQL or the payload of RPC.<br />
+     * If the number of keys exceeds the limit,
+     * the caller should split them into chunks and call {@link #get} for each chunk.
+     *
+     * @return max number of keys in one call, not limited if it is less than or equal to 0
+     * @see Containers#getInChunks
+     * @since 2.8.0
+     */
+    default int getMaxKeysPerCall() {
+        return -1;
+    }
+
     /**
      * Simple lifecycle callback of container
      */
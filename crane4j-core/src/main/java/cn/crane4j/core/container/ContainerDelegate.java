@@ -43,6 +43,17 @@ public interface ContainerDelegate<K> extends Container<K>, Container.Lifecycle
         return getContainer().get(keys);
     }
 
+    /**
+     * Get the max number of keys which can be passed to {@link #get} in one call.
+     *
+     * @return max number of keys in one call, not limited if it is less than or equal to 0
+     * @since 2.8.0
+     */
+    @Override
+    default int getMaxKeysPerCall() {
+        return getContainer().getMaxKeysPerCall();
+    }
+
     /**
      * Initialize the container
      */
@@ -7,12 +7,23 @@ import cn.crane4j.core.support.SimpleAnnotationFinder;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * A utility class for creating containers from various data sources.
@@ -170,6 +181,76 @@ public class Containers {
         return forEnum(enumType, SimpleAnnotationFinder.INSTANCE, ReflectivePropertyOperator.INSTANCE);
     }
 
+    /**
+     * <p>Get data source objects from the container.<br />
+     * If the number of keys exceeds {@link Container#getMaxKeysPerCall()},
+     * the keys will be split into chunks and the container will be called for each chunk,
+     * if the executor is specified, the chunks will be fetched in parallel.
+     *
+     * @param container container
+     * @param keys keys
+     * @param executor executor used to fetch the chunks in parallel, if null, the chunks are fetched in order
+     * @param <K> key type
+     * @return data source objects grouped by key value
+     * @since 2.8.0
+     */
+    public static <K> Map<K, ?> getInChunks(
+        Container<K> container, Collection<K> keys, @Nullable Executor executor) {
+        int maxKeysPerCall = container.getMaxKeysPerCall();
+        if (maxKeysPerCall <= 0 || keys.size() <= maxKeysPerCall) {
+            return container.get(keys);
+        }
+        List<Collection<K>> chunks = CollectionUtils.split(keys, maxKeysPerCall);
+        Map<K, Object> results = new HashMap<>(keys.size());
+        if (Objects.isNull(executor)) {
+            chunks.forEach(chunk -> putAllIfNotNull(results, container.get(chunk)));
+            return results;
+        }
+        List<CompletableFuture<Map<K, ?>>> futures = chunks.stream()
+            .map(chunk -> CompletableFuture.<Map<K, ?>>supplyAsync(() -> container.get(chunk), executor))
+            .collect(Collectors.toList());
+        try {
+            futures.forEach(future -> putAllIfNotNull(results, future.join()));
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+        return results;
+    }
+
+    /**
+     * <p>Get data source objects from the container asynchronously.<br />
+     * If the number of keys exceeds {@link Container#getMaxKeysPerCall()},
+     * the keys will be split into chunks and the container will be called for each chunk,
+     * the returned stage is completed when all chunks are obtained.
+     *
+     * @param container container
+     * @param keys keys
+     * @param <K> key type
+     * @return stage of data source objects grouped by key value
+     * @since 2.8.0
+     */
+    public static <K> CompletionStage<Map<K, ?>> getInChunksAsync(AsyncContainer<K> container, Collection<K> keys) {
+        int maxKeysPerCall = container.getMaxKeysPerCall();
+        if (maxKeysPerCall <= 0 || keys.size() <= maxKeysPerCall) {
+            return container.getAsync(keys);
+        }
+        List<CompletableFuture<Map<K, ?>>> chunks = CollectionUtils.split(keys, maxKeysPerCall).stream()
+            .map(chunk -> container.getAsync(chunk).toCompletableFuture())
+            .collect(Collectors.toList());
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).thenApply(v -> {
+            Map<K, Object> results = new HashMap<>(keys.size());
+            chunks.forEach(chunk -> putAllIfNotNull(results, chunk.join()));
+            return results;
+        });
+    }
+
+    private static <K> void putAllIfNotNull(Map<K, Object> results, @Nullable Map<K, ?> sources) {
+        if (Objects.nonNull(sources)) {
+            results.putAll(sources);
+        }
+    }
+
     private static void checkNamespace(String namespace) {
         // fix https://github.com/opengoofy/crane4j/issues/262
         Asserts.isNotEmpty(namespace, "namespace must not be empty");
@@ -0,0 +1,100 @@
+package cn.crane4j.core.container;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A scope bound to the current thread, in which the data sources obtained from
+ * the {@link ScopedMemoizingContainer} are memoized by namespace and key,
+ * so the same keys will not be fetched from the same container repeatedly
+ * until the scope is closed.<br />
+ * It is usually opened at the beginning of a request,
+ * and closed when the request is completed, for example:
+ * <pre type="code">{@code
+ * try (MemoizationScope scope = MemoizationScope.open()) {
+ *     // the data sources obtained during the request are shared
+ *     operateTemplate.execute(foos);
+ *     operateTemplate.execute(bars);
+ * }
+ * }</pre>
+ * If the scope is opened again before it is closed, the opened scope will be reused,
+ * and the memoized data sources are cleared only when the outermost scope is closed.
+ *
+ * <p><b>NOTE</b>: The scope is bound to the thread which opened it,
+ * the containers called in other threads (e.g. by {@link cn.crane4j.core.executor.AsyncBeanOperationExecutor})
+ * cannot see the scope.
+ *
+ * @author huangchengxing
+ * @see ScopedMemoizingContainer
+ * @see cn.crane4j.core.container.lifecycle.ScopedMemoizingContainerProcessor
+ * @since 2.8.0
+ */
+public final class MemoizationScope implements AutoCloseable {
+
+    private static final ThreadLocal<MemoizationScope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * memoized data sources grouped by namespace
+     */
+    private final Map<String, Map<Object, Object>> sources = new ConcurrentHashMap<>(8);
+
+    /**
+     * number of times the scope is opened but not closed
+     */
+    private int depth = 0;
+
+    private MemoizationScope() {
+    }
+
+    /**
+     * Open a scope for the current thread,
+     * if a scope has been opened by current thread, it will be returned.
+     *
+     * @return scope
+     */
+    public static MemoizationScope open() {
+        MemoizationScope scope = CURRENT.get();
+        if (Objects.isNull(scope)) {
+            scope = new MemoizationScope();
+            CURRENT.set(scope);
+        }
+        scope.depth++;
+        return scope;
+    }
+
+    /**
+     * Get the scope opened by current thread.
+     *
+     * @return scope, or {@code null} if no scope is opened
+     */
+    @Nullable
+    public static MemoizationScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the memoized data sources of the specified namespace.
+     *
+     * @param namespace namespace of container
+     * @return memoized data sources, the key which has no data source is mapped to {@link ScopedMemoizingContainer#ABSENT}
+     */
+    Map<Object, Object> getSources(String namespace) {
+        return sources.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>(16));
+    }
+
+    /**
+     * Close the scope, the memoized data sources are cleared
+     * if the outermost scope is closed.
+     */
+    @Override
+    public void close() {
+        if (--depth > 0) {
+            return;
+        }
+        sources.clear();
+        CURRENT.remove();
+    }
+}
@@ -66,6 +66,15 @@ public abstract class MethodInvokerContainer implements Container<Object> {
     @Nullable
     protected MethodInvoker extractor;
 
+    /**
+     * Max number of keys in one call, not limited if it is less than or equal to 0.
+     *
+     * @since 2.8.0
+     */
+    @Getter
+    @Setter
+    protected int maxKeysPerCall = -1;
+
     /**
      * extract data from the result if possible.
      *
@@ -0,0 +1,80 @@
+package cn.crane4j.core.container;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>A container wrapper which memoizes the data sources obtained from the actual container
+ * in the {@link MemoizationScope} opened by current thread.<br />
+ * When called in a scope, only the keys which have not been fetched in the scope
+ * will be passed to the actual container, the keys without data source are memoized too.
+ * The {@code null} key is never memoized, it is always passed to the actual container.
+ * If no scope is opened, the actual container is called directly.
+ *
+ * <p>Unlike {@link cn.crane4j.core.cache.CacheableContainer},
+ * the memoized data sources are discarded when the scope is closed,
+ * so there is no need to worry about the expiration of data.
+ *
+ * @author huangchengxing
+ * @see MemoizationScope
+ * @since 2.8.0
+ */
+@RequiredArgsConstructor
+public class ScopedMemoizingContainer<K> implements ContainerDelegate<K> {
+
+    /**
+     * placeholder of the key which has no data source
+     */
+    static final Object ABSENT = new Object();
+
+    @Getter
+    private final Container<K> container;
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        MemoizationScope scope = MemoizationScope.current();
+        if (Objects.isNull(scope)) {
+            return container.get(keys);
+        }
+        Map<Object, Object> memoized = scope.getSources(getNamespace());
+        Map<K, Object> results = new HashMap<>(keys.size());
+        List<K> missedKeys = new ArrayList<>();
+        for (K key : keys) {
+            // the memoized sources do not support null key
+            Object source = Objects.isNull(key) ? null : memoized.get(key);
+            if (Objects.isNull(source)) {
+                missedKeys.add(key);
+            } else if (source != ABSENT) {
+                results.put(key, source);
+            }
+        }
+        if (missedKeys.isEmpty()) {
+            return results;
+        }
+        Map<K, ?> fetched = container.get(missedKeys);
+        for (K key : missedKeys) {
+            Object source = Objects.isNull(fetched) ? null : fetched.get(key);
+            if (Objects.nonNull(key)) {
+                memoized.put(key, Objects.isNull(source) ? ABSENT : source);
+            }
+            if (Objects.nonNull(source)) {
+                results.put(key, source);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,86 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.BatchingContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Processor for wrap the container as a {@link BatchingContainer}
+ * according to the batching configuration of its namespace when it is created.<br />
+ * Only the containers whose namespace is registered by {@link #registerBatching} will be wrapped.
+ *
+ * <p>The processor should be registered before {@link cn.crane4j.core.cache.CacheableContainerProcessor},
+ * so that the cache is checked before the keys join a batch.
+ *
+ * @author huangchengxing
+ * @see BatchingContainer
+ * @since 2.8.0
+ */
+@Slf4j
+public class BatchingContainerProcessor implements ContainerLifecycleProcessor {
+
+    private final Map<String, BatchingConfig> configs = new ConcurrentHashMap<>(16);
+
+    /**
+     * Enable batching for the container with the specified namespace,
+     * it only works for the container which is created after registration.
+     *
+     * @param namespace namespace of container
+     * @param window max time to wait for other callers
+     * @param timeUnit time unit of window
+     * @param maxBatchSize max number of keys in one batch
+     */
+    public void registerBatching(String namespace, long window, TimeUnit timeUnit, int maxBatchSize) {
+        configs.put(namespace, new BatchingConfig(window, timeUnit, maxBatchSize));
+    }
+
+    /**
+     * Disable batching for the container with the specified namespace.
+     *
+     * @param namespace namespace of container
+     */
+    public void removeBatching(String namespace) {
+        configs.remove(namespace);
+    }
+
+    /**
+     * Callback when the container is created.
+     *
+     * @param definition definition of container
+     * @param container  container
+     * @return final effective container instance
+     */
+    @Nullable
+    @Override
+    public Container<Object> whenCreated(ContainerDefinition definition, Container<Object> container) {
+        BatchingConfig config = configs.get(container.getNamespace());
+        if (Objects.isNull(config) || container instanceof BatchingContainer) {
+            return container;
+        }
+        log.info(
+            "apply batching to container [{}], window is [{}] {}, max batch size is [{}]",
+            container.getNamespace(), config.getWindow(), config.getTimeUnit().name().toLowerCase(), config.getMaxBatchSize()
+        );
+        return new BatchingContainer<>(container, config.getWindow(), config.getTimeUnit(), config.getMaxBatchSize());
+    }
+
+    /**
+     * Batching configuration of container.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class BatchingConfig {
+        private final long window;
+        private final TimeUnit timeUnit;
+        private final int maxBatchSize;
+    }
+}
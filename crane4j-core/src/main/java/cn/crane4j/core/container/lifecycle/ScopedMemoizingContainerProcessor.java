@@ -0,0 +1,44 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.container.EmptyContainer;
+import cn.crane4j.core.container.ScopedMemoizingContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+
+/**
+ * <p>Processor for wrap the container as a {@link ScopedMemoizingContainer} when it is created,
+ * so that the data sources obtained from it can be memoized in a {@link cn.crane4j.core.container.MemoizationScope}.
+ *
+ * <p>The processor should be registered after the other processors which wrap the container,
+ * so that the memoized data sources are checked before the cache and batching.
+ *
+ * @author huangchengxing
+ * @see ScopedMemoizingContainer
+ * @see cn.crane4j.core.container.MemoizationScope
+ * @since 2.8.0
+ */
+@Slf4j
+public class ScopedMemoizingContainerProcessor implements ContainerLifecycleProcessor {
+
+    /**
+     * Callback when the container is created.
+     *
+     * @param definition definition of container
+     * @param container  container
+     * @return final effective container instance
+     */
+    @Nullable
+    @Override
+    public Container<Object> whenCreated(ContainerDefinition definition, Container<Object> container) {
+        if (Objects.isNull(container) || container instanceof EmptyContainer
+            || container instanceof ScopedMemoizingContainer) {
+            return container;
+        }
+        log.debug("apply scoped memoization to container [{}]", container.getNamespace());
+        return new ScopedMemoizingContainer<>(container);
+    }
+}
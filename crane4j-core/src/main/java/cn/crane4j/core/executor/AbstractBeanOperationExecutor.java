@@ -12,19 +12,26 @@ import cn.crane4j.core.parser.operation.KeyTriggerOperation;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.MultiMap;
-import cn.crane4j.core.util.TimerUtil;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  *
@@ -63,11 +70,17 @@ import java.util.stream.Collectors;
  * @see AsyncBeanOperationExecutor
  * @see DisorderedBeanOperationExecutor
  * @see OrderedBeanOperationExecutor
+ * @see OperationExecutionListener
  */
 @RequiredArgsConstructor
 @Slf4j
 public abstract class AbstractBeanOperationExecutor implements BeanOperationExecutor {
 
+    /**
+     * The maximum number of cached execution plans.
+     */
+    private static final long MAXIMUM_EXECUTION_PLANS = 1024L;
+
     /**
      * Container manager.
      */
@@ -90,6 +103,54 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     @Setter
     private int batchSize = -1;
 
+    /**
+     * <p>Threshold of the number of targets to be disassembled in parallel.<br />
+     * If the number of targets exceeds the threshold, they will be split into chunks
+     * which are not greater than the threshold by fork/join,
+     * then the chunks are disassembled in {@link #disassemblePool} in parallel.
+     * Otherwise, or if the threshold is less than or equal to 0,
+     * the targets are disassembled in the current thread.
+     *
+     * @since 2.8.0
+     */
+    @Getter
+    @Setter
+    private int parallelDisassembleThreshold = -1;
+
+    /**
+     * Pool used to disassemble targets in parallel.
+     *
+     * @see #parallelDisassembleThreshold
+     * @since 2.8.0
+     */
+    @Setter
+    @NonNull
+    private ForkJoinPool disassemblePool = ForkJoinPool.commonPool();
+
+    /**
+     * Listener of the execution, which receives the time spent on each phase.
+     *
+     * @since 2.8.0
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private OperationExecutionListener executionListener = OperationExecutionListener.NONE;
+
+    /**
+     * Execution plans compiled for the active {@link BeanOperations}.<br />
+     * The plan may reference its own operations through the disassemble operations,
+     * so the plans of discarded operations are only released by eviction,
+     * the number of cached plans is bounded by {@link #MAXIMUM_EXECUTION_PLANS}.
+     * {@link BeanOperations} does not override {@link Object#equals}, so the keys are compared by identity.
+     *
+     * @since 2.8.0
+     */
+    private final Map<BeanOperations, ExecutionPlan> executionPlans = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_EXECUTION_PLANS)
+        .<BeanOperations, ExecutionPlan>build()
+        .asMap();
+
     /**
      * Complete operations on all objects in {@code targets} according to the specified {@link BeanOperations} and {@link Options}.
      *
@@ -102,9 +163,31 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     @Override
     public void execute(Collection<?> targets, BeanOperations operations, Options options) {
-        if (CollectionUtils.isEmpty(targets) || Objects.isNull(operations)) {
+        PreparedExecutions prepared = prepareExecutions(targets, operations, options);
+        if (Objects.isNull(prepared)) {
             return;
         }
+        // complete assembly operation
+        executeOperations(prepared.getExecutions(), options);
+        completeExecutions(prepared);
+    }
+
+    /**
+     * <p>Disassemble the targets and group them into {@link AssembleExecution}.<br />
+     * The returned executions should be executed and then passed to {@link #completeExecutions}.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @return prepared executions, or {@code null} if there is nothing to execute
+     * @see #completeExecutions
+     * @since 2.8.0
+     */
+    @Nullable
+    protected PreparedExecutions prepareExecutions(Collection<?> targets, BeanOperations operations, Options options) {
+        if (CollectionUtils.isEmpty(targets) || Objects.isNull(operations)) {
+            return null;
+        }
 
         // When the following all conditions are met, the operation will be abandoned:
         // 1. The operation is not active;
@@ -112,18 +195,23 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
         // 3. The execution of non-active operations is not enabled.
         if (!operations.isActive() && !enableExecuteNotActiveOperation) {
             log.warn("bean operation of [{}] is still not ready, abort execution of the operation", operations.getSource());
-            return;
+            return null;
         }
 
         // complete the disassembly first if necessary
+        long startTime = System.nanoTime();
         beforeDisassembleOperation(targets, operations, options);
         MultiMap<BeanOperations, Object> targetWithOperations = MultiMap.linkedListMultimap();
         targetWithOperations.putAll(operations, targets);
         Predicate<? super KeyTriggerOperation> filter = options.getFilter();
-        TimerUtil.getExecutionTime(
-            log.isDebugEnabled(),
-            time -> log.debug("disassemble operations completed in {} ms", time),
-            () -> disassembleIfNecessary(targets, operations, filter, targetWithOperations)
+        disassemble(targets, operations, filter, targetWithOperations);
+        long disassembledTime = System.nanoTime();
+        if (log.isDebugEnabled()) {
+            log.debug("disassemble operations completed in {} ms", TimeUnit.NANOSECONDS.toMillis(disassembledTime - startTime));
+        }
+        int flattenedCount = countTargets(targetWithOperations);
+        executionListener.onDisassembleCompleted(
+            operations, targets.size(), flattenedCount, disassembledTime - startTime
         );
 
         // flattened objects are grouped according to assembly operations, then encapsulated as execution objects
@@ -135,25 +223,52 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
                 executions.addAll(executionsOfOp);
             }
         });
+        long groupedTime = System.nanoTime();
+        executionListener.onGroupingCompleted(
+            operations, flattenedCount, executions.size(), groupedTime - disassembledTime
+        );
+        return new PreparedExecutions(
+            operations, targets.size(), targetWithOperations, executions, startTime, groupedTime
+        );
+    }
 
-        // complete assembly operation
-        TimerUtil.getExecutionTime(
-            log.isDebugEnabled(),
-            time -> log.debug("assemble operations completed in {} ms", time),
-            () -> executeOperations(executions, options)
+    /**
+     * Do something after the prepared executions are executed.
+     *
+     * @param prepared prepared executions
+     * @see #prepareExecutions
+     * @since 2.8.0
+     */
+    protected void completeExecutions(PreparedExecutions prepared) {
+        long completedTime = System.nanoTime();
+        if (log.isDebugEnabled()) {
+            log.debug("assemble operations completed in {} ms", TimeUnit.NANOSECONDS.toMillis(completedTime - prepared.getGroupedTime()));
+        }
+        afterOperationsCompletion(prepared.getTargetWithOperations());
+        executionListener.onExecuteCompleted(
+            prepared.getOperations(), prepared.getTargetCount(), System.nanoTime() - prepared.getStartTime()
         );
-        afterOperationsCompletion(targetWithOperations);
+    }
+
+    private static int countTargets(MultiMap<BeanOperations, Object> targetWithOperations) {
+        int count = 0;
+        for (Collection<Object> ts : targetWithOperations.asMap().values()) {
+            count += ts.size();
+        }
+        return count;
     }
 
     @NonNull
     private List<AssembleExecution> combineExecutions(
         Options options, Predicate<? super KeyTriggerOperation> filter, BeanOperations beanOperations, Collection<Object> targets) {
-        List<Collection<Object>> batches = batchSize > 1 ?
-            CollectionUtils.split(targets, batchSize) : Collections.singletonList(targets);
-        return batches.stream()
-            .map(batch -> doCombineExecutions(options, filter, beanOperations, batch))
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        if (batchSize <= 1 || targets.size() <= batchSize) {
+            return doCombineExecutions(options, filter, beanOperations, targets);
+        }
+        List<AssembleExecution> executions = new ArrayList<>();
+        for (Collection<Object> batch : CollectionUtils.split(targets, batchSize)) {
+            executions.addAll(doCombineExecutions(options, filter, beanOperations, batch));
+        }
+        return executions;
     }
 
     /**
@@ -164,15 +279,62 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      * @param beanOperations bean operations
      * @param targets targets
      * @return {@link AssembleExecution} objects
+     * @see #getExecutionPlan
      */
     @NonNull
     protected List<AssembleExecution> doCombineExecutions(
         Options options, Predicate<? super KeyTriggerOperation> filter, BeanOperations beanOperations, Collection<Object> targets) {
-        return beanOperations.getAssembleOperations()
-            .stream()
-            .filter(filter)
-            .map(p -> createAssembleExecution(beanOperations, p, targets, options))
-            .collect(Collectors.toList());
+        List<ExecutionPlan.PlannedAssembleOperation> operations = getExecutionPlan(beanOperations)
+            .getAssembleOperations(filter);
+        List<AssembleExecution> executions = new ArrayList<>(operations.size());
+        for (ExecutionPlan.PlannedAssembleOperation operation : operations) {
+            executions.add(createAssembleExecution(beanOperations, operation, targets, options));
+        }
+        return executions;
+    }
+
+    /**
+     * <p>Get the execution plan of the specified operations.<br />
+     * The plan is compiled and cached when the operations are active,
+     * otherwise a new plan will be compiled in each call.
+     *
+     * @param operations operations
+     * @return execution plan
+     * @see ExecutionPlan
+     * @since 2.8.0
+     */
+    protected ExecutionPlan getExecutionPlan(BeanOperations operations) {
+        if (!operations.isActive()) {
+            return ExecutionPlan.compile(operations);
+        }
+        return CollectionUtils.computeIfAbsent(executionPlans, operations, ExecutionPlan::compile);
+    }
+
+    /**
+     * Clear the cached execution plans,
+     * it should be called if the cached {@link BeanOperations} are changed.
+     *
+     * @since 2.8.0
+     */
+    public void clearExecutionPlans() {
+        executionPlans.clear();
+    }
+
+    /**
+     * Create a {@link AssembleExecution} for the planned operation.
+     *
+     * @param beanOperations bean operations
+     * @param operation planned operation
+     * @param targets targets
+     * @param options options for execution
+     * @return {@link AssembleExecution}
+     * @since 2.8.0
+     */
+    protected AssembleExecution createAssembleExecution(
+        BeanOperations beanOperations, ExecutionPlan.PlannedAssembleOperation operation,
+        Collection<Object> targets, Options options) {
+        targets = filterTargetsForSupportedOperation(targets, operation.getOperation());
+        return operation.createExecution(beanOperations, getContainer(options, operation.getOperation()), targets);
     }
 
     /**
@@ -187,10 +349,14 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     protected AssembleExecution createAssembleExecution(
         BeanOperations beanOperations, AssembleOperation operation, Collection<Object> targets, Options options) {
         targets = filterTargetsForSupportedOperation(targets, operation);
+        return AssembleExecution.create(beanOperations, operation, getContainer(options, operation), targets);
+    }
+
+    private Container<?> getContainer(Options options, AssembleOperation operation) {
         String namespace = operation.getContainer();
         Container<?> container = options.getContainer(containerManager, namespace);
         Asserts.isNotNull(container, "container [{}] not found", namespace);
-        return AssembleExecution.create(beanOperations, operation, container, targets);
+        return container;
     }
     
     /**
@@ -214,6 +380,25 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     protected abstract void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException;
 
+    /**
+     * Group the executions by container and handler.
+     *
+     * @param executions executions
+     * @return grouped executions
+     * @since 2.8.0
+     */
+    protected Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> groupExecutions(
+        List<AssembleExecution> executions) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = new LinkedHashMap<>();
+        executions.forEach(e -> {
+            Container<?> container = e.getContainer();
+            Map<AssembleOperationHandler, List<AssembleExecution>> he = operations.computeIfAbsent(container, c -> new HashMap<>(8));
+            List<AssembleExecution> es = he.computeIfAbsent(e.getHandler(), h -> new ArrayList<>());
+            es.add(e);
+        });
+        return operations;
+    }
+
     /**
      * Do something before the assembly operation begin.
      *
@@ -261,16 +446,30 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
         return targets;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> void disassemble(
+        Collection<T> targets, BeanOperations operations,
+        Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
+        boolean parallel = parallelDisassembleThreshold > 0
+            && targets.size() > parallelDisassembleThreshold
+            && CollectionUtils.isNotEmpty(operations.getDisassembleOperations());
+        if (!parallel) {
+            disassembleIfNecessary(targets, operations, filter, collector);
+            return;
+        }
+        List<T> targetList = targets instanceof List ? (List<T>)targets : new ArrayList<>(targets);
+        collector.putAll(disassemblePool.invoke(new DisassembleTask(targetList, operations, filter)));
+    }
+
     private <T> void disassembleIfNecessary(
         Collection<T> targets, BeanOperations operations,
         Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
-        Collection<DisassembleOperation> internalOperations = operations.getDisassembleOperations();
-        if (CollectionUtils.isEmpty(internalOperations)) {
+        if (CollectionUtils.isEmpty(operations.getDisassembleOperations())) {
             return;
         }
-        internalOperations.stream()
-            .filter(filter)
-            .forEach(internal -> doDisassembleAndCollect(targets, internal, filter, collector));
+        for (DisassembleOperation internal : getExecutionPlan(operations).getDisassembleOperations(filter)) {
+            doDisassembleAndCollect(targets, internal, filter, collector);
+        }
     }
 
     private <T> void doDisassembleAndCollect(
@@ -294,7 +493,29 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      * @param handler handler
      * @param executions executions
      * @param container container
+     * @see OperationExecutionListener#onExecuteFailed
+     * @since 2.8.0
      */
+    protected void doExecuteOperation(
+        AssembleOperationHandler handler, Container<?> container, Collection<AssembleExecution> executions) {
+        try {
+            handler.process(container, executions, executionListener);
+        } catch(Exception ex) {
+            executionListener.onExecuteFailed(handler, container, executions, ex);
+            log.warn("execute operation fail: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * <p>Try to execute the operation.<br />
+     * If necessary, output the log when throwing an exception.
+     *
+     * @param handler handler
+     * @param executions executions
+     * @param container container
+     * @deprecated the {@link #executionListener} will not be notified, use {@link #doExecuteOperation} instead
+     */
+    @Deprecated
     protected static void doExecute(
         AssembleOperationHandler handler, Container<?> container, Collection<AssembleExecution> executions) {
         try {
@@ -303,4 +524,49 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
             log.warn("execute operation fail: {}", ex.getMessage(), ex);
         }
     }
+
+    /**
+     * A task which splits the targets into two halves until the size is not greater than the threshold,
+     * then disassembles them and merges the results in order.
+     */
+    @RequiredArgsConstructor
+    private class DisassembleTask extends RecursiveTask<MultiMap<BeanOperations, Object>> {
+
+        private final List<?> targets;
+        private final BeanOperations operations;
+        private final Predicate<? super KeyTriggerOperation> filter;
+
+        @Override
+        protected MultiMap<BeanOperations, Object> compute() {
+            int size = targets.size();
+            if (size <= parallelDisassembleThreshold) {
+                MultiMap<BeanOperations, Object> collector = MultiMap.linkedListMultimap();
+                disassembleIfNecessary(targets, operations, filter, collector);
+                return collector;
+            }
+            int middle = size >>> 1;
+            DisassembleTask right = new DisassembleTask(targets.subList(middle, size), operations, filter);
+            right.fork();
+            MultiMap<BeanOperations, Object> results = new DisassembleTask(targets.subList(0, middle), operations, filter).compute();
+            results.putAll(right.join());
+            return results;
+        }
+    }
+
+    /**
+     * Disassembled and grouped executions which are waiting to be executed.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    protected static class PreparedExecutions {
+        private final BeanOperations operations;
+        private final int targetCount;
+        private final MultiMap<BeanOperations, Object> targetWithOperations;
+        private final List<AssembleExecution> executions;
+        private final long startTime;
+        private final long groupedTime;
+    }
 }
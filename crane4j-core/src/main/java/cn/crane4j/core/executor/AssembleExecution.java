@@ -2,6 +2,7 @@ package cn.crane4j.core.executor;
 
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.executor.handler.key.KeyResolver;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import lombok.Getter;
@@ -78,6 +79,17 @@ public interface AssembleExecution {
         return getOperation().getAssembleOperationHandler();
     }
 
+    /**
+     * Get the key resolver used to resolve the key of targets.
+     *
+     * @return key resolver
+     * @see AssembleOperationHandler#determineKeyResolver
+     * @since 2.8.0
+     */
+    default KeyResolver getKeyResolver() {
+        return getHandler().determineKeyResolver(getOperation());
+    }
+
     /**
      * get the target object to be processed.
      *
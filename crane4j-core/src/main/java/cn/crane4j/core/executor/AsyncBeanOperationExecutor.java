@@ -76,7 +76,18 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
 
     private void doExecuteOperations(AssembleExecution execution) {
         Container<?> container = execution.getContainer();
-        doExecute(execution.getHandler(), container, Collections.singletonList(execution));
+        doExecuteOperation(execution.getHandler(), container, Collections.singletonList(execution));
+    }
+
+    private void processWithListener(
+        AssembleOperationHandler handler, Container<?> container, List<AssembleExecution> executions) {
+        OperationExecutionListener listener = getExecutionListener();
+        try {
+            handler.process(container, executions, listener);
+        } catch (RuntimeException ex) {
+            listener.onExecuteFailed(handler, container, executions, ex);
+            throw ex;
+        }
     }
 
     /**
@@ -88,7 +99,7 @@ public class AsyncBeanOperationExecutor extends DisorderedBeanOperationExecutor
     protected void doExecuteOperations(Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
         List<Runnable> tasks = new ArrayList<>(executionGroups.size());
         executionGroups.forEach((c, he) ->
-            he.forEach((h, es) -> tasks.add(() -> h.process(c, es))));
+            he.forEach((h, es) -> tasks.add(() -> processWithListener(h, c, es))));
         tasks.stream()
             .map(t -> CompletableFuture.runAsync(t, executor))
             .collect(Collectors.collectingAndThen(
@@ -10,8 +10,13 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>Bean operation executor, used to perform disassembly operations,
@@ -57,6 +62,63 @@ public interface BeanOperationExecutor extends NamedComponent {
         execute(targets, operations, t -> true);
     }
 
+    /**
+     * <p>Complete operations on the targets read from the iterator in fixed-size windows.<br />
+     * The returned iterator is lazy, when the targets of the current window are all consumed,
+     * the next window will be read from {@code targets} and processed by {@link #execute},
+     * so only one window of targets is held at a time.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @param windowSize max number of targets in one window
+     * @param <T> target type
+     * @return iterator of processed targets
+     * @see WindowedExecutionIterator
+     * @since 2.8.0
+     */
+    default <T> Iterator<T> executeInWindows(
+        Iterator<? extends T> targets, BeanOperations operations, Options options, int windowSize) {
+        return new WindowedExecutionIterator<>(targets, this, operations, options, windowSize);
+    }
+
+    /**
+     * <p>Complete operations on the targets of the stream in fixed-size windows.<br />
+     * The returned stream is lazy and sequential, the targets are processed window by window
+     * when the stream is consumed, and the source stream is closed when the returned stream is closed.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @param windowSize max number of targets in one window
+     * @param <T> target type
+     * @return stream of processed targets
+     * @see #executeInWindows(Iterator, BeanOperations, Options, int)
+     * @since 2.8.0
+     */
+    default <T> Stream<T> executeInWindows(
+        Stream<? extends T> targets, BeanOperations operations, Options options, int windowSize) {
+        Iterator<T> iterator = executeInWindows(targets.iterator(), operations, options, windowSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(targets::close);
+    }
+
+    /**
+     * Complete operations on the targets of the stream in fixed-size windows.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param windowSize max number of targets in one window
+     * @param <T> target type
+     * @return stream of processed targets
+     * @see #executeInWindows(Stream, BeanOperations, Options, int)
+     * @since 2.8.0
+     */
+    default <T> Stream<T> executeInWindows(Stream<? extends T> targets, BeanOperations operations, int windowSize) {
+        Predicate<? super KeyTriggerOperation> filter = t -> true;
+        return executeInWindows(targets, operations, () -> filter, windowSize);
+    }
+
     /**
      * Options for execution.
      *
@@ -0,0 +1,86 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An {@link OperationExecutionListener} which dispatches the callbacks to multiple listeners in order.
+ *
+ * @author huangchengxing
+ * @since 2.8.0
+ */
+@RequiredArgsConstructor
+public class CompositeOperationExecutionListener implements OperationExecutionListener {
+
+    @Getter
+    private final List<OperationExecutionListener> listeners;
+
+    /**
+     * Combine the listeners into one listener.
+     *
+     * @param listeners listeners
+     * @return {@link OperationExecutionListener#NONE} if there is no listener,
+     * the listener itself if there is only one listener, otherwise a composite listener
+     */
+    public static OperationExecutionListener of(List<OperationExecutionListener> listeners) {
+        if (listeners.isEmpty()) {
+            return OperationExecutionListener.NONE;
+        }
+        return listeners.size() == 1 ?
+            listeners.get(0) : new CompositeOperationExecutionListener(listeners);
+    }
+
+    @Override
+    public void onDisassembleCompleted(
+        BeanOperations operations, int targetCount, int flattenedCount, long elapsedNanos) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onDisassembleCompleted(operations, targetCount, flattenedCount, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onGroupingCompleted(
+        BeanOperations operations, int targetCount, int executionCount, long elapsedNanos) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onGroupingCompleted(operations, targetCount, executionCount, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onContainerFetched(
+        Container<?> container, int keyCount, int sourceCount, long elapsedNanos) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onContainerFetched(container, keyCount, sourceCount, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onMappingCompleted(
+        AssembleOperationHandler handler, Container<?> container, int targetCount, long elapsedNanos) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onMappingCompleted(handler, container, targetCount, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onExecuteFailed(
+        AssembleOperationHandler handler, Container<?> container,
+        Collection<AssembleExecution> executions, Throwable ex) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onExecuteFailed(handler, container, executions, ex);
+        }
+    }
+
+    @Override
+    public void onExecuteCompleted(BeanOperations operations, int targetCount, long elapsedNanos) {
+        for (OperationExecutionListener listener : listeners) {
+            listener.onExecuteCompleted(operations, targetCount, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.executor.handler.key.KeyResolver;
+import cn.crane4j.core.executor.handler.key.ReflectivePropertyKeyResolver;
+import cn.crane4j.core.executor.handler.key.ReflectiveSeparablePropertyKeyResolver;
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.util.StringUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * <p>The implementation of {@link BeanOperationExecutor} which guarantees the order of dependent operations only.<br />
+ * Like {@link OrderedBeanOperationExecutor}, the executions will be sorted by the comparator first,
+ * then they are divided into levels according to the dependencies between them:
+ * an operation depends on the previous operations of the same {@link cn.crane4j.core.parser.BeanOperations}
+ * if it reads a property written by them, or writes a property read or written by them.
+ * The key property is considered as read, and the reference properties of mappings are considered as written,
+ * two chained properties are considered as the same property if one of them is the prefix of the other,
+ * such as {@code dept} and {@code dept.id}.
+ * If the key or any reference property of an operation is not specified,
+ * or the key is resolved by a custom {@link KeyResolver} or key description which may read other properties,
+ * it is considered to depend on all previous operations, and all following operations depend on it.
+ *
+ * <p>The levels are executed in order, and the executions in the same level are grouped
+ * according to the data source container like {@link DisorderedBeanOperationExecutor},
+ * then each group is performed in the executor in parallel.
+ * So the order-dependent beans can still reduce the number of calls to the {@link Container}.
+ *
+ * @author huangchengxing
+ * @see OrderedBeanOperationExecutor
+ * @see DisorderedBeanOperationExecutor
+ * @since 2.8.0
+ */
+@Slf4j
+public class DependencyAwareBeanOperationExecutor extends AbstractOperationAwareBeanOperationExecutor {
+
+    /**
+     * comparator
+     */
+    private final Comparator<AssembleOperation> comparator;
+
+    /**
+     * thread pool used to perform the groups in the same level.
+     */
+    private final Executor executor;
+
+    /**
+     * Create a new {@link DependencyAwareBeanOperationExecutor} instance.
+     *
+     * @param containerManager container manager
+     * @param comparator comparator
+     * @param executor thread pool used to perform the groups in the same level
+     */
+    public DependencyAwareBeanOperationExecutor(
+        ContainerManager containerManager, Comparator<AssembleOperation> comparator, Executor executor) {
+        super(containerManager);
+        this.comparator = comparator;
+        this.executor = executor;
+    }
+
+    /**
+     * <p>Complete the assembly operation.<br />
+     * The executions are performed level by level,
+     * the executions in the same level are performed in parallel.
+     *
+     * @param executions assembly operations to be completed
+     * @param options options for execution
+     * @throws OperationExecuteException thrown when operation execution exception
+     * @see #resolveLevels
+     */
+    @Override
+    protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
+        List<List<AssembleExecution>> levels = resolveLevels(executions);
+        log.debug("executions are divided into {} levels", levels.size());
+        try {
+            levels.forEach(this::executeLevel);
+        } catch (Exception e) {
+            throw new OperationExecuteException(e);
+        }
+    }
+
+    /**
+     * Sort the executions and divide them into levels according to the dependencies between them.
+     *
+     * @param executions executions
+     * @return executions of each level
+     */
+    protected List<List<AssembleExecution>> resolveLevels(List<AssembleExecution> executions) {
+        List<AssembleExecution> sorted = executions.stream()
+            .sorted(Comparator.comparing(AssembleExecution::getOperation, comparator))
+            .collect(Collectors.toList());
+        Map<AssembleOperation, Footprint> footprints = new IdentityHashMap<>();
+        int[] levelOfExecutions = new int[sorted.size()];
+        List<List<AssembleExecution>> levels = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            AssembleExecution current = sorted.get(i);
+            Footprint currentFootprint = footprints.computeIfAbsent(current.getOperation(), Footprint::of);
+            int level = 0;
+            for (int j = 0; j < i; j++) {
+                AssembleExecution previous = sorted.get(j);
+                Footprint previousFootprint = footprints.get(previous.getOperation());
+                if (levelOfExecutions[j] >= level && isDependent(current, currentFootprint, previous, previousFootprint)) {
+                    level = levelOfExecutions[j] + 1;
+                }
+            }
+            levelOfExecutions[i] = level;
+            if (levels.size() == level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(current);
+        }
+        return levels;
+    }
+
+    private static boolean isDependent(
+        AssembleExecution current, Footprint currentFootprint,
+        AssembleExecution previous, Footprint previousFootprint) {
+        // executions of the same operation are split from the same targets
+        if (current.getOperation() == previous.getOperation()
+            || current.getBeanOperations() != previous.getBeanOperations()) {
+            return false;
+        }
+        if (currentFootprint.isUnknown() || previousFootprint.isUnknown()) {
+            return true;
+        }
+        return previousFootprint.writes(currentFootprint.getRead())
+            || currentFootprint.getWrites().stream().anyMatch(previousFootprint::writes)
+            || currentFootprint.writes(previousFootprint.getRead());
+    }
+
+    private void executeLevel(List<AssembleExecution> executions) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups = groupExecutions(executions);
+        List<Runnable> tasks = new ArrayList<>(executionGroups.size());
+        executionGroups.forEach((c, he) ->
+            he.forEach((h, es) -> tasks.add(() -> doExecuteOperation(h, c, es))));
+        // perform the only group in current thread
+        if (tasks.size() == 1) {
+            tasks.get(0).run();
+            return;
+        }
+        CompletableFuture.allOf(tasks.stream()
+            .map(t -> CompletableFuture.runAsync(t, executor))
+            .toArray(CompletableFuture[]::new)
+        ).join();
+    }
+
+    /**
+     * The properties read and written by an operation.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Footprint {
+
+        private final String read;
+        private final Set<String> writes;
+
+        static Footprint of(AssembleOperation operation) {
+            String key = operation.getKey();
+            Collection<PropertyMapping> mappings = operation.getPropertyMappings();
+            boolean unknown = StringUtils.isEmpty(key)
+                || !isReadKeyOnly(operation.getKeyResolver(), operation.getKeyDescription())
+                || mappings.stream().map(PropertyMapping::getReference).anyMatch(StringUtils::isEmpty);
+            if (unknown) {
+                return new Footprint(null, Collections.emptySet());
+            }
+            Set<String> writes = new HashSet<>(mappings.size());
+            mappings.forEach(m -> writes.add(m.getReference()));
+            return new Footprint(key, writes);
+        }
+
+        boolean isUnknown() {
+            return Objects.isNull(read);
+        }
+
+        boolean writes(String property) {
+            return writes.stream().anyMatch(w -> isOverlapped(w, property));
+        }
+
+        /**
+         * Whether the key resolver only reads the key property,
+         * the key description of {@link ReflectiveSeparablePropertyKeyResolver} is the separator.
+         */
+        private static boolean isReadKeyOnly(KeyResolver keyResolver, String keyDescription) {
+            return keyResolver instanceof ReflectiveSeparablePropertyKeyResolver
+                || (keyResolver instanceof ReflectivePropertyKeyResolver && StringUtils.isEmpty(keyDescription));
+        }
+
+        /**
+         * Whether the two chained properties are the same or one of them is the prefix of the other.
+         */
+        private static boolean isOverlapped(String property, String other) {
+            return property.equals(other) || isParentOf(property, other) || isParentOf(other, property);
+        }
+
+        private static boolean isParentOf(String parent, String child) {
+            return child.length() > parent.length()
+                && child.startsWith(parent) && child.charAt(parent.length()) == '.';
+        }
+    }
+}
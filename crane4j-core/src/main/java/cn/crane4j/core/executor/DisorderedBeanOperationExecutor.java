@@ -1,27 +1,53 @@
 package cn.crane4j.core.executor;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.container.Containers;
 import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * <p>Synchronization implementation of {@link BeanOperationExecutor}.<br />
  * During execution, the number of calls to {@link Container} will be reduced as much as possible,
  * but the order of operation execution cannot be guaranteed.
  *
+ * <p>If {@link #setMergeKeysAcrossHandlers} is enabled, when the operations of the same container
+ * are performed by different {@link AssembleOperationHandler}, the keys of all handlers are merged,
+ * and the data sources are obtained from the container by a single request,
+ * then shared by all handlers for property mapping.
+ *
  * @author huangchengxing
  */
 @Slf4j
 public class DisorderedBeanOperationExecutor extends AbstractOperationAwareBeanOperationExecutor {
 
+    /**
+     * Whether to merge the keys of different handlers for the same container into a single request.
+     *
+     * @since 2.8.0
+     */
+    @Getter
+    @Setter
+    private boolean mergeKeysAcrossHandlers = false;
+
     /**
      * Create an instance of {@link DisorderedBeanOperationExecutor}.
      *
@@ -52,13 +78,10 @@ public class DisorderedBeanOperationExecutor extends AbstractOperationAwareBeanO
      */
     @Override
     protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
-        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = new LinkedHashMap<>();
-        executions.forEach(e -> {
-            Container<?> container = e.getContainer();
-            Map<AssembleOperationHandler, List<AssembleExecution>> he = operations.computeIfAbsent(container, c -> new HashMap<>(8));
-            List<AssembleExecution> es = he.computeIfAbsent(e.getHandler(), h -> new ArrayList<>());
-            es.add(e);
-        });
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = groupExecutions(executions);
+        if (mergeKeysAcrossHandlers) {
+            operations = mergeKeysOfHandlers(operations);
+        }
         try {
             doExecuteOperations(operations);
         } catch (Exception e) {
@@ -73,7 +96,162 @@ public class DisorderedBeanOperationExecutor extends AbstractOperationAwareBeanO
      */
     protected void doExecuteOperations(Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
         executionGroups.forEach((container, he) ->
-            he.forEach((handler, executions) -> doExecute(handler, container, executions))
+            he.forEach((handler, executions) -> doExecuteOperation(handler, container, executions))
         );
     }
+
+    /**
+     * <p>Merge the keys of different handlers for the same container.<br />
+     * If a container is used by more than one handler and the keys of all handlers can be determined
+     * by {@link AssembleOperationHandler#collectKeys}, it will be replaced with a container
+     * which obtains the data sources of all keys from the actual container when it is first called,
+     * then returns them to each handler.<br />
+     * If the actual container is an {@link AsyncContainer}, the replaced container is also an {@link AsyncContainer},
+     * so that the data sources are still obtained without blocking when the executions are performed asynchronously.<br />
+     * The replaced container notifies {@link OperationExecutionListener#onContainerFetched} by itself
+     * only when it actually calls the actual container, so that the merged fetch is reported once.
+     *
+     * @param executionGroups grouped assembly operations
+     * @return grouped assembly operations
+     * @since 2.8.0
+     */
+    protected Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> mergeKeysOfHandlers(
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> results = new LinkedHashMap<>(executionGroups.size());
+        OperationExecutionListener listener = getExecutionListener();
+        executionGroups.forEach((container, he) -> {
+            Set<Object> keys = he.size() > 1 ? collectKeys(container, he) : null;
+            Container<?> actual;
+            if (Objects.isNull(keys)) {
+                actual = container;
+            } else if (container instanceof AsyncContainer) {
+                actual = new SharedSourcesAsyncContainer(container, keys, listener);
+            } else {
+                actual = new SharedSourcesContainer(container, keys, listener);
+            }
+            results.put(actual, he);
+        });
+        return results;
+    }
+
+    private static Set<Object> collectKeys(
+        Container<?> container, Map<AssembleOperationHandler, List<AssembleExecution>> handlerExecutions) {
+        Set<Object> keys = new HashSet<>();
+        for (Map.Entry<AssembleOperationHandler, List<AssembleExecution>> entry : handlerExecutions.entrySet()) {
+            Collection<Object> handlerKeys = entry.getKey().collectKeys(container, entry.getValue());
+            if (Objects.isNull(handlerKeys)) {
+                return null;
+            }
+            keys.addAll(handlerKeys);
+        }
+        return keys;
+    }
+
+    /**
+     * <p>A container which obtains the data sources of the merged keys
+     * from the actual container when it is first called.<br />
+     * The returned data sources may contain the keys which are not requested,
+     * if the requested keys are not included in the merged keys, the actual container will be called directly.
+     */
+    private static class SharedSourcesContainer
+        implements ContainerDelegate<Object>, OperationExecutionListener.SelfObservedContainer {
+
+        @Getter
+        @NonNull
+        private final Container<Object> container;
+        private final Set<Object> keys;
+        private final OperationExecutionListener listener;
+        private volatile Map<Object, ?> sources;
+
+        @SuppressWarnings("unchecked")
+        SharedSourcesContainer(Container<?> container, Set<Object> keys, OperationExecutionListener listener) {
+            this.container = (Container<Object>)container;
+            this.keys = keys;
+            this.listener = listener;
+        }
+
+        @Override
+        public Map<Object, ?> get(Collection<Object> keys) {
+            if (!this.keys.containsAll(keys)) {
+                return fetch(keys, () -> container.get(keys));
+            }
+            Map<Object, ?> result = sources;
+            if (Objects.isNull(result)) {
+                synchronized (this) {
+                    result = sources;
+                    if (Objects.isNull(result)) {
+                        result = fetch(this.keys, () -> Containers.getInChunks(container, this.keys, null));
+                        sources = Objects.isNull(result) ? Collections.emptyMap() : result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private Map<Object, ?> fetch(Collection<Object> keys, Supplier<Map<Object, ?>> fetcher) {
+            long startTime = System.nanoTime();
+            Map<Object, ?> result = fetcher.get();
+            int sourceCount = Objects.isNull(result) ? 0 : result.size();
+            listener.onContainerFetched(container, keys.size(), sourceCount, System.nanoTime() - startTime);
+            return result;
+        }
+    }
+
+    /**
+     * <p>An {@link AsyncContainer} which obtains the data sources of the merged keys
+     * from the actual container when it is first called.<br />
+     * Like {@link SharedSourcesContainer}, if the requested keys are not included in the merged keys,
+     * the actual container will be called directly.
+     */
+    private static class SharedSourcesAsyncContainer implements
+        AsyncContainer<Object>, ContainerDelegate<Object>, OperationExecutionListener.SelfObservedContainer {
+
+        @Getter
+        @NonNull
+        private final AsyncContainer<Object> container;
+        private final Set<Object> keys;
+        private final OperationExecutionListener listener;
+        private volatile CompletableFuture<Map<Object, ?>> sources;
+
+        @SuppressWarnings("unchecked")
+        SharedSourcesAsyncContainer(Container<?> container, Set<Object> keys, OperationExecutionListener listener) {
+            this.container = (AsyncContainer<Object>)container;
+            this.keys = keys;
+            this.listener = listener;
+        }
+
+        @Override
+        public CompletionStage<Map<Object, ?>> getAsync(Collection<Object> keys) {
+            if (!this.keys.containsAll(keys)) {
+                return fetch(keys, () -> container.getAsync(keys));
+            }
+            CompletableFuture<Map<Object, ?>> result = sources;
+            if (Objects.isNull(result)) {
+                synchronized (this) {
+                    result = sources;
+                    if (Objects.isNull(result)) {
+                        result = fetch(this.keys, () -> Containers.getInChunksAsync(container, this.keys))
+                            .thenApply(s -> Objects.isNull(s) ? Collections.emptyMap() : s);
+                        sources = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private CompletableFuture<Map<Object, ?>> fetch(
+            Collection<Object> keys, Supplier<CompletionStage<Map<Object, ?>>> fetcher) {
+            long startTime = System.nanoTime();
+            return fetcher.get().toCompletableFuture().thenApply(result -> {
+                int sourceCount = Objects.isNull(result) ? 0 : result.size();
+                listener.onContainerFetched(container, keys.size(), sourceCount, System.nanoTime() - startTime);
+                return result;
+            });
+        }
+
+        @Override
+        public Map<Object, ?> get(Collection<Object> keys) {
+            return AsyncContainer.super.get(keys);
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.executor.handler.key.KeyResolver;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.parser.operation.DisassembleOperation;
+import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * <p>An immutable execution plan compiled from {@link BeanOperations},
+ * which holds the operations in order, and the handlers and key resolvers determined for them,
+ * so that the executor does not need to determine them again in each execution.
+ *
+ * <p>The operations selected by a filter are cached in the plan,
+ * if the same filter instance is used in the next execution,
+ * the selected operations will be reused directly.
+ * Therefore, the filter should be stateless.
+ *
+ * <p><b>NOTE</b>: The plan does not hold the containers,
+ * because the containers may be replaced in container manager
+ * or changed by {@link BeanOperationExecutor.Options} in each execution.
+ *
+ * @author huangchengxing
+ * @see AbstractBeanOperationExecutor#getExecutionPlan
+ * @since 2.8.0
+ */
+public class ExecutionPlan {
+
+    /**
+     * assemble operations in order
+     */
+    @Getter
+    private final List<PlannedAssembleOperation> assembleOperations;
+
+    /**
+     * disassemble operations in order
+     */
+    @Getter
+    private final List<DisassembleOperation> disassembleOperations;
+
+    /**
+     * operations selected by the last used filter
+     */
+    @Nullable
+    private volatile Selection lastSelection;
+
+    private ExecutionPlan(
+        List<PlannedAssembleOperation> assembleOperations, List<DisassembleOperation> disassembleOperations) {
+        this.assembleOperations = assembleOperations;
+        this.disassembleOperations = disassembleOperations;
+    }
+
+    /**
+     * Compile the execution plan for the specified operations.
+     *
+     * @param operations operations
+     * @return execution plan
+     */
+    public static ExecutionPlan compile(BeanOperations operations) {
+        Collection<AssembleOperation> assembleOperations = operations.getAssembleOperations();
+        List<PlannedAssembleOperation> planned = new ArrayList<>(assembleOperations.size());
+        for (AssembleOperation operation : assembleOperations) {
+            AssembleOperationHandler handler = operation.getAssembleOperationHandler();
+            planned.add(new PlannedAssembleOperation(operation, handler, handler.determineKeyResolver(operation)));
+        }
+        return new ExecutionPlan(
+            Collections.unmodifiableList(planned),
+            Collections.unmodifiableList(new ArrayList<>(operations.getDisassembleOperations()))
+        );
+    }
+
+    /**
+     * Get the assemble operations which match the filter.
+     *
+     * @param filter filter
+     * @return assemble operations in order
+     */
+    public List<PlannedAssembleOperation> getAssembleOperations(Predicate<? super KeyTriggerOperation> filter) {
+        return select(filter).getAssembleOperations();
+    }
+
+    /**
+     * Get the disassemble operations which match the filter.
+     *
+     * @param filter filter
+     * @return disassemble operations in order
+     */
+    public List<DisassembleOperation> getDisassembleOperations(Predicate<? super KeyTriggerOperation> filter) {
+        return select(filter).getDisassembleOperations();
+    }
+
+    private Selection select(Predicate<? super KeyTriggerOperation> filter) {
+        Selection selection = lastSelection;
+        if (Objects.nonNull(selection) && selection.getFilter() == filter) {
+            return selection;
+        }
+        List<PlannedAssembleOperation> selectedAssembleOperations = new ArrayList<>(assembleOperations.size());
+        for (PlannedAssembleOperation planned : assembleOperations) {
+            if (filter.test(planned.getOperation())) {
+                selectedAssembleOperations.add(planned);
+            }
+        }
+        List<DisassembleOperation> selectedDisassembleOperations = new ArrayList<>(disassembleOperations.size());
+        for (DisassembleOperation operation : disassembleOperations) {
+            if (filter.test(operation)) {
+                selectedDisassembleOperations.add(operation);
+            }
+        }
+        selection = new Selection(
+            filter, Collections.unmodifiableList(selectedAssembleOperations),
+            Collections.unmodifiableList(selectedDisassembleOperations)
+        );
+        lastSelection = selection;
+        return selection;
+    }
+
+    /**
+     * An assemble operation with the handler and key resolver determined for it.
+     *
+     * @author huangchengxing
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class PlannedAssembleOperation {
+
+        private final AssembleOperation operation;
+        private final AssembleOperationHandler handler;
+        private final KeyResolver keyResolver;
+
+        /**
+         * Create an {@link AssembleExecution} of this operation.
+         *
+         * @param beanOperations bean operations
+         * @param container container
+         * @param targets targets
+         * @return execution
+         */
+        public AssembleExecution createExecution(
+            BeanOperations beanOperations, Container<?> container, Collection<Object> targets) {
+            return new PlannedAssembleExecution(beanOperations, operation, container, targets, this);
+        }
+    }
+
+    /**
+     * An {@link AssembleExecution} created by {@link PlannedAssembleOperation}.
+     *
+     * @author huangchengxing
+     */
+    private static class PlannedAssembleExecution extends AssembleExecution.SimpleAssembleExecution {
+
+        private final PlannedAssembleOperation planned;
+
+        PlannedAssembleExecution(
+            BeanOperations beanOperations, AssembleOperation operation,
+            Container<?> container, Collection<Object> targets, PlannedAssembleOperation planned) {
+            super(beanOperations, operation, container, targets);
+            this.planned = planned;
+        }
+
+        @Override
+        public AssembleOperationHandler getHandler() {
+            return planned.getHandler();
+        }
+
+        @Override
+        public KeyResolver getKeyResolver() {
+            return planned.getKeyResolver();
+        }
+    }
+
+    /**
+     * Operations selected by a filter.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Selection {
+        private final Predicate<? super KeyTriggerOperation> filter;
+        private final List<PlannedAssembleOperation> assembleOperations;
+        private final List<DisassembleOperation> disassembleOperations;
+    }
+}
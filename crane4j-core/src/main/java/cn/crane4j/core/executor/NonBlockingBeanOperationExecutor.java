@@ -0,0 +1,175 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>The non-blocking implementation of {@link BeanOperationExecutor}.<br />
+ * Like {@link DisorderedBeanOperationExecutor}, the executions will be grouped according to the data source container,
+ * then each group is performed by {@link AssembleOperationHandler#processAsync},
+ * the data sources of {@link AsyncContainer} are composed as {@link CompletableFuture}
+ * rather than waited in pool threads, and the property mapping is performed in the executor after they are obtained.<br />
+ * Containers which are not {@link AsyncContainer} are still invoked in the executor.
+ *
+ * <p>{@link #execute} waits for all groups in the caller thread,
+ * use {@link #executeAsync} to obtain a {@link CompletableFuture} instead.
+ * Unlike {@link DisorderedBeanOperationExecutor}, the exception thrown by any group
+ * will make the whole execution fail with {@link OperationExecuteException}.
+ *
+ * @author huangchengxing
+ * @see AsyncContainer
+ * @see AssembleOperationHandler#processAsync
+ * @since 2.8.0
+ */
+@Slf4j
+public class NonBlockingBeanOperationExecutor extends DisorderedBeanOperationExecutor {
+
+    /**
+     * thread pool used to perform property mapping and blocking containers.
+     */
+    private final Executor executor;
+
+    /**
+     * Create an instance of {@link NonBlockingBeanOperationExecutor}.
+     *
+     * @param containerManager container manager
+     * @param executor thread pool used to perform property mapping and blocking containers
+     */
+    public NonBlockingBeanOperationExecutor(ContainerManager containerManager, Executor executor) {
+        super(containerManager);
+        this.executor = executor;
+    }
+
+    /**
+     * Complete operations on all objects in {@code targets} according to the specified {@link BeanOperations}
+     * and {@link Options} asynchronously.<br />
+     * The disassembly and grouping of targets are performed in the caller thread.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @return future which is completed when all operations completed,
+     * or completed exceptionally with {@link OperationExecuteException} when any operation failed
+     */
+    public CompletableFuture<Void> executeAsync(Collection<?> targets, BeanOperations operations, Options options) {
+        PreparedExecutions prepared;
+        try {
+            prepared = prepareExecutions(targets, operations, options);
+        } catch (RuntimeException ex) {
+            return failed(ex);
+        }
+        if (Objects.isNull(prepared)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        executeOperationsAsync(prepared.getExecutions()).whenComplete((r, ex) -> {
+            if (Objects.nonNull(ex)) {
+                result.completeExceptionally(new OperationExecuteException(unwrap(ex)));
+                return;
+            }
+            try {
+                completeExecutions(prepared);
+                result.complete(null);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Complete operations on all objects in {@code targets} according to the specified {@link BeanOperations} asynchronously.
+     *
+     * @param targets targets
+     * @param operations operations to be performed
+     * @return future which is completed when all operations completed
+     * @see #executeAsync(Collection, BeanOperations, Options)
+     */
+    public CompletableFuture<Void> executeAsync(Collection<?> targets, BeanOperations operations) {
+        return executeAsync(targets, operations, () -> t -> true);
+    }
+
+    /**
+     * <p>Execute the assembly operation, and wait for them in the caller thread.<br />
+     * The exception thrown by any group will be unwrapped from {@link CompletionException},
+     * so that it is wrapped as {@link OperationExecuteException} just like {@link #executeAsync}.
+     *
+     * @param executionGroups grouped assembly operations
+     */
+    @Override
+    protected void doExecuteOperations(Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
+        try {
+            composeExecutionGroups(executionGroups).join();
+        } catch (CompletionException ex) {
+            Throwable cause = unwrap(ex);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OperationExecuteException(cause);
+        }
+    }
+
+    private CompletableFuture<Void> executeOperationsAsync(List<AssembleExecution> executions) {
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups;
+        try {
+            executionGroups = groupExecutions(executions);
+            if (isMergeKeysAcrossHandlers()) {
+                executionGroups = mergeKeysOfHandlers(executionGroups);
+            }
+        } catch (RuntimeException ex) {
+            return failed(ex);
+        }
+        return composeExecutionGroups(executionGroups);
+    }
+
+    private CompletableFuture<Void> composeExecutionGroups(
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(executionGroups.size());
+        executionGroups.forEach((c, he) ->
+            he.forEach((h, es) -> tasks.add(processAsyncWithListener(h, c, es))));
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> processAsyncWithListener(
+        AssembleOperationHandler handler, Container<?> container, List<AssembleExecution> executions) {
+        OperationExecutionListener listener = getExecutionListener();
+        CompletableFuture<Void> task;
+        try {
+            task = handler.processAsync(container, executions, listener, executor).toCompletableFuture();
+        } catch (RuntimeException ex) {
+            task = failed(ex);
+        }
+        return task.whenComplete((r, ex) -> {
+            if (Objects.nonNull(ex)) {
+                listener.onExecuteFailed(handler, container, executions, unwrap(ex));
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && Objects.nonNull(ex.getCause()) ? ex.getCause() : ex;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable ex) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(ex);
+        return future;
+    }
+}
@@ -0,0 +1,122 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+
+import java.util.Collection;
+
+/**
+ * <p>Listener of the execution of {@link BeanOperationExecutor},
+ * which receives the time spent on each phase of the execution in nanoseconds.<br />
+ * The phases of an execution are:
+ * <ul>
+ *     <li>disassembly: flatten the nested objects to be processed, see {@link #onDisassembleCompleted};</li>
+ *     <li>grouping: group the flattened objects to {@link AssembleExecution}, see {@link #onGroupingCompleted};</li>
+ *     <li>container fetch: get data sources from container by keys, see {@link #onContainerFetched};</li>
+ *     <li>mapping: map properties from data sources to target objects, see {@link #onMappingCompleted};</li>
+ * </ul>
+ * And the whole execution will be notified by {@link #onExecuteCompleted}.
+ *
+ * <p>The callbacks may be invoked concurrently by multiple threads,
+ * for example, when using {@link AsyncBeanOperationExecutor},
+ * so the implementation must be thread-safe, and it should be fast and never throw exception.
+ *
+ * @author huangchengxing
+ * @see AbstractBeanOperationExecutor#setExecutionListener
+ * @since 2.8.0
+ */
+public interface OperationExecutionListener {
+
+    /**
+     * A listener which does nothing.
+     */
+    OperationExecutionListener NONE = new OperationExecutionListener() { };
+
+    /**
+     * Called when the disassembly of targets is completed.
+     *
+     * @param operations operations of the root targets
+     * @param targetCount count of the root targets
+     * @param flattenedCount count of all targets after disassembly, including the root targets
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    default void onDisassembleCompleted(
+        BeanOperations operations, int targetCount, int flattenedCount, long elapsedNanos) {
+        // do nothing
+    }
+
+    /**
+     * Called when the flattened targets are grouped as {@link AssembleExecution}.
+     *
+     * @param operations operations of the root targets
+     * @param targetCount count of all flattened targets
+     * @param executionCount count of the executions
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    default void onGroupingCompleted(
+        BeanOperations operations, int targetCount, int executionCount, long elapsedNanos) {
+        // do nothing
+    }
+
+    /**
+     * Called when the data sources are fetched from container.
+     *
+     * @param container container
+     * @param keyCount count of the requested keys
+     * @param sourceCount count of the returned data sources
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    default void onContainerFetched(
+        Container<?> container, int keyCount, int sourceCount, long elapsedNanos) {
+        // do nothing
+    }
+
+    /**
+     * Called when the property mapping of the targets is completed.
+     *
+     * @param handler handler which performs the mapping
+     * @param container container of the data sources
+     * @param targetCount count of the targets
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    default void onMappingCompleted(
+        AssembleOperationHandler handler, Container<?> container, int targetCount, long elapsedNanos) {
+        // do nothing
+    }
+
+    /**
+     * Called when the executions of a handler with a container is failed.
+     *
+     * @param handler handler
+     * @param container container
+     * @param executions executions
+     * @param ex exception
+     */
+    default void onExecuteFailed(
+        AssembleOperationHandler handler, Container<?> container,
+        Collection<AssembleExecution> executions, Throwable ex) {
+        // do nothing
+    }
+
+    /**
+     * Called when the whole execution is completed.
+     *
+     * @param operations operations of the root targets
+     * @param targetCount count of the root targets
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    default void onExecuteCompleted(BeanOperations operations, int targetCount, long elapsedNanos) {
+        // do nothing
+    }
+
+    /**
+     * <p>Marker of the container which notifies {@link #onContainerFetched} by itself
+     * only when it actually obtains data sources from the underlying container.<br />
+     * The handlers will not notify {@link #onContainerFetched} again for it.
+     *
+     * @see DisorderedBeanOperationExecutor#setMergeKeysAcrossHandlers
+     */
+    interface SelfObservedContainer {
+    }
+}
@@ -57,6 +57,6 @@ public class OrderedBeanOperationExecutor extends AbstractOperationAwareBeanOper
     protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
         executions.stream()
             .sorted(Comparator.comparing(AssembleExecution::getOperation, comparator))
-            .forEach(e -> doExecute(e.getHandler(), e.getContainer(), Collections.singletonList(e)));
+            .forEach(e -> doExecuteOperation(e.getHandler(), e.getContainer(), Collections.singletonList(e)));
     }
 }
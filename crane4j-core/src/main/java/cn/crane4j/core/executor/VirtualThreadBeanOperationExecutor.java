@@ -0,0 +1,124 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>An {@link AsyncBeanOperationExecutor} which performs each group of operations on a new virtual thread.<br />
+ * Unlike the platform thread pool, the number of groups performed at the same time is not limited by the pool size,
+ * it is only limited by {@link #getMaxConcurrency()},
+ * so it is suitable for the containers which spend most of the time waiting for I/O.
+ *
+ * <p>Virtual threads are only available on JDK 21 or later,
+ * they are created by reflection so that this class can still be loaded on JDK 8,
+ * check {@link #isSupported()} before creating the instance.
+ *
+ * @author huangchengxing
+ * @see AsyncBeanOperationExecutor
+ * @since 2.8.0
+ */
+@Slf4j
+public class VirtualThreadBeanOperationExecutor extends AsyncBeanOperationExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "crane4j-virtual-executor-";
+    @Nullable
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    /**
+     * Max number of groups performed at the same time.
+     */
+    @Getter
+    private final int maxConcurrency;
+
+    /**
+     * Create an instance of {@link VirtualThreadBeanOperationExecutor}.
+     *
+     * @param containerManager container manager
+     * @param maxConcurrency max number of groups performed at the same time
+     * @throws Crane4jException thrown when virtual thread is not supported by current JVM
+     */
+    public VirtualThreadBeanOperationExecutor(ContainerManager containerManager, int maxConcurrency) {
+        super(containerManager, createExecutor(maxConcurrency));
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Whether virtual thread is supported by current JVM.
+     *
+     * @return true if supported
+     */
+    public static boolean isSupported() {
+        return Objects.nonNull(VIRTUAL_THREAD_FACTORY);
+    }
+
+    private static Executor createExecutor(int maxConcurrency) {
+        Asserts.isTrue(maxConcurrency > 0, "max concurrency must be greater than 0");
+        if (Objects.isNull(VIRTUAL_THREAD_FACTORY)) {
+            throw new Crane4jException("virtual thread is not supported by current JVM [{}]", System.getProperty("java.version"));
+        }
+        return new ConcurrencyLimitedExecutor(VIRTUAL_THREAD_FACTORY, new Semaphore(maxConcurrency));
+    }
+
+    /**
+     * Create a factory of virtual threads by {@code Thread.ofVirtual().name(prefix, 0).factory()}.
+     *
+     * @return factory of virtual threads, or {@code null} if virtual thread is not supported
+     */
+    @Nullable
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = ofVirtual.invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class)
+                .invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            log.debug("virtual thread is not supported by current JVM: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * An executor which starts a new thread for each task,
+     * the task waits for the permit of the semaphore before running.
+     */
+    @RequiredArgsConstructor
+    private static class ConcurrencyLimitedExecutor implements Executor {
+
+        private final ThreadFactory threadFactory;
+        private final Semaphore permits;
+
+        @Override
+        public void execute(Runnable command) {
+            threadFactory.newThread(() -> {
+                // the command is always run, otherwise the future waiting for it will never be completed
+                boolean acquired = false;
+                try {
+                    permits.acquire();
+                    acquired = true;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                try {
+                    command.run();
+                } finally {
+                    if (acquired) {
+                        permits.release();
+                    }
+                }
+            }).start();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.util.Asserts;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>An iterator which reads the targets from the source iterator in fixed-size windows,
+ * completes operations on each window by {@link BeanOperationExecutor#execute},
+ * then returns the targets of the window in order.<br />
+ * Only one window of targets is held at a time,
+ * so it can be used to process the targets read from a cursor with bounded memory.
+ *
+ * @author huangchengxing
+ * @param <T> target type
+ * @see BeanOperationExecutor#executeInWindows
+ * @since 2.8.0
+ */
+public class WindowedExecutionIterator<T> implements Iterator<T> {
+
+    private final Iterator<? extends T> source;
+    private final BeanOperationExecutor executor;
+    private final BeanOperations operations;
+    private final BeanOperationExecutor.Options options;
+    private final int windowSize;
+    private final List<T> window;
+    private int cursor = 0;
+
+    /**
+     * Create a {@link WindowedExecutionIterator} instance.
+     *
+     * @param source source iterator
+     * @param executor executor
+     * @param operations operations to be performed
+     * @param options options for execution
+     * @param windowSize max number of targets in one window
+     */
+    public WindowedExecutionIterator(
+        Iterator<? extends T> source, BeanOperationExecutor executor,
+        BeanOperations operations, BeanOperationExecutor.Options options, int windowSize) {
+        Asserts.isTrue(windowSize > 0, "window size must be greater than 0");
+        this.source = source;
+        this.executor = executor;
+        this.operations = operations;
+        this.options = options;
+        this.windowSize = windowSize;
+        this.window = new ArrayList<>(windowSize);
+    }
+
+    /**
+     * Whether there are more targets, if the targets of current window are all returned,
+     * the next window will be read from the source iterator and processed.
+     *
+     * @return true if there are more targets
+     */
+    @Override
+    public boolean hasNext() {
+        if (cursor < window.size()) {
+            return true;
+        }
+        if (!source.hasNext()) {
+            return false;
+        }
+        nextWindow();
+        return true;
+    }
+
+    /**
+     * Get the next processed target.
+     *
+     * @return target
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return window.get(cursor++);
+    }
+
+    private void nextWindow() {
+        window.clear();
+        cursor = 0;
+        while (window.size() < windowSize && source.hasNext()) {
+            window.add(source.next());
+        }
+        executor.execute(window, operations, options);
+    }
+}
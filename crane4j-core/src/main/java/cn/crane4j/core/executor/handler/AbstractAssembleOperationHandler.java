@@ -1,8 +1,11 @@
 package cn.crane4j.core.executor.handler;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
 import cn.crane4j.core.container.EmptyContainer;
 import cn.crane4j.core.executor.AssembleExecution;
+import cn.crane4j.core.executor.OperationExecutionListener;
 import cn.crane4j.core.executor.handler.key.KeyResolver;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.util.CollectionUtils;
@@ -10,17 +13,21 @@ import cn.crane4j.core.util.ObjectUtils;
 import cn.crane4j.core.util.TimerUtil;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * <p>This class serves as the top-level template class
@@ -46,7 +53,8 @@ import java.util.stream.Collectors;
  *         corresponding to the key value of the object to be processed from the data sources;
  *     </li>
  * </ul>
- * Finally, if the object has an associated data source object,
+ * Finally, {@link #completeMappings} is called with the objects and data sources,
+ * if the object has an associated data source object,
  * the {@link #completeMapping} method is called to perform property mapping between them.
  *
  * <p>The implementation logic of this template class is based on
@@ -63,6 +71,16 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
      */
     protected boolean ignoreNullKey = false;
 
+    /**
+     * <p>Executor used to fetch the chunks of keys in parallel,
+     * when the number of keys exceeds {@link Container#getMaxKeysPerCall()}.<br />
+     * If it is null, the chunks are fetched in order.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Executor chunkFetchExecutor;
+
     /**
      * Perform assembly operation.
      *
@@ -71,29 +89,108 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
      */
     @Override
     public void process(Container<?> container, Collection<AssembleExecution> executions) {
+        process(container, executions, OperationExecutionListener.NONE);
+    }
+
+    /**
+     * Perform assembly operation, and notify the listener of the time spent on each phase.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @param listener listener of the execution
+     * @since 2.8.0
+     */
+    @Override
+    public void process(
+        Container<?> container, Collection<AssembleExecution> executions, OperationExecutionListener listener) {
         TimerUtil.getExecutionTime(
             log.isDebugEnabled(),
             time -> log.debug("operation of container [{}] completed in {} ms", container.getNamespace(), time),
-            () -> doProcess(container, executions)
+            () -> doProcess(container, executions, listener)
         );
     }
 
-    private void doProcess(Container<?> container, Collection<AssembleExecution> executions) {
+    private void doProcess(
+        Container<?> container, Collection<AssembleExecution> executions, OperationExecutionListener listener) {
         Collection<Target> targets = collectToEntities(executions);
         if (container instanceof EmptyContainer || Objects.isNull(container)) {
+            long startTime = System.nanoTime();
             introspectForEntities(targets);
+            listener.onMappingCompleted(this, container, targets.size(), System.nanoTime() - startTime);
             return;
         }
-        Map<Object, Object> sources = getSourcesFromContainer(container, targets);
+        Container<?> observedContainer = listener == OperationExecutionListener.NONE
+            || container instanceof OperationExecutionListener.SelfObservedContainer ?
+            container : new ObservedContainer(container, listener);
+        Map<Object, Object> sources = getSourcesFromContainer(observedContainer, targets);
+        mapSources(container, targets, sources, listener);
+    }
+
+    private void mapSources(
+        Container<?> container, Collection<Target> targets,
+        Map<Object, Object> sources, OperationExecutionListener listener) {
         if (CollectionUtils.isEmpty(sources)) {
             return;
         }
-        for (Target target : targets) {
-            Object source = getTheAssociatedSource(target, sources);
-            if (ObjectUtils.isNotEmpty(source)) {
-                completeMapping(source, target);
+        long startTime = System.nanoTime();
+        completeMappings(targets, sources);
+        listener.onMappingCompleted(this, container, targets.size(), System.nanoTime() - startTime);
+    }
+
+    /**
+     * <p>Perform assembly operation asynchronously.<br />
+     * The data sources are obtained by {@link AsyncContainer#getAsync},
+     * and the property mapping is performed in the specified executor after the data sources are obtained,
+     * if the container is not an {@link AsyncContainer}, it will be invoked in the specified executor.
+     *
+     * <p><b>NOTE</b>: {@link #getSourcesFromContainer} is not called in this way,
+     * the keys are collected by {@link #getKeysFromTargets} and passed to the container directly.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @param listener listener of the execution
+     * @param executor executor used to perform the blocking parts of the operation
+     * @return stage which is completed when the operation completed
+     * @since 2.8.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public CompletionStage<Void> processAsync(
+        Container<?> container, Collection<AssembleExecution> executions,
+        OperationExecutionListener listener, Executor executor) {
+        if (container instanceof EmptyContainer || Objects.isNull(container)) {
+            return CompletableFuture.runAsync(() -> doProcess(container, executions, listener), executor);
+        }
+        Collection<Target> targets = collectToEntities(executions);
+        Collection<Object> keys = getKeysFromTargets(targets);
+        AsyncContainer<Object> asyncContainer = AsyncContainer.adapt((Container<Object>)container, executor);
+        long startTime = System.nanoTime();
+        return Containers.getInChunksAsync(asyncContainer, keys).thenAcceptAsync(sources -> {
+            if (!(container instanceof OperationExecutionListener.SelfObservedContainer)) {
+                int sourceCount = Objects.isNull(sources) ? 0 : sources.size();
+                listener.onContainerFetched(container, keys.size(), sourceCount, System.nanoTime() - startTime);
             }
+            mapSources(container, targets, (Map<Object, Object>)sources, listener);
+        }, executor);
+    }
+
+    /**
+     * Collect the keys which will be used to obtain data sources from the container
+     * when performing the specified executions.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return keys, or {@code null} if the container is not specified
+     * @see #getKeysFromTargets
+     * @since 2.8.0
+     */
+    @Nullable
+    @Override
+    public Collection<Object> collectKeys(Container<?> container, Collection<AssembleExecution> executions) {
+        if (container instanceof EmptyContainer || Objects.isNull(container)) {
+            return null;
         }
+        return getKeysFromTargets(collectToEntities(executions));
     }
 
     /**
@@ -103,15 +200,20 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
      * @return {@link Target}
      */
     private Collection<Target> collectToEntities(Collection<AssembleExecution> executions) {
-        List<Target> targets = new ArrayList<>();
+        int size = 0;
+        for (AssembleExecution execution : executions) {
+            size += execution.getTargets().size();
+        }
+        List<Target> targets = new ArrayList<>(size);
         for (AssembleExecution execution : executions) {
             AssembleOperation operation = execution.getOperation();
-            KeyResolver resolver = determineKeyResolver(operation);
-            execution.getTargets().stream()
-                .map(t -> createTarget(execution, t, resolver.resolve(t, operation)))
-                .filter(Objects::nonNull)
-                .filter(t -> !ignoreNullKey || Objects.nonNull(t.getKey()))
-                .forEach(targets::add);
+            KeyResolver resolver = execution.getKeyResolver();
+            for (Object origin : execution.getTargets()) {
+                Target target = createTarget(execution, origin, resolver.resolve(origin, operation));
+                if (Objects.nonNull(target) && (!ignoreNullKey || Objects.nonNull(target.getKey()))) {
+                    targets.add(target);
+                }
+            }
         }
         return targets;
     }
@@ -128,7 +230,9 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
     }
 
     /**
-     * Obtain the corresponding data source object from the data source container based on the entity's key value.
+     * <p>Obtain the corresponding data source object from the data source container based on the entity's key value.<br />
+     * If the number of keys exceeds {@link Container#getMaxKeysPerCall()},
+     * they will be split into chunks and fetched separately.
      *
      * @param container container
      * @param targets targets
@@ -136,11 +240,26 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
      */
     @SuppressWarnings("unchecked")
     protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
-            .map(Target::getKey)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
+        Collection<Object> keys = getKeysFromTargets(targets);
+        return (Map<Object, Object>)Containers.getInChunks((Container<Object>)container, keys, chunkFetchExecutor);
+    }
+
+    /**
+     * Collect the keys which are used to obtain data sources from the container.
+     *
+     * @param targets targets
+     * @return keys
+     * @since 2.8.0
+     */
+    protected Collection<Object> getKeysFromTargets(Collection<Target> targets) {
+        Set<Object> keys = new HashSet<>(targets.size());
+        for (Target target : targets) {
+            Object key = target.getKey();
+            if (Objects.nonNull(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
     }
 
     /**
@@ -162,6 +281,25 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
      */
     protected abstract void completeMapping(Object source, Target target);
 
+    /**
+     * <p>Complete attribute mapping between the target objects and their associated data source objects.<br />
+     * By default, it calls {@link #completeMapping} for each target which has an associated data source object,
+     * subclasses can override it to resolve something shared by the targets only once.
+     *
+     * @param targets targets
+     * @param sources sources
+     * @see #getTheAssociatedSource
+     * @since 2.8.0
+     */
+    protected void completeMappings(Collection<Target> targets, Map<Object, Object> sources) {
+        for (Target target : targets) {
+            Object source = getTheAssociatedSource(target, sources);
+            if (ObjectUtils.isNotEmpty(source)) {
+                completeMapping(source, target);
+            }
+        }
+    }
+
     /**
      * Create a {@link Target} instance.
      *
@@ -175,6 +313,37 @@ public abstract class AbstractAssembleOperationHandler implements AssembleOperat
         return new Target(execution, origin, keyValue);
     }
 
+    /**
+     * A container wrapper which notifies the listener
+     * of the time spent on fetching data sources from the actual container.
+     */
+    @RequiredArgsConstructor
+    private static class ObservedContainer implements Container<Object> {
+
+        private final Container<?> container;
+        private final OperationExecutionListener listener;
+
+        @Override
+        public String getNamespace() {
+            return container.getNamespace();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map<Object, ?> get(Collection<Object> keys) {
+            long startTime = System.nanoTime();
+            Map<Object, ?> sources = ((Container<Object>)container).get(keys);
+            int sourceCount = Objects.isNull(sources) ? 0 : sources.size();
+            listener.onContainerFetched(container, keys.size(), sourceCount, System.nanoTime() - startTime);
+            return sources;
+        }
+
+        @Override
+        public int getMaxKeysPerCall() {
+            return container.getMaxKeysPerCall();
+        }
+    }
+
     /**
      * Target object to be processed.
      */
@@ -1,12 +1,18 @@
 package cn.crane4j.core.executor.handler;
 
+import cn.crane4j.core.container.AsyncContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.AssembleExecution;
+import cn.crane4j.core.executor.OperationExecutionListener;
 import cn.crane4j.core.executor.handler.key.KeyResolver;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.support.NamedComponent;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * <p>Handler of assembly operation.<br />
@@ -43,4 +49,57 @@ public interface AssembleOperationHandler extends NamedComponent {
      * @param executions operations to be performed
      */
     void process(Container<?> container, Collection<AssembleExecution> executions);
+
+    /**
+     * Perform assembly operation, and notify the listener of the time spent on each phase.<br />
+     * The default implementation ignores the listener.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @param listener listener of the execution
+     * @see OperationExecutionListener#onContainerFetched
+     * @see OperationExecutionListener#onMappingCompleted
+     * @since 2.8.0
+     */
+    default void process(
+        Container<?> container, Collection<AssembleExecution> executions, OperationExecutionListener listener) {
+        process(container, executions);
+    }
+
+    /**
+     * <p>Perform assembly operation asynchronously.<br />
+     * The default implementation performs {@link #process} in the specified executor,
+     * the implementation may obtain data sources by {@link AsyncContainer#getAsync}
+     * to avoid blocking the thread while waiting for the container.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @param listener listener of the execution
+     * @param executor executor used to perform the blocking parts of the operation
+     * @return stage which is completed when the operation completed
+     * @see cn.crane4j.core.executor.NonBlockingBeanOperationExecutor
+     * @since 2.8.0
+     */
+    default CompletionStage<Void> processAsync(
+        Container<?> container, Collection<AssembleExecution> executions,
+        OperationExecutionListener listener, Executor executor) {
+        return CompletableFuture.runAsync(() -> process(container, executions, listener), executor);
+    }
+
+    /**
+     * <p>Collect the keys which will be used to obtain data sources from the container
+     * when performing the specified executions.<br />
+     * The result is used to merge the keys of different handlers for the same container into a single request,
+     * return {@code null} if the keys cannot be determined before processing.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return keys, or {@code null} if the keys cannot be determined before processing
+     * @see cn.crane4j.core.executor.DisorderedBeanOperationExecutor#setMergeKeysAcrossHandlers
+     * @since 2.8.0
+     */
+    @Nullable
+    default Collection<Object> collectKeys(Container<?> container, Collection<AssembleExecution> executions) {
+        return null;
+    }
 }
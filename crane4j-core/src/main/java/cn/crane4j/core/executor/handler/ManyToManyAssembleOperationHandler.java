@@ -1,6 +1,5 @@
 package cn.crane4j.core.executor.handler;
 
-import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.handler.key.KeyResolver;
 import cn.crane4j.core.executor.handler.key.ReflectiveSeparablePropertyKeyResolver;
 import cn.crane4j.core.parser.PropertyMapping;
@@ -14,6 +13,7 @@ import cn.crane4j.core.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -40,21 +40,19 @@ public class ManyToManyAssembleOperationHandler extends AbstractAssembleOperatio
     protected final ConverterManager converterManager;
 
     /**
-     * Obtain the corresponding data source object from the data source container based on the entity's key value.
+     * Collect the keys which are used to obtain data sources from the container,
+     * the key of each target is a collection, so they will be flattened.
      *
-     * @param container container
-     * @param targets   targets
-     * @return source objects
+     * @param targets targets
+     * @return keys
      */
-    @SuppressWarnings("unchecked")
     @Override
-    protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
-            .map(Target::getKey)
-            .map(k -> (Collection<?>)k)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
+    protected Collection<Object> getKeysFromTargets(Collection<Target> targets) {
+        Set<Object> keys = new HashSet<>(targets.size());
+        for (Target target : targets) {
+            keys.addAll((Collection<?>)target.getKey());
+        }
+        return keys;
     }
 
     /**
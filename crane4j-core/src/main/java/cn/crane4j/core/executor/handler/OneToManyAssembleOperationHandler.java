@@ -4,18 +4,26 @@ import cn.crane4j.core.executor.handler.key.ReflectiveBeanKeyResolver;
 import cn.crane4j.core.executor.handler.key.ReflectiveSeparablePropertyKeyResolver;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.ObjectUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * <p>An implementation of {@link AssembleOperationHandler}
  * for the one-to-many mapping between the target object and the data source object.
- * 
+ *
  * <p>The difference between {@link ManyToManyAssembleOperationHandler} and {@link OneToManyAssembleOperationHandler}
  * is that {@link OneToManyAssembleOperationHandler} is used to handle the situation where
  * multiple values can be obtained through a key in the data source container,
@@ -28,6 +36,12 @@ import java.util.stream.Collectors;
  */
 public class OneToManyAssembleOperationHandler extends OneToOneAssembleOperationHandler {
 
+    /**
+     * whether the mappings can be completed by {@link #completeMappings} in bulk,
+     * it is {@code false} if {@link #completeMapping} is overridden by subclass.
+     */
+    private final boolean bulkMappingSupported;
+
     /**
      * Create a new {@link OneToOneAssembleOperationHandler} instance.
      *
@@ -37,6 +51,7 @@ public class OneToManyAssembleOperationHandler extends OneToOneAssembleOperation
     public OneToManyAssembleOperationHandler(
         PropertyOperator propertyOperator, ConverterManager converterManager) {
         super(propertyOperator, converterManager);
+        this.bulkMappingSupported = !isCompleteMappingOverridden(getClass(), OneToManyAssembleOperationHandler.class);
     }
 
     /**
@@ -63,4 +78,104 @@ public class OneToManyAssembleOperationHandler extends OneToOneAssembleOperation
             );
         }
     }
+
+    /**
+     * <p>Complete attribute mapping between the target objects and their associated data source objects.<br />
+     * The setters of the property mappings are resolved only once
+     * for the continuous targets which have the same operation and target type,
+     * and the getters are resolved only once for the continuous data source objects which have the same type.
+     *
+     * @param targets targets
+     * @param sources sources
+     * @since 2.8.0
+     */
+    @Override
+    protected void completeMappings(Collection<Target> targets, Map<Object, Object> sources) {
+        if (!bulkMappingSupported) {
+            super.completeMappings(targets, sources);
+            return;
+        }
+        MappingPlan plan = null;
+        for (Target target : targets) {
+            Object source = getTheAssociatedSource(target, sources);
+            if (ObjectUtils.isEmpty(source)) {
+                continue;
+            }
+            AssembleOperation operation = target.getExecution().getOperation();
+            Object origin = target.getOrigin();
+            if (Objects.isNull(plan) || !plan.isApplicable(operation, origin.getClass())) {
+                plan = new MappingPlan(operation, origin.getClass());
+            }
+            plan.apply(source, origin);
+        }
+    }
+
+    /**
+     * The resolved property mappings of an operation for the specified target type,
+     * the getter and setter at index {@code i} are used by the property mapping at index {@code i}.
+     */
+    private class MappingPlan {
+
+        private final AssembleOperation operation;
+        private final Class<?> targetType;
+        private final PropertyMappingStrategy propertyMappingStrategy;
+        private final PropertyMapping[] mappings;
+        private final String[] sourceNames;
+        private final MethodInvoker[] setters;
+        @Nullable
+        private Class<?> sourceType;
+        private MethodInvoker[] getters;
+
+        MappingPlan(AssembleOperation operation, Class<?> targetType) {
+            this.operation = operation;
+            this.targetType = targetType;
+            this.propertyMappingStrategy = operation.getPropertyMappingStrategy();
+            this.mappings = operation.getPropertyMappings().toArray(new PropertyMapping[0]);
+            this.sourceNames = new String[mappings.length];
+            String[] referenceNames = new String[mappings.length];
+            for (int i = 0; i < mappings.length; i++) {
+                PropertyMapping mapping = mappings[i];
+                sourceNames[i] = mapping.hasSource() ? mapping.getSource() : null;
+                referenceNames[i] = mapping.getReference();
+            }
+            this.setters = propertyOperator.getPropertyDescriptor(targetType).getSetters(referenceNames);
+        }
+
+        boolean isApplicable(AssembleOperation operation, Class<?> targetType) {
+            return this.operation == operation && this.targetType == targetType;
+        }
+
+        void apply(Object source, Object target) {
+            Collection<?> sources = CollectionUtils.adaptObjectToCollection(source);
+            for (int i = 0; i < mappings.length; i++) {
+                PropertyMapping mapping = mappings[i];
+                MethodInvoker setter = setters[i];
+                // there are always multiple source values,
+                // so we need to merge the source objects after operation
+                Collection<?> sourceValues = mapping.hasSource() ? readProperties(sources, i) : sources;
+                propertyMappingStrategy.doMapping(target, source, sourceValues, mapping, sv -> {
+                    if (Objects.nonNull(setter)) {
+                        setter.invoke(target, sourceValues);
+                    }
+                });
+            }
+        }
+
+        private List<Object> readProperties(Collection<?> sources, int index) {
+            List<Object> values = new ArrayList<>(sources.size());
+            for (Object s : sources) {
+                MethodInvoker getter = getGetters(s.getClass())[index];
+                values.add(Objects.isNull(getter) ? null : getter.invoke(s));
+            }
+            return values;
+        }
+
+        private MethodInvoker[] getGetters(Class<?> type) {
+            if (type != sourceType) {
+                getters = propertyOperator.getPropertyDescriptor(type).getGetters(sourceNames);
+                sourceType = type;
+            }
+            return getters;
+        }
+    }
 }
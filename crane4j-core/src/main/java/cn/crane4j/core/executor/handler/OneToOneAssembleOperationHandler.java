@@ -7,18 +7,28 @@ import cn.crane4j.core.executor.handler.key.ReflectiveBeanKeyResolver;
 import cn.crane4j.core.executor.handler.key.ReflectivePropertyKeyResolver;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.SimplePropertyMapping;
+import cn.crane4j.core.parser.handler.strategy.OverwriteMappingStrategy;
+import cn.crane4j.core.parser.handler.strategy.OverwriteNotNullMappingStrategy;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
 import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.converter.ConverterManager;
+import cn.crane4j.core.support.reflect.ByteBuddyPropertyMapperFactory;
 import cn.crane4j.core.support.reflect.PropDesc;
+import cn.crane4j.core.support.reflect.PropertyMapper;
+import cn.crane4j.core.support.reflect.PropertyMapperFactory;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.ClassUtils;
+import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.ObjectUtils;
 import cn.crane4j.core.util.ReflectUtils;
 import cn.crane4j.core.util.StringUtils;
+import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -38,6 +48,24 @@ public class OneToOneAssembleOperationHandler extends AbstractAssembleOperationH
     private final KeyResolver keyResolver;
     private final KeyResolver converterKeyResolver;
 
+    /**
+     * whether the mappings can be completed by {@link #completeMappings} in bulk,
+     * it is {@code false} if {@link #completeMapping} is overridden by subclass.
+     */
+    private final boolean bulkMappingSupported;
+
+    /**
+     * factory of the mappers which copy properties by generated code,
+     * if it is {@code null}, the properties are always copied through {@link #propertyOperator}.
+     */
+    @Nullable
+    private PropertyMapperFactory propertyMapperFactory;
+
+    /**
+     * generated mappers of operations
+     */
+    private final Map<AssembleOperation, GeneratedMapper> generatedMappers = CollectionUtils.newWeakKeysConcurrentMap();
+
     /**
      * Create a new {@link OneToOneAssembleOperationHandler} instance.
      *
@@ -50,6 +78,40 @@ public class OneToOneAssembleOperationHandler extends AbstractAssembleOperationH
         this.converterManager = converterManager;
         this.keyResolver = ReflectivePropertyKeyResolver.create(propertyOperator);
         this.converterKeyResolver = ReflectivePropertyKeyResolver.create(propertyOperator, converterManager);
+        this.bulkMappingSupported = !isCompleteMappingOverridden(getClass(), OneToOneAssembleOperationHandler.class);
+    }
+
+    /**
+     * <p>Set the factory of the mappers which copy properties by generated code.<br />
+     * If it is set, when an operation always maps the same source type to the same target type,
+     * the properties will be copied by the mapper created by the factory if it is supported.
+     *
+     * <p><b>NOTE</b>: the mapper does not access properties through {@link #propertyOperator},
+     * so the customized property access logic of {@link #propertyOperator} will not take effect.
+     *
+     * @param propertyMapperFactory property mapper factory
+     * @see ByteBuddyPropertyMapperFactory
+     * @since 2.8.0
+     */
+    public void setPropertyMapperFactory(@Nullable PropertyMapperFactory propertyMapperFactory) {
+        this.propertyMapperFactory = propertyMapperFactory;
+        this.generatedMappers.clear();
+    }
+
+    /**
+     * Whether {@link #completeMapping} is overridden by the subclasses of the specified handler type.
+     *
+     * @param handlerType actual type of the handler
+     * @param declaringType handler type which declares the {@link #completeMapping} to be checked
+     * @return true if overridden, otherwise false
+     */
+    static boolean isCompleteMappingOverridden(Class<?> handlerType, Class<?> declaringType) {
+        for (Class<?> type = handlerType; type != declaringType; type = type.getSuperclass()) {
+            if (Objects.nonNull(ReflectUtils.getDeclaredMethod(type, "completeMapping", Object.class, Target.class))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -137,6 +199,70 @@ public class OneToOneAssembleOperationHandler extends AbstractAssembleOperationH
         doCompleteMapping(source, target.getOrigin(), mappings, propertyMappingStrategy);
     }
 
+    /**
+     * <p>Complete attribute mapping between the target objects and their associated data source objects.<br />
+     * The getters and setters of the property mappings are resolved only once
+     * for the continuous targets which have the same operation, source type and target type,
+     * then they are accessed by index instead of property name for each target.
+     *
+     * @param targets targets
+     * @param sources sources
+     * @since 2.8.0
+     */
+    @Override
+    protected void completeMappings(Collection<Target> targets, Map<Object, Object> sources) {
+        if (!bulkMappingSupported) {
+            super.completeMappings(targets, sources);
+            return;
+        }
+        MappingPlan plan = null;
+        for (Target target : targets) {
+            Object source = getTheAssociatedSource(target, sources);
+            if (ObjectUtils.isEmpty(source)) {
+                continue;
+            }
+            AssembleOperation operation = target.getExecution().getOperation();
+            Object origin = target.getOrigin();
+            if (Objects.isNull(plan) || !plan.isApplicable(operation, source.getClass(), origin.getClass())) {
+                plan = createMappingPlan(operation, source.getClass(), origin.getClass());
+            }
+            plan.apply(source, origin);
+        }
+    }
+
+    private MappingPlan createMappingPlan(AssembleOperation operation, Class<?> sourceType, Class<?> targetType) {
+        PropertyMapping[] mappings = operation.getPropertyMappings().toArray(new PropertyMapping[0]);
+        String[] sourceNames = new String[mappings.length];
+        String[] referenceNames = new String[mappings.length];
+        for (int i = 0; i < mappings.length; i++) {
+            PropertyMapping mapping = mappings[i];
+            sourceNames[i] = mapping.hasSource() ? mapping.getSource() : null;
+            referenceNames[i] = mapping.getReference();
+        }
+        PropDesc sourceDesc = propertyOperator.getPropertyDescriptor(sourceType);
+        PropDesc targetDesc = propertyOperator.getPropertyDescriptor(targetType);
+        return new MappingPlan(
+            operation, sourceType, targetType, operation.getPropertyMappingStrategy(),
+            mappings, sourceDesc.getGetters(sourceNames), targetDesc.getSetters(referenceNames),
+            getGeneratedMapper(operation, sourceType, targetType)
+        );
+    }
+
+    @Nullable
+    private PropertyMapper getGeneratedMapper(AssembleOperation operation, Class<?> sourceType, Class<?> targetType) {
+        PropertyMapperFactory factory = propertyMapperFactory;
+        if (Objects.isNull(factory)) {
+            return null;
+        }
+        GeneratedMapper generated = CollectionUtils.computeIfAbsent(generatedMappers, operation, op -> new GeneratedMapper(
+            sourceType, targetType,
+            factory.createMapper(sourceType, targetType, op.getPropertyMappings(), op.getPropertyMappingStrategy())
+        ));
+        // the mapper is only generated for the types first seen by the operation,
+        // if the types of the operation are changed, we don't generate mappers for them again
+        return generated.sourceType == sourceType && generated.targetType == targetType ? generated.mapper : null;
+    }
+
     private void doCompleteMapping(
         Object source, Object target, Set<PropertyMapping> mappings, PropertyMappingStrategy propertyMappingStrategy) {
         PropDesc sourceDesc = propertyOperator.getPropertyDescriptor(source.getClass());
@@ -150,4 +276,75 @@ public class OneToOneAssembleOperationHandler extends AbstractAssembleOperationH
             );
         }
     }
+
+    /**
+     * The resolved property mappings of an operation between the specified source type and target type,
+     * the getter and setter at index {@code i} are used by the property mapping at index {@code i}.
+     */
+    @RequiredArgsConstructor
+    private static class MappingPlan {
+
+        private final AssembleOperation operation;
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        private final PropertyMappingStrategy propertyMappingStrategy;
+        private final PropertyMapping[] mappings;
+        private final MethodInvoker[] getters;
+        private final MethodInvoker[] setters;
+        @Nullable
+        private final PropertyMapper mapper;
+
+        boolean isApplicable(AssembleOperation operation, Class<?> sourceType, Class<?> targetType) {
+            return this.operation == operation && this.sourceType == sourceType && this.targetType == targetType;
+        }
+
+        void apply(Object source, Object target) {
+            if (Objects.nonNull(mapper)) {
+                mapper.map(source, target);
+                return;
+            }
+            for (int i = 0; i < mappings.length; i++) {
+                PropertyMapping mapping = mappings[i];
+                MethodInvoker getter = getters[i];
+                MethodInvoker setter = setters[i];
+                Object sourceValue;
+                if (!mapping.hasSource()) {
+                    sourceValue = source;
+                } else {
+                    sourceValue = Objects.isNull(getter) ? null : getter.invoke(source);
+                }
+                // there is no need to create callbacks for the built-in strategies
+                if (propertyMappingStrategy == OverwriteNotNullMappingStrategy.INSTANCE) {
+                    if (Objects.nonNull(sourceValue)) {
+                        writeProperty(setter, target, sourceValue);
+                    }
+                    continue;
+                }
+                if (propertyMappingStrategy == OverwriteMappingStrategy.INSTANCE) {
+                    writeProperty(setter, target, sourceValue);
+                    continue;
+                }
+                propertyMappingStrategy.doMapping(
+                    target, source, sourceValue, mapping, sv -> writeProperty(setter, target, sourceValue)
+                );
+            }
+        }
+
+        private static void writeProperty(@Nullable MethodInvoker setter, Object target, Object value) {
+            if (Objects.nonNull(setter)) {
+                setter.invoke(target, value);
+            }
+        }
+    }
+
+    /**
+     * The mapper generated for the source type and target type of an operation.
+     */
+    @RequiredArgsConstructor
+    private static class GeneratedMapper {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        @Nullable
+        private final PropertyMapper mapper;
+    }
 }
@@ -7,11 +7,11 @@ import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -43,17 +43,19 @@ public class ReflectiveDisassembleOperationHandler implements DisassembleOperati
         Deque<Object> deque = targets.stream()
             .filter(Objects::nonNull)
             .map(getter::invoke)
-            .collect(Collectors.toCollection(LinkedList::new));
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(ArrayDeque::new));
 
-        List<Object> result = new ArrayList<>();
+        List<Object> result = new ArrayList<>(deque.size());
         while (!deque.isEmpty()) {
             Object item = deque.removeFirst();
-            if (Objects.isNull(item)) {
-                continue;
-            }
             // still is collection, continue
             if (item instanceof Collection || item.getClass().isArray()) {
-                deque.addAll(CollectionUtils.adaptObjectToCollection(item));
+                for (Object element : CollectionUtils.adaptObjectToCollection(item)) {
+                    if (Objects.nonNull(element)) {
+                        deque.addLast(element);
+                    }
+                }
             } else {
                 result.add(item);
             }
@@ -6,6 +6,8 @@ import cn.crane4j.core.parser.operation.KeyTriggerOperation;
 import cn.crane4j.core.parser.operation.SimpleKeyTriggerOperation;
 import cn.crane4j.core.support.AnnotationFinder;
 import cn.crane4j.core.support.Crane4jGlobalSorter;
+import cn.crane4j.core.util.ClassUtils;
+import cn.crane4j.core.util.ClassValueCache;
 import cn.crane4j.core.util.ConfigurationUtil;
 import cn.crane4j.core.util.MultiMap;
 import cn.crane4j.core.util.ReflectUtils;
@@ -19,10 +21,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +41,17 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public abstract class AbstractStandardOperationAnnotationHandler<A extends Annotation> implements OperationAnnotationHandler  {
 
+    /**
+     * annotation metadata of bean types which generated by crane4j-processor,
+     * including the types which have no generated class.
+     */
+    private static final ClassValueCache<Optional<GeneratedOperationMetadata>> GENERATED_METADATA = new ClassValueCache<>(
+        type -> Optional.ofNullable(ClassUtils.newGeneratedInstance(
+            type, GeneratedOperationMetadata.CLASS_NAME_SUFFIX, GeneratedOperationMetadata.class,
+            ex -> log.warn("cannot load generated operation metadata of [{}]", type, ex)
+        )).filter(metadata -> Objects.equals(metadata.getBeanType(), type))
+    );
+
     protected final Class<A> annotationType;
     protected final AnnotationFinder annotationFinder;
     @NonNull
@@ -122,17 +137,24 @@ public abstract class AbstractStandardOperationAnnotationHandler<A extends Annot
     }
 
     /**
-     * Parse annotation for methods
+     * <p>Parse annotation for methods.<br />
+     * If the annotation metadata of bean type is generated by crane4j-processor,
+     * only the annotated methods recorded in the metadata will be parsed.
      *
      * @param beanType bean type
      * @return element and annotation map
+     * @see GeneratedOperationMetadata
      * @since 2.6.0
      */
     protected MultiMap<AnnotatedElement, A> parseAnnotationForMethods(Class<?> beanType) {
         MultiMap<AnnotatedElement, A> result = MultiMap.arrayListMultimap();
+        Set<String> annotatedMethods = GENERATED_METADATA.get(beanType)
+            .map(GeneratedOperationMetadata::getAnnotatedMethods)
+            .orElse(null);
         Method[] methods = Stream.of(ReflectUtils.getDeclaredMethods(beanType))
             .filter(method -> method.getParameterCount() == 0)
             .filter(method -> !Objects.equals(method.getReturnType(), Void.TYPE))
+            .filter(method -> Objects.isNull(annotatedMethods) || annotatedMethods.contains(method.getName()))
             .toArray(Method[]::new);
         ReflectUtils.scanAllAnnotationFromElements(
             annotationFinder, annotationType, methods, result::put);
@@ -140,15 +162,24 @@ public abstract class AbstractStandardOperationAnnotationHandler<A extends Annot
     }
 
     /**
-     * Parse annotation for fields
+     * <p>Parse annotation for fields.<br />
+     * If the annotation metadata of bean type is generated by crane4j-processor,
+     * only the annotated fields recorded in the metadata will be parsed.
      *
      * @param beanType bean type
      * @return element and annotation map
+     * @see GeneratedOperationMetadata
      */
     protected MultiMap<AnnotatedElement, A> parseAnnotationForFields(Class<?> beanType) {
         MultiMap<AnnotatedElement, A> result = MultiMap.arrayListMultimap();
+        Set<String> annotatedFields = GENERATED_METADATA.get(beanType)
+            .map(GeneratedOperationMetadata::getAnnotatedFields)
+            .orElse(null);
+        Field[] fields = Stream.of(ReflectUtils.getDeclaredFields(beanType))
+            .filter(field -> Objects.isNull(annotatedFields) || annotatedFields.contains(field.getName()))
+            .toArray(Field[]::new);
         ReflectUtils.scanAllAnnotationFromElements(
-            annotationFinder, annotationType, ReflectUtils.getDeclaredFields(beanType), result::put);
+            annotationFinder, annotationType, fields, result::put);
         return result;
     }
 
@@ -0,0 +1,46 @@
+package cn.crane4j.core.parser.handler;
+
+import java.util.Set;
+
+/**
+ * <p>The annotation metadata of a bean type which is generated at compile time by crane4j-processor.<br />
+ * The generated class is named as the binary name of the bean type with suffix {@link #CLASS_NAME_SUFFIX},
+ * and has a public no-arg constructor.
+ *
+ * <p>The metadata records the declared members of the bean type which are annotated by any annotation
+ * retained at runtime, so {@link AbstractStandardOperationAnnotationHandler}
+ * only needs to find the operation annotations on these members instead of all declared members.
+ *
+ * @author huangchengxing
+ * @see AbstractStandardOperationAnnotationHandler
+ * @since 2.8.0
+ */
+public interface GeneratedOperationMetadata {
+
+    /**
+     * suffix of the generated class name
+     */
+    String CLASS_NAME_SUFFIX = "$$Crane4jOperationMetadata";
+
+    /**
+     * Get the bean type.
+     *
+     * @return bean type
+     */
+    Class<?> getBeanType();
+
+    /**
+     * Get the names of the annotated fields which are declared in the bean type.
+     *
+     * @return field names
+     */
+    Set<String> getAnnotatedFields();
+
+    /**
+     * Get the names of the annotated methods which are declared in the bean type,
+     * only the methods without parameters and with a return value are included.
+     *
+     * @return method names
+     */
+    Set<String> getAnnotatedMethods();
+}
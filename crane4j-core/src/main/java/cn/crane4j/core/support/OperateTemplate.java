@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Helper classes used to simplify filling operations.
@@ -169,6 +170,42 @@ public class OperateTemplate {
         executor.execute(targets, beanOperations, filter);
     }
 
+    /**
+     * <p>Execute the fill operation on the targets of the stream in fixed-size windows.<br />
+     * The returned stream is lazy, the targets are processed window by window when it is consumed.
+     *
+     * @param targets targets
+     * @param targetType target type
+     * @param windowSize max number of targets in one window
+     * @param <T> target type
+     * @return stream of processed targets
+     * @see BeanOperationExecutor#executeInWindows(Stream, BeanOperations, int)
+     * @since 2.8.0
+     */
+    public <T> Stream<T> executeInWindows(Stream<T> targets, Class<?> targetType, int windowSize) {
+        return executeInWindows(targets, targetType, windowSize, Grouped.alwaysMatch());
+    }
+
+    /**
+     * <p>Execute the fill operation on the targets of the stream in fixed-size windows.<br />
+     * The returned stream is lazy, the targets are processed window by window when it is consumed.
+     *
+     * @param targets targets
+     * @param targetType target type
+     * @param windowSize max number of targets in one window
+     * @param filter filter
+     * @param <T> target type
+     * @return stream of processed targets
+     * @see BeanOperationExecutor#executeInWindows(Stream, BeanOperations, BeanOperationExecutor.Options, int)
+     * @since 2.8.0
+     */
+    public <T> Stream<T> executeInWindows(
+        Stream<T> targets, Class<?> targetType, int windowSize, Predicate<? super KeyTriggerOperation> filter) {
+        Objects.requireNonNull(targetType, "targetType must not null");
+        BeanOperations beanOperations = defaultParser.parse(targetType);
+        return defaultExecutor.executeInWindows(targets, beanOperations, () -> filter, windowSize);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> Class<T> resolveType(Object target) {
         Class<?> type = typeResolver.resolve(target);
@@ -2,6 +2,7 @@ package cn.crane4j.core.support;
 
 import cn.crane4j.core.cache.AbstractMapCacheManager;
 import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.CaffeineCacheManager;
 import cn.crane4j.core.cache.GuavaCacheManager;
 import cn.crane4j.core.condition.ConditionOnContainerParser;
 import cn.crane4j.core.condition.ConditionOnPropertyNotEmptyParser;
@@ -265,6 +266,9 @@ public class SimpleCrane4jGlobalConfiguration
             GuavaCacheManager guavaCacheManager = new GuavaCacheManager();
             configuration.getCacheManagerMap()
                 .put(guavaCacheManager.getName(), guavaCacheManager);
+            CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+            configuration.getCacheManagerMap()
+                .put(caffeineCacheManager.getName(), caffeineCacheManager);
             AbstractMapCacheManager mapCacheManager = AbstractMapCacheManager.newWeakConcurrentMapCacheManager();
             configuration.getCacheManagerMap()
                 .put(mapCacheManager.getName(), mapCacheManager);
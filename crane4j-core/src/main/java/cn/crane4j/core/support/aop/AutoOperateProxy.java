@@ -136,8 +136,7 @@ public class AutoOperateProxy {
         @Override
         public Object invoke(Object target, Method method, Object[] arguments) {
             Object result = ReflectUtils.invoke(target, method, arguments);
-            methodResultAutoOperateSupport.afterMethodInvoke(method, result, arguments);
-            return result;
+            return methodResultAutoOperateSupport.processResult(method, result, arguments);
         }
     }
 
@@ -156,8 +155,7 @@ public class AutoOperateProxy {
         public Object invoke(Object target, Method method, Object[] arguments) {
             methodArgumentAutoOperateSupport.beforeMethodInvoke(method, arguments);
             Object result = ReflectUtils.invoke(target, method, arguments);
-            methodResultAutoOperateSupport.afterMethodInvoke(method, result, arguments);
-            return result;
+            return methodResultAutoOperateSupport.processResult(method, result, arguments);
         }
     }
 }
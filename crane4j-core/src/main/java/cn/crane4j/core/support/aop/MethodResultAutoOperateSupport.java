@@ -66,10 +66,7 @@ public class MethodResultAutoOperateSupport {
         }
         // get and build method cache
         log.debug("process result for [{}]", method);
-        // fix https://gitee.com/opengoofy/crane4j/issues/I82EAC
-        AutoOperateAnnotatedElement element = CollectionUtils.computeIfAbsent(
-            methodCaches, method, this::resolveReturn
-        );
+        AutoOperateAnnotatedElement element = resolveElement(method);
         // fix https://github.com/opengoofy/crane4j/issues/204
         if (element == AutoOperateAnnotatedElement.EMPTY) {
             return;
@@ -81,6 +78,38 @@ public class MethodResultAutoOperateSupport {
         }
     }
 
+    /**
+     * <p>After the method is called, process the returning result of the method
+     * and return the result which should be returned to the caller.<br />
+     * By default, the result is processed by {@link #afterMethodInvoke} and returned directly,
+     * subclasses can override this method to return a new result which is processed
+     * when it is actually consumed, such as a reactive publisher.
+     *
+     * @param method method
+     * @param result result
+     * @param args args
+     * @return result which should be returned to the caller
+     * @since 2.8.0
+     */
+    public Object processResult(Method method, Object result, Object[] args) {
+        afterMethodInvoke(method, result, args);
+        return result;
+    }
+
+    /**
+     * Get the operation configuration of method result from the cache,
+     * if not found, resolve it by {@link #resolveReturn} and cache it.
+     *
+     * @param method method
+     * @return operation configuration of method result
+     * @since 2.8.0
+     */
+    @NonNull
+    protected AutoOperateAnnotatedElement resolveElement(Method method) {
+        // fix https://gitee.com/opengoofy/crane4j/issues/I82EAC
+        return CollectionUtils.computeIfAbsent(methodCaches, method, this::resolveReturn);
+    }
+
     /**
      * Resolve the {@link AutoOperate} annotation on the method
      *
@@ -107,7 +136,16 @@ public class MethodResultAutoOperateSupport {
         methodCaches.clear();
     }
 
-    private boolean support(Method method, Object result, Object[] args, String condition) {
+    /**
+     * Whether to apply the operation to the result.
+     *
+     * @param method method
+     * @param result result
+     * @param args args
+     * @param condition condition expression
+     * @return true if the condition is empty or evaluated to true
+     */
+    protected boolean support(Method method, Object result, Object[] args, String condition) {
         return StringUtils.isEmpty(condition) || Boolean.TRUE.equals(expressionEvaluator.execute(condition, Boolean.class, method, args, result));
     }
 }
@@ -120,7 +120,7 @@ public class MethodBasedAutoOperateAnnotatedElementResolver extends AbstractAuto
         if (StringUtils.isNotEmpty(on)) {
             PropertyOperator propertyOperator = configuration.getPropertyOperator();
             extractor = propertyOperator.findGetter(type, on);
-            Asserts.isNotNull(extractor, "cannot find getter for [{}] on [{}]", on, annotation.type());
+            Asserts.isNotNull(extractor, "cannot find getter for [{}] on [{}]", on, type);
         }
         return extractor;
     }
@@ -8,6 +8,7 @@ import cn.crane4j.core.cache.CacheableContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.support.AnnotationFinder;
 import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.util.ConfigurationUtil;
 import cn.crane4j.core.util.StringUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -62,9 +63,8 @@ public class CacheableMethodContainerFactory extends DefaultMethodContainerFacto
         CacheManager cacheManager = configuration.getCacheManager(managerName);
         return super.get(source, method, annotations).stream()
             .map(container -> {
-                CacheDefinition cacheDefinition = new CacheDefinition.Impl(
-                    container.getNamespace(), managerName,
-                    annotation.expirationTime(), annotation.timeUnit()
+                CacheDefinition cacheDefinition = ConfigurationUtil.createCacheDefinition(
+                    container.getNamespace(), managerName, annotation
                 );
                 return new CacheableContainer<>(container, cacheDefinition, cacheManager);
             })
@@ -12,6 +12,7 @@ import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -61,6 +62,16 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
     protected final Map<String, Repository<T>> registeredRepositories = new ConcurrentHashMap<>(32);
     protected final MethodInvokerContainerCreator methodInvokerContainerCreator;
 
+    /**
+     * Max number of keys in one query, not limited if it is less than or equal to 0.
+     *
+     * @see Container#getMaxKeysPerCall()
+     * @since 2.8.0
+     */
+    @Getter
+    @Setter
+    protected int maxKeysPerCall = -1;
+
     // =================== repository ===================
 
     /**
@@ -177,7 +188,9 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
             .resultKey(keyProperty)
             .duplicateStrategy(DuplicateStrategy.ALERT)
             .build();
-        return methodInvokerContainerCreator.createContainer(containerCreation);
+        MethodInvokerContainer container = methodInvokerContainerCreator.createContainer(containerCreation);
+        container.setMaxKeysPerCall(maxKeysPerCall);
+        return container;
     }
 
     /**
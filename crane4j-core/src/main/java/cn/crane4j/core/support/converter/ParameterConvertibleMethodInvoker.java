@@ -56,9 +56,13 @@ public class ParameterConvertibleMethodInvoker implements MethodInvoker {
         if (ArrayUtils.isEmpty(args)) {
             return new Object[parameterCount];
         }
+        // if the number of parameters is equal and no argument need to be converted, use the original args
+        if (parameterCount == args.length) {
+            return convertInPlaceIfNecessary(args);
+        }
         // if the number of parameters is not equal, convert the parameters
         Object[] actualArgs = new Object[parameterCount];
-        if (parameterCount >= args.length) {
+        if (parameterCount > args.length) {
             for (int i = 0; i < args.length; i++) {
                 actualArgs[i] = converterManager.convert(args[i], parameterTypes[i]);
             }
@@ -70,4 +74,20 @@ public class ParameterConvertibleMethodInvoker implements MethodInvoker {
         }
         return actualArgs;
     }
+
+    private Object[] convertInPlaceIfNecessary(Object[] args) {
+        Object[] actualArgs = args;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            Object converted = converterManager.convert(arg, parameterTypes[i]);
+            if (converted != arg) {
+                // copy on first change, the original args will not be modified
+                if (actualArgs == args) {
+                    actualArgs = args.clone();
+                }
+                actualArgs[i] = converted;
+            }
+        }
+        return actualArgs;
+    }
 }
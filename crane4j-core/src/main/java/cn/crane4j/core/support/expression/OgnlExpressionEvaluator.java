@@ -17,7 +17,8 @@ import java.util.Map;
  */
 public class OgnlExpressionEvaluator implements ExpressionEvaluator {
 
-    private final Map<String, Object> expressionCaches = CollectionUtils.newWeakConcurrentMap();
+    private static final int MAXIMUM_CACHE_SIZE = 1024;
+    private final Map<String, Object> expressionCaches = CollectionUtils.newBoundedConcurrentMap(MAXIMUM_CACHE_SIZE);
 
     /**
      * Execute the expression in the specified above and return the execution result.
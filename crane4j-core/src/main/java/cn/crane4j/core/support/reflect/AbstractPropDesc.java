@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
@@ -18,8 +19,9 @@ import java.util.function.Function;
 public abstract class AbstractPropDesc implements PropDesc {
 
     private static final MethodInvoker NULL = (target, args) -> null;
-    private final ConcurrentMap<String, MethodInvoker> getterCache = CollectionUtils.newWeakConcurrentMap();
-    private final ConcurrentMap<String, MethodInvoker> setterCache = CollectionUtils.newWeakConcurrentMap();
+    private static final int MAXIMUM_CACHE_SIZE = 256;
+    private final ConcurrentMap<String, MethodInvoker> getterCache = CollectionUtils.newBoundedConcurrentMap(MAXIMUM_CACHE_SIZE);
+    private final ConcurrentMap<String, MethodInvoker> setterCache = CollectionUtils.newBoundedConcurrentMap(MAXIMUM_CACHE_SIZE);
     @Getter
     protected final Class<?> beanType;
 
@@ -32,7 +34,8 @@ public abstract class AbstractPropDesc implements PropDesc {
     @Nullable
     @Override
     public MethodInvoker getGetter(String propertyName) {
-        MethodInvoker invoker = obtainInvokerFromCache(
+        MethodInvoker invoker = getterCache.get(propertyName);
+        invoker = Objects.nonNull(invoker) ? invoker : obtainInvokerFromCache(
             getterCache, propertyName, this::findGetter
         );
         return invoker == NULL ? null : invoker;
@@ -47,7 +50,8 @@ public abstract class AbstractPropDesc implements PropDesc {
     @Nullable
     @Override
     public MethodInvoker getSetter(String propertyName) {
-        MethodInvoker invoker = obtainInvokerFromCache(
+        MethodInvoker invoker = setterCache.get(propertyName);
+        invoker = Objects.nonNull(invoker) ? invoker : obtainInvokerFromCache(
             setterCache, propertyName, this::findSetter
         );
         return invoker == NULL ? null : invoker;
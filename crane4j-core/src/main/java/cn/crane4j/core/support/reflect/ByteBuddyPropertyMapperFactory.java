@@ -0,0 +1,286 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.handler.strategy.OverwriteMappingStrategy;
+import cn.crane4j.core.parser.handler.strategy.OverwriteNotNullMappingStrategy;
+import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
+import cn.crane4j.core.util.ReflectUtils;
+import cn.crane4j.core.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.ClassWriter;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A {@link PropertyMapperFactory} which generates a dedicated {@link PropertyMapper} class
+ * by <a href="https://bytebuddy.net">Byte Buddy</a> at runtime,
+ * the generated class copies all properties by calling the getter and setter methods directly,
+ * for example, {@code ((Target)target).setName(((Source)source).getName())}.
+ *
+ * <p>The getter and setter methods are found in the same way as {@link ReflectivePropertyOperator},
+ * and a mapper is created only if all the following conditions are met:
+ * <ul>
+ *     <li>the strategy is {@link OverwriteMappingStrategy} or {@link OverwriteNotNullMappingStrategy};</li>
+ *     <li>the source type and target type are public, and not an implementation of {@link Map};</li>
+ *     <li>the getter and setter methods of all properties are public, and declared in public classes;</li>
+ *     <li>the value can be assigned to the setter parameter without conversion, and it is never unboxed;</li>
+ *     <li>the property names are not chain expressions, such as {@code a.b};</li>
+ * </ul>
+ * Otherwise, {@link #createMapper} returns {@code null}, and the caller should copy the properties in other ways.
+ *
+ * @author huangchengxing
+ * @since 2.8.0
+ */
+@Slf4j
+public class ByteBuddyPropertyMapperFactory implements PropertyMapperFactory {
+
+    public static final ByteBuddyPropertyMapperFactory INSTANCE = new ByteBuddyPropertyMapperFactory();
+
+    private static final String CLASS_NAME_PREFIX = PropertyMapper.class.getName() + "$$Generated$";
+    private static final AtomicInteger COUNTER = new AtomicInteger(0);
+
+    /**
+     * Create a mapper which copies the properties of the source type to the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param propertyMappings property mappings
+     * @param propertyMappingStrategy property mapping strategy
+     * @return mapper, or {@code null} if the property mappings or the strategy are not supported
+     */
+    @Nullable
+    @Override
+    public PropertyMapper createMapper(
+        Class<?> sourceType, Class<?> targetType,
+        Collection<PropertyMapping> propertyMappings, PropertyMappingStrategy propertyMappingStrategy) {
+        boolean ignoreNull = propertyMappingStrategy == OverwriteNotNullMappingStrategy.INSTANCE;
+        if (!ignoreNull && propertyMappingStrategy != OverwriteMappingStrategy.INSTANCE) {
+            return null;
+        }
+        ClassLoader classLoader = targetType.getClassLoader();
+        if (!isSupportedType(sourceType, classLoader) || !isSupportedType(targetType, classLoader)
+            || !isVisible(PropertyMapper.class, classLoader)) {
+            return null;
+        }
+        List<StackManipulation> copies = new ArrayList<>(propertyMappings.size() + 1);
+        for (PropertyMapping mapping : propertyMappings) {
+            StackManipulation copy = createCopy(sourceType, targetType, mapping, ignoreNull);
+            if (Objects.isNull(copy)) {
+                return null;
+            }
+            copies.add(copy);
+        }
+        copies.add(MethodReturn.VOID);
+        try {
+            Class<?> mapperType = new ByteBuddy()
+                .subclass(PropertyMapper.class)
+                .name(CLASS_NAME_PREFIX + COUNTER.incrementAndGet())
+                .method(ElementMatchers.named("map"))
+                .intercept(new Implementation.Simple(copies.toArray(new StackManipulation[0])))
+                // the null checks need stack map frames
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().writerFlags(ClassWriter.COMPUTE_FRAMES))
+                .make()
+                .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+            return (PropertyMapper)mapperType.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            log.warn("cannot generate property mapper from [{}] to [{}]", sourceType.getName(), targetType.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Create the bytecode which reads the property from the first argument
+     * and writes it to the second argument.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param mapping property mapping
+     * @param ignoreNull whether to skip writing if the value is null
+     * @return bytecode, or {@code null} if the mapping is not supported
+     */
+    @Nullable
+    private static StackManipulation createCopy(
+        Class<?> sourceType, Class<?> targetType, PropertyMapping mapping, boolean ignoreNull) {
+        Method setter = findSetter(targetType, mapping.getReference());
+        if (Objects.isNull(setter)) {
+            return null;
+        }
+        // the source object is never null, so only the property value needs to be checked
+        Class<?> valueType = sourceType;
+        List<StackManipulation> read = new ArrayList<>(3);
+        read.add(MethodVariableAccess.REFERENCE.loadFrom(1));
+        read.add(TypeCasting.to(TypeDescription.ForLoadedType.of(sourceType)));
+        if (mapping.hasSource()) {
+            Method getter = findGetter(sourceType, mapping.getSource());
+            if (Objects.isNull(getter)) {
+                return null;
+            }
+            read.add(MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(getter)));
+            valueType = getter.getReturnType();
+        }
+        Class<?> parameterType = setter.getParameterTypes()[0];
+        if (!isAssignable(parameterType, valueType)) {
+            return null;
+        }
+
+        StackManipulation loadTarget = new StackManipulation.Compound(
+            MethodVariableAccess.REFERENCE.loadFrom(2),
+            TypeCasting.to(TypeDescription.ForLoadedType.of(targetType))
+        );
+        List<StackManipulation> write = new ArrayList<>(3);
+        write.add(Assigner.DEFAULT.assign(
+            TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(valueType),
+            TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(parameterType),
+            Assigner.Typing.STATIC
+        ));
+        write.add(MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(setter)));
+        if (setter.getReturnType() != void.class) {
+            write.add(Removal.of(TypeDescription.ForLoadedType.of(setter.getReturnType())));
+        }
+
+        StackManipulation copy = ignoreNull && mapping.hasSource() && !valueType.isPrimitive() ?
+            new StackManipulation.Compound(
+                new StackManipulation.Compound(read), new NonNullWrite(loadTarget, new StackManipulation.Compound(write))
+            ) :
+            new StackManipulation.Compound(
+                loadTarget, new StackManipulation.Compound(read), new StackManipulation.Compound(write)
+            );
+        return copy.isValid() ? copy : null;
+    }
+
+    @Nullable
+    private static Method findGetter(Class<?> type, String propertyName) {
+        if (isChainProperty(propertyName)) {
+            return null;
+        }
+        Field field = ReflectUtils.getField(type, propertyName);
+        Method getter = Objects.isNull(field) ?
+            ReflectUtils.findGetterMethod(type, propertyName).orElse(null) :
+            ReflectUtils.findGetterMethod(type, field).orElse(null);
+        return isAccessible(getter, 0) && getter.getReturnType() != void.class ? getter : null;
+    }
+
+    @Nullable
+    private static Method findSetter(Class<?> type, String propertyName) {
+        if (isChainProperty(propertyName)) {
+            return null;
+        }
+        Field field = ReflectUtils.getField(type, propertyName);
+        Method setter = Objects.isNull(field) ?
+            ReflectUtils.findSetterMethod(type, propertyName).orElse(null) :
+            ReflectUtils.findSetterMethod(type, field).orElse(null);
+        return isAccessible(setter, 1) ? setter : null;
+    }
+
+    private static boolean isChainProperty(String propertyName) {
+        return StringUtils.isEmpty(propertyName) || propertyName.contains(".");
+    }
+
+    private static boolean isAccessible(@Nullable Method method, int parameterCount) {
+        return Objects.nonNull(method)
+            && method.getParameterCount() == parameterCount
+            && Modifier.isPublic(method.getModifiers())
+            && !Modifier.isStatic(method.getModifiers())
+            && isPublic(method.getDeclaringClass());
+    }
+
+    private static boolean isAssignable(Class<?> parameterType, Class<?> valueType) {
+        // unboxing may throw NullPointerException, so the wrapper is never assigned to primitive type
+        if (parameterType.isPrimitive()) {
+            return parameterType == valueType;
+        }
+        Class<?> boxedType = MethodType.methodType(valueType).wrap().returnType();
+        return parameterType.isAssignableFrom(boxedType);
+    }
+
+    private static boolean isSupportedType(Class<?> type, @Nullable ClassLoader classLoader) {
+        return !type.isPrimitive()
+            && !type.isArray()
+            && !Map.class.isAssignableFrom(type)
+            && isPublic(type)
+            && isVisible(type, classLoader);
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; Objects.nonNull(current); current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type, @Nullable ClassLoader classLoader) {
+        if (Objects.isNull(classLoader)) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write the reference value on the top of the stack to the target object only if it is not null,
+     * the value is always popped from the stack.
+     */
+    @RequiredArgsConstructor
+    private static class NonNullWrite extends StackManipulation.AbstractBase {
+
+        private final StackManipulation loadTarget;
+        private final StackManipulation write;
+
+        @Override
+        public boolean isValid() {
+            return loadTarget.isValid() && write.isValid();
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            Label skip = new Label();
+            Label end = new Label();
+            // value -> value, value -> value
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitJumpInsn(Opcodes.IFNULL, skip);
+            // value -> value, target -> target, value
+            Size size = new Size(0, 1).aggregate(loadTarget.apply(methodVisitor, implementationContext));
+            methodVisitor.visitInsn(Opcodes.SWAP);
+            size = size.aggregate(write.apply(methodVisitor, implementationContext));
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, end);
+            methodVisitor.visitLabel(skip);
+            methodVisitor.visitInsn(Opcodes.POP);
+            methodVisitor.visitLabel(end);
+            return new Size(-1, size.getMaximalSize());
+        }
+    }
+}
@@ -31,6 +31,11 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
      */
     private final Function<String, String[]> splitter;
 
+    /**
+     * property descriptors of types
+     */
+    private final Map<Class<?>, PropDesc> descCaches = CollectionUtils.newWeakConcurrentMap();
+
     /**
      * Create an {@link ChainAccessiblePropertyOperator} instance,
      * and use the default splitter to separate input chain operators based on the {@code "."} character.
@@ -51,8 +56,11 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
      */
     @Override
     public @NonNull PropDesc getPropertyDescriptor(Class<?> targetType) {
-        PropDesc delegateDesc = delegate.getPropertyDescriptor(targetType);
-        return new ChainAccessPropDesc(targetType, delegateDesc);
+        // look up the cache first to avoid creating the capturing lambda on each call
+        PropDesc desc = descCaches.get(targetType);
+        return Objects.nonNull(desc) ? desc : CollectionUtils.computeIfAbsent(
+            descCaches, targetType, type -> new ChainAccessPropDesc(type, delegate.getPropertyDescriptor(type))
+        );
     }
 
     /**
@@ -117,38 +125,6 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
             this.delegate = delegate;
         }
 
-        /**
-         * Get the getter method.
-         *
-         * @param propertyName property name
-         * @return property getter
-         */
-        @Override
-        public @Nullable MethodInvoker getGetter(String propertyName) {
-            String[] properties = splitter.apply(propertyName);
-            if (properties.length <= 1) {
-                return delegate.getGetter(propertyName);
-            }
-            // only chain property access will be processed
-            return super.getGetter(propertyName);
-        }
-
-        /**
-         * Get the setter method.
-         *
-         * @param propertyName property name
-         * @return property setter
-         */
-        @Override
-        public @Nullable MethodInvoker getSetter(String propertyName) {
-            String[] properties = splitter.apply(propertyName);
-            if (properties.length <= 1) {
-                return delegate.getSetter(propertyName);
-            }
-            // only chain property access will be processed
-            return super.getSetter(propertyName);
-        }
-
         /**
          * Get getter method.
          *
@@ -159,7 +135,9 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
         @Override
         public MethodInvoker findGetter(String propertyName) {
             String[] properties = splitter.apply(propertyName);
-            return chainGetter(properties);
+            // only chain property access will be processed
+            return properties.length <= 1 ?
+                delegate.getGetter(propertyName) : chainGetter(properties);
         }
 
         /**
@@ -172,7 +150,9 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
         @Override
         protected MethodInvoker findSetter(String propertyName) {
             String[] properties = splitter.apply(propertyName);
-            return chainSetter(properties);
+            // only chain property access will be processed
+            return properties.length <= 1 ?
+                delegate.getSetter(propertyName) : chainSetter(properties);
         }
     }
 
@@ -185,8 +165,9 @@ public class ChainAccessiblePropertyOperator implements PropertyOperator {
      */
     @RequiredArgsConstructor
     public static class DefaultSplitter implements Function<String, String[]> {
+        private static final int MAXIMUM_CACHE_SIZE = 1024;
         private final String separator;
-        private final Map<String, String[]> caches = CollectionUtils.newWeakConcurrentMap();
+        private final Map<String, String[]> caches = CollectionUtils.newBoundedConcurrentMap(MAXIMUM_CACHE_SIZE);
         @Override
         public String[] apply(String propertyName) {
             return CollectionUtils.computeIfAbsent(
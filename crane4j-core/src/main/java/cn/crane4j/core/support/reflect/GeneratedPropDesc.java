@@ -0,0 +1,31 @@
+package cn.crane4j.core.support.reflect;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * <p>A {@link PropDesc} generated at compile time by crane4j-processor,
+ * which accesses the properties of the bean by direct method call or field access.<br />
+ * The generated class is placed in the same package as the bean type,
+ * and named as the binary name of the bean type with {@link #CLASS_NAME_SUFFIX},
+ * for example, {@code com.example.Foo$$Crane4jPropDesc}.
+ *
+ * @author huangchengxing
+ * @see GeneratedPropertyOperator
+ * @since 2.8.0
+ */
+public interface GeneratedPropDesc extends PropDesc {
+
+    /**
+     * suffix of the generated class name
+     */
+    String CLASS_NAME_SUFFIX = "$$Crane4jPropDesc";
+
+    /**
+     * Get the type of the specified property.
+     *
+     * @param propertyName property name
+     * @return property type, or {@code null} if the property is not supported
+     */
+    @Nullable
+    Class<?> getPropertyType(String propertyName);
+}
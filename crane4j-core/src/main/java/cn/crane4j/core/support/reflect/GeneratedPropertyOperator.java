@@ -0,0 +1,133 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.converter.ConverterManager;
+import cn.crane4j.core.support.converter.ParameterConvertibleMethodInvoker;
+import cn.crane4j.core.util.ClassUtils;
+import cn.crane4j.core.util.ClassValueCache;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>The wrapper class of {@link PropertyOperator} that
+ * prefers the {@link GeneratedPropDesc} generated at compile time to access properties.<br />
+ * If there is no generated class for the target type,
+ * or the property is not supported by the generated class,
+ * the original operator will be used.
+ *
+ * @author huangchengxing
+ * @see GeneratedPropDesc
+ * @since 2.8.0
+ */
+@Slf4j
+public class GeneratedPropertyOperator implements PropertyOperator {
+
+    /**
+     * generated property descriptors of types, including the types which have no generated class,
+     * so the generated class is only looked up once for each type.
+     */
+    private static final ClassValueCache<Optional<GeneratedPropDesc>> GENERATED_PROP_DESCS = new ClassValueCache<>(
+        type -> Optional.ofNullable(ClassUtils.newGeneratedInstance(
+            type, GeneratedPropDesc.CLASS_NAME_SUFFIX, GeneratedPropDesc.class,
+            ex -> log.warn("cannot load generated property descriptor of [{}]", type, ex)
+        ))
+    );
+
+    /**
+     * original operator
+     */
+    private final PropertyOperator delegate;
+
+    /**
+     * converter manager
+     */
+    @Nullable
+    private final ConverterManager converterManager;
+
+    /**
+     * Create a {@link GeneratedPropertyOperator} instance.
+     *
+     * @param delegate original operator
+     * @param converterManager converter manager, which used to convert the value before writing property
+     */
+    public GeneratedPropertyOperator(PropertyOperator delegate, @Nullable ConverterManager converterManager) {
+        this.delegate = delegate;
+        this.converterManager = converterManager;
+    }
+
+    /**
+     * Create a {@link GeneratedPropertyOperator} instance.
+     *
+     * @param delegate original operator
+     */
+    public GeneratedPropertyOperator(PropertyOperator delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * Get property descriptor.
+     *
+     * @param targetType target type
+     * @return property descriptor
+     */
+    @Override
+    public @NonNull PropDesc getPropertyDescriptor(Class<?> targetType) {
+        PropDesc desc = delegate.getPropertyDescriptor(targetType);
+        GeneratedPropDesc generated = loadGeneratedPropDesc(targetType);
+        return Objects.isNull(generated) ? desc : new CompositePropDesc(generated, desc, converterManager);
+    }
+
+    /**
+     * Load the generated {@link GeneratedPropDesc} of the specified type.
+     *
+     * @param targetType target type
+     * @return generated property descriptor, or {@code null} if not found
+     */
+    @Nullable
+    protected GeneratedPropDesc loadGeneratedPropDesc(Class<?> targetType) {
+        return GENERATED_PROP_DESCS.get(targetType).orElse(null);
+    }
+
+    /**
+     * A property descriptor which finds invokers from the generated descriptor first.
+     *
+     * @author huangchengxing
+     */
+    private static class CompositePropDesc extends AbstractPropDesc {
+
+        private final GeneratedPropDesc generated;
+        private final PropDesc delegate;
+        @Nullable
+        private final ConverterManager converterManager;
+
+        CompositePropDesc(GeneratedPropDesc generated, PropDesc delegate, @Nullable ConverterManager converterManager) {
+            super(generated.getBeanType());
+            this.generated = generated;
+            this.delegate = delegate;
+            this.converterManager = converterManager;
+        }
+
+        @Nullable
+        @Override
+        protected MethodInvoker findGetter(String propertyName) {
+            MethodInvoker getter = generated.getGetter(propertyName);
+            return Objects.nonNull(getter) ? getter : delegate.getGetter(propertyName);
+        }
+
+        @Nullable
+        @Override
+        protected MethodInvoker findSetter(String propertyName) {
+            MethodInvoker setter = generated.getSetter(propertyName);
+            if (Objects.isNull(setter)) {
+                return delegate.getSetter(propertyName);
+            }
+            Class<?> propertyType = generated.getPropertyType(propertyName);
+            return Objects.isNull(converterManager) || Objects.isNull(propertyType) ?
+                setter : ParameterConvertibleMethodInvoker.create(setter, converterManager, new Class<?>[]{ propertyType });
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.converter.ConverterManager;
+import cn.crane4j.core.util.ClassValueCache;
+import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.Try;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link PropertyOperator} implementation which accesses properties through
+ * {@link Function} and {@link BiConsumer} implementations spun by {@link LambdaMetafactory}.<br />
+ * The getter and setter methods are invoked by the generated classes directly,
+ * so that no bound method handle or boxed arguments array will be created in each access,
+ * and the invocation can be inlined by JIT like the hand-written code.
+ *
+ * <p>The {@link LambdaMetafactory} can only generate implementation for the accessible methods,
+ * if the property is accessed through a field, or the method is not accessible
+ * (e.g. the method is not public, or the class is loaded by a class loader invisible to crane4j),
+ * the java reflection will be used.
+ *
+ * <p>The generated getters and setters are cached statically by the class declaring the method,
+ * and shared by all instances of the operator and property descriptors,
+ * so they will not be generated again after the property descriptor is collected.
+ *
+ * @author huangchengxing
+ * @see LambdaMetafactory
+ * @since 2.8.0
+ */
+@Slf4j
+@NoArgsConstructor
+public class LambdaMetafactoryPropertyOperator extends ReflectivePropertyOperator {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * generated invokers of methods, grouped by the class declaring the method,
+     * including the methods which cannot be generated, so each method is only generated once.
+     */
+    private static final ClassValueCache<ConcurrentMap<Method, Optional<MethodInvoker>>> LAMBDA_INVOKERS = new ClassValueCache<>(
+        type -> new ConcurrentHashMap<>(8)
+    );
+
+    /**
+     * Create a {@link LambdaMetafactoryPropertyOperator} instance
+     *
+     * @param converterManager converter manager
+     */
+    public LambdaMetafactoryPropertyOperator(@Nullable ConverterManager converterManager) {
+        super(converterManager);
+    }
+
+    /**
+     * Get property descriptor.
+     *
+     * @param targetType target type
+     * @return property descriptor
+     */
+    @Override
+    public @NonNull PropDesc getPropertyDescriptor(Class<?> targetType) {
+        return new LambdaMetafactoryPropDesc(targetType, converterManager, throwIfNoAnyMatched);
+    }
+
+    /**
+     * {@link PropDesc} implementation based on {@link LambdaMetafactory}.
+     *
+     * @author huangchengxing
+     */
+    protected static class LambdaMetafactoryPropDesc extends ReflectivePropDesc {
+
+        public LambdaMetafactoryPropDesc(
+            Class<?> beanType, @Nullable ConverterManager converterManager, boolean throwIfNoAnyMatched) {
+            super(beanType, converterManager, throwIfNoAnyMatched);
+        }
+
+        /**
+         * Create {@link MethodInvoker} according to the specified method.
+         *
+         * @param propertyName property name
+         * @param method getter method or setter method
+         * @return {@link MethodInvoker}
+         */
+        @Override
+        protected MethodInvoker createInvokerForMethod(String propertyName, Method method) {
+            if (!isSupported(method)) {
+                return fallbackInvokerForMethod(propertyName, method);
+            }
+            return CollectionUtils.computeIfAbsent(
+                    LAMBDA_INVOKERS.get(method.getDeclaringClass()), method, LambdaMetafactoryPropDesc::spinInvoker)
+                .orElseGet(() -> fallbackInvokerForMethod(propertyName, method));
+        }
+
+        private static Optional<MethodInvoker> spinInvoker(Method method) {
+            return Try.<Optional<MethodInvoker>>of(() -> Optional.of(method.getParameterCount() > 0 ?
+                    new LambdaSetter(spinSetter(method)) : new LambdaGetter(spinGetter(method))))
+                .getOrElseGet(e -> {
+                    log.debug("cannot generate lambda for method: {}", method, e);
+                    return Optional.empty();
+                });
+        }
+
+        private MethodInvoker fallbackInvokerForMethod(String propertyName, Method method) {
+            return super.createInvokerForMethod(propertyName, method);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Function<Object, Object> spinGetter(Method method) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup, "apply", MethodType.methodType(Function.class),
+                GETTER_TYPE, handle, handle.type().wrap()
+            );
+            return (Function<Object, Object>)callSite.getTarget().invokeExact();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static BiConsumer<Object, Object> spinSetter(Method method) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup, "accept", MethodType.methodType(BiConsumer.class),
+                SETTER_TYPE, handle, handle.type().wrap().changeReturnType(void.class)
+            );
+            return (BiConsumer<Object, Object>)callSite.getTarget().invokeExact();
+        }
+
+        /**
+         * Whether the implementation of the method can be generated,
+         * the types used by the method must be visible to the class loader of crane4j,
+         * because the generated class is defined in it.
+         */
+        private static boolean isSupported(Method method) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 1) {
+                return false;
+            }
+            if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+                return false;
+            }
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                if (!isVisible(parameterType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isVisible(Class<?> type) {
+            if (type.isPrimitive()) {
+                return true;
+            }
+            ClassLoader classLoader = LambdaMetafactoryPropertyOperator.class.getClassLoader();
+            try {
+                return Class.forName(type.getName(), false, classLoader) == type;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Getter based on {@link Function} generated by {@link LambdaMetafactory}.
+     *
+     * @author huangchengxing
+     */
+    @RequiredArgsConstructor
+    public static class LambdaGetter implements MethodInvoker {
+
+        private final Function<Object, Object> getter;
+
+        /**
+         * Invoke method.
+         *
+         * @param target target
+         * @param args args
+         * @return result of invoking
+         */
+        @Override
+        public Object invoke(Object target, @Nullable Object... args) {
+            return getter.apply(target);
+        }
+    }
+
+    /**
+     * Setter based on {@link BiConsumer} generated by {@link LambdaMetafactory}.
+     *
+     * @author huangchengxing
+     */
+    @RequiredArgsConstructor
+    public static class LambdaSetter implements MethodInvoker {
+
+        private final BiConsumer<Object, Object> setter;
+
+        /**
+         * Invoke method.
+         *
+         * @param target target
+         * @param args args
+         * @return null
+         */
+        @Override
+        public Object invoke(Object target, @Nullable Object... args) {
+            setter.accept(target, args[0]);
+            return null;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package cn.crane4j.core.support.reflect;
 import cn.crane4j.core.support.MethodInvoker;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Objects;
+
 /**
  * The property descriptor of the bean.
  *
@@ -28,6 +30,25 @@ public interface PropDesc {
     @Nullable
     MethodInvoker getGetter(String propertyName);
 
+    /**
+     * Get the getter methods of the specified properties at once,
+     * the getter at index {@code i} is the getter of property at index {@code i}.<br />
+     * It is used to resolve the getters of a group of properties before processing a batch of objects,
+     * so that the getters can be accessed by index instead of name for each object.
+     *
+     * @param propertyNames property names, the {@code null} element will be ignored
+     * @return property getters, the element is {@code null} if the getter is not found
+     * @since 2.8.0
+     */
+    default MethodInvoker[] getGetters(String... propertyNames) {
+        MethodInvoker[] getters = new MethodInvoker[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            String propertyName = propertyNames[i];
+            getters[i] = Objects.isNull(propertyName) ? null : getGetter(propertyName);
+        }
+        return getters;
+    }
+
     /**
      * Get the specified property value.
      *
@@ -49,6 +70,24 @@ public interface PropDesc {
     @Nullable
     MethodInvoker getSetter(String propertyName);
 
+    /**
+     * Get the setter methods of the specified properties at once,
+     * the setter at index {@code i} is the setter of property at index {@code i}.
+     *
+     * @param propertyNames property names, the {@code null} element will be ignored
+     * @return property setters, the element is {@code null} if the setter is not found
+     * @see #getGetters
+     * @since 2.8.0
+     */
+    default MethodInvoker[] getSetters(String... propertyNames) {
+        MethodInvoker[] setters = new MethodInvoker[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            String propertyName = propertyNames[i];
+            setters[i] = Objects.isNull(propertyName) ? null : getSetter(propertyName);
+        }
+        return setters;
+    }
+
     /**
      * Set the specified property value.
      *
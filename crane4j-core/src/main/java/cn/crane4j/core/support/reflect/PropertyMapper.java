@@ -0,0 +1,21 @@
+package cn.crane4j.core.support.reflect;
+
+/**
+ * A mapper which copies the properties of the source object to the target object
+ * according to a fixed group of property mappings.
+ *
+ * @author huangchengxing
+ * @see PropertyMapperFactory
+ * @since 2.8.0
+ */
+@FunctionalInterface
+public interface PropertyMapper {
+
+    /**
+     * Copy the properties of the source object to the target object.
+     *
+     * @param source source object
+     * @param target target object
+     */
+    void map(Object source, Object target);
+}
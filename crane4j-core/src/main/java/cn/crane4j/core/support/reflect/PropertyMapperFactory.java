@@ -0,0 +1,33 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A factory which creates the {@link PropertyMapper} for the specified property mappings
+ * between the source type and the target type.
+ *
+ * @author huangchengxing
+ * @see ByteBuddyPropertyMapperFactory
+ * @since 2.8.0
+ */
+public interface PropertyMapperFactory {
+
+    /**
+     * Create a mapper which copies the properties of the source type to the target type,
+     * the behavior of the mapper should be the same as mapping properties by the specified strategy.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param propertyMappings property mappings
+     * @param propertyMappingStrategy property mapping strategy
+     * @return mapper, or {@code null} if the property mappings or the strategy are not supported by the factory
+     */
+    @Nullable
+    PropertyMapper createMapper(
+        Class<?> sourceType, Class<?> targetType,
+        Collection<PropertyMapping> propertyMappings, PropertyMappingStrategy propertyMappingStrategy);
+}
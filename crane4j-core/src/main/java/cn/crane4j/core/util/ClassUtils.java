@@ -158,6 +158,47 @@ public class ClassUtils {
         }
     }
 
+    /**
+     * <p>Create an instance of the class which is generated at compile time for the given type.<br />
+     * The generated class is named as the binary name of the given type with the specified suffix,
+     * and loaded by the class loader of the given type.
+     *
+     * @param type type
+     * @param suffix suffix of the generated class name
+     * @param generatedType expected type of the generated class
+     * @param fallback fallback when the generated class exists but cannot be used, usually used for logging
+     * @param <T> expected type of the generated class
+     * @return instance of the generated class, or {@code null} if the generated class not found or cannot be used
+     * @since 2.8.0
+     */
+    @Nullable
+    public static <T> T newGeneratedInstance(
+        Class<?> type, String suffix, Class<T> generatedType, @Nullable Consumer<Throwable> fallback) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (Objects.isNull(classLoader) || type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+        String className = type.getName() + suffix;
+        try {
+            Class<?> generatedClass = Class.forName(className, true, classLoader);
+            if (!generatedType.isAssignableFrom(generatedClass)) {
+                throw new Crane4jException(
+                    "the class [{}] is not the subclass of [{}]", className, generatedType.getName()
+                );
+            }
+            Constructor<?> constructor = generatedClass.getDeclaredConstructor();
+            ReflectUtils.setAccessible(constructor);
+            return generatedType.cast(constructor.newInstance());
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | Crane4jException e) {
+            if (Objects.nonNull(fallback)) {
+                fallback.accept(e);
+            }
+            return null;
+        }
+    }
+
     /**
      * <p>Convert the package path to the resource path.<br />
      * eg: {@code cn.crane4j.core.util.ClassUtils -> cn/crane4j/core/util/ClassUtils}
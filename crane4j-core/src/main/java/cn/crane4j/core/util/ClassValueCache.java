@@ -0,0 +1,33 @@
+package cn.crane4j.core.util;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * <p>A {@link ClassValue} which computes the value of class by the specified function.<br />
+ * Unlike the map which uses {@link Class} as key, the value is stored in the class itself
+ * and released together with the class, so the cache will not prevent the class from being unloaded.<br />
+ * Note that the value should not reference the cache or its owner,
+ * otherwise they will be reachable as long as the class is, it is recommended to use it as a static cache.
+ *
+ * @author huangchengxing
+ * @param <V> value type
+ * @since 2.8.0
+ */
+@RequiredArgsConstructor
+public class ClassValueCache<V> extends ClassValue<V> {
+
+    private final Function<Class<?>, ? extends V> valueFactory;
+
+    /**
+     * Compute the value of the given class.
+     *
+     * @param type type
+     * @return value
+     */
+    @Override
+    protected V computeValue(Class<?> type) {
+        return valueFactory.apply(type);
+    }
+}
@@ -1,5 +1,6 @@
 package cn.crane4j.core.util;
 
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.MapMaker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -382,6 +383,37 @@ public class CollectionUtils {
             .makeMap();
     }
 
+    /**
+     * Create a thread-safe collection whose keys are weakly referenced and compared by identity,
+     * the values are strongly referenced until the keys are collected.
+     *
+     * @return {@link ConcurrentMap}
+     * @since 2.8.0
+     */
+    public static <K, V> ConcurrentMap<K, V> newWeakKeysConcurrentMap() {
+        return new MapMaker()
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .weakKeys()
+            .makeMap();
+    }
+
+    /**
+     * <p>Create a thread-safe collection whose keys and values are strongly referenced,
+     * the keys are compared by {@link Object#equals}.<br />
+     * When the number of entries reaches {@code maximumSize},
+     * the entries which have not been used recently will be evicted.
+     *
+     * @param maximumSize maximum number of entries
+     * @return {@link ConcurrentMap}
+     * @since 2.8.0
+     */
+    public static <K, V> ConcurrentMap<K, V> newBoundedConcurrentMap(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        return CacheBuilder.newBuilder().maximumSize(maximumSize).<K, V>build().asMap();
+    }
+
     /**
      * Adapt a {@link Object} object to {@link Collection}.
      *
@@ -427,8 +459,10 @@ public class CollectionUtils {
     public static <K, V> V computeIfAbsent(Map<K, V> map, K key, Function<? super K, ? extends V> mappingFunction) {
         V value = map.get(key);
         if (null == value) {
-            map.putIfAbsent(key, mappingFunction.apply(key));
-            value = map.get(key);
+            value = mappingFunction.apply(key);
+            // do not read the map again, the entry may have been evicted or collected
+            V prev = map.putIfAbsent(key, value);
+            value = null == prev ? value : prev;
         }
         return value;
     }
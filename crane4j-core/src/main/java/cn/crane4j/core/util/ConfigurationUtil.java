@@ -83,13 +83,33 @@ public class ConfigurationUtil {
         );
         CacheManager cacheManager = configuration.getCacheManager(managerName);
         Asserts.isNotNull(cacheManager, "cacheManager [{}] not found", managerName);
-        CacheDefinition cacheDefinition = new CacheDefinition.Impl(
-            container.getNamespace(), managerName,
-            annotation.expirationTime(), annotation.timeUnit()
-        );
+        CacheDefinition cacheDefinition = createCacheDefinition(container.getNamespace(), managerName, annotation);
         return new CacheableContainer<>(container, cacheDefinition, cacheManager);
     }
 
+    /**
+     * Create cache definition from annotation.
+     *
+     * @param name cache name
+     * @param cacheManager cache manager name
+     * @param annotation annotation
+     * @return cache definition
+     * @since 2.8.0
+     */
+    public static CacheDefinition createCacheDefinition(
+        String name, String cacheManager, ContainerCache annotation) {
+        CacheDefinition.Impl cacheDefinition = new CacheDefinition.Impl(
+            name, cacheManager, annotation.expirationTime(), annotation.timeUnit()
+        );
+        cacheDefinition.setCoalesceLoading(annotation.coalesceLoading());
+        cacheDefinition.setCoalesceTimeout(annotation.coalesceTimeout());
+        cacheDefinition.setNegativeExpireTime(annotation.negativeExpirationTime());
+        cacheDefinition.setRefreshTime(annotation.refreshTime());
+        cacheDefinition.setMaximumSize(annotation.maximumSize());
+        cacheDefinition.setMaximumWeight(annotation.maximumWeight());
+        return cacheDefinition;
+    }
+
     /**
      * Get element identifier.
      *
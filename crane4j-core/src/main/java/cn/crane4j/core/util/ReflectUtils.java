@@ -49,27 +49,29 @@ public class ReflectUtils {
     /**
      * declared field cache
      */
-    private static final Map<Class<?>, Field[]> DECLARED_FIELD_CACHE = CollectionUtils.newWeakConcurrentMap();
+    private static final ClassValueCache<Field[]> DECLARED_FIELD_CACHE = new ClassValueCache<>(Class::getDeclaredFields);
 
     /**
      * field cache
      */
-    private static final Map<Class<?>, Field[]> FIELD_CACHE = CollectionUtils.newWeakConcurrentMap();
+    private static final ClassValueCache<Field[]> FIELD_CACHE = new ClassValueCache<>(ReflectUtils::collectFields);
 
     /**
      * method cache
      */
-    private static final Map<Class<?>, Method[]> DECLARED_METHOD_CACHE = CollectionUtils.newWeakConcurrentMap();
+    private static final ClassValueCache<Method[]> DECLARED_METHOD_CACHE = new ClassValueCache<>(Class::getDeclaredMethods);
 
     /**
      * declared method cache
      */
-    private static final Map<Class<?>, Method[]> METHOD_CACHE = CollectionUtils.newWeakConcurrentMap();
+    private static final ClassValueCache<Method[]> METHOD_CACHE = new ClassValueCache<>(ReflectUtils::collectMethods);
 
     /**
      * declared super class with interface
      */
-    private static final Map<Class<?>, Set<Class<?>>> DECLARED_SUPER_CLASS_WITH_INTERFACE = CollectionUtils.newWeakConcurrentMap();
+    private static final ClassValueCache<Set<Class<?>>> DECLARED_SUPER_CLASS_WITH_INTERFACE = new ClassValueCache<>(
+        ReflectUtils::collectDeclaredSuperClassWithInterface
+    );
 
     // ====================== method ======================
 
@@ -167,7 +169,7 @@ public class ReflectUtils {
      * @return method list
      */
     public static Method[] getDeclaredMethods(Class<?> type) {
-        return CollectionUtils.computeIfAbsent(DECLARED_METHOD_CACHE, type, k -> type.getDeclaredMethods());
+        return DECLARED_METHOD_CACHE.get(type);
     }
 
     /**
@@ -192,11 +194,13 @@ public class ReflectUtils {
      * @see Class#getMethods()
      */
     public static Method[] getMethods(Class<?> type) {
-        return CollectionUtils.computeIfAbsent(METHOD_CACHE, type, curr -> {
-            List<Method> methods = new ArrayList<>();
-            traverseTypeHierarchy(curr, t -> methods.addAll(Arrays.asList(getDeclaredMethods(t))));
-            return methods.toArray(new Method[0]);
-        });
+        return METHOD_CACHE.get(type);
+    }
+
+    private static Method[] collectMethods(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        traverseTypeHierarchy(type, t -> methods.addAll(Arrays.asList(getDeclaredMethods(t))));
+        return methods.toArray(new Method[0]);
     }
 
     /**
@@ -411,15 +415,17 @@ public class ReflectUtils {
      * @return declared super class with interface
      */
     public static Set<Class<?>> getDeclaredSuperClassWithInterface(Class<?> type) {
-        return CollectionUtils.computeIfAbsent(DECLARED_SUPER_CLASS_WITH_INTERFACE, type, k -> {
-            Set<Class<?>> result = new LinkedHashSet<>();
-            Class<?> superClass = type.getSuperclass();
-            if (superClass != null) {
-                result.add(superClass);
-            }
-            result.addAll(Arrays.asList(type.getInterfaces()));
-            return result;
-        });
+        return DECLARED_SUPER_CLASS_WITH_INTERFACE.get(type);
+    }
+
+    private static Set<Class<?>> collectDeclaredSuperClassWithInterface(Class<?> type) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Class<?> superClass = type.getSuperclass();
+        if (superClass != null) {
+            result.add(superClass);
+        }
+        result.addAll(Arrays.asList(type.getInterfaces()));
+        return result;
     }
 
     /**
@@ -469,7 +475,7 @@ public class ReflectUtils {
      * @return field array
      */
     public static Field[] getDeclaredFields(Class<?> type) {
-        return CollectionUtils.computeIfAbsent(DECLARED_FIELD_CACHE, type, Class::getDeclaredFields);
+        return DECLARED_FIELD_CACHE.get(type);
     }
 
     /**
@@ -494,11 +500,13 @@ public class ReflectUtils {
      * @return field array
      */
     public static Field[] getFields(Class<?> type) {
-        return CollectionUtils.computeIfAbsent(FIELD_CACHE, type, t -> {
-            List<Field> fields = new ArrayList<>();
-            traverseTypeHierarchy(t, curr -> fields.addAll(Arrays.asList(getDeclaredFields(curr))));
-            return fields.toArray(new Field[0]);
-        });
+        return FIELD_CACHE.get(type);
+    }
+
+    private static Field[] collectFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        traverseTypeHierarchy(type, curr -> fields.addAll(Arrays.asList(getDeclaredFields(curr))));
+        return fields.toArray(new Field[0]);
     }
 
     /**
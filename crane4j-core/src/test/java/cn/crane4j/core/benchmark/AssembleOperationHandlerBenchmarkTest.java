@@ -0,0 +1,126 @@
+package cn.crane4j.core.benchmark;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.executor.BeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.ConditionalTypeHierarchyBeanOperationParser;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import cn.crane4j.core.support.reflect.ByteBuddyPropertyMapperFactory;
+import lombok.Data;
+import org.junit.Ignore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link cn.crane4j.core.executor.handler.AssembleOperationHandler}基准测试
+ *
+ * 检查对10000个对象执行5个装配操作的平均耗时，单位为微秒，
+ * 并通过{@link GCProfiler}统计每次调用分配的内存，
+ * 通过{@code generatedMapper}对比是否使用{@link ByteBuddyPropertyMapperFactory}生成的映射器
+ *
+ * @author huangchengxing
+ */
+@Ignore
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class AssembleOperationHandlerBenchmarkTest {
+
+    private static final int SIZE = 10000;
+
+    @Param({"false", "true"})
+    private boolean generatedMapper;
+
+    private BeanOperationExecutor executor;
+    private BeanOperations operations;
+    private List<Foo> targets;
+
+    public static void main(String[] args) throws Exception {
+        Options opts = new OptionsBuilder()
+            .include(AssembleOperationHandlerBenchmarkTest.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .build();
+        new Runner(opts).run();
+    }
+
+    @Setup
+    public void setup() {
+        SimpleCrane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.create();
+        Map<Integer, Source> sources = new HashMap<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            sources.put(i, new Source(i));
+        }
+        configuration.registerContainer(Containers.forMap("test", sources));
+        if (generatedMapper) {
+            configuration.getAssembleOperationHandlerMap().values().stream()
+                .filter(OneToOneAssembleOperationHandler.class::isInstance)
+                .map(OneToOneAssembleOperationHandler.class::cast)
+                .forEach(handler -> handler.setPropertyMapperFactory(ByteBuddyPropertyMapperFactory.INSTANCE));
+        }
+        operations = configuration.getBeanOperationsParser(null, ConditionalTypeHierarchyBeanOperationParser.class)
+            .parse(Foo.class);
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        targets = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            targets.add(new Foo(i));
+        }
+    }
+
+    @Benchmark
+    public Object execute() {
+        executor.execute(targets, operations);
+        return targets;
+    }
+
+    @Data
+    public static class Source {
+        private final Integer id;
+        private final String name;
+        private final String code;
+        private final String alias;
+        private final String description;
+        private final String remark;
+
+        public Source(Integer id) {
+            this.id = id;
+            this.name = "name" + id;
+            this.code = "code" + id;
+            this.alias = "alias" + id;
+            this.description = "description" + id;
+            this.remark = "remark" + id;
+        }
+    }
+
+    @Data
+    public static class Foo {
+        @Assemble(container = "test", props = @Mapping(src = "name", ref = "name"))
+        private final Integer id;
+        @Assemble(key = "id", container = "test", props = @Mapping(src = "code", ref = "code"))
+        private String code;
+        @Assemble(key = "id", container = "test", props = @Mapping(src = "alias", ref = "alias"))
+        private String alias;
+        @Assemble(key = "id", container = "test", props = @Mapping(src = "description", ref = "description"))
+        private String description;
+        @Assemble(key = "id", container = "test", props = @Mapping(src = "remark", ref = "remark"))
+        private String remark;
+        private String name;
+    }
+}
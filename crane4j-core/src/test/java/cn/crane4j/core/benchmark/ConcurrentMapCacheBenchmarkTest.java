@@ -0,0 +1,93 @@
+package cn.crane4j.core.benchmark;
+
+import cn.crane4j.core.util.CollectionUtils;
+import org.junit.Ignore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以字符串为键的缓存基准测试
+ *
+ * 模拟属性名或表达式每次都以新的字符串实例传入缓存的场景，
+ * 比较弱引用缓存{@link CollectionUtils#newWeakConcurrentMap()}
+ * 与有界缓存{@link CollectionUtils#newBoundedConcurrentMap(int)}的平均耗时与命中率，
+ * 其中命中率为 hit / (hit + miss)。
+ * 有界缓存容量为{@link #MAXIMUM_SIZE}，当键数量{@link #keyCount}大于容量时，
+ * 以少量热点键被频繁访问的偏斜分布访问键，以观察淘汰策略对命中率的影响
+ *
+ * @author huangchengxing
+ */
+@Ignore
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ConcurrentMapCacheBenchmarkTest {
+
+    private static final int MAXIMUM_SIZE = 256;
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    @Param({"weak", "bounded"})
+    private String cacheType;
+
+    @Param({"64", "1024"})
+    private int keyCount;
+
+    private Map<String, String[]> cache;
+
+    private String[] keys;
+    private int[] accesses;
+    private int index;
+
+    public static void main(String[] args) throws Exception {
+        Options opts = new OptionsBuilder()
+            .include(ConcurrentMapCacheBenchmarkTest.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .build();
+        new Runner(opts).run();
+    }
+
+    @Setup
+    public void setup() {
+        cache = "weak".equals(cacheType) ?
+            CollectionUtils.newWeakConcurrentMap() : CollectionUtils.newBoundedConcurrentMap(MAXIMUM_SIZE);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "property" + i + ".value";
+        }
+        // the smaller the index, the more frequently the key is accessed
+        Random random = new Random(keyCount);
+        accesses = new int[ACCESS_COUNT];
+        for (int i = 0; i < ACCESS_COUNT; i++) {
+            accesses[i] = (int)(keyCount * Math.pow(random.nextDouble(), 3));
+        }
+    }
+
+    @Benchmark
+    public String[] computeIfAbsent(Counter counter) {
+        // the key is equal to the cached one but not the same instance
+        String key = new String(keys[accesses[index++ & (ACCESS_COUNT - 1)]]);
+        counter.hit++;
+        return CollectionUtils.computeIfAbsent(cache, key, k -> {
+            counter.hit--;
+            counter.miss++;
+            return k.split("\\.");
+        });
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counter {
+        public long hit;
+        public long miss;
+    }
+}
@@ -2,9 +2,11 @@ package cn.crane4j.core.benchmark;
 
 import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.reflect.AsmReflectivePropertyOperator;
+import cn.crane4j.core.support.reflect.LambdaMetafactoryPropertyOperator;
 import cn.crane4j.core.support.reflect.MethodHandlePropertyOperator;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import lombok.Getter;
 import lombok.Setter;
 import org.junit.Ignore;
 import org.openjdk.jmh.annotations.*;
@@ -36,16 +38,19 @@ public class PropertyOperatorBenchmarkTest {
 
     private static final String VALUE = "value";
 
+    @Getter
     @Setter
     private String value = "value";
 
     private MethodInvoker reflectGetter;
     private MethodInvoker reflectAsmGetter;
     private MethodInvoker methodHandleGetter;
+    private MethodInvoker lambdaGetter;
 
     private MethodInvoker reflectSetter;
     private MethodInvoker reflectAsmSetter;
     private MethodInvoker methodHandleSetter;
+    private MethodInvoker lambdaSetter;
 
     public static void main(String[] args) throws Exception {
         Options opts = new OptionsBuilder()
@@ -68,6 +73,10 @@ public class PropertyOperatorBenchmarkTest {
         MethodHandlePropertyOperator methodHandlePropertyOperator = new MethodHandlePropertyOperator();
         methodHandleGetter = methodHandlePropertyOperator.findGetter(getClass(), VALUE);
         methodHandleSetter = methodHandlePropertyOperator.findSetter(getClass(), VALUE);
+
+        LambdaMetafactoryPropertyOperator lambdaMetafactoryPropertyOperator = new LambdaMetafactoryPropertyOperator();
+        lambdaGetter = lambdaMetafactoryPropertyOperator.findGetter(getClass(), VALUE);
+        lambdaSetter = lambdaMetafactoryPropertyOperator.findSetter(getClass(), VALUE);
     }
 
     @Benchmark
@@ -90,6 +99,19 @@ public class PropertyOperatorBenchmarkTest {
         return methodHandleGetter.invoke(this);
     }
 
+    @Benchmark
+    public Object lambdaGet() {
+        return lambdaGetter.invoke(this);
+    }
+
+    /**
+     * 属性描述符被GC回收后重新查找getter，每次都使用新的操作者以模拟描述符缓存失效的情况
+     */
+    @Benchmark
+    public Object lambdaFindGetterAfterGc() {
+        return new LambdaMetafactoryPropertyOperator().findGetter(getClass(), VALUE);
+    }
+
     @Benchmark
     public void directSet() {
         value = VALUE;
@@ -109,4 +131,9 @@ public class PropertyOperatorBenchmarkTest {
     public void methodHandleSet() {
         methodHandleSetter.invoke(this, VALUE);
     }
+
+    @Benchmark
+    public void lambdaSet() {
+        lambdaSetter.invoke(this, VALUE);
+    }
 }
@@ -4,11 +4,14 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * @author huangchengxing
@@ -25,6 +28,15 @@ public abstract class BaseCacheManagerTest {
 
     protected abstract void initManager();
 
+    /**
+     * Whether the evictions of cache are recorded to the statistics.
+     *
+     * @return true if recorded, false if the count of evictions is unknown
+     */
+    protected boolean isEvictionRecorded() {
+        return false;
+    }
+
     @Test
     public void testManager() {
         // create & get
@@ -90,4 +102,59 @@ public abstract class BaseCacheManagerTest {
         Assert.assertNull(cache.get("test"));
         Assert.assertNull(cache.get("test2"));
     }
+
+    @Test
+    public void testNegativeCache() {
+        CacheDefinition.Impl definition = new CacheDefinition.Impl("negative", null, 10000L, TimeUnit.MILLISECONDS);
+        definition.setNegativeExpireTime(100L);
+        CacheObject<String> negativeCache = cacheManager.createCache(definition);
+        negativeCache.putNegative("test");
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, negativeCache.get("test"));
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, negativeCache.getAll(Collections.singletonList("test")).get("test"));
+        // negative cache expired
+        LockSupport.parkNanos(Thread.currentThread(), 300L * 1000 * 1000);
+        Assert.assertNull(negativeCache.get("test"));
+
+        // negative cache is disabled
+        cache.putNegative("test");
+        Assert.assertNull(cache.get("test"));
+    }
+
+    @Test
+    public void testResolveExpiredNegativeEntryAfterValueIsPut() {
+        CacheDefinition.Impl definition = new CacheDefinition.Impl("negative", null, 10000L, TimeUnit.MILLISECONDS);
+        definition.setNegativeExpireTime(100L);
+        CacheObject<String> negativeCache = cacheManager.createCache(definition);
+        Assert.assertTrue(negativeCache instanceof AbstractCacheManager.AbstractCacheObject);
+
+        // the expired entry is read, then a new value is put by other thread before it is removed
+        AbstractCacheManager.NegativeEntry expired = new AbstractCacheManager.NegativeEntry(System.currentTimeMillis() - 1L);
+        Object value = new Object();
+        negativeCache.put("test", value);
+        Assert.assertNull(((AbstractCacheManager.AbstractCacheObject<String>)negativeCache).resolveValue("test", expired));
+        Assert.assertSame(value, negativeCache.get("test"));
+    }
+
+    @Test
+    public void testStatistics() {
+        List<CacheStatistics> created = new ArrayList<>();
+        cacheManager.addStatisticsListener(created::add);
+        Assert.assertFalse(created.isEmpty());
+        Assert.assertEquals(cacheManager.getAllStatistics().size(), created.size());
+
+        CacheObject<String> cacheObject = cacheManager.createCache("statistics", -1L, TimeUnit.MILLISECONDS);
+        CacheStatistics statistics = cacheManager.getStatistics("statistics");
+        Assert.assertNotNull(statistics);
+        Assert.assertEquals("statistics", statistics.getName());
+        Assert.assertSame(statistics, cacheObject.getStatistics());
+        Assert.assertSame(statistics, created.get(created.size() - 1));
+        Assert.assertNull(cacheManager.getStatistics("none"));
+        // the count of evictions is -1 if it is unknown
+        Assert.assertEquals(isEvictionRecorded() ? 0L : -1L, statistics.getEvictionCount());
+
+        // statistics is shared by the recreated cache
+        CacheObject<String> newCacheObject = cacheManager.createCache("statistics", -1L, TimeUnit.MILLISECONDS);
+        Assert.assertSame(statistics, newCacheObject.getStatistics());
+        Assert.assertEquals(created.size(), cacheManager.getAllStatistics().size());
+    }
 }
@@ -1,6 +1,7 @@
 package cn.crane4j.core.cache;
 
 import cn.crane4j.annotation.ContainerCache;
+import cn.crane4j.core.container.BatchingContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerDefinition;
 import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
@@ -11,6 +12,7 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -41,6 +43,23 @@ public class CacheableContainerProcessorTest {
         Assert.assertFalse(container instanceof CacheableContainer);
     }
 
+    @Test
+    public void testRefreshExecutor() {
+        TestContainer testContainer = new TestContainer();
+        Container<Object> container = processor.whenCreated(
+            ContainerDefinition.create("test", "test", () -> testContainer), testContainer
+        );
+        Executor defaultExecutor = ((CacheableContainer<?>) container).getRefreshExecutor();
+
+        Executor executor = Runnable::run;
+        processor.setRefreshExecutor(executor);
+        container = processor.whenCreated(
+            ContainerDefinition.create("test", "test", () -> testContainer), testContainer
+        );
+        Assert.assertSame(executor, ((CacheableContainer<?>) container).getRefreshExecutor());
+        Assert.assertNotSame(defaultExecutor, executor);
+    }
+
     @Test
     public void testAnnotation() {
         TestContainer testContainer = new TestContainer();
@@ -56,6 +75,17 @@ public class CacheableContainerProcessorTest {
         Assert.assertEquals(TimeUnit.SECONDS, definition.getTimeUnit());
     }
 
+    @Test
+    public void testAnnotationOnDelegatedContainer() {
+        BatchingContainer<Object> batchingContainer = new BatchingContainer<>(new TestContainer(), 10L, TimeUnit.MILLISECONDS, 10);
+        Container<Object> container = processor.whenCreated(
+            ContainerDefinition.create("test", "test", () -> batchingContainer), batchingContainer
+        );
+        Assert.assertTrue(container instanceof CacheableContainer);
+        Assert.assertSame(batchingContainer, ((CacheableContainer<?>) container).getContainer());
+        Assert.assertEquals(1000L, ((CacheableContainer<?>) container).getCacheDefinition().getExpireTime().longValue());
+    }
+
     @Getter
     @ContainerCache(
         expirationTime = 1000L,
@@ -1,16 +1,37 @@
 package cn.crane4j.core.cache;
 
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.util.ReflectUtils;
+import com.google.common.cache.Cache;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * test for {@link CacheableContainer}
@@ -74,6 +95,309 @@ public class CacheableContainerTest {
         Assert.assertNotSame(cacheA, newData.get("a"));
     }
 
+    @Test
+    public void getWithCoalesceLoading() throws Exception {
+        BlockingContainer blockingContainer = new BlockingContainer();
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            blockingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setCoalesceLoading(true);
+        definition.setCoalesceTimeout(5000L);
+        CacheableContainer<String> container = new CacheableContainer<>(blockingContainer, definition, cacheManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, ?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> container.get(Arrays.asList("a", "b"))));
+            }
+            // wait until all threads are waiting for the first load
+            Assert.assertTrue(blockingContainer.started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200L);
+            blockingContainer.release.countDown();
+            for (Future<Map<String, ?>> future : futures) {
+                Map<String, ?> result = future.get(5, TimeUnit.SECONDS);
+                Assert.assertEquals("a", result.get("a"));
+                Assert.assertEquals("b", result.get("b"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, blockingContainer.calls.get());
+    }
+
+    @Test
+    public void getWithCoalesceLoadingTimeout() throws Exception {
+        BlockingContainer blockingContainer = new BlockingContainer();
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            blockingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setCoalesceLoading(true);
+        definition.setCoalesceTimeout(100L);
+        CacheableContainer<String> container = new CacheableContainer<>(blockingContainer, definition, cacheManager);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, ?>> blocked = executor.submit(() -> container.get(Collections.singletonList("a")));
+            Assert.assertTrue(blockingContainer.started.await(5, TimeUnit.SECONDS));
+            // fallback to load from container directly after timeout
+            Map<String, ?> result = container.get(Collections.singletonList("a"));
+            Assert.assertEquals("a", result.get("a"));
+            Assert.assertEquals(2, blockingContainer.calls.get());
+            blockingContainer.release.countDown();
+            Assert.assertEquals("a", blocked.get(5, TimeUnit.SECONDS).get("a"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getWithCoalesceLoadingWhenCachedByPreviousLoader() {
+        List<Collection<String>> requests = new ArrayList<>();
+        Container<String> recordingContainer = LambdaContainer.forLambda("coalesce", keys -> {
+            requests.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+        });
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            recordingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setCoalesceLoading(true);
+        definition.setNegativeExpireTime(-1L);
+        CacheableContainer<String> container = new CacheableContainer<String>(recordingContainer, definition, cacheManager) {
+            @Override
+            protected Map<String, Object> loadFromContainer(CacheObject<String> cache, Collection<String> keys) {
+                // the keys are cached by the previous loader after this thread missed the cache
+                cache.put("a", "a");
+                cache.putNegative("c");
+                return super.loadFromContainer(cache, keys);
+            }
+        };
+
+        Map<String, ?> result = container.get(Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals("a", result.get("a"));
+        Assert.assertEquals("b", result.get("b"));
+        Assert.assertEquals(Collections.singletonList(Collections.singletonList("b")), requests);
+    }
+
+    @Test
+    public void getWithNegativeCache() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Container<String> countingContainer = LambdaContainer.forLambda("absent", keys -> {
+            calls.incrementAndGet();
+            return Collections.emptyMap();
+        });
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            countingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setNegativeExpireTime(-1L);
+        CacheableContainer<String> container = new CacheableContainer<>(countingContainer, definition, cacheManager);
+
+        Assert.assertTrue(container.get(Collections.singletonList("a")).isEmpty());
+        Assert.assertTrue(container.get(Collections.singletonList("a")).isEmpty());
+        Assert.assertEquals(1, calls.get());
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, container.getCurrentCache().get("a"));
+    }
+
+    @Test
+    public void getWithRefreshAhead() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Container<String> countingContainer = LambdaContainer.forLambda("refresh", keys -> keys.stream()
+            .collect(Collectors.toMap(Function.identity(), k -> k + calls.incrementAndGet())));
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            countingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setRefreshTime(100L);
+        CacheableContainer<String> container = new CacheableContainer<>(countingContainer, definition, cacheManager);
+        container.setRefreshExecutor(Runnable::run);
+
+        Assert.assertEquals("a1", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals("a1", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(1, calls.get());
+
+        // stale value is returned, and refreshed in background
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        Assert.assertEquals("a1", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals("a2", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void getWithRefreshAheadWhenKeyRemovedFromSource() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Set<String> sources = ConcurrentHashMap.newKeySet();
+        sources.add("a");
+        Container<String> countingContainer = LambdaContainer.forLambda("refresh", keys -> {
+            calls.incrementAndGet();
+            return keys.stream().filter(sources::contains)
+                .collect(Collectors.toMap(Function.identity(), Function.identity()));
+        });
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            countingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setRefreshTime(100L);
+        CacheableContainer<String> container = new CacheableContainer<>(countingContainer, definition, cacheManager);
+        container.setRefreshExecutor(Runnable::run);
+
+        Assert.assertEquals("a", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(1, calls.get());
+
+        // the key is removed from source, the stale value is removed when refreshing
+        sources.remove("a");
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        Assert.assertEquals("a", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(2, calls.get());
+        Assert.assertNull(container.getCurrentCache().get("a"));
+        Cache<String, Long> deadlines = ReflectUtils.getFieldValue(container, "refreshDeadlines");
+        Assert.assertNotNull(deadlines);
+        Assert.assertNull(deadlines.getIfPresent("a"));
+
+        // the key is loaded again as a cache miss
+        Assert.assertTrue(container.get(Collections.singletonList("a")).isEmpty());
+        Assert.assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void getWithRefreshAheadAndNegativeCache() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Set<String> sources = ConcurrentHashMap.newKeySet();
+        sources.add("a");
+        Container<String> countingContainer = LambdaContainer.forLambda("refresh", keys -> {
+            calls.incrementAndGet();
+            return keys.stream().filter(sources::contains)
+                .collect(Collectors.toMap(Function.identity(), Function.identity()));
+        });
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            countingContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setRefreshTime(100L);
+        definition.setNegativeExpireTime(-1L);
+        CacheableContainer<String> container = new CacheableContainer<>(countingContainer, definition, cacheManager);
+        container.setRefreshExecutor(Runnable::run);
+
+        // negative cache is not scheduled to refresh
+        Assert.assertTrue(container.get(Collections.singletonList("b")).isEmpty());
+        Cache<String, Long> deadlines = ReflectUtils.getFieldValue(container, "refreshDeadlines");
+        Assert.assertNotNull(deadlines);
+        Assert.assertNull(deadlines.getIfPresent("b"));
+        Assert.assertEquals("a", container.get(Collections.singletonList("a")).get("a"));
+        Assert.assertEquals(2, calls.get());
+
+        // the key removed from source is replaced by negative cache when refreshing
+        sources.remove("a");
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        Assert.assertEquals("a", container.get(Arrays.asList("a", "b")).get("a"));
+        Assert.assertEquals(3, calls.get());
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, container.getCurrentCache().get("a"));
+        Assert.assertNull(deadlines.getIfPresent("a"));
+        Assert.assertNull(deadlines.getIfPresent("b"));
+
+        // negative caches are not sent to the source again
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        Assert.assertTrue(container.get(Arrays.asList("a", "b")).isEmpty());
+        Assert.assertEquals(3, calls.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void getDefaultRefreshExecutor() {
+        Executor executor = cacheableContainer.getRefreshExecutor();
+        Assert.assertNotSame(ForkJoinPool.commonPool(), executor);
+        Assert.assertTrue(executor instanceof ThreadPoolExecutor);
+        // the pending refreshes are bounded
+        Assert.assertTrue(((ThreadPoolExecutor)executor).getQueue().remainingCapacity() < Integer.MAX_VALUE);
+        // the executor is shared by all containers
+        CacheableContainer<String> other = new CacheableContainer<>(
+            container, cacheableContainer.getCacheDefinition(), cacheManager
+        );
+        Assert.assertSame(executor, other.getRefreshExecutor());
+
+        // the refresh is performed in daemon thread
+        CompletableFuture<Thread> future = new CompletableFuture<>();
+        executor.execute(() -> future.complete(Thread.currentThread()));
+        Thread thread = future.get(1L, TimeUnit.SECONDS);
+        Assert.assertTrue(thread.isDaemon());
+        Assert.assertTrue(thread.getName().startsWith("crane4j-cache-refresh-executor-"));
+    }
+
+    @Test
+    public void getWithRefreshAheadWhenNoExpireTime() {
+        Container<String> identityContainer = LambdaContainer.forLambda("refresh", keys -> keys.stream()
+            .collect(Collectors.toMap(Function.identity(), Function.identity())));
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(
+            identityContainer.getNamespace(), null, -1L, TimeUnit.MILLISECONDS
+        );
+        definition.setRefreshTime(100L);
+        definition.setMaximumSize(2L);
+        CacheableContainer<String> container = new CacheableContainer<>(identityContainer, definition, cacheManager);
+        container.setRefreshExecutor(Runnable::run);
+
+        container.get(Arrays.asList("a", "b", "c", "d", "e"));
+        container.get(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        // refresh deadlines are bounded by maximum size of the definition even if no expire time
+        Cache<String, Long> deadlines = ReflectUtils.getFieldValue(container, "refreshDeadlines");
+        Assert.assertNotNull(deadlines);
+        Assert.assertTrue(deadlines.size() <= 2L);
+    }
+
+    @Test
+    public void getWithStatistics() {
+        cacheableContainer.get(Arrays.asList("a", "b"));
+        cacheableContainer.get(Arrays.asList("a", "b", "c"));
+        CacheStatistics statistics = cacheManager.getStatistics(container.getNamespace());
+        Assert.assertNotNull(statistics);
+        Assert.assertSame(statistics, cacheableContainer.getCurrentCache().getStatistics());
+        Assert.assertEquals(2L, statistics.getHitCount());
+        Assert.assertEquals(3L, statistics.getMissCount());
+        Assert.assertEquals(5L, statistics.getRequestCount());
+        Assert.assertEquals(0.4D, statistics.getHitRate(), 0.0001D);
+        Assert.assertEquals(2L, statistics.getLoadSuccessCount());
+        Assert.assertEquals(0L, statistics.getLoadFailureCount());
+        Assert.assertTrue(statistics.getTotalLoadTime() > 0L);
+        Assert.assertEquals(3L, statistics.getSize());
+
+        // statistics is retained after the cache is recreated
+        cacheManager.removeCache(container.getNamespace());
+        cacheableContainer.get(Collections.singletonList("a"));
+        Assert.assertSame(statistics, cacheManager.getStatistics(container.getNamespace()));
+        Assert.assertEquals(4L, statistics.getMissCount());
+        Assert.assertEquals(1L, statistics.getSize());
+
+        // load failed
+        CacheableContainer<String> failedContainer = new CacheableContainer<>(
+            LambdaContainer.forLambda("failed", keys -> {
+                throw new IllegalStateException("failed");
+            }),
+            new CacheDefinition.Impl("failed", null, -1L, TimeUnit.MILLISECONDS), cacheManager
+        );
+        List<String> keys = Collections.singletonList("a");
+        Assert.assertThrows(IllegalStateException.class, () -> failedContainer.get(keys));
+        CacheStatistics failedStatistics = cacheManager.getStatistics("failed");
+        Assert.assertNotNull(failedStatistics);
+        Assert.assertEquals(1L, failedStatistics.getLoadFailureCount());
+    }
+
+    private static class BlockingContainer implements Container<String> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger(0);
+        @Override
+        public String getNamespace() {
+            return "blocking";
+        }
+        @SneakyThrows
+        @Override
+        public Map<String, ?> get(Collection<String> keys) {
+            // only the first call will be blocked
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+        }
+    }
+
     @Getter
     private static class TestContainer implements Container<String>, Container.Lifecycle {
         private final String namespace = "test";
@@ -0,0 +1,102 @@
+package cn.crane4j.core.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * test for {@link CaffeineCacheManager}
+ *
+ * @author huangchengxing
+ */
+public class CaffeineCacheManagerTest extends BaseCacheManagerTest {
+
+    @Override
+    protected void initManager() {
+        cacheManager = new CaffeineCacheManager();
+        cache = cacheManager.createCache("test", -1L, null);
+        Assert.assertEquals(CacheManager.DEFAULT_CAFFEINE_CACHE_MANAGER_NAME, cacheManager.getName());
+    }
+
+    @Override
+    protected boolean isEvictionRecorded() {
+        return true;
+    }
+
+    @Test
+    public void testExpire() {
+        CacheObject<Object> cacheObject = cacheManager.createCache("test", 200L, TimeUnit.MILLISECONDS);
+        Assert.assertFalse(cacheObject.isInvalid());
+        cacheObject.put("test", "test");
+        Assert.assertEquals("test", cacheObject.get("test"));
+        LockSupport.parkNanos(Thread.currentThread(), 400L * 1000 * 1000);
+        Assert.assertNull(cacheObject.get("test"));
+    }
+
+    @Test
+    public void testMaximumSize() {
+        CacheDefinition.Impl definition = new CacheDefinition.Impl("test", null, -1L, TimeUnit.MILLISECONDS);
+        definition.setMaximumSize(10L);
+        CacheObject<Integer> cacheObject = cacheManager.createCache(definition);
+        List<Integer> keys = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        keys.forEach(key -> cacheObject.put(key, key));
+        Assert.assertTrue(waitUntilBounded(cacheObject, keys, 10));
+
+        // evictions are recorded to statistics asynchronously
+        CacheStatistics statistics = cacheObject.getStatistics();
+        long deadline = System.currentTimeMillis() + 3000L;
+        while (statistics.getEvictionCount() < 90L && System.currentTimeMillis() < deadline) {
+            LockSupport.parkNanos(Thread.currentThread(), 10L * 1000 * 1000);
+        }
+        Assert.assertEquals(90L, statistics.getEvictionCount());
+        Assert.assertTrue(statistics.getSize() <= 10L);
+    }
+
+    @Test
+    public void testDefaultMaximumSize() {
+        CaffeineCacheManager manager = (CaffeineCacheManager)cacheManager;
+        manager.setDefaultMaximumSize(5L);
+        Assert.assertEquals(5L, manager.getDefaultMaximumSize());
+        CacheObject<Integer> cacheObject = manager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        List<Integer> keys = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        keys.forEach(key -> cacheObject.put(key, key));
+        Assert.assertTrue(waitUntilBounded(cacheObject, keys, 5));
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        CaffeineCacheManager manager = (CaffeineCacheManager)cacheManager;
+        manager.registerWeigher("test", (k, v) -> 5);
+        CacheDefinition.Impl definition = new CacheDefinition.Impl("test", null, -1L, TimeUnit.MILLISECONDS);
+        definition.setMaximumSize(100L);
+        definition.setMaximumWeight(20L);
+        CacheObject<Integer> cacheObject = manager.createCache(definition);
+        List<Integer> keys = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        keys.forEach(key -> cacheObject.put(key, key));
+        Assert.assertTrue(waitUntilBounded(cacheObject, keys, 4));
+
+        // negative entries are weighed as 1
+        definition.setNegativeExpireTime(-1L);
+        CacheObject<Integer> negativeCacheObject = manager.createCache(definition);
+        keys.subList(0, 20).forEach(negativeCacheObject::putNegative);
+        Assert.assertTrue(waitUntilBounded(negativeCacheObject, keys, 20));
+        Assert.assertFalse(negativeCacheObject.getAll(keys).isEmpty());
+    }
+
+    private static boolean waitUntilBounded(CacheObject<Integer> cacheObject, List<Integer> keys, int bound) {
+        // eviction of caffeine is performed asynchronously
+        long deadline = System.currentTimeMillis() + 3000L;
+        while (System.currentTimeMillis() < deadline) {
+            if (cacheObject.getAll(keys).size() <= bound) {
+                return true;
+            }
+            LockSupport.parkNanos(Thread.currentThread(), 10L * 1000 * 1000);
+        }
+        return false;
+    }
+}
@@ -1,8 +1,14 @@
 package cn.crane4j.core.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 
@@ -22,6 +28,48 @@ public class GuavaCacheManagerTest extends BaseCacheManagerTest {
         Assert.assertEquals(CacheManager.DEFAULT_GUAVA_CACHE_MANAGER_NAME, cacheManager.getName());
     }
 
+    @Override
+    protected boolean isEvictionRecorded() {
+        return true;
+    }
+
+    @Test
+    public void testEvictionStatistics() {
+        // the expired values are evicted when the segment is cleaned up by a write
+        GuavaCacheManager manager = new GuavaCacheManager();
+        manager.setCacheFactory((GuavaCacheManager.RemovalAwareCacheFactory)(expireTime, timeUnit, listener) ->
+            CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(expireTime, timeUnit)
+                .removalListener(listener).build()
+        );
+        CacheObject<Object> cacheObject = manager.createCache("eviction", 100L, TimeUnit.MILLISECONDS);
+        CacheStatistics statistics = cacheObject.getStatistics();
+        cacheObject.put("a", "a");
+        cacheObject.put("b", "b");
+        cacheObject.put("c", "c");
+        // the removal by user is not an eviction
+        cacheObject.remove("c");
+        Assert.assertEquals(0L, statistics.getEvictionCount());
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        cacheObject.put("d", "d");
+        Assert.assertEquals(2L, statistics.getEvictionCount());
+
+        // the evictions are unknown if the cache factory does not notify the removals
+        manager.setCacheFactory((expireTime, timeUnit) -> CacheBuilder.newBuilder().build());
+        statistics = manager.createCache("none", 100L, TimeUnit.MILLISECONDS).getStatistics();
+        Assert.assertEquals(-1L, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testDefaultCacheFactory() {
+        List<RemovalCause> causes = new ArrayList<>();
+        Cache<Object, Object> cache = GuavaCacheManager.DefaultCacheFactory.INSTANCE
+            .getCache(100L, TimeUnit.MILLISECONDS, notification -> causes.add(notification.getCause()));
+        cache.put("a", "a");
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        cache.cleanUp();
+        Assert.assertEquals(Collections.singletonList(RemovalCause.EXPIRED), causes);
+    }
+
     @Test
     public void testExpire() {
         CacheObject<Object> cacheObject = cacheManager.createCache("test", 200L, TimeUnit.MILLISECONDS);
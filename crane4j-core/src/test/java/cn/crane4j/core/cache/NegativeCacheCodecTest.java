@@ -0,0 +1,41 @@
+package cn.crane4j.core.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * test for {@link NegativeCacheCodec}
+ *
+ * @author huangchengxing
+ */
+public class NegativeCacheCodecTest {
+
+    @Test
+    public void encode() {
+        Object value = new Object();
+        Assert.assertSame(value, NegativeCacheCodec.encode(value));
+        Assert.assertEquals("value", NegativeCacheCodec.encode("value"));
+        Assert.assertNull(NegativeCacheCodec.encode(null));
+        // escape the value which starts with the reserved prefix
+        Assert.assertEquals(
+            NegativeCacheCodec.RESERVED_PREFIX + NegativeCacheCodec.NEGATIVE_CACHE_VALUE,
+            NegativeCacheCodec.encode(NegativeCacheCodec.NEGATIVE_CACHE_VALUE)
+        );
+    }
+
+    @Test
+    public void decode() {
+        Object value = new Object();
+        Assert.assertSame(value, NegativeCacheCodec.decode(value));
+        Assert.assertEquals("value", NegativeCacheCodec.decode("value"));
+        Assert.assertNull(NegativeCacheCodec.decode(null));
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, NegativeCacheCodec.decode(NegativeCacheCodec.NEGATIVE_CACHE_VALUE));
+        // the escaped value is restored
+        String reserved = NegativeCacheCodec.RESERVED_PREFIX + "value";
+        Assert.assertEquals(reserved, NegativeCacheCodec.decode(NegativeCacheCodec.encode(reserved)));
+        Assert.assertEquals(
+            NegativeCacheCodec.NEGATIVE_CACHE_VALUE,
+            NegativeCacheCodec.decode(NegativeCacheCodec.encode(NegativeCacheCodec.NEGATIVE_CACHE_VALUE))
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package cn.crane4j.core.cache;
+
+import cn.crane4j.core.exception.Crane4jException;
+import lombok.RequiredArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * test for {@link TwoLevelCacheManager}
+ *
+ * @author huangchengxing
+ */
+public class TwoLevelCacheManagerTest extends BaseCacheManagerTest {
+
+    @Override
+    protected void initManager() {
+        cacheManager = new TwoLevelCacheManager(
+            AbstractMapCacheManager.newConcurrentHashMapCacheManager(), TwoLevelCacheManager.InvalidationBroadcaster.NONE, 100L
+        );
+        cache = cacheManager.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(cacheManager.getClass().getSimpleName(), cacheManager.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvalidationFanOut() {
+        // remote cache managers of different nodes share the same storage
+        Map<Object, Object> storage = new ConcurrentHashMap<>();
+        LocalBroadcaster broadcaster = new LocalBroadcaster();
+        CacheManager local1 = AbstractMapCacheManager.newConcurrentHashMapCacheManager();
+        CacheManager local2 = AbstractMapCacheManager.newConcurrentHashMapCacheManager();
+        TwoLevelCacheManager node1 = new TwoLevelCacheManager(local1, new SharedMapCacheManager(storage), broadcaster);
+        TwoLevelCacheManager node2 = new TwoLevelCacheManager(local2, new SharedMapCacheManager(storage), broadcaster);
+        CacheObject<String> cache1 = node1.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        CacheObject<String> cache2 = node2.createCache("test", -1L, TimeUnit.MILLISECONDS);
+        CacheObject<String> remote = new SharedMapCacheManager(storage).createCache("test", -1L, TimeUnit.MILLISECONDS);
+
+        // value in remote cache will be loaded to local cache
+        remote.put("a", "a1");
+        Assert.assertEquals("a1", cache2.get("a"));
+        Assert.assertEquals("a1", local2.getCache("test").get("a"));
+        Map<String, Object> values = cache1.getAll(Arrays.asList("a", "b"));
+        Assert.assertEquals(Collections.singletonMap("a", "a1"), values);
+        Assert.assertEquals("a1", local1.getCache("test").get("a"));
+
+        // values filled after cache misses will not be broadcast
+        cache1.put("b", "b1");
+        cache1.putAll(Collections.singletonMap("c", "c1"));
+        cache1.putNegative("d");
+        cache1.putAllNegative(Collections.singletonList("e"));
+        Assert.assertTrue(broadcaster.invalidations.isEmpty());
+        Assert.assertEquals("b1", local1.getCache("test").get("b"));
+        Assert.assertEquals("b1", cache2.get("b"));
+        Assert.assertEquals("a1", local2.getCache("test").get("a"));
+
+        // value overwritten by node1 will evict local cache of node2
+        TwoLevelCacheManager.TwoLevelCacheObject<String> twoLevelCache1 = (TwoLevelCacheManager.TwoLevelCacheObject<String>)cache1;
+        twoLevelCache1.overwrite("a", "a2");
+        Assert.assertNull(local2.getCache("test").get("a"));
+        Assert.assertEquals("a2", local1.getCache("test").get("a"));
+        Assert.assertEquals("a2", cache2.get("a"));
+        Assert.assertEquals(1, broadcaster.invalidations.size());
+        twoLevelCache1.overwriteAll(Collections.singletonMap("a", "a3"));
+        Assert.assertNull(local2.getCache("test").get("a"));
+        Assert.assertEquals("a3", cache2.get("a"));
+        Assert.assertEquals(2, broadcaster.invalidations.size());
+        twoLevelCache1.overwriteAll(Collections.emptyMap());
+        Assert.assertEquals(2, broadcaster.invalidations.size());
+
+        // value removed by node1 will evict local cache of node2
+        cache1.remove("b");
+        Assert.assertNull(local2.getCache("test").get("b"));
+        Assert.assertEquals(3, broadcaster.invalidations.size());
+
+        // clear
+        cache2.clear();
+        Assert.assertNull(local1.getCache("test").get("a"));
+        Assert.assertNull(cache1.get("a"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testLocalExpireTime() {
+        Assert.assertThrows(Crane4jException.class, () -> new TwoLevelCacheManager(
+            AbstractMapCacheManager.newConcurrentHashMapCacheManager(),
+            TwoLevelCacheManager.InvalidationBroadcaster.NONE, 100L, 0L, TimeUnit.MILLISECONDS
+        ));
+
+        Map<Object, Object> storage = new ConcurrentHashMap<>();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(
+            new SharedMapCacheManager(storage), TwoLevelCacheManager.InvalidationBroadcaster.NONE,
+            100L, 100L, TimeUnit.MILLISECONDS
+        );
+        CacheObject<String> remote = new SharedMapCacheManager(storage).createCache("test", -1L, TimeUnit.MILLISECONDS);
+        TwoLevelCacheManager.TwoLevelCacheObject<String> twoLevelCache =
+            (TwoLevelCacheManager.TwoLevelCacheObject<String>)manager.<String>createCache("test", -1L, TimeUnit.MILLISECONDS);
+
+        // the value copied from remote cache expires in local cache after the local expire time
+        remote.put("a", "a1");
+        Assert.assertEquals("a1", twoLevelCache.get("a"));
+        Assert.assertEquals("a1", twoLevelCache.getLocal().get("a"));
+        remote.put("a", "a2");
+        Assert.assertEquals("a1", twoLevelCache.get("a"));
+        LockSupport.parkNanos(Thread.currentThread(), 200L * 1000 * 1000);
+        Assert.assertNull(twoLevelCache.getLocal().get("a"));
+        Assert.assertEquals("a2", twoLevelCache.get("a"));
+
+        // the smaller expire time of cache definition is used
+        TwoLevelCacheManager.TwoLevelCacheObject<String> shortCache =
+            (TwoLevelCacheManager.TwoLevelCacheObject<String>)manager.<String>createCache("short", 10L, TimeUnit.MILLISECONDS);
+        shortCache.getLocal().put("a", "a1");
+        LockSupport.parkNanos(Thread.currentThread(), 50L * 1000 * 1000);
+        Assert.assertNull(shortCache.getLocal().get("a"));
+    }
+
+    @RequiredArgsConstructor
+    private static class SharedMapCacheManager extends AbstractMapCacheManager {
+        private final Map<Object, Object> storage;
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <K> Map<K, Object> createMap() {
+            return (Map<K, Object>)storage;
+        }
+    }
+
+    private static class LocalBroadcaster implements TwoLevelCacheManager.InvalidationBroadcaster {
+        private final List<Consumer<TwoLevelCacheManager.Invalidation>> listeners = new ArrayList<>();
+        private final List<TwoLevelCacheManager.Invalidation> invalidations = new ArrayList<>();
+        @Override
+        public void broadcast(TwoLevelCacheManager.Invalidation invalidation) {
+            invalidations.add(invalidation);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+        @Override
+        public void subscribe(Consumer<TwoLevelCacheManager.Invalidation> listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package cn.crane4j.core.container;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link AsyncContainer}
+ *
+ * @author huangchengxing
+ */
+public class AsyncContainerTest {
+
+    @Test
+    public void testForLambda() throws Exception {
+        AsyncContainer<Integer> container = AsyncContainer.forLambda("test", keys -> CompletableFuture.completedFuture(
+            keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf))
+        ));
+        Assert.assertEquals("test", container.getNamespace());
+        Map<Integer, ?> results = container.getAsync(Arrays.asList(1, 2))
+            .toCompletableFuture().get(1L, TimeUnit.SECONDS);
+        Assert.assertEquals("1", results.get(1));
+        // blocking get
+        Assert.assertEquals("2", container.get(Collections.singletonList(2)).get(2));
+    }
+
+    @Test
+    public void testGetWhenFailed() {
+        AsyncContainer<Integer> container = AsyncContainer.forLambda("test", keys -> {
+            CompletableFuture<Map<Integer, ?>> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalStateException("fail"));
+            return future;
+        });
+        List<Integer> keys = Collections.singletonList(1);
+        Assert.assertThrows(IllegalStateException.class, () -> container.get(keys));
+    }
+
+    @Test
+    public void testAdapt() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Container<Integer> container = LambdaContainer.forLambda("test", keys -> keys.stream()
+                .collect(Collectors.toMap(Function.identity(), k -> Thread.currentThread().getName())));
+            AsyncContainer<Integer> adapted = AsyncContainer.adapt(container, executor);
+            Assert.assertEquals("test", adapted.getNamespace());
+            Assert.assertSame(container, ((ContainerDelegate<?>) adapted).getContainer());
+            // blocking container is invoked in the executor
+            Object threadName = adapted.getAsync(Collections.singletonList(1))
+                .toCompletableFuture().get(1L, TimeUnit.SECONDS).get(1);
+            Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+            // blocking get is invoked in the caller thread
+            Assert.assertEquals(Thread.currentThread().getName(), adapted.get(Collections.singletonList(1)).get(1));
+            // async container is not adapted again
+            Assert.assertSame(adapted, AsyncContainer.adapt(adapted, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package cn.crane4j.core.container;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link BatchingContainer}
+ *
+ * @author huangchengxing
+ */
+public class BatchingContainerTest {
+
+    @Test
+    public void testGet() {
+        AtomicInteger calls = new AtomicInteger();
+        BatchingContainer<Integer> container = new BatchingContainer<>(
+            LambdaContainer.forLambda("test", keys -> {
+                calls.incrementAndGet();
+                return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+            }), 0L, TimeUnit.MILLISECONDS, 10
+        );
+        Assert.assertEquals("test", container.getNamespace());
+        Assert.assertTrue(container.get(Collections.emptyList()).isEmpty());
+        Assert.assertEquals(0, calls.get());
+
+        Map<Integer, ?> results = container.get(Arrays.asList(1, 2));
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("1", results.get(1));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testConcurrentGet() throws Exception {
+        int threads = 8;
+        List<Collection<Integer>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(threads);
+        BatchingContainer<Integer> container = new BatchingContainer<>(
+            LambdaContainer.forLambda("test", keys -> {
+                batches.add(keys);
+                return keys.stream()
+                    .filter(k -> k % 2 == 0)
+                    .collect(Collectors.toMap(Function.identity(), String::valueOf));
+            }), 200L, TimeUnit.MILLISECONDS, threads
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<Integer, ?>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                List<Integer> keys = Arrays.asList(i, i + 1);
+                futures.add(executor.submit(() -> {
+                    latch.countDown();
+                    latch.await();
+                    return container.get(keys);
+                }));
+            }
+            for (int i = 0; i < threads; i++) {
+                Map<Integer, ?> results = futures.get(i).get(5L, TimeUnit.SECONDS);
+                // only the values of requested keys are returned
+                int evenKey = i % 2 == 0 ? i : i + 1;
+                Assert.assertEquals(1, results.size());
+                Assert.assertEquals(String.valueOf(evenKey), results.get(evenKey));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // keys of concurrent callers are merged into fewer calls
+        Assert.assertFalse(batches.isEmpty());
+        Assert.assertTrue(batches.size() < threads);
+    }
+
+    @Test
+    public void testGetWhenContainerFailed() {
+        BatchingContainer<Integer> container = new BatchingContainer<>(
+            LambdaContainer.forLambda("test", keys -> {
+                throw new IllegalStateException("fail");
+            }), 0L, TimeUnit.MILLISECONDS, 10
+        );
+        List<Integer> keys = Collections.singletonList(1);
+        Assert.assertThrows(IllegalStateException.class, () -> container.get(keys));
+    }
+
+    @Test
+    public void testConstruct() {
+        Container<Object> container = Container.empty();
+        Assert.assertThrows(Exception.class, () -> new BatchingContainer<>(container, -1L, TimeUnit.MILLISECONDS, 10));
+        Assert.assertThrows(Exception.class, () -> new BatchingContainer<>(container, 0L, TimeUnit.MILLISECONDS, 0));
+    }
+}
@@ -14,7 +14,11 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,6 +28,71 @@ import java.util.stream.Collectors;
  * @author huangchengxing
  */
 public class ContainersTest {
+
+    @Test
+    public void getInChunks() {
+        ChunkedContainer container = new ChunkedContainer(2);
+        Map<Integer, ?> results = Containers.getInChunks(container, Arrays.asList(1, 2, 3, 4, 5), null);
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("v5", results.get(5));
+        Assert.assertEquals(3, container.getRequests().size());
+        Assert.assertTrue(container.getRequests().stream().allMatch(keys -> keys.size() <= 2));
+
+        // fetch chunks in parallel
+        container.getRequests().clear();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            results = Containers.getInChunks(container, Arrays.asList(1, 2, 3, 4, 5), executor);
+            Assert.assertEquals(5, results.size());
+            Assert.assertEquals(3, container.getRequests().size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // not limited
+        container = new ChunkedContainer(-1);
+        Containers.getInChunks(container, Arrays.asList(1, 2, 3), null);
+        Assert.assertEquals(1, container.getRequests().size());
+
+        // limit of delegated container
+        ContainerDelegate<Integer> delegate = () -> new ChunkedContainer(10);
+        Assert.assertEquals(10, delegate.getMaxKeysPerCall());
+        Assert.assertEquals(-1, Containers.empty().getMaxKeysPerCall());
+    }
+
+    @Test
+    public void getInChunksAsync() {
+        ChunkedContainer container = new ChunkedContainer(2);
+        AsyncContainer<Integer> asyncContainer = AsyncContainer.adapt(container, Runnable::run);
+        Map<Integer, ?> results = Containers.getInChunksAsync(asyncContainer, Arrays.asList(1, 2, 3, 4, 5))
+            .toCompletableFuture().join();
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("v5", results.get(5));
+        Assert.assertEquals(3, container.getRequests().size());
+        Assert.assertTrue(container.getRequests().stream().allMatch(keys -> keys.size() <= 2));
+
+        // not limited
+        container = new ChunkedContainer(-1);
+        Containers.getInChunksAsync(AsyncContainer.adapt(container, Runnable::run), Arrays.asList(1, 2, 3))
+            .toCompletableFuture().join();
+        Assert.assertEquals(1, container.getRequests().size());
+    }
+
+    @Test
+    public void getInChunksWhenFailed() {
+        Container<Integer> container = new ChunkedContainer(1) {
+            @Override
+            public Map<Integer, ?> get(Collection<Integer> keys) {
+                throw new IllegalStateException("fail");
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assert.assertThrows(IllegalStateException.class, () -> Containers.getInChunks(container, Arrays.asList(1, 2), executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
     @Test
     public void emptyWithNamespace() {
         Container<Object> container = Containers.empty("test");
@@ -154,6 +223,22 @@ public class ContainersTest {
         ONE, TWO
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    private static class ChunkedContainer implements Container<Integer> {
+        private final int maxKeysPerCall;
+        private final List<Collection<Integer>> requests = new CopyOnWriteArrayList<>();
+        @Override
+        public String getNamespace() {
+            return "chunked";
+        }
+        @Override
+        public Map<Integer, ?> get(Collection<Integer> keys) {
+            requests.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), k -> "v" + k));
+        }
+    }
+
     @ContainerEnum(namespace = "AnnotatedEnum", key = "key", value = "value")
     @Getter
     @RequiredArgsConstructor
@@ -0,0 +1,126 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.lifecycle.ScopedMemoizingContainerProcessor;
+import cn.crane4j.core.executor.BeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.TypeHierarchyBeanOperationParser;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * test for {@link ScopedMemoizingContainer} and {@link MemoizationScope}
+ *
+ * @author huangchengxing
+ */
+public class ScopedMemoizingContainerTest {
+
+    private final List<Collection<Integer>> requests = new ArrayList<>();
+    private final ScopedMemoizingContainer<Integer> container = new ScopedMemoizingContainer<>(
+        LambdaContainer.forLambda("test", keys -> {
+            requests.add(new ArrayList<>(keys));
+            Map<Integer, Object> results = new HashMap<>();
+            // null and odd keys have no data source
+            keys.stream().filter(k -> k != null && k % 2 == 0).forEach(k -> results.put(k, "v" + k));
+            return results;
+        })
+    );
+
+    @Test
+    public void testGetWithoutScope() {
+        Assert.assertNull(MemoizationScope.current());
+        Assert.assertEquals(Collections.singletonMap(2, "v2"), container.get(Arrays.asList(1, 2)));
+        Assert.assertEquals(Collections.singletonMap(2, "v2"), container.get(Arrays.asList(1, 2)));
+        Assert.assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testGetInScope() {
+        try (MemoizationScope scope = MemoizationScope.open()) {
+            Assert.assertSame(scope, MemoizationScope.current());
+            Assert.assertEquals(Collections.singletonMap(2, "v2"), container.get(Arrays.asList(1, 2)));
+            Map<Integer, ?> results = container.get(Arrays.asList(1, 2, 3, 4));
+            Assert.assertEquals(2, results.size());
+            Assert.assertEquals("v2", results.get(2));
+            Assert.assertEquals("v4", results.get(4));
+            // keys without data source are memoized too
+            Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)), requests);
+
+            // nested scope shares the memoized data sources
+            try (MemoizationScope nested = MemoizationScope.open()) {
+                Assert.assertSame(scope, nested);
+                container.get(Arrays.asList(1, 2, 3, 4));
+                Assert.assertEquals(2, requests.size());
+            }
+            Assert.assertSame(scope, MemoizationScope.current());
+            container.get(Collections.singletonList(2));
+            Assert.assertEquals(2, requests.size());
+        }
+        Assert.assertNull(MemoizationScope.current());
+
+        // memoized data sources are discarded when scope closed
+        try (MemoizationScope scope = MemoizationScope.open()) {
+            container.get(Collections.singletonList(2));
+            Assert.assertEquals(3, requests.size());
+        }
+    }
+
+    @Test
+    public void testGetNullKeyInScope() {
+        try (MemoizationScope scope = MemoizationScope.open()) {
+            Assert.assertEquals(Collections.singletonMap(2, "v2"), container.get(Arrays.asList(null, 2)));
+            // null key is not memoized, it is always passed to the actual container
+            Assert.assertEquals(Collections.singletonMap(2, "v2"), container.get(Arrays.asList(null, 2)));
+            Assert.assertEquals(Arrays.asList(Arrays.asList(null, 2), Collections.singletonList(null)), requests);
+            Assert.assertEquals(1, scope.getSources("test").size());
+        }
+    }
+
+    @Test
+    public void testExecuteTargetWithNullKeyInScope() {
+        SimpleCrane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.create();
+        configuration.registerContainerLifecycleProcessor(new ScopedMemoizingContainerProcessor());
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("foo", keys -> {
+            requests.add(new ArrayList<>(keys));
+            Map<Integer, Object> results = new HashMap<>();
+            keys.stream().filter(k -> k != null).forEach(k -> results.put(k, "v" + k));
+            return results;
+        }));
+        BeanOperations operations = configuration.getBeanOperationsParser(TypeHierarchyBeanOperationParser.class)
+            .parse(Foo.class);
+        BeanOperationExecutor executor = configuration.getBeanOperationExecutor(DisorderedBeanOperationExecutor.class);
+
+        Foo foo1 = new Foo().setId(1);
+        Foo foo2 = new Foo();
+        try (MemoizationScope scope = MemoizationScope.open()) {
+            executor.execute(Arrays.asList(foo1, foo2), operations);
+            Assert.assertEquals("v1", foo1.getName());
+            Assert.assertNull(foo2.getName());
+
+            // the data source of key 1 is memoized
+            executor.execute(Arrays.asList(new Foo().setId(1), new Foo()), operations);
+            Assert.assertEquals(Collections.singletonList(Collections.singletonList(1)), requests);
+        }
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Foo {
+        @Assemble(container = "foo", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
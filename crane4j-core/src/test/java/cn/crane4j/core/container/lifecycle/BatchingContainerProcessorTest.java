@@ -0,0 +1,43 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.BatchingContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.container.LambdaContainer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * test for {@link BatchingContainerProcessor}
+ *
+ * @author huangchengxing
+ */
+public class BatchingContainerProcessorTest {
+
+    @Test
+    public void testWhenCreated() {
+        BatchingContainerProcessor processor = new BatchingContainerProcessor();
+        processor.registerBatching("test", 5L, TimeUnit.MILLISECONDS, 100);
+
+        Container<Object> container = LambdaContainer.forLambda("test", keys -> Collections.emptyMap());
+        ContainerDefinition definition = ContainerDefinition.create("test", null, () -> container);
+        Container<Object> processed = processor.whenCreated(definition, container);
+        Assert.assertTrue(processed instanceof BatchingContainer);
+        BatchingContainer<?> batchingContainer = (BatchingContainer<?>) processed;
+        Assert.assertSame(container, batchingContainer.getContainer());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(5L), batchingContainer.getWindowNanos());
+        Assert.assertEquals(100, batchingContainer.getMaxBatchSize());
+        // not wrap again
+        Assert.assertSame(processed, processor.whenCreated(definition, processed));
+
+        // namespace without batching configuration
+        Container<Object> other = LambdaContainer.forLambda("other", keys -> Collections.emptyMap());
+        Assert.assertSame(other, processor.whenCreated(definition, other));
+
+        processor.removeBatching("test");
+        Assert.assertSame(container, processor.whenCreated(definition, container));
+    }
+}
@@ -0,0 +1,35 @@
+package cn.crane4j.core.container.lifecycle;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDefinition;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.container.ScopedMemoizingContainer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * test for {@link ScopedMemoizingContainerProcessor}
+ *
+ * @author huangchengxing
+ */
+public class ScopedMemoizingContainerProcessorTest {
+
+    @Test
+    public void testWhenCreated() {
+        ScopedMemoizingContainerProcessor processor = new ScopedMemoizingContainerProcessor();
+        Container<Object> container = LambdaContainer.forLambda("test", keys -> Collections.emptyMap());
+        ContainerDefinition definition = ContainerDefinition.create("test", null, () -> container);
+        Container<Object> processed = processor.whenCreated(definition, container);
+        Assert.assertTrue(processed instanceof ScopedMemoizingContainer);
+        Assert.assertSame(container, ((ScopedMemoizingContainer<?>) processed).getContainer());
+        // not wrap again
+        Assert.assertSame(processed, processor.whenCreated(definition, processed));
+
+        // empty container
+        Container<Object> empty = Containers.empty();
+        Assert.assertSame(empty, processor.whenCreated(definition, empty));
+    }
+}
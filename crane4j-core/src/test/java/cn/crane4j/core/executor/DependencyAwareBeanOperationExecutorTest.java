@@ -0,0 +1,166 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.executor.handler.key.IntrospectionKeyResolver;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link DependencyAwareBeanOperationExecutor}
+ *
+ * @author huangchengxing
+ */
+public class DependencyAwareBeanOperationExecutorTest extends BaseExecutorTest {
+
+    private ExecutorService executor;
+    private DependencyAwareBeanOperationExecutor operationExecutor;
+    private final AtomicInteger callsOfA = new AtomicInteger();
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(2);
+        operationExecutor = new DependencyAwareBeanOperationExecutor(
+            configuration, Comparator.comparing(AssembleOperation::getSort), executor
+        );
+        configuration.registerContainer(LambdaContainer.<Object>forLambda("a", keys -> {
+            callsOfA.incrementAndGet();
+            return keys.stream().collect(Collectors.toMap(Function.identity(), k -> "a" + k));
+        }));
+        configuration.registerContainer(LambdaContainer.<Object>forLambda("b", keys -> keys.stream()
+            .collect(Collectors.toMap(Function.identity(), k -> "b" + k))));
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resolveLevels() {
+        List<List<AssembleExecution>> levels = operationExecutor.resolveLevels(createExecutions(Bean.class));
+        Assert.assertEquals(3, levels.size());
+        // id -> name, code -> alias
+        Assert.assertEquals(Arrays.asList("id", "code"), getKeys(levels.get(0)));
+        // name -> description
+        Assert.assertEquals(Arrays.asList("name"), getKeys(levels.get(1)));
+        // write description again after it is written
+        Assert.assertEquals(Arrays.asList("alias"), getKeys(levels.get(2)));
+    }
+
+    @Test
+    public void resolveLevelsOfChainedProperties() {
+        List<List<AssembleExecution>> levels = operationExecutor.resolveLevels(createExecutions(ChainedBean.class));
+        Assert.assertEquals(2, levels.size());
+        // id -> dept, name -> remark
+        Assert.assertEquals(Arrays.asList("id", "name"), getKeys(levels.get(0)));
+        // read dept.id after dept is written, write dept.name after dept is written
+        Assert.assertEquals(Arrays.asList("dept.id", "code"), getKeys(levels.get(1)));
+    }
+
+    @Test
+    public void resolveLevelsWhenKeyResolverSpecified() {
+        List<List<AssembleExecution>> levels = operationExecutor.resolveLevels(createExecutions(CustomKeyBean.class));
+        // the operations with custom key resolver or key description are performed in order
+        Assert.assertEquals(4, levels.size());
+        Assert.assertEquals(Arrays.asList("id"), getKeys(levels.get(0)));
+        Assert.assertEquals(Arrays.asList("code"), getKeys(levels.get(1)));
+        Assert.assertEquals(Arrays.asList("name"), getKeys(levels.get(2)));
+        Assert.assertEquals(Arrays.asList("alias"), getKeys(levels.get(3)));
+    }
+
+    @Test
+    public void execute() {
+        List<Bean> beans = Arrays.asList(new Bean().setId(1).setCode(2), new Bean().setId(3).setCode(4));
+        operationExecutor.execute(beans, parseOperations(Bean.class));
+        Assert.assertEquals("a1", beans.get(0).getName());
+        Assert.assertEquals("a2", beans.get(0).getAlias());
+        Assert.assertEquals("ba2", beans.get(0).getDescription());
+        Assert.assertEquals("a3", beans.get(1).getName());
+        Assert.assertEquals("a4", beans.get(1).getAlias());
+        Assert.assertEquals("ba4", beans.get(1).getDescription());
+        // executions of container a in the first level are merged
+        Assert.assertEquals(1, callsOfA.get());
+    }
+
+    private List<AssembleExecution> createExecutions(Class<?> beanType) {
+        BeanOperations operations = parseOperations(beanType);
+        return operations.getAssembleOperations().stream()
+            .map(op -> AssembleExecution.create(operations, op, configuration.getContainer(op.getContainer()), Arrays.asList(new Bean())))
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> getKeys(List<AssembleExecution> executions) {
+        return executions.stream()
+            .map(e -> e.getOperation().getKey())
+            .collect(Collectors.toList());
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "a", props = @Mapping(ref = "name"), sort = 0)
+        private Integer id;
+        @Assemble(container = "a", props = @Mapping(ref = "alias"), sort = 1)
+        private Integer code;
+        @Assemble(container = "b", props = @Mapping(ref = "description"), sort = 2)
+        private String name;
+        @Assemble(container = "b", props = @Mapping(ref = "description"), sort = 3)
+        private String alias;
+        private String description;
+    }
+
+    @Assemble(key = "dept.id", container = "b", props = @Mapping(ref = "deptName"), sort = 1)
+    @Data
+    private static class ChainedBean {
+        @Assemble(container = "a", props = @Mapping(ref = "dept"), sort = 0)
+        private Integer id;
+        @Assemble(container = "a", props = @Mapping(ref = "dept.name"), sort = 2)
+        private Integer code;
+        @Assemble(container = "b", props = @Mapping(ref = "remark"), sort = 3)
+        private String name;
+        private Dept dept;
+        private String deptName;
+        private String remark;
+    }
+
+    @Data
+    private static class Dept {
+        private Integer id;
+        private String name;
+    }
+
+    @Data
+    private static class CustomKeyBean {
+        @Assemble(container = "a", props = @Mapping(ref = "name1"), sort = 0)
+        private Integer id;
+        // the key resolver may read any property of the target
+        @Assemble(container = "a", props = @Mapping(ref = "name2"), sort = 1, keyResolver = IntrospectionKeyResolver.class)
+        private Integer code;
+        // the key description may refer to other properties
+        @Assemble(container = "b", props = @Mapping(ref = "name3"), sort = 2, keyDesc = "id,code")
+        private String name;
+        @Assemble(container = "b", props = @Mapping(ref = "name4"), sort = 3)
+        private String alias;
+        private String name1;
+        private String name2;
+        private String name3;
+        private String name4;
+    }
+}
@@ -6,6 +6,9 @@ import cn.crane4j.annotation.Mapping;
 import cn.crane4j.annotation.condition.ConditionOnProperty;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.executor.handler.ManyToManyAssembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
 import lombok.Data;
 import lombok.Getter;
@@ -16,11 +19,14 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * test for {@link DisorderedBeanOperationExecutor}
@@ -78,6 +84,140 @@ public class DisorderedBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals("one", bean1.getName2());
     }
 
+    @Test
+    public void executeWithListener() {
+        RecordingListener listener = new RecordingListener();
+        executor.setExecutionListener(listener);
+        Assert.assertSame(listener, executor.getExecutionListener());
+
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        Bean bean2 = new Bean().setId(2).setNestedBean(new NestedBean().setType(1));
+        executor.execute(Arrays.asList(bean1, bean2), parseOperations(Bean.class));
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
+
+        Assert.assertEquals(Arrays.asList(
+            "disassemble:2:4", "grouping:4:2", "fetch:test:2:2", "mapping:test:4", "completed:2"
+        ), listener.getEvents());
+        Assert.assertTrue(listener.getElapsedNanos().stream().allMatch(t -> t >= 0L));
+
+        // execute failed
+        configuration.registerContainer(LambdaContainer.forLambda("fail", keys -> {
+            throw new IllegalStateException("fail");
+        }));
+        listener.getEvents().clear();
+        executor.execute(Collections.singletonList(new FailedBean().setId(1)), parseOperations(FailedBean.class));
+        Assert.assertTrue(listener.getEvents().contains("failed:fail"));
+    }
+
+    @Test
+    public void executeWithParallelDisassemble() {
+        executor.setParallelDisassembleThreshold(2);
+        Assert.assertEquals(2, executor.getParallelDisassembleThreshold());
+        RecordingListener listener = new RecordingListener();
+        executor.setExecutionListener(listener);
+        List<Bean> beanList = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            beanList.add(new Bean().setId(i % 2 + 1).setNestedBean(new NestedBean().setType((i + 1) % 2 + 1)));
+        }
+        executor.execute(beanList, parseOperations(Bean.class));
+        for (Bean bean : beanList) {
+            Assert.assertEquals(bean.getId() == 1 ? "one" : "two", bean.getName());
+            Assert.assertEquals(bean.getNestedBean().getType() == 1 ? "one" : "two", bean.getNestedBean().getTypeName());
+        }
+        Assert.assertEquals("disassemble:9:18", listener.getEvents().get(0));
+    }
+
+    @Test
+    public void executeWithMergedKeys() {
+        List<Collection<Integer>> requests = new ArrayList<>();
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("counted", keys -> {
+            requests.add(keys);
+            Map<Integer, Object> results = new HashMap<>();
+            keys.forEach(k -> results.put(k, new Source(k, "v" + k)));
+            return results;
+        }));
+        Assert.assertFalse(executor.isMergeKeysAcrossHandlers());
+        MergedBean bean = new MergedBean().setId(1).setIds(Arrays.asList(2, 3));
+        executor.execute(Collections.singletonList(bean), parseOperations(MergedBean.class));
+        Assert.assertEquals(2, requests.size());
+
+        // keys of one-to-one handler and many-to-many handler are obtained by a single request
+        requests.clear();
+        RecordingListener listener = new RecordingListener();
+        executor.setExecutionListener(listener);
+        executor.setMergeKeysAcrossHandlers(true);
+        bean = new MergedBean().setId(1).setIds(Arrays.asList(2, 3));
+        executor.execute(Collections.singletonList(bean), parseOperations(MergedBean.class));
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(3, requests.get(0).size());
+        Assert.assertEquals("v1", bean.getName());
+        Assert.assertEquals(Arrays.asList("v2", "v3"), bean.getNames());
+        // the merged fetch is reported only once
+        Assert.assertEquals(
+            Collections.singletonList("fetch:counted:3:3"),
+            listener.getEvents().stream().filter(e -> e.startsWith("fetch:")).collect(Collectors.toList())
+        );
+    }
+
+    @Getter
+    private static class RecordingListener implements OperationExecutionListener {
+        private final List<String> events = new ArrayList<>();
+        private final List<Long> elapsedNanos = new ArrayList<>();
+        @Override
+        public void onDisassembleCompleted(BeanOperations operations, int targetCount, int flattenedCount, long elapsed) {
+            events.add("disassemble:" + targetCount + ":" + flattenedCount);
+            elapsedNanos.add(elapsed);
+        }
+        @Override
+        public void onGroupingCompleted(BeanOperations operations, int targetCount, int executionCount, long elapsed) {
+            events.add("grouping:" + targetCount + ":" + executionCount);
+            elapsedNanos.add(elapsed);
+        }
+        @Override
+        public void onContainerFetched(Container<?> container, int keyCount, int sourceCount, long elapsed) {
+            events.add("fetch:" + container.getNamespace() + ":" + keyCount + ":" + sourceCount);
+            elapsedNanos.add(elapsed);
+        }
+        @Override
+        public void onMappingCompleted(AssembleOperationHandler handler, Container<?> container, int targetCount, long elapsed) {
+            events.add("mapping:" + container.getNamespace() + ":" + targetCount);
+            elapsedNanos.add(elapsed);
+        }
+        @Override
+        public void onExecuteFailed(
+            AssembleOperationHandler handler, Container<?> container, Collection<AssembleExecution> executions, Throwable ex) {
+            events.add("failed:" + container.getNamespace());
+        }
+        @Override
+        public void onExecuteCompleted(BeanOperations operations, int targetCount, long elapsed) {
+            events.add("completed:" + targetCount);
+            elapsedNanos.add(elapsed);
+        }
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class FailedBean {
+        @Assemble(container = "fail", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class MergedBean {
+        @Assemble(container = "counted", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+        @Assemble(
+            container = "counted", handlerType = ManyToManyAssembleOperationHandler.class,
+            props = @Mapping(ref = "names", src = "value")
+        )
+        private List<Integer> ids;
+        private List<String> names;
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class Source {
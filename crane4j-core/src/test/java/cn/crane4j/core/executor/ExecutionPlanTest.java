@@ -0,0 +1,117 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Disassemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.SimpleBeanOperations;
+import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import cn.crane4j.core.parser.operation.TypeFixedDisassembleOperation;
+import cn.crane4j.core.util.ReflectUtils;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * test for {@link ExecutionPlan}
+ *
+ * @author huangchengxing
+ */
+public class ExecutionPlanTest extends BaseExecutorTest {
+
+    private DisorderedBeanOperationExecutor executor;
+
+    @Before
+    public void init() {
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        configuration.registerContainer(Containers.forMap("test", Collections.singletonMap(1, "one")));
+    }
+
+    @Test
+    public void compile() {
+        BeanOperations operations = parseOperations(Foo.class);
+        ExecutionPlan plan = ExecutionPlan.compile(operations);
+        Assert.assertEquals(2, plan.getAssembleOperations().size());
+        Assert.assertEquals(1, plan.getDisassembleOperations().size());
+
+        ExecutionPlan.PlannedAssembleOperation planned = plan.getAssembleOperations().get(0);
+        Assert.assertEquals("id", planned.getOperation().getKey());
+        Assert.assertSame(planned.getOperation().getAssembleOperationHandler(), planned.getHandler());
+        Assert.assertNotNull(planned.getKeyResolver());
+
+        Container<Object> container = configuration.getContainer("test");
+        AssembleExecution execution = planned.createExecution(operations, container, Collections.singletonList(new Foo()));
+        Assert.assertSame(planned.getKeyResolver(), execution.getKeyResolver());
+        Assert.assertSame(planned.getHandler(), execution.getHandler());
+        Assert.assertSame(container, execution.getContainer());
+        Assert.assertSame(operations, execution.getBeanOperations());
+    }
+
+    @Test
+    public void selectOperationsByFilter() {
+        ExecutionPlan plan = ExecutionPlan.compile(parseOperations(Foo.class));
+        Predicate<KeyTriggerOperation> filter = op -> "id".equals(op.getKey());
+        List<ExecutionPlan.PlannedAssembleOperation> selected = plan.getAssembleOperations(filter);
+        Assert.assertEquals(1, selected.size());
+        Assert.assertTrue(plan.getDisassembleOperations(filter).isEmpty());
+        // reuse the selection of the same filter
+        Assert.assertSame(selected, plan.getAssembleOperations(filter));
+
+        Predicate<KeyTriggerOperation> all = op -> true;
+        Assert.assertEquals(2, plan.getAssembleOperations(all).size());
+        Assert.assertEquals(1, plan.getDisassembleOperations(all).size());
+        Assert.assertNotSame(selected, plan.getAssembleOperations(filter));
+    }
+
+    @Test
+    public void getExecutionPlan() {
+        BeanOperations operations = parseOperations(Foo.class);
+        ExecutionPlan plan = executor.getExecutionPlan(operations);
+        Assert.assertSame(plan, executor.getExecutionPlan(operations));
+        executor.clearExecutionPlans();
+        Assert.assertNotSame(plan, executor.getExecutionPlan(operations));
+
+        // plan of inactive operations is not cached
+        BeanOperations inactive = new SimpleBeanOperations(Foo.class);
+        Assert.assertNotSame(executor.getExecutionPlan(inactive), executor.getExecutionPlan(inactive));
+
+        // cached plans are bounded, even if they reference their own operations
+        for (int i = 0; i < 1100; i++) {
+            SimpleBeanOperations temporary = new SimpleBeanOperations(Foo.class);
+            temporary.addDisassembleOperations(TypeFixedDisassembleOperation.builder()
+                .key("nested").sourceType(Foo.class).internalBeanOperations(temporary).build());
+            temporary.setActive(true);
+            executor.getExecutionPlan(temporary);
+        }
+        Map<BeanOperations, ExecutionPlan> plans = ReflectUtils.getFieldValue(executor, "executionPlans");
+        Assert.assertTrue(plans.size() <= 1024);
+
+        Foo foo = new Foo();
+        foo.setId(1);
+        foo.setNested(new Foo());
+        foo.getNested().setId(1);
+        executor.execute(Collections.singletonList(foo), operations);
+        Assert.assertEquals("one", foo.getName());
+        Assert.assertEquals("one", foo.getNested().getName());
+    }
+
+    @Data
+    private static class Foo {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        @Assemble(container = "test", props = @Mapping(ref = "alias"))
+        private Integer code;
+        private String name;
+        private String alias;
+        @Disassemble(type = Foo.class)
+        private Foo nested;
+    }
+}
@@ -0,0 +1,276 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Disassemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.cache.AbstractMapCacheManager;
+import cn.crane4j.core.cache.CacheDefinition;
+import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.container.AsyncContainer;
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.exception.OperationExecuteException;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.executor.handler.ManyToManyAssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link NonBlockingBeanOperationExecutor}
+ *
+ * @author huangchengxing
+ */
+public class NonBlockingBeanOperationExecutorTest extends BaseExecutorTest {
+
+    private ExecutorService executor;
+    private NonBlockingBeanOperationExecutor operationExecutor;
+    private CompletableFuture<Map<Integer, ?>> pendingFetch;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(2);
+        operationExecutor = new NonBlockingBeanOperationExecutor(configuration, executor);
+        operationExecutor.setExecutionListener(new OperationExecutionListener() {
+            @Override
+            public void onExecuteFailed(
+                AssembleOperationHandler handler, Container<?> container,
+                Collection<AssembleExecution> executions, Throwable ex) {
+                failures.incrementAndGet();
+            }
+        });
+
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        sources.put(2, new Source(2, "two"));
+        configuration.registerContainer(Containers.forMap("test", sources));
+        // the data sources are obtained when the pending fetch is completed by the test
+        pendingFetch = new CompletableFuture<>();
+        configuration.registerContainer(AsyncContainer.<Integer>forLambda("async", keys -> pendingFetch));
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("fail", keys -> {
+            throw new IllegalStateException("fail");
+        }));
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void execute() {
+        Bean bean1 = new Bean().setId(1).setNestedBean(new NestedBean().setType(2));
+        Bean bean2 = new Bean().setId(2).setNestedBean(new NestedBean().setType(1));
+        List<Bean> beanList = Arrays.asList(bean1, bean2);
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        operationExecutor.execute(beanList, beanOperations);
+
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals("two", bean1.getNestedBean().getTypeName());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
+    }
+
+    @Test
+    public void executeAsync() throws Exception {
+        AsyncBean bean = new AsyncBean().setId(1);
+        CompletableFuture<Void> future = operationExecutor.executeAsync(
+            Collections.singletonList(bean), parseOperations(AsyncBean.class)
+        );
+        // the execution is waiting for the async container without blocking the caller
+        Assert.assertFalse(future.isDone());
+        Assert.assertNull(bean.getName());
+
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        pendingFetch.complete(sources);
+        future.get(5L, TimeUnit.SECONDS);
+        Assert.assertEquals("one", bean.getName());
+
+        // nothing to execute
+        Assert.assertTrue(operationExecutor.executeAsync(Collections.emptyList(), parseOperations(AsyncBean.class)).isDone());
+    }
+
+    @Test
+    public void executeAsyncWithMergedKeys() throws Exception {
+        List<Collection<Integer>> requests = new ArrayList<>();
+        CompletableFuture<Map<Integer, ?>> mergedFetch = new CompletableFuture<>();
+        configuration.registerContainer(AsyncContainer.<Integer>forLambda("counted", keys -> {
+            requests.add(keys);
+            return mergedFetch;
+        }));
+        List<String> fetches = new ArrayList<>();
+        operationExecutor.setExecutionListener(new OperationExecutionListener() {
+            @Override
+            public void onContainerFetched(Container<?> container, int keyCount, int sourceCount, long elapsed) {
+                fetches.add(container.getNamespace() + ":" + keyCount + ":" + sourceCount);
+            }
+        });
+        operationExecutor.setMergeKeysAcrossHandlers(true);
+        MergedBean bean = new MergedBean().setId(1).setIds(Arrays.asList(2, 3));
+        CompletableFuture<Void> future = operationExecutor.executeAsync(
+            Collections.singletonList(bean), parseOperations(MergedBean.class)
+        );
+        // keys of one-to-one handler and many-to-many handler are obtained by a single request without blocking
+        Assert.assertFalse(future.isDone());
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals(3, requests.get(0).size());
+
+        Map<Integer, Object> sources = new HashMap<>();
+        requests.get(0).forEach(k -> sources.put(k, new Source(k, "v" + k)));
+        mergedFetch.complete(sources);
+        future.get(5L, TimeUnit.SECONDS);
+        Assert.assertEquals("v1", bean.getName());
+        Assert.assertEquals(Arrays.asList("v2", "v3"), bean.getNames());
+        Assert.assertEquals(1, requests.size());
+        // the merged fetch is reported only once
+        Assert.assertEquals(Collections.singletonList("counted:3:3"), fetches);
+    }
+
+    @Test
+    public void executeAsyncWithCachedAsyncContainer() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncContainer<Integer> asyncContainer = AsyncContainer.forLambda("cached", keys -> {
+            calls.incrementAndGet();
+            return pendingFetch;
+        });
+        CacheableContainer<Integer> cacheableContainer = new CacheableContainer<>(
+            asyncContainer, new CacheDefinition.Impl("cached", null, -1L, TimeUnit.MILLISECONDS),
+            AbstractMapCacheManager.newConcurrentHashMapCacheManager()
+        );
+        configuration.registerContainer(cacheableContainer);
+
+        // the cacheable container is not an async container, it is waiting for the async container in executor
+        CachedAsyncBean bean = new CachedAsyncBean().setId(1);
+        CompletableFuture<Void> future = operationExecutor.executeAsync(
+            Collections.singletonList(bean), parseOperations(CachedAsyncBean.class)
+        );
+        Assert.assertFalse(future.isDone());
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        pendingFetch.complete(sources);
+        future.get(5L, TimeUnit.SECONDS);
+        Assert.assertEquals("one", bean.getName());
+
+        // the data sources are cached
+        bean = new CachedAsyncBean().setId(1);
+        operationExecutor.executeAsync(Collections.singletonList(bean), parseOperations(CachedAsyncBean.class))
+            .get(5L, TimeUnit.SECONDS);
+        Assert.assertEquals("one", bean.getName());
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void executeAsyncWhenContainerFailed() throws Exception {
+        CompletableFuture<Void> future = operationExecutor.executeAsync(
+            Collections.singletonList(new FailedBean().setId(1)), parseOperations(FailedBean.class)
+        );
+        try {
+            future.get(5L, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof OperationExecuteException);
+            Assert.assertTrue(ex.getCause().getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(1, failures.get());
+    }
+
+    @Test
+    public void executeWhenContainerFailed() {
+        List<FailedBean> beanList = Collections.singletonList(new FailedBean().setId(1));
+        BeanOperations beanOperations = parseOperations(FailedBean.class);
+        try {
+            operationExecutor.execute(beanList, beanOperations);
+            Assert.fail();
+        } catch (OperationExecuteException ex) {
+            // same as the exception of the future returned by executeAsync
+            Assert.assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(1, failures.get());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Source {
+        private final Integer key;
+        private final String value;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+        @Disassemble(type = NestedBean.class)
+        private NestedBean nestedBean;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class NestedBean {
+        @Assemble(container = "test", props = @Mapping(ref = "typeName", src = "value"))
+        private Integer type;
+        private String typeName;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class CachedAsyncBean {
+        @Assemble(container = "cached", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class AsyncBean {
+        @Assemble(container = "async", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class MergedBean {
+        @Assemble(container = "counted", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+        @Assemble(
+            container = "counted", handlerType = ManyToManyAssembleOperationHandler.class,
+            props = @Mapping(ref = "names", src = "value")
+        )
+        private List<Integer> ids;
+        private List<String> names;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class FailedBean {
+        @Assemble(container = "fail", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+    }
+}
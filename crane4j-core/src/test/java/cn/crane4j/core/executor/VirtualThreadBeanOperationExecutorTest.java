@@ -0,0 +1,79 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.exception.Crane4jException;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link VirtualThreadBeanOperationExecutor}
+ *
+ * @author huangchengxing
+ */
+public class VirtualThreadBeanOperationExecutorTest extends BaseExecutorTest {
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Before
+    public void init() {
+        for (String namespace : Arrays.asList("a", "b", "c")) {
+            configuration.registerContainer(LambdaContainer.<Integer>forLambda(namespace, keys -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return keys.stream().collect(Collectors.toMap(
+                    Function.identity(), k -> Thread.currentThread().getName()
+                ));
+            }));
+        }
+    }
+
+    @Test
+    public void execute() {
+        if (!VirtualThreadBeanOperationExecutor.isSupported()) {
+            Assert.assertThrows(Crane4jException.class, () -> new VirtualThreadBeanOperationExecutor(configuration, 1));
+            return;
+        }
+        Assert.assertThrows(Crane4jException.class, () -> new VirtualThreadBeanOperationExecutor(configuration, 0));
+        VirtualThreadBeanOperationExecutor operationExecutor = new VirtualThreadBeanOperationExecutor(configuration, 2);
+        Assert.assertEquals(2, operationExecutor.getMaxConcurrency());
+
+        List<Bean> beans = Arrays.asList(new Bean().setId(1), new Bean().setId(2));
+        operationExecutor.execute(beans, parseOperations(Bean.class));
+        for (Bean bean : beans) {
+            Assert.assertTrue(bean.getA().startsWith("crane4j-virtual-executor-"));
+            Assert.assertTrue(bean.getB().startsWith("crane4j-virtual-executor-"));
+            Assert.assertTrue(bean.getC().startsWith("crane4j-virtual-executor-"));
+        }
+        // three groups, but at most two of them are running at the same time
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "a", props = @Mapping(ref = "a"))
+        @Assemble(container = "b", props = @Mapping(ref = "b"))
+        @Assemble(container = "c", props = @Mapping(ref = "c"))
+        private Integer id;
+        private String a;
+        private String b;
+        private String c;
+    }
+}
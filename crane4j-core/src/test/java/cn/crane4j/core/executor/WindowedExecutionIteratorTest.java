@@ -0,0 +1,93 @@
+package cn.crane4j.core.executor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * test for {@link WindowedExecutionIterator}
+ *
+ * @author huangchengxing
+ */
+public class WindowedExecutionIteratorTest extends BaseExecutorTest {
+
+    private final List<Collection<Integer>> requests = new ArrayList<>();
+    private BeanOperationExecutor executor;
+
+    @Before
+    public void init() {
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("test", keys -> {
+            requests.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), k -> "name" + k));
+        }));
+    }
+
+    @Test
+    public void executeInWindows() {
+        BeanOperations operations = parseOperations(Bean.class);
+        Iterator<Bean> source = IntStream.range(0, 5).mapToObj(i -> new Bean().setId(i)).iterator();
+        Iterator<Bean> iterator = executor.executeInWindows(source, operations, () -> t -> true, 2);
+        // nothing is processed before consumed
+        Assert.assertTrue(requests.isEmpty());
+
+        List<Bean> beans = new ArrayList<>();
+        iterator.forEachRemaining(beans::add);
+        Assert.assertEquals(5, beans.size());
+        for (int i = 0; i < beans.size(); i++) {
+            Assert.assertEquals((Integer)i, beans.get(i).getId());
+            Assert.assertEquals("name" + i, beans.get(i).getName());
+        }
+        // each window is processed separately
+        Assert.assertEquals(3, requests.size());
+        Assert.assertTrue(requests.stream().allMatch(keys -> keys.size() <= 2));
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+
+        Assert.assertThrows(Crane4jException.class, () -> executor.executeInWindows(
+            Collections.<Bean>emptyIterator(), operations, () -> t -> true, 0
+        ));
+    }
+
+    @Test
+    public void executeStreamInWindows() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Bean> source = IntStream.range(0, 5).mapToObj(i -> new Bean().setId(i))
+            .onClose(() -> closed.set(true));
+        try (Stream<Bean> stream = executor.executeInWindows(source, parseOperations(Bean.class), 3)) {
+            // only the first window is processed
+            Bean first = stream.findFirst().orElse(null);
+            Assert.assertNotNull(first);
+            Assert.assertEquals("name0", first.getName());
+            Assert.assertEquals(1, requests.size());
+        }
+        Assert.assertTrue(closed.get());
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
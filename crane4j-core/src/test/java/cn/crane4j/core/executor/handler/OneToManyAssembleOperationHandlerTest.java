@@ -65,6 +65,7 @@ public class OneToManyAssembleOperationHandlerTest extends BaseExecutorTest {
             Bean bean = beanList.get(i);
             for (int j = 0; j < i + 1; j++) {
                 Assert.assertEquals("name" + j, bean.getNames().get(j));
+                Assert.assertEquals((Integer)j, bean.getChildren().get(j).getId());
             }
         }
     }
@@ -73,11 +74,12 @@ public class OneToManyAssembleOperationHandlerTest extends BaseExecutorTest {
     @Data
     private static class Bean {
         @Assemble(
-            container = "test", props = @Mapping(src = "name", ref = "names"),
+            container = "test", props = {@Mapping(src = "name", ref = "names"), @Mapping(ref = "children")},
             handler = "OneToManyAssembleOperationHandler"
         )
         private final Integer id;
         private final String name;
         private List<String> names;
+        private List<Bean> children;
     }
 }
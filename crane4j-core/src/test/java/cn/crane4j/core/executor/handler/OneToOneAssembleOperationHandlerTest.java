@@ -10,6 +10,7 @@ import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
 import cn.crane4j.core.support.converter.SimpleConverterManager;
+import cn.crane4j.core.support.reflect.ByteBuddyPropertyMapperFactory;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import lombok.AllArgsConstructor;
@@ -19,9 +20,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,6 +72,147 @@ public class OneToOneAssembleOperationHandlerTest extends BaseExecutorTest {
         executor.execute(Collections.singletonList(new Bean(0L)), operations);
     }
 
+    @Test
+    public void processWhenKeysExceedLimit() {
+        List<Collection<Integer>> requests = new ArrayList<>();
+        configuration.registerContainer(new Container<Integer>() {
+            @Override
+            public String getNamespace() {
+                return "limited";
+            }
+            @Override
+            public Map<Integer, ?> get(Collection<Integer> keys) {
+                requests.add(keys);
+                return keys.stream().collect(Collectors.toMap(Function.identity(), id -> "name" + id));
+            }
+            @Override
+            public int getMaxKeysPerCall() {
+                return 2;
+            }
+        });
+        List<LimitedBean> beanList = Arrays.asList(new LimitedBean(1), new LimitedBean(2), new LimitedBean(3));
+        executor.execute(beanList, parseOperations(LimitedBean.class));
+        Assert.assertEquals(2, requests.size());
+        Assert.assertTrue(requests.stream().allMatch(keys -> keys.size() <= 2));
+        for (LimitedBean bean : beanList) {
+            Assert.assertEquals("name" + bean.getId(), bean.getName());
+        }
+    }
+
+    @Test
+    public void processWhenSourceTypesAreMixed() {
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda(
+            "mixed", ids -> ids.stream().collect(Collectors.toMap(
+                Function.identity(), id -> id % 2 == 0 ? new SourceBean(id, "even" + id, null) : new OtherSourceBean("odd" + id)
+            ))
+        ));
+        List<MixedBean> beanList = Arrays.asList(
+            new MixedBean(1), new MixedBean(2), new MixedBean(3), new MixedBean(4)
+        );
+        executor.execute(beanList, parseOperations(MixedBean.class));
+        Assert.assertEquals("odd1", beanList.get(0).getName());
+        Assert.assertEquals("even2", beanList.get(1).getName());
+        Assert.assertEquals("odd3", beanList.get(2).getName());
+        Assert.assertEquals("even4", beanList.get(3).getName());
+    }
+
+    @Test
+    public void processWhenCompleteMappingIsOverridden() {
+        List<Object> mappedSources = new ArrayList<>();
+        PropertyOperator operator = new ReflectivePropertyOperator(new HutoolConverterManager());
+        OneToOneAssembleOperationHandler handler = new OneToOneAssembleOperationHandler(operator, SimpleConverterManager.INSTANCE) {
+            @Override
+            protected void completeMapping(Object source, Target target) {
+                mappedSources.add(source);
+                super.completeMapping(source, target);
+            }
+        };
+        configuration.getAssembleOperationHandlerMap().put("overriddenHandler", handler);
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda(
+            "overridden", ids -> ids.stream().collect(Collectors.toMap(Function.identity(), id -> "name" + id))
+        ));
+        List<OverriddenBean> beanList = Arrays.asList(new OverriddenBean(1), new OverriddenBean(2));
+        executor.execute(beanList, parseOperations(OverriddenBean.class));
+        Assert.assertEquals(Arrays.asList("name1", "name2"), mappedSources);
+        Assert.assertEquals("name1", beanList.get(0).getName());
+        Assert.assertEquals("name2", beanList.get(1).getName());
+    }
+
+    @Test
+    public void processWithPropertyMapperFactory() {
+        List<Class<?>> requestedTypes = new ArrayList<>();
+        PropertyOperator operator = new ReflectivePropertyOperator(new HutoolConverterManager());
+        OneToOneAssembleOperationHandler handler = new OneToOneAssembleOperationHandler(operator, SimpleConverterManager.INSTANCE);
+        handler.setPropertyMapperFactory((sourceType, targetType, mappings, strategy) -> {
+            requestedTypes.add(sourceType);
+            return ByteBuddyPropertyMapperFactory.INSTANCE.createMapper(sourceType, targetType, mappings, strategy);
+        });
+        configuration.getAssembleOperationHandlerMap().put("generatedHandler", handler);
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda(
+            "generated", ids -> ids.stream().collect(Collectors.toMap(
+                Function.identity(), id -> id < 3 ? new PublicSource("name" + id) : new OtherSourceBean("other" + id)
+            ))
+        ));
+        BeanOperations operations = parseOperations(PublicBean.class);
+
+        List<PublicBean> beanList = Arrays.asList(new PublicBean(1), new PublicBean(2));
+        executor.execute(beanList, operations);
+        Assert.assertEquals("name1", beanList.get(0).getName());
+        Assert.assertEquals("name2", beanList.get(1).getName());
+        Assert.assertEquals(Collections.singletonList(PublicSource.class), requestedTypes);
+
+        // the mapper is generated only once for an operation
+        beanList = Arrays.asList(new PublicBean(1), new PublicBean(2), new PublicBean(3));
+        executor.execute(beanList, operations);
+        Assert.assertEquals("name1", beanList.get(0).getName());
+        Assert.assertEquals("name2", beanList.get(1).getName());
+        Assert.assertEquals("other3", beanList.get(2).getName());
+        Assert.assertEquals(Collections.singletonList(PublicSource.class), requestedTypes);
+    }
+
+    @RequiredArgsConstructor
+    @Data
+    public static class PublicBean {
+        @Assemble(container = "generated", props = @Mapping(src = "name", ref = "name"), handler = "generatedHandler")
+        private final Integer id;
+        private String name;
+    }
+
+    @Data
+    public static class PublicSource {
+        private final String name;
+    }
+
+    @RequiredArgsConstructor
+    @Data
+    private static class OverriddenBean {
+        @Assemble(container = "overridden", props = @Mapping(ref = "name"), handler = "overriddenHandler")
+        private final Integer id;
+        private String name;
+    }
+
+    @RequiredArgsConstructor
+    @Data
+    private static class MixedBean {
+        @Assemble(container = "mixed", props = @Mapping(src = "name", ref = "name"))
+        private final Integer id;
+        private String name;
+    }
+
+    @SuppressWarnings("unused")
+    @AllArgsConstructor
+    private static class OtherSourceBean {
+        private String name;
+    }
+
+    @RequiredArgsConstructor
+    @Data
+    private static class LimitedBean {
+        @Assemble(container = "limited", props = @Mapping(ref = "name"))
+        private final Integer id;
+        private String name;
+    }
+
     @Assemble(container = "identity", props = @Mapping(src = "id", ref = "otherId"))
     @RequiredArgsConstructor
     @AllArgsConstructor
@@ -20,6 +20,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Set;
 
@@ -80,6 +81,22 @@ public class AssembleAnnotationHandlerTest {
         Assert.assertEquals("value", propertyMapping.getReference());
     }
 
+    @Test
+    public void resolveWithGeneratedMetadata() {
+        BeanOperations beanOperations = new SimpleBeanOperations(Bar.class);
+        annotationHandler.resolve(null, beanOperations);
+
+        // only the members recorded in the generated metadata are parsed
+        Collection<AssembleOperation> operations = beanOperations.getAssembleOperations();
+        Assert.assertEquals(2, operations.size());
+        AssembleOperation codeOperation = CollectionUtils.get(operations, 0);
+        Assert.assertNotNull(codeOperation);
+        Assert.assertEquals("code", codeOperation.getKey());
+        AssembleOperation nameOperation = CollectionUtils.get(operations, 1);
+        Assert.assertNotNull(nameOperation);
+        Assert.assertEquals("getName", nameOperation.getKey());
+    }
+
     @Assemble(key = "gender", container = "test", prop = ":value", sort = 0, keyType = Integer.class)
     @Data
     @RequiredArgsConstructor
@@ -89,4 +106,40 @@ public class AssembleAnnotationHandlerTest {
         private Integer gender;
         private String value;
     }
+
+    @Data
+    public static class Bar {
+        @Assemble(container = "test", sort = 0)
+        private Integer code;
+        @Assemble(container = "test", sort = 1)
+        private Integer id;
+        private String name;
+
+        @Assemble(container = "test", sort = 2)
+        public String getName() {
+            return name;
+        }
+    }
+}
+
+/**
+ * Annotation metadata of {@link AssembleAnnotationHandlerTest.Bar},
+ * which does not record the field {@code id} on purpose.
+ */
+class AssembleAnnotationHandlerTest$Bar$$Crane4jOperationMetadata implements GeneratedOperationMetadata {
+
+    @Override
+    public Class<?> getBeanType() {
+        return AssembleAnnotationHandlerTest.Bar.class;
+    }
+
+    @Override
+    public Set<String> getAnnotatedFields() {
+        return Collections.singleton("code");
+    }
+
+    @Override
+    public Set<String> getAnnotatedMethods() {
+        return Collections.singleton("getName");
+    }
 }
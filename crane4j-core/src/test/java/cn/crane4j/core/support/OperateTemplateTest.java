@@ -89,6 +89,19 @@ public class OperateTemplateTest {
         checkBean(fooList.get(0), "1", "1", "1");
     }
 
+    @Test
+    public void executeInWindows() {
+        List<Foo> fooList = template.executeInWindows(getFooList().stream(), Foo.class, 1)
+            .collect(java.util.stream.Collectors.toList());
+        Assert.assertEquals(2, fooList.size());
+        checkBean(fooList.get(0), "1", "1", "1");
+        checkBean(fooList.get(1), "2", "2", "2");
+
+        fooList = template.executeInWindows(getFooList().stream(), Foo.class, 1, op -> op instanceof AssembleOperation)
+            .collect(java.util.stream.Collectors.toList());
+        checkBean(fooList.get(0), "1", null, null);
+    }
+
     private static void checkBean(Foo foo, String name, String nestedName, String value) {
         Assert.assertEquals(foo.getName(), name);
         Assert.assertEquals(((NestedFoo) foo.getNestedFoo()).getName(), nestedName);
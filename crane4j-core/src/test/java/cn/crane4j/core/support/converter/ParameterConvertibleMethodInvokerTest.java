@@ -45,5 +45,15 @@ public class ParameterConvertibleMethodInvokerTest {
         // has parameter, and args is less than parameter count
         result = methodInvoker.invoke(null, new String[]{"a"});
         Assert.assertEquals("anull", result);
+
+        // has parameter, and args is equal to parameter count
+        result = methodInvoker.invoke(null, new Object[]{"a", "b"});
+        Assert.assertEquals("ab", result);
+        // args need to be converted, but the original args will not be modified
+        methodInvoker = ParameterConvertibleMethodInvoker.create(invoker, new HutoolConverterManager(), parameterTypes);
+        Object[] args = new Object[]{"a", 1};
+        result = methodInvoker.invoke(null, args);
+        Assert.assertEquals("a1", result);
+        Assert.assertEquals(1, args[1]);
     }
 }
@@ -0,0 +1,149 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.SimplePropertyMapping;
+import cn.crane4j.core.parser.handler.strategy.OverwriteMappingStrategy;
+import cn.crane4j.core.parser.handler.strategy.OverwriteNotNullMappingStrategy;
+import cn.crane4j.core.parser.handler.strategy.ReferenceMappingStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * test for {@link ByteBuddyPropertyMapperFactory}
+ *
+ * @author huangchengxing
+ */
+public class ByteBuddyPropertyMapperFactoryTest {
+
+    private final ByteBuddyPropertyMapperFactory factory = ByteBuddyPropertyMapperFactory.INSTANCE;
+
+    @Test
+    public void createMapper() {
+        List<PropertyMapping> mappings = Arrays.asList(
+            new SimplePropertyMapping("id", "id"),
+            new SimplePropertyMapping("name", "name"),
+            new SimplePropertyMapping("age", "age"),
+            new SimplePropertyMapping("age", "value"),
+            new SimplePropertyMapping("flag", "flag"),
+            new SimplePropertyMapping("", "source"),
+            new SimplePropertyMapping("name", "alias")
+        );
+        PropertyMapper mapper = factory.createMapper(Source.class, Target.class, mappings, OverwriteMappingStrategy.INSTANCE);
+        Assert.assertNotNull(mapper);
+
+        Source source = new Source(1, "foo", 18, true);
+        Target target = new Target();
+        mapper.map(source, target);
+        Assert.assertEquals((Integer)1, target.getId());
+        Assert.assertEquals("foo", target.getName());
+        Assert.assertEquals((Integer)18, target.getAge());
+        Assert.assertEquals(18, target.getValue());
+        Assert.assertTrue(target.isFlag());
+        Assert.assertSame(source, target.getSource());
+        Assert.assertEquals("foo", target.getAlias());
+
+        // null value is also written
+        mapper.map(new Source(null, null, 0, false), target);
+        Assert.assertNull(target.getId());
+        Assert.assertNull(target.getName());
+    }
+
+    @Test
+    public void createMapperWhenIgnoreNull() {
+        List<PropertyMapping> mappings = Arrays.asList(
+            new SimplePropertyMapping("id", "id"),
+            new SimplePropertyMapping("name", "name"),
+            new SimplePropertyMapping("age", "age"),
+            new SimplePropertyMapping("", "source")
+        );
+        PropertyMapper mapper = factory.createMapper(Source.class, Target.class, mappings, OverwriteNotNullMappingStrategy.INSTANCE);
+        Assert.assertNotNull(mapper);
+
+        Source source = new Source(1, "foo", 18, true);
+        Target target = new Target();
+        mapper.map(source, target);
+        Assert.assertEquals((Integer)1, target.getId());
+        Assert.assertEquals("foo", target.getName());
+        Assert.assertEquals((Integer)18, target.getAge());
+        Assert.assertSame(source, target.getSource());
+
+        // null value is ignored
+        mapper.map(new Source(null, "bar", 0, false), target);
+        Assert.assertEquals((Integer)1, target.getId());
+        Assert.assertEquals("bar", target.getName());
+        Assert.assertEquals((Integer)0, target.getAge());
+    }
+
+    @Test
+    public void createMapperWhenNotSupported() {
+        // unsupported strategy
+        Assert.assertNull(factory.createMapper(
+            Source.class, Target.class, Collections.singletonList(new SimplePropertyMapping("name", "name")),
+            new ReferenceMappingStrategy(new ReflectivePropertyOperator())
+        ));
+        // missing getter or setter
+        Assert.assertNull(createMapper(Source.class, Target.class, "none", "name"));
+        Assert.assertNull(createMapper(Source.class, Target.class, "name", "none"));
+        // chain property
+        Assert.assertNull(createMapper(Source.class, Target.class, "name.value", "name"));
+        // conversion is required
+        Assert.assertNull(createMapper(Source.class, Target.class, "name", "id"));
+        // wrapper type cannot be unboxed
+        Assert.assertNull(createMapper(Source.class, Target.class, "id", "count"));
+        // inaccessible type
+        Assert.assertNull(createMapper(PrivateSource.class, Target.class, "name", "name"));
+        Assert.assertNull(createMapper(Source.class, PrivateSource.class, "name", "name"));
+        // map
+        Assert.assertNull(createMapper(Source.class, HashMap.class, "name", "name"));
+        // jdk class
+        Assert.assertNull(createMapper(Source.class, String.class, "name", "name"));
+    }
+
+    private PropertyMapper createMapper(Class<?> sourceType, Class<?> targetType, String source, String reference) {
+        return factory.createMapper(
+            sourceType, targetType, Collections.singletonList(new SimplePropertyMapping(source, reference)),
+            OverwriteMappingStrategy.INSTANCE
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Source {
+        private Integer id;
+        private String name;
+        private int age;
+        private boolean flag;
+    }
+
+    @Getter
+    @Setter
+    public static class Target {
+        private Integer id;
+        private String name;
+        private Integer age;
+        private Object value;
+        private boolean flag;
+        private Source source;
+        private int count;
+        private String alias;
+
+        public Target setAlias(String alias) {
+            this.alias = alias;
+            return this;
+        }
+    }
+
+    @Getter
+    @Setter
+    private static class PrivateSource {
+        private String name;
+    }
+}
@@ -8,6 +8,11 @@ import lombok.Setter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
 /**
  * test for {@link CacheablePropertyOperator}
  *
@@ -52,6 +57,22 @@ public class CacheablePropertyOperatorTest {
         Assert.assertNull(operator.findSetter(Foo.class, "none"));
     }
 
+    @Test
+    public void operatorCanBeCollectedAfterLookup() throws InterruptedException {
+        List<WeakReference<PropertyOperator>> references = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            PropertyOperator op = new CacheablePropertyOperator(new ReflectivePropertyOperator(new HutoolConverterManager()));
+            op.findGetter(HashMap.class, "size");
+            op.findGetter(Foo.class, "id");
+            references.add(new WeakReference<>(op));
+        }
+        for (int i = 0; i < 20 && references.stream().anyMatch(ref -> ref.get() != null); i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        // the cached property descriptors should not keep the operator reachable
+        Assert.assertTrue(references.stream().allMatch(ref -> ref.get() == null));
+    }
 
     @Getter
     @Setter
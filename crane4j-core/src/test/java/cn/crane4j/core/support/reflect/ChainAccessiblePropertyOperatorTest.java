@@ -9,6 +9,11 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
 /**
  * test for {@link ChainAccessiblePropertyOperator}.
  *
@@ -23,6 +28,30 @@ public class ChainAccessiblePropertyOperatorTest {
         operator = new ChainAccessiblePropertyOperator(new ReflectivePropertyOperator(new HutoolConverterManager()));
     }
 
+    @Test
+    public void getPropertyDescriptor() {
+        PropDesc desc = operator.getPropertyDescriptor(Foo.class);
+        Assert.assertSame(desc, operator.getPropertyDescriptor(Foo.class));
+        Assert.assertSame(desc.getGetter("foo.id"), desc.getGetter("foo.id"));
+    }
+
+    @Test
+    public void operatorCanBeCollectedAfterLookup() throws InterruptedException {
+        List<WeakReference<PropertyOperator>> references = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            PropertyOperator op = new ChainAccessiblePropertyOperator(new ReflectivePropertyOperator(new HutoolConverterManager()));
+            op.findGetter(HashMap.class, "size");
+            op.findGetter(Foo.class, "id");
+            references.add(new WeakReference<>(op));
+        }
+        for (int i = 0; i < 20 && references.stream().anyMatch(ref -> ref.get() != null); i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        // the cached property descriptors should not keep the operator reachable
+        Assert.assertTrue(references.stream().allMatch(ref -> ref.get() == null));
+    }
+
     @Test
     public void readProperty() {
         Foo foo = new Foo(1, new Foo(2, new Foo(3, new Foo(4, null))));
@@ -0,0 +1,128 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.converter.HutoolConverterManager;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * test for {@link GeneratedPropertyOperator}
+ *
+ * @author huangchengxing
+ */
+public class GeneratedPropertyOperatorTest {
+
+    private final GeneratedPropertyOperator operator = new GeneratedPropertyOperator(
+        new ReflectivePropertyOperator(), new HutoolConverterManager()
+    );
+
+    @Test
+    public void getPropertyDescriptor() {
+        PropDesc desc = operator.getPropertyDescriptor(Foo.class);
+        Assert.assertEquals(Foo.class, desc.getBeanType());
+        Assert.assertSame(GeneratedPropertyOperatorTest$Foo$$Crane4jPropDesc.ID_GETTER, desc.getGetter("id"));
+        // fallback to original operator
+        Assert.assertNotNull(desc.getGetter("name"));
+        Assert.assertNull(desc.getGetter("none"));
+
+        // no generated class
+        desc = operator.getPropertyDescriptor(Bar.class);
+        Assert.assertTrue(desc instanceof ReflectivePropertyOperator.ReflectivePropDesc);
+        desc = operator.getPropertyDescriptor(String.class);
+        Assert.assertTrue(desc instanceof ReflectivePropertyOperator.ReflectivePropDesc);
+    }
+
+    @Test
+    public void loadGeneratedPropDesc() {
+        Assert.assertNotNull(operator.loadGeneratedPropDesc(Foo.class));
+        // the result is shared by all operators, whether the generated class exists or not
+        GeneratedPropertyOperator other = new GeneratedPropertyOperator(new ReflectivePropertyOperator());
+        Assert.assertSame(operator.loadGeneratedPropDesc(Foo.class), other.loadGeneratedPropDesc(Foo.class));
+        Assert.assertNull(operator.loadGeneratedPropDesc(Bar.class));
+        Assert.assertNull(other.loadGeneratedPropDesc(Bar.class));
+        Assert.assertNull(operator.loadGeneratedPropDesc(int.class));
+        Assert.assertNull(operator.loadGeneratedPropDesc(String.class));
+        // the generated class which is not a property descriptor will be ignored
+        Assert.assertNull(operator.loadGeneratedPropDesc(Baz.class));
+    }
+
+    @Test
+    public void readProperty() {
+        Foo foo = new Foo();
+        foo.setId(1);
+        foo.setName("foo");
+        Assert.assertEquals(1, operator.readProperty(Foo.class, foo, "id"));
+        Assert.assertEquals("foo", operator.readProperty(Foo.class, foo, "name"));
+    }
+
+    @Test
+    public void writeProperty() {
+        Foo foo = new Foo();
+        // the value will be converted
+        operator.writeProperty(Foo.class, foo, "id", "2");
+        Assert.assertEquals(2, foo.getId());
+        operator.writeProperty(Foo.class, foo, "name", "foo");
+        Assert.assertEquals("foo", foo.getName());
+
+        MethodInvoker setter = new GeneratedPropertyOperator(new ReflectivePropertyOperator())
+            .findSetter(Foo.class, "id");
+        Assert.assertSame(GeneratedPropertyOperatorTest$Foo$$Crane4jPropDesc.ID_SETTER, setter);
+    }
+
+    @Getter
+    @Setter
+    public static class Foo {
+        private int id;
+        private String name;
+    }
+
+    public static class Bar {
+    }
+
+    public static class Baz {
+    }
+}
+
+/**
+ * A class which has the name of the generated property descriptor but not implement {@link GeneratedPropDesc}.
+ */
+class GeneratedPropertyOperatorTest$Baz$$Crane4jPropDesc {
+}
+
+/**
+ * Property descriptor of {@link GeneratedPropertyOperatorTest.Foo}, which only supports property {@code id}.
+ */
+class GeneratedPropertyOperatorTest$Foo$$Crane4jPropDesc implements GeneratedPropDesc {
+
+    static final MethodInvoker ID_GETTER = (t, args) -> ((GeneratedPropertyOperatorTest.Foo) t).getId();
+    static final MethodInvoker ID_SETTER = (t, args) -> {
+        ((GeneratedPropertyOperatorTest.Foo) t).setId((Integer) args[0]);
+        return null;
+    };
+
+    public GeneratedPropertyOperatorTest$Foo$$Crane4jPropDesc() {
+        // the generated class must have a public no-arg constructor
+    }
+
+    @Override
+    public Class<?> getBeanType() {
+        return GeneratedPropertyOperatorTest.Foo.class;
+    }
+
+    @Override
+    public MethodInvoker getGetter(String propertyName) {
+        return "id".equals(propertyName) ? ID_GETTER : null;
+    }
+
+    @Override
+    public MethodInvoker getSetter(String propertyName) {
+        return "id".equals(propertyName) ? ID_SETTER : null;
+    }
+
+    @Override
+    public Class<?> getPropertyType(String propertyName) {
+        return "id".equals(propertyName) ? int.class : null;
+    }
+}
@@ -0,0 +1,163 @@
+package cn.crane4j.core.support.reflect;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.support.converter.HutoolConverterManager;
+import cn.crane4j.core.support.reflect.dto.NonPublicDtoFactory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * test for {@link LambdaMetafactoryPropertyOperator}
+ *
+ * @author huangchengxing
+ */
+public class LambdaMetafactoryPropertyOperatorTest {
+
+    private final LambdaMetafactoryPropertyOperator operator = new LambdaMetafactoryPropertyOperator(new HutoolConverterManager());
+
+    @Test
+    public void readProperty() {
+        Foo foo = new Foo(12, true, "intact", "open", "shade");
+        Foo.shared = "shared";
+        Assert.assertNull(operator.readProperty(Foo.class, foo, "noneField"));
+        Assert.assertEquals(12, operator.readProperty(Foo.class, foo, "id"));
+        Assert.assertEquals(true, operator.readProperty(Foo.class, foo, "flag"));
+        Assert.assertEquals("intact", operator.readProperty(Foo.class, foo, "intact"));
+        Assert.assertEquals("open", operator.readProperty(Foo.class, foo, "open"));
+        Assert.assertEquals("shade", operator.readProperty(Foo.class, foo, "shade"));
+        Assert.assertEquals("shared", operator.readProperty(Foo.class, foo, "shared"));
+        // private nested class
+        Bar bar = new Bar(1);
+        Assert.assertEquals(1, operator.readProperty(Bar.class, bar, "id"));
+    }
+
+    @Test
+    public void findGetter() {
+        operator.setConverterManager(null);
+        Assert.assertTrue(operator.findGetter(Foo.class, "id") instanceof LambdaMetafactoryPropertyOperator.LambdaGetter);
+        Assert.assertTrue(operator.findGetter(Foo.class, "count") instanceof LambdaMetafactoryPropertyOperator.LambdaGetter);
+        Assert.assertNotNull(operator.findGetter(Foo.class, "open"));
+        Assert.assertNotNull(operator.findGetter(Foo.class, "shared"));
+        Assert.assertNull(operator.findGetter(Foo.class, "none"));
+        Assert.assertNotNull(operator.findGetter(Bar.class, "id"));
+
+        operator.setThrowIfNoAnyMatched(true);
+        Assert.assertThrows(Crane4jException.class, () -> operator.findGetter(Foo.class, "none"));
+        operator.setThrowIfNoAnyMatched(false);
+        operator.setConverterManager(new HutoolConverterManager());
+    }
+
+    @Test
+    public void findGetterByOtherOperator() {
+        // the generated invokers are shared and not generated again for the new property descriptors
+        LambdaMetafactoryPropertyOperator other = new LambdaMetafactoryPropertyOperator();
+        operator.setConverterManager(null);
+        Assert.assertSame(operator.findGetter(Foo.class, "id"), other.findGetter(Foo.class, "id"));
+        Assert.assertSame(operator.findSetter(Foo.class, "id"), other.findSetter(Foo.class, "id"));
+        operator.setConverterManager(new HutoolConverterManager());
+    }
+
+    @Test
+    public void writeProperty() {
+        Foo foo = new Foo(1, true, "intact", "open", "shade");
+        operator.writeProperty(Foo.class, foo, "noneField", null);
+        operator.writeProperty(Foo.class, foo, "id", 2);
+        Assert.assertEquals((Integer)2, foo.getId());
+        operator.writeProperty(Foo.class, foo, "count", "3");
+        Assert.assertEquals(3, foo.getCount());
+        operator.writeProperty(Foo.class, foo, "flag", false);
+        Assert.assertFalse(foo.flag);
+        operator.writeProperty(Foo.class, foo, "intact", "other");
+        Assert.assertEquals("other", foo.getIntact());
+        operator.writeProperty(Foo.class, foo, "shade", "another");
+        Assert.assertEquals("another", foo.getShade());
+        operator.writeProperty(Foo.class, foo, "open", "closed");
+        Assert.assertEquals("closed", foo.open);
+        operator.writeProperty(Foo.class, foo, "shared", "changed");
+        Assert.assertEquals("changed", Foo.shared);
+        // private nested class
+        Bar bar = new Bar(1);
+        operator.writeProperty(Bar.class, bar, "id", 2);
+        Assert.assertEquals(2, bar.getId());
+    }
+
+    @Test
+    public void findSetter() {
+        operator.setConverterManager(null);
+        Assert.assertTrue(operator.findSetter(Foo.class, "id") instanceof LambdaMetafactoryPropertyOperator.LambdaSetter);
+        Assert.assertTrue(operator.findSetter(Foo.class, "count") instanceof LambdaMetafactoryPropertyOperator.LambdaSetter);
+        Assert.assertNotNull(operator.findSetter(Foo.class, "open"));
+        Assert.assertNotNull(operator.findSetter(Foo.class, "shared"));
+        Assert.assertNull(operator.findSetter(Foo.class, "none"));
+
+        operator.setThrowIfNoAnyMatched(true);
+        Assert.assertThrows(Crane4jException.class, () -> operator.findSetter(Foo.class, "none"));
+        operator.setThrowIfNoAnyMatched(false);
+        operator.setConverterManager(new HutoolConverterManager());
+    }
+
+    @Test
+    public void operateNonPublicTypeInOtherPackage() {
+        Object dto = NonPublicDtoFactory.create(1);
+        Class<?> type = dto.getClass();
+        Assert.assertFalse(Modifier.isPublic(type.getModifiers()));
+        operator.setConverterManager(null);
+        // fallback to java reflection
+        Assert.assertTrue(operator.findGetter(type, "id") instanceof ReflectiveMethodInvoker);
+        Assert.assertTrue(operator.findSetter(type, "id") instanceof ReflectiveMethodInvoker);
+        operator.setConverterManager(new HutoolConverterManager());
+
+        Assert.assertEquals(1, operator.readProperty(type, dto, "id"));
+        operator.writeProperty(type, dto, "id", "2");
+        Assert.assertEquals(2, operator.readProperty(type, dto, "id"));
+    }
+
+    @AllArgsConstructor
+    public static class Foo {
+
+        @Setter
+        @Getter
+        private Integer id;
+
+        @Setter
+        private boolean flag;
+
+        @Setter
+        @Getter
+        private String intact;
+
+        public String open;
+
+        private String _shade;
+
+        public static String shared;
+
+        @Setter
+        @Getter
+        private int count;
+
+        public Foo(Integer id, boolean flag, String intact, String open, String shade) {
+            this(id, flag, intact, open, shade, 0);
+        }
+
+        public String getShade() {
+            return _shade;
+        }
+
+        public void setShade(String shade) {
+            _shade = shade;
+        }
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    private static class Bar {
+        private int id;
+    }
+}
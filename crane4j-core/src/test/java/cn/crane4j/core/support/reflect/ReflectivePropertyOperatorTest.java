@@ -81,6 +81,24 @@ public class ReflectivePropertyOperatorTest {
         operator.setThrowIfNoAnyMatched(false);
     }
 
+    @Test
+    public void getGettersAndSetters() {
+        PropDesc desc = operator.getPropertyDescriptor(Foo.class);
+        MethodInvoker[] getters = desc.getGetters("id", null, "none", "shade");
+        Assert.assertEquals(4, getters.length);
+        Assert.assertSame(desc.getGetter("id"), getters[0]);
+        Assert.assertNull(getters[1]);
+        Assert.assertNull(getters[2]);
+        Assert.assertSame(desc.getGetter("shade"), getters[3]);
+
+        MethodInvoker[] setters = desc.getSetters("id", null, "none", "shade");
+        Assert.assertEquals(4, setters.length);
+        Assert.assertSame(desc.getSetter("id"), setters[0]);
+        Assert.assertNull(setters[1]);
+        Assert.assertNull(setters[2]);
+        Assert.assertSame(desc.getSetter("shade"), setters[3]);
+    }
+
     @Test
     public void testCustomReflectivePropertyOperator() {
         CustomReflectivePropertyOperator operator = new CustomReflectivePropertyOperator();
@@ -0,0 +1,25 @@
+package cn.crane4j.core.support.reflect.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Factory of the non-public dto which is declared in a package
+ * different from the property operators.
+ *
+ * @author huangchengxing
+ */
+public class NonPublicDtoFactory {
+
+    public static Object create(Integer id) {
+        return new NonPublicDto(id);
+    }
+}
+
+@Getter
+@Setter
+@AllArgsConstructor
+class NonPublicDto {
+    private Integer id;
+}
@@ -82,6 +82,24 @@ public class ClassUtilsTest {
         Assert.assertTrue(ClassUtils.isInstantiable(Foo2.class, null));
     }
 
+    @Test
+    public void newGeneratedInstance() {
+        Assert.assertTrue(ClassUtils.newGeneratedInstance(
+            ClassUtilsTest.class, "$Generated", Runnable.class, ex -> Assert.fail()
+        ) instanceof Generated);
+        // generated class not found
+        Assert.assertNull(ClassUtils.newGeneratedInstance(
+            ClassUtilsTest.class, "$NotFound", Runnable.class, ex -> Assert.fail()
+        ));
+        Assert.assertNull(ClassUtils.newGeneratedInstance(String.class, "$Generated", Runnable.class, ex -> Assert.fail()));
+        Assert.assertNull(ClassUtils.newGeneratedInstance(int.class, "$Generated", Runnable.class, ex -> Assert.fail()));
+        // generated class cannot be used
+        Assert.assertNull(ClassUtils.newGeneratedInstance(
+            ClassUtilsTest.class, "$Generated", Comparable.class, Assert::assertNotNull
+        ));
+        Assert.assertNull(ClassUtils.newGeneratedInstance(ClassUtilsTest.class, "$Foo", Object.class, null));
+    }
+
     @Test
     public void packageToPath() {
         Assert.assertEquals("cn/crane4j/core/util/ClassUtils", ClassUtils.packageToPath("cn.crane4j.core.util.ClassUtils"));
@@ -98,4 +116,11 @@ public class ClassUtilsTest {
     @NoArgsConstructor
     private static class Foo2 {
     }
+
+    public static class Generated implements Runnable {
+        @Override
+        public void run() {
+            // do nothing
+        }
+    }
 }
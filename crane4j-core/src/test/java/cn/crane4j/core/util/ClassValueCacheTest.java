@@ -0,0 +1,34 @@
+package cn.crane4j.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link ClassValueCache}
+ *
+ * @author huangchengxing
+ */
+public class ClassValueCacheTest {
+
+    @Test
+    public void get() {
+        AtomicInteger counter = new AtomicInteger();
+        ClassValueCache<String> cache = new ClassValueCache<>(type -> {
+            counter.incrementAndGet();
+            return type.getSimpleName();
+        });
+        Assert.assertEquals("String", cache.get(String.class));
+        Assert.assertEquals("String", cache.get(String.class));
+        Assert.assertEquals(1, counter.get());
+
+        Assert.assertEquals("Integer", cache.get(Integer.class));
+        Assert.assertEquals(2, counter.get());
+
+        // value will be computed again after removed
+        cache.remove(String.class);
+        Assert.assertEquals("String", cache.get(String.class));
+        Assert.assertEquals(3, counter.get());
+    }
+}
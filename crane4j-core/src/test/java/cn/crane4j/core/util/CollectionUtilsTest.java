@@ -235,6 +235,41 @@ public class CollectionUtilsTest {
         Assert.assertNotNull(CollectionUtils.newWeakConcurrentMap());
     }
 
+    @Test
+    public void newWeakKeysConcurrentMap() {
+        Map<String, Object> map = CollectionUtils.newWeakKeysConcurrentMap();
+        String key = new String("key");
+        map.put(key, new Object());
+        // keys are compared by identity
+        Assert.assertNull(map.get(new String("key")));
+        Assert.assertNotNull(map.get(key));
+    }
+
+    @Test
+    public void newBoundedConcurrentMap() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> CollectionUtils.newBoundedConcurrentMap(0));
+        Map<String, Object> map = CollectionUtils.newBoundedConcurrentMap(2);
+        map.put(new String("key"), new Object());
+        // keys are compared by equality
+        Assert.assertNotNull(map.get(new String("key")));
+
+        // the least recently used entry is evicted when the map is full
+        map.put("key2", new Object());
+        Assert.assertNotNull(map.get("key"));
+        map.putIfAbsent("key3", new Object());
+        Assert.assertEquals(2, map.size());
+        Assert.assertTrue(map.containsKey("key"));
+        Assert.assertTrue(map.containsKey("key3"));
+        map.putAll(Collections.singletonMap("key4", new Object()));
+        Assert.assertEquals(2, map.size());
+        Assert.assertTrue(map.containsKey("key4"));
+        // existing key is replaced without eviction
+        map.put("key4", "value");
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("value", map.get("key4"));
+        Assert.assertEquals("value", map.computeIfAbsent("key4", k -> "none"));
+    }
+
     @Test
     public void adaptObjectToCollection() {
         Assert.assertTrue(CollectionUtils.adaptObjectToCollection(null).isEmpty());
@@ -251,5 +286,14 @@ public class CollectionUtilsTest {
         Map<Integer, Integer> map = new HashMap<>();
         Assert.assertEquals(1, CollectionUtils.computeIfAbsent(map, 1, k -> 1).intValue());
         Assert.assertEquals(1, CollectionUtils.computeIfAbsent(map, 1, k -> 2).intValue());
+
+        // computed value is returned even if the entry is evicted immediately
+        Map<Integer, Integer> discarded = new HashMap<Integer, Integer>() {
+            @Override
+            public Integer putIfAbsent(Integer key, Integer value) {
+                return null;
+            }
+        };
+        Assert.assertEquals(1, CollectionUtils.computeIfAbsent(discarded, 1, k -> 1).intValue());
     }
 }
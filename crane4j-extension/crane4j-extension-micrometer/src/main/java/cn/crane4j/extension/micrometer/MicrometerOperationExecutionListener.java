@@ -0,0 +1,189 @@
+package cn.crane4j.extension.micrometer;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.executor.AssembleExecution;
+import cn.crane4j.core.executor.OperationExecutionListener;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Setter;
+import lombok.Value;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>An {@link OperationExecutionListener} which records the execution of operations by Micrometer.<br />
+ * The following meters will be registered:
+ * <ul>
+ *     <li>{@code crane4j.executor.phase}: timer of disassembly and grouping, tagged with {@code phase};</li>
+ *     <li>{@code crane4j.executor.execution}: timer of whole executions;</li>
+ *     <li>{@code crane4j.executor.targets}: distribution summary of flattened targets per execution;</li>
+ *     <li>{@code crane4j.container.fetch}: timer of container fetches, tagged with {@code namespace};</li>
+ *     <li>{@code crane4j.container.keys}: distribution summary of keys per container fetch, tagged with {@code namespace};</li>
+ *     <li>{@code crane4j.operation.mapping}: timer of property mapping, tagged with {@code handler} and {@code namespace};</li>
+ *     <li>{@code crane4j.operation.errors}: counter of failed executions,
+ *     tagged with {@code handler}, {@code namespace} and {@code exception};</li>
+ * </ul>
+ * The meters tagged by namespace or handler are cached after the first registration,
+ * so the number of namespaces should be bounded.
+ *
+ * @author huangchengxing
+ * @see OperationExecutionListener
+ * @since 2.8.0
+ */
+public class MicrometerOperationExecutionListener implements OperationExecutionListener {
+
+    public static final String PHASE_TIMER = "crane4j.executor.phase";
+    public static final String EXECUTION_TIMER = "crane4j.executor.execution";
+    public static final String TARGETS_SUMMARY = "crane4j.executor.targets";
+    public static final String CONTAINER_FETCH_TIMER = "crane4j.container.fetch";
+    public static final String CONTAINER_KEYS_SUMMARY = "crane4j.container.keys";
+    public static final String MAPPING_TIMER = "crane4j.operation.mapping";
+    public static final String ERROR_COUNTER = "crane4j.operation.errors";
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Tags commonTags;
+    private final Timer disassembleTimer;
+    private final Timer groupingTimer;
+    private final Timer executionTimer;
+    private final DistributionSummary targetsSummary;
+    private final Map<String, Timer> fetchTimers = new ConcurrentHashMap<>(16);
+    private final Map<String, DistributionSummary> keysSummaries = new ConcurrentHashMap<>(16);
+    private final Map<String, Map<String, Timer>> mappingTimers = new ConcurrentHashMap<>(8);
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>(8);
+
+    /**
+     * Whether to publish percentile histogram for timers and distribution summaries,
+     * it only works for the meters which are registered after it is set.
+     */
+    @Setter
+    private boolean publishPercentileHistogram = false;
+
+    /**
+     * Create a {@link MicrometerOperationExecutionListener} instance.
+     *
+     * @param registry meter registry
+     */
+    public MicrometerOperationExecutionListener(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * Create a {@link MicrometerOperationExecutionListener} instance.
+     *
+     * @param registry meter registry
+     * @param commonTags tags added to all meters
+     */
+    public MicrometerOperationExecutionListener(MeterRegistry registry, Tags commonTags) {
+        this.registry = registry;
+        this.commonTags = commonTags;
+        this.disassembleTimer = Timer.builder(PHASE_TIMER)
+            .tags(commonTags).tag("phase", "disassemble")
+            .description("The time spent on disassembling nested objects")
+            .register(registry);
+        this.groupingTimer = Timer.builder(PHASE_TIMER)
+            .tags(commonTags).tag("phase", "grouping")
+            .description("The time spent on grouping targets to executions")
+            .register(registry);
+        this.executionTimer = Timer.builder(EXECUTION_TIMER)
+            .tags(commonTags)
+            .description("The time spent on the whole execution of operations")
+            .register(registry);
+        this.targetsSummary = DistributionSummary.builder(TARGETS_SUMMARY)
+            .tags(commonTags)
+            .description("The number of flattened targets per execution")
+            .register(registry);
+    }
+
+    @Override
+    public void onDisassembleCompleted(
+        BeanOperations operations, int targetCount, int flattenedCount, long elapsedNanos) {
+        disassembleTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        targetsSummary.record(flattenedCount);
+    }
+
+    @Override
+    public void onGroupingCompleted(
+        BeanOperations operations, int targetCount, int executionCount, long elapsedNanos) {
+        groupingTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onContainerFetched(
+        Container<?> container, int keyCount, int sourceCount, long elapsedNanos) {
+        String namespace = getNamespace(container);
+        fetchTimers.computeIfAbsent(namespace, ns -> Timer.builder(CONTAINER_FETCH_TIMER)
+            .tags(commonTags).tag("namespace", ns)
+            .publishPercentileHistogram(publishPercentileHistogram)
+            .description("The time spent on fetching data sources from container")
+            .register(registry)
+        ).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        keysSummaries.computeIfAbsent(namespace, ns -> DistributionSummary.builder(CONTAINER_KEYS_SUMMARY)
+            .tags(commonTags).tag("namespace", ns)
+            .publishPercentileHistogram(publishPercentileHistogram)
+            .description("The number of keys per container fetch")
+            .register(registry)
+        ).record(keyCount);
+    }
+
+    @Override
+    public void onMappingCompleted(
+        AssembleOperationHandler handler, Container<?> container, int targetCount, long elapsedNanos) {
+        String namespace = getNamespace(container);
+        mappingTimers.computeIfAbsent(handler.getName(), h -> new ConcurrentHashMap<>(16))
+            .computeIfAbsent(namespace, ns -> Timer.builder(MAPPING_TIMER)
+                .tags(commonTags).tag("handler", handler.getName()).tag("namespace", ns)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .description("The time spent on mapping properties from data sources to targets")
+                .register(registry)
+            ).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onExecuteFailed(
+        AssembleOperationHandler handler, Container<?> container,
+        Collection<AssembleExecution> executions, Throwable ex) {
+        ErrorKey errorKey = new ErrorKey(handler.getName(), getNamespace(container), ex.getClass().getSimpleName());
+        errorCounters.computeIfAbsent(errorKey, k -> Counter.builder(ERROR_COUNTER)
+            .tags(commonTags)
+            .tag("handler", k.getHandler())
+            .tag("namespace", k.getNamespace())
+            .tag("exception", k.getException())
+            .description("The number of failed executions")
+            .register(registry)
+        ).increment();
+    }
+
+    @Override
+    public void onExecuteCompleted(BeanOperations operations, int targetCount, long elapsedNanos) {
+        executionTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Key of the error counter.
+     */
+    @Value
+    private static class ErrorKey {
+        String handler;
+        String namespace;
+        String exception;
+    }
+
+    private static String getNamespace(@Nullable Container<?> container) {
+        if (Objects.isNull(container)) {
+            return NONE;
+        }
+        String namespace = container.getNamespace();
+        return Objects.isNull(namespace) ? NONE : namespace;
+    }
+}
@@ -0,0 +1,113 @@
+package cn.crane4j.extension.micrometer;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.ConditionalTypeHierarchyBeanOperationParser;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * test for {@link MicrometerOperationExecutionListener}
+ *
+ * @author huangchengxing
+ */
+public class MicrometerOperationExecutionListenerTest {
+
+    private MeterRegistry registry;
+    private DisorderedBeanOperationExecutor executor;
+    private BeanOperationParser parser;
+
+    @Before
+    public void init() {
+        SimpleCrane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.create();
+        Map<Integer, String> sources = new HashMap<>();
+        sources.put(1, "one");
+        sources.put(2, "two");
+        configuration.registerContainer(Containers.forMap("test", sources));
+        configuration.registerContainer(LambdaContainer.forLambda("fail", keys -> {
+            throw new IllegalStateException("fail");
+        }));
+        parser = configuration.getBeanOperationsParser(null, ConditionalTypeHierarchyBeanOperationParser.class);
+
+        registry = new SimpleMeterRegistry();
+        MicrometerOperationExecutionListener listener = new MicrometerOperationExecutionListener(
+            registry, Tags.of("application", "test")
+        );
+        listener.setPublishPercentileHistogram(true);
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        executor.setExecutionListener(listener);
+    }
+
+    @Test
+    public void testExecute() {
+        Foo foo1 = new Foo().setId(1);
+        Foo foo2 = new Foo().setId(2);
+        Foo foo3 = new Foo().setId(2);
+        executor.execute(Arrays.asList(foo1, foo2, foo3), parser.parse(Foo.class));
+        Assert.assertEquals("one", foo1.getName());
+        Assert.assertEquals("two", foo2.getName());
+
+        Assert.assertEquals(1L, registry.get(MicrometerOperationExecutionListener.EXECUTION_TIMER)
+            .tag("application", "test").timer().count());
+        Assert.assertEquals(1L, registry.get(MicrometerOperationExecutionListener.PHASE_TIMER)
+            .tag("phase", "disassemble").timer().count());
+        Assert.assertEquals(1L, registry.get(MicrometerOperationExecutionListener.PHASE_TIMER)
+            .tag("phase", "grouping").timer().count());
+        Assert.assertEquals(3.0D, registry.get(MicrometerOperationExecutionListener.TARGETS_SUMMARY)
+            .summary().totalAmount(), 0.0D);
+        Assert.assertEquals(1L, registry.get(MicrometerOperationExecutionListener.CONTAINER_FETCH_TIMER)
+            .tag("namespace", "test").timer().count());
+        // keys are deduplicated before fetching
+        Assert.assertEquals(2.0D, registry.get(MicrometerOperationExecutionListener.CONTAINER_KEYS_SUMMARY)
+            .tag("namespace", "test").summary().totalAmount(), 0.0D);
+        Assert.assertEquals(1L, registry.get(MicrometerOperationExecutionListener.MAPPING_TIMER)
+            .tag("namespace", "test").tag("handler", OneToOneAssembleOperationHandler.class.getSimpleName())
+            .timer().count());
+    }
+
+    @Test
+    public void testExecuteFailed() {
+        executor.execute(Collections.singletonList(new FailedFoo().setId(1)), parser.parse(FailedFoo.class));
+        Assert.assertEquals(1.0D, registry.get(MicrometerOperationExecutionListener.ERROR_COUNTER)
+            .tag("namespace", "fail").tag("exception", "IllegalStateException").counter().count(), 0.0D);
+
+        // the counter is reused by the following failures
+        executor.execute(Collections.singletonList(new FailedFoo().setId(2)), parser.parse(FailedFoo.class));
+        Assert.assertEquals(1, registry.get(MicrometerOperationExecutionListener.ERROR_COUNTER).counters().size());
+        Assert.assertEquals(2.0D, registry.get(MicrometerOperationExecutionListener.ERROR_COUNTER)
+            .tag("namespace", "fail").tag("exception", "IllegalStateException").counter().count(), 0.0D);
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Foo {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class FailedFoo {
+        @Assemble(container = "fail", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
@@ -0,0 +1,95 @@
+package cn.crane4j.extension.reactor;
+
+import cn.crane4j.annotation.AutoOperate;
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.support.auto.MethodBasedAutoOperateAnnotatedElementResolver;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.StringUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactivestreams.Publisher;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A {@link MethodBasedAutoOperateAnnotatedElementResolver} which supports
+ * the method returning {@link Publisher}.
+ *
+ * <p>When the method returns a publisher, the {@link AutoOperate#on()} is resolved against
+ * the element type of the publisher which declared in the generic return type,
+ * such as {@code Foo} in {@code Mono<Foo>} or {@code Flux<Foo>},
+ * and the extractor is applied to each element emitted by the publisher
+ * rather than the publisher or the window of elements.
+ *
+ * @author huangchengxing
+ * @see ReactiveMethodResultAutoOperateSupport
+ * @since 2.8.0
+ */
+public class ReactiveMethodBasedAutoOperateAnnotatedElementResolver extends MethodBasedAutoOperateAnnotatedElementResolver {
+
+    /**
+     * Create {@link ReactiveMethodBasedAutoOperateAnnotatedElementResolver} with {@link Crane4jGlobalConfiguration}.
+     *
+     * @param configuration configuration
+     * @param typeResolver type resolver
+     */
+    public ReactiveMethodBasedAutoOperateAnnotatedElementResolver(
+        Crane4jGlobalConfiguration configuration, TypeResolver typeResolver) {
+        super(configuration, typeResolver);
+    }
+
+    @Override
+    protected MethodInvoker resolveExtractor(AnnotatedElement element, AutoOperate annotation) {
+        String on = annotation.on();
+        if (!(element instanceof Method)
+            || !Publisher.class.isAssignableFrom(((Method)element).getReturnType())
+            || StringUtils.isEmpty(on)) {
+            return super.resolveExtractor(element, annotation);
+        }
+
+        Method method = (Method)element;
+        Class<?> elementType = resolveElementType(method);
+        Asserts.isNotNull(
+            elementType, "cannot resolve [{}] of @AutoOperate for method [{}], "
+                + "the element type of the returned publisher must be declared, such as Flux<Foo> or Mono<Foo>", on, method
+        );
+        MethodInvoker getter = configuration.getPropertyOperator().findGetter(elementType, on);
+        Asserts.isNotNull(getter, "cannot find getter for [{}] on [{}]", on, elementType);
+        // the target may be the element of mono or the window of elements of flux
+        return (target, args) -> {
+            Collection<?> elements = CollectionUtils.adaptObjectToCollection(target);
+            List<Object> results = new ArrayList<>(elements.size());
+            for (Object e : elements) {
+                Object result = Objects.isNull(e) ? null : getter.invoke(e);
+                results.addAll(CollectionUtils.adaptObjectToCollection(result));
+            }
+            return results.isEmpty() ? null : results;
+        };
+    }
+
+    @Nullable
+    private static Class<?> resolveElementType(Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (!(returnType instanceof ParameterizedType)) {
+            return null;
+        }
+        Type[] typeArguments = ((ParameterizedType)returnType).getActualTypeArguments();
+        if (typeArguments.length != 1) {
+            return null;
+        }
+        Type elementType = typeArguments[0];
+        if (elementType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType)elementType).getRawType();
+        }
+        return elementType instanceof Class ? (Class<?>)elementType : null;
+    }
+}
@@ -0,0 +1,134 @@
+package cn.crane4j.extension.reactor;
+
+import cn.crane4j.annotation.AutoOperate;
+import cn.crane4j.core.support.AnnotationFinder;
+import cn.crane4j.core.support.aop.MethodResultAutoOperateSupport;
+import cn.crane4j.core.support.auto.AutoOperateAnnotatedElement;
+import cn.crane4j.core.support.auto.AutoOperateAnnotatedElementResolver;
+import cn.crane4j.core.support.expression.MethodBasedExpressionEvaluator;
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link MethodResultAutoOperateSupport} which supports the method
+ * returning {@link Mono}, {@link Flux} or other {@link Publisher}.
+ *
+ * <p>When the method returns a publisher, the operation is not applied immediately,
+ * instead, a new publisher is returned to the caller, in which:
+ * <ul>
+ *     <li>the element emitted by {@link Mono} is processed alone;</li>
+ *     <li>the elements emitted by {@link Flux} are buffered into windows of {@link #windowSize},
+ *     and the elements of a window are processed in one batch;</li>
+ *     <li>the processing is performed on the {@link #scheduler},
+ *     so the event loop thread which emits elements will not be blocked by containers;</li>
+ *     <li>at most {@link #concurrency} windows are processed at the same time,
+ *     and the elements are re-emitted in the original order.</li>
+ * </ul>
+ * The condition expression in {@link AutoOperate#condition()} is evaluated for each window,
+ * and the {@code #result} in the expression is the element of {@link Mono}
+ * or the list of elements in the window of {@link Flux}.<br />
+ * If the method returns other types, the result will be processed as usual.
+ *
+ * <p>If {@link AutoOperate#on()} is specified, the element resolver should be
+ * {@link ReactiveMethodBasedAutoOperateAnnotatedElementResolver},
+ * which resolves it against the element type of the publisher and applies it to each element.
+ *
+ * @author huangchengxing
+ * @see MethodResultAutoOperateSupport
+ * @since 2.8.0
+ */
+@Slf4j
+public class ReactiveMethodResultAutoOperateSupport extends MethodResultAutoOperateSupport {
+
+    /**
+     * scheduler to perform the operation
+     */
+    @Getter
+    private final Scheduler scheduler;
+
+    /**
+     * max number of elements in a window
+     */
+    @Getter
+    private final int windowSize;
+
+    /**
+     * max number of windows processed at the same time
+     */
+    @Getter
+    private final int concurrency;
+
+    /**
+     * Create a {@link ReactiveMethodResultAutoOperateSupport} instance.
+     *
+     * @param elementResolver element resolver
+     * @param expressionEvaluator expression evaluator
+     * @param annotationFinder annotation finder
+     * @param scheduler scheduler to perform the operation
+     * @param windowSize max number of elements in a window
+     * @param concurrency max number of windows processed at the same time
+     */
+    public ReactiveMethodResultAutoOperateSupport(
+        AutoOperateAnnotatedElementResolver elementResolver,
+        MethodBasedExpressionEvaluator expressionEvaluator, AnnotationFinder annotationFinder,
+        Scheduler scheduler, int windowSize, int concurrency) {
+        super(elementResolver, expressionEvaluator, annotationFinder);
+        Asserts.isTrue(windowSize > 0, "window size must be greater than 0");
+        Asserts.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        this.scheduler = scheduler;
+        this.windowSize = windowSize;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * After the method is called, process the returning result of the method
+     * and return the result which should be returned to the caller.<br />
+     * If the result is a {@link Publisher}, a new publisher which applies
+     * the operation to the emitted elements will be returned.
+     *
+     * @param method method
+     * @param result result
+     * @param args args
+     * @return result which should be returned to the caller
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object processResult(Method method, Object result, Object[] args) {
+        if (!(result instanceof Publisher)) {
+            return super.processResult(method, result, args);
+        }
+        AutoOperateAnnotatedElement element = resolveElement(method);
+        if (element == AutoOperateAnnotatedElement.EMPTY) {
+            return result;
+        }
+        if (result instanceof Mono) {
+            return ((Mono<Object>)result).flatMap(t -> operateLater(method, element, t, args));
+        }
+        if (!method.getReturnType().isAssignableFrom(Flux.class)) {
+            log.warn("cannot apply auto operate for method [{}], because return type is not compatible with Flux", method);
+            return result;
+        }
+        return Flux.from((Publisher<Object>)result)
+            .buffer(windowSize)
+            .flatMapSequential(window -> operateLater(method, element, window, args), concurrency)
+            .flatMapIterable(Function.identity());
+    }
+
+    private <T> Mono<T> operateLater(Method method, AutoOperateAnnotatedElement element, T data, Object[] args) {
+        return Mono.fromCallable(() -> {
+            log.debug("process result for [{}]", method);
+            if (support(method, data, args, element.getAnnotation().condition())) {
+                element.execute(data);
+            }
+            return data;
+        }).subscribeOn(scheduler);
+    }
+}
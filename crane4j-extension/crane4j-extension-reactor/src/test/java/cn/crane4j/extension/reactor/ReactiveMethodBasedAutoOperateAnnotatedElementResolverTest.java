@@ -0,0 +1,148 @@
+package cn.crane4j.extension.reactor;
+
+import cn.crane4j.annotation.AutoOperate;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import cn.crane4j.core.support.auto.AutoOperateAnnotatedElement;
+import cn.crane4j.core.support.auto.DefaultAutoOperateAnnotatedElement;
+import cn.crane4j.core.util.ReflectUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * test for {@link ReactiveMethodBasedAutoOperateAnnotatedElementResolver}
+ *
+ * @author huangchengxing
+ */
+@SuppressWarnings("unused")
+public class ReactiveMethodBasedAutoOperateAnnotatedElementResolverTest {
+
+    private ReactiveMethodBasedAutoOperateAnnotatedElementResolver resolver;
+
+    @Before
+    public void init() {
+        Crane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.builder().build();
+        resolver = new ReactiveMethodBasedAutoOperateAnnotatedElementResolver(configuration, configuration.getTypeResolver());
+    }
+
+    @Test
+    public void resolveExtractorForMono() {
+        MethodInvoker extractor = resolveExtractor("mono");
+        Foo foo = new Foo(1);
+        Assert.assertEquals(Collections.singletonList(foo), extractor.invoke(new Wrapper(foo)));
+        Assert.assertNull(extractor.invoke(new Wrapper(null)));
+    }
+
+    @Test
+    public void resolveExtractorForFlux() {
+        MethodInvoker extractor = resolveExtractor("flux");
+        Foo foo1 = new Foo(1);
+        Foo foo2 = new Foo(2);
+        List<Wrapper> window = Arrays.asList(new Wrapper(foo1), new Wrapper(null), new Wrapper(foo2));
+        Assert.assertEquals(Arrays.asList(foo1, foo2), extractor.invoke(window));
+    }
+
+    @Test
+    public void resolveExtractorForNonPublisher() {
+        MethodInvoker extractor = resolveExtractor("wrapper");
+        Foo foo = new Foo(1);
+        Assert.assertSame(foo, extractor.invoke(new Wrapper(foo)));
+    }
+
+    @Test
+    public void resolveExtractorWithoutOn() {
+        MethodInvoker extractor = resolveExtractor("fluxWithoutOn");
+        List<Foo> window = Collections.singletonList(new Foo(1));
+        Assert.assertSame(window, extractor.invoke(window));
+    }
+
+    @Test
+    public void resolveWhenElementTypeIsUnresolvable() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "rawPublisher");
+        Assert.assertNotNull(method);
+        AutoOperate annotation = method.getAnnotation(AutoOperate.class);
+        Assert.assertThrows(Crane4jException.class, () -> resolver.resolve(method, annotation));
+
+        Method wildcard = ReflectUtils.getMethod(this.getClass(), "wildcardFlux");
+        Assert.assertNotNull(wildcard);
+        AutoOperate wildcardAnnotation = wildcard.getAnnotation(AutoOperate.class);
+        Assert.assertThrows(Crane4jException.class, () -> resolver.resolve(wildcard, wildcardAnnotation));
+    }
+
+    @Test
+    public void resolveWhenGetterNotFound() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "fluxWithUnknownProperty");
+        Assert.assertNotNull(method);
+        AutoOperate annotation = method.getAnnotation(AutoOperate.class);
+        Assert.assertThrows(Crane4jException.class, () -> resolver.resolve(method, annotation));
+    }
+
+    private MethodInvoker resolveExtractor(String methodName) {
+        Method method = ReflectUtils.getMethod(this.getClass(), methodName);
+        Assert.assertNotNull(method);
+        AutoOperateAnnotatedElement element = resolver.resolve(method, method.getAnnotation(AutoOperate.class));
+        Assert.assertTrue(element instanceof DefaultAutoOperateAnnotatedElement);
+        return ((DefaultAutoOperateAnnotatedElement)element).getExtractor();
+    }
+
+    @AutoOperate(on = "foo")
+    private Mono<Wrapper> mono() {
+        return Mono.empty();
+    }
+
+    @AutoOperate(on = "foo")
+    private Flux<Wrapper> flux() {
+        return Flux.empty();
+    }
+
+    @AutoOperate(on = "foo")
+    private Wrapper wrapper() {
+        return new Wrapper(null);
+    }
+
+    @AutoOperate
+    private Flux<Foo> fluxWithoutOn() {
+        return Flux.empty();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @AutoOperate(on = "foo")
+    private Publisher rawPublisher() {
+        return Flux.empty();
+    }
+
+    @AutoOperate(on = "foo")
+    private Flux<?> wildcardFlux() {
+        return Flux.empty();
+    }
+
+    @AutoOperate(on = "unknown")
+    private Flux<Wrapper> fluxWithUnknownProperty() {
+        return Flux.empty();
+    }
+
+    @AllArgsConstructor
+    @Data
+    private static class Wrapper {
+        private Foo foo;
+    }
+
+    @AllArgsConstructor
+    @Data
+    private static class Foo {
+        private Integer id;
+    }
+}
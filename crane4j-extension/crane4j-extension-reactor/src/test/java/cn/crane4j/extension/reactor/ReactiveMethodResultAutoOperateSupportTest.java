@@ -0,0 +1,227 @@
+package cn.crane4j.extension.reactor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.AutoOperate;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.support.SimpleAnnotationFinder;
+import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
+import cn.crane4j.core.support.SimpleParameterNameFinder;
+import cn.crane4j.core.support.auto.AutoOperateAnnotatedElementResolver;
+import cn.crane4j.core.support.expression.MethodBasedExpressionEvaluator;
+import cn.crane4j.core.support.expression.OgnlExpressionContext;
+import cn.crane4j.core.support.expression.OgnlExpressionEvaluator;
+import cn.crane4j.core.util.ReflectUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link ReactiveMethodResultAutoOperateSupport}
+ *
+ * @author huangchengxing
+ */
+@SuppressWarnings("unused")
+public class ReactiveMethodResultAutoOperateSupportTest {
+
+    private final List<Collection<Integer>> requests = new CopyOnWriteArrayList<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private Scheduler scheduler;
+    private ReactiveMethodResultAutoOperateSupport support;
+
+    @Before
+    public void init() {
+        Crane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.builder().build();
+        MethodBasedExpressionEvaluator expressionEvaluator = new MethodBasedExpressionEvaluator(
+            new SimpleParameterNameFinder(), new OgnlExpressionEvaluator(), method -> new OgnlExpressionContext()
+        );
+        AutoOperateAnnotatedElementResolver resolver = new ReactiveMethodBasedAutoOperateAnnotatedElementResolver(configuration, configuration.getTypeResolver());
+        scheduler = Schedulers.newSingle("crane4j-test");
+        support = new ReactiveMethodResultAutoOperateSupport(
+            resolver, expressionEvaluator, SimpleAnnotationFinder.INSTANCE, scheduler, 2, 2
+        );
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("test", ids -> {
+            requests.add(ids);
+            threads.add(Thread.currentThread().getName());
+            return ids.stream().map(id -> new Foo(id, "name" + id))
+                .collect(Collectors.toMap(Foo::getId, Function.identity()));
+        }));
+    }
+
+    @After
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void processFlux() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "flux", Integer.class);
+        Object result = support.processResult(method, flux(5), new Object[]{ 5 });
+        Assert.assertTrue(result instanceof Flux);
+        // nothing is processed before subscribed
+        Assert.assertTrue(requests.isEmpty());
+
+        List<Foo> foos = ((Flux<Foo>)result).collectList().block();
+        Assert.assertNotNull(foos);
+        Assert.assertEquals(5, foos.size());
+        for (int i = 0; i < foos.size(); i++) {
+            Assert.assertEquals((Integer)i, foos.get(i).getId());
+            Assert.assertEquals("name" + i, foos.get(i).getName());
+        }
+        // elements are processed in windows on the scheduler
+        Assert.assertEquals(3, requests.size());
+        Assert.assertTrue(requests.stream().allMatch(keys -> keys.size() <= 2));
+        Assert.assertTrue(threads.stream().allMatch(name -> name.startsWith("crane4j-test")));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void processMono() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "mono", Integer.class);
+        Object result = support.processResult(method, mono(1), new Object[]{ 1 });
+        Assert.assertTrue(result instanceof Mono);
+        Foo foo = ((Mono<Foo>)result).block();
+        Assert.assertNotNull(foo);
+        Assert.assertEquals("name1", foo.getName());
+
+        // condition is false
+        result = support.processResult(method, mono(-1), new Object[]{ -1 });
+        foo = ((Mono<Foo>)result).block();
+        Assert.assertNotNull(foo);
+        Assert.assertNull(foo.getName());
+        Assert.assertEquals(1, requests.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void processFluxWithOn() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "fluxWithOn", Integer.class);
+        Object result = support.processResult(method, fluxWithOn(5), new Object[]{ 5 });
+        List<Wrapper> wrappers = ((Flux<Wrapper>)result).collectList().block();
+        Assert.assertNotNull(wrappers);
+        Assert.assertEquals(5, wrappers.size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            Assert.assertEquals("name" + i, wrappers.get(i).getFoo().getName());
+        }
+        // the extractor is applied to each element, and elements of a window are still processed in one batch
+        Assert.assertEquals(3, requests.size());
+        Assert.assertTrue(requests.stream().allMatch(keys -> keys.size() <= 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void processMonoWithOn() {
+        Method method = ReflectUtils.getMethod(this.getClass(), "monoWithOn", Integer.class);
+        Object result = support.processResult(method, monoWithOn(1), new Object[]{ 1 });
+        Wrapper wrapper = ((Mono<Wrapper>)result).block();
+        Assert.assertNotNull(wrapper);
+        Assert.assertEquals("name1", wrapper.getFoo().getName());
+    }
+
+    @Test
+    public void processWhenNotCompatible() {
+        // return type is not compatible with Flux
+        Method method = ReflectUtils.getMethod(this.getClass(), "customPublisher");
+        Publisher<Foo> publisher = customPublisher();
+        Assert.assertSame(publisher, support.processResult(method, publisher, new Object[0]));
+
+        // not annotated
+        method = ReflectUtils.getMethod(this.getClass(), "notAnnotated");
+        Flux<Foo> flux = notAnnotated();
+        Assert.assertSame(flux, support.processResult(method, flux, new Object[0]));
+
+        // not a publisher
+        method = ReflectUtils.getMethod(this.getClass(), "list");
+        List<Foo> foos = list();
+        Assert.assertSame(foos, support.processResult(method, foos, new Object[0]));
+        Assert.assertEquals("name1", foos.get(0).getName());
+    }
+
+    @AutoOperate(type = Foo.class)
+    private Flux<Foo> flux(Integer size) {
+        List<Foo> foos = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            foos.add(new Foo(i));
+        }
+        return Flux.fromIterable(foos);
+    }
+
+    @AutoOperate(type = Foo.class, condition = "#arg0 > 0")
+    private Mono<Foo> mono(Integer id) {
+        return Mono.just(new Foo(id));
+    }
+
+    @AutoOperate(type = Foo.class, on = "foo")
+    private Flux<Wrapper> fluxWithOn(Integer size) {
+        List<Wrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            wrappers.add(new Wrapper(new Foo(i)));
+        }
+        return Flux.fromIterable(wrappers);
+    }
+
+    @AutoOperate(type = Foo.class, on = "foo")
+    private Mono<Wrapper> monoWithOn(Integer id) {
+        return Mono.just(new Wrapper(new Foo(id)));
+    }
+
+    @AutoOperate(type = Foo.class)
+    private CustomPublisher customPublisher() {
+        return new CustomPublisher();
+    }
+
+    private Flux<Foo> notAnnotated() {
+        return Flux.just(new Foo(1));
+    }
+
+    @AutoOperate(type = Foo.class)
+    private List<Foo> list() {
+        List<Foo> foos = new ArrayList<>();
+        foos.add(new Foo(1));
+        return foos;
+    }
+
+    private static class CustomPublisher implements Publisher<Foo> {
+        @Override
+        public void subscribe(Subscriber<? super Foo> subscriber) {
+            Flux.just(new Foo(1)).subscribe(subscriber);
+        }
+    }
+
+    @AllArgsConstructor
+    @Data
+    private static class Wrapper {
+        private Foo foo;
+    }
+
+    @AllArgsConstructor
+    @RequiredArgsConstructor
+    @Data
+    private static class Foo {
+        @Assemble(container = "test", props = @Mapping("name"))
+        private final Integer id;
+        private String name;
+    }
+}
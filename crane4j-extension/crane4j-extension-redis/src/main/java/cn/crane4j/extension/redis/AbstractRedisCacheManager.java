@@ -1,6 +1,9 @@
 package cn.crane4j.extension.redis;
 
 import cn.crane4j.core.cache.AbstractCacheManager;
+import cn.crane4j.core.cache.CacheObject;
+import cn.crane4j.core.cache.NegativeCacheCodec;
+import cn.crane4j.core.util.CollectionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -100,7 +103,10 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
     }
 
     /**
-     * Redis cache object.
+     * <p>Redis cache object.<br />
+     * The negative cache is stored as {@link NegativeCacheCodec#NEGATIVE_CACHE_VALUE},
+     * and the values are encoded by {@link NegativeCacheCodec} before they are resolved,
+     * so that the real values will not be read as the negative cache.
      *
      * @author huangchengxing
      * @since 2.4.0
@@ -109,11 +115,55 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
 
         private final long expireTime;
         private final TimeUnit timeUnit;
+        private final V negativeValue;
 
         protected RedisCacheObject(String name, long expireTime, TimeUnit timeUnit) {
             super(name);
             this.expireTime = expireTime;
             this.timeUnit = timeUnit;
+            this.negativeValue = resolveCacheValue(NegativeCacheCodec.NEGATIVE_CACHE_VALUE);
+        }
+
+        /**
+         * Add a negative cache for the key,
+         * it will be stored in redis with the expire time of negative cache.
+         *
+         * @param key key
+         * @since 2.8.0
+         */
+        @Override
+        public void putNegative(K key) {
+            if (isNegativeCacheEnabled()) {
+                K cacheKey = resolveCacheKey(getName(), key);
+                setNegativeValue(redisTemplate, cacheKey);
+            }
+        }
+
+        /**
+         * Add negative caches for the keys.
+         *
+         * @param keys keys
+         * @since 2.8.0
+         */
+        @Override
+        public void putAllNegative(Iterable<K> keys) {
+            if (!isNegativeCacheEnabled() || CollectionUtils.isEmpty(keys)) {
+                return;
+            }
+            executePipelined(ops -> keys.forEach(key -> setNegativeValue(ops, resolveCacheKey(getName(), key))));
+        }
+
+        private void setNegativeValue(RedisOperations<K, V> ops, K cacheKey) {
+            long negativeExpireTime = getNegativeExpireTime();
+            if (negativeExpireTime > 0L) {
+                ops.opsForValue().set(cacheKey, negativeValue, negativeExpireTime, TimeUnit.MILLISECONDS);
+            } else {
+                ops.opsForValue().set(cacheKey, negativeValue);
+            }
+        }
+
+        private Object resolveNegativeValue(V value) {
+            return Objects.equals(negativeValue, value) ? NEGATIVE_VALUE : NegativeCacheCodec.decode(value);
         }
 
         /**
@@ -134,7 +184,7 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
             executePipelined(ops -> {
                 for (Map.Entry<K, Object> entry : caches.entrySet()) {
                     K cacheKey = resolveCacheKey(getName(), entry.getKey());
-                    V cacheValue = resolveCacheValue(entry.getValue());
+                    V cacheValue = resolveCacheValue(NegativeCacheCodec.encode(entry.getValue()));
                     ops.opsForValue().set(cacheKey, cacheValue, expireTime, timeUnit);
                 }
             });
@@ -161,7 +211,7 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
             for (K key : keys) {
                 V value = values.get(index++);
                 if (Objects.nonNull(value)) {
-                    results.put(key, value);
+                    results.put(key, resolveNegativeValue(value));
                 }
             }
             return results;
@@ -190,7 +240,8 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
         @Override
         public Object get(K key) {
             K cacheKey = resolveCacheKey(getName(), key);
-            return redisTemplate.opsForValue().get(cacheKey);
+            V value = redisTemplate.opsForValue().get(cacheKey);
+            return Objects.isNull(value) ? null : resolveNegativeValue(value);
         }
 
         /**
@@ -202,7 +253,7 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
         @Override
         public void put(K key, Object value) {
             K cacheKey = resolveCacheKey(getName(), key);
-            V cacheValue = resolveCacheValue(value);
+            V cacheValue = resolveCacheValue(NegativeCacheCodec.encode(value));
             redisTemplate.opsForValue().set(cacheKey, cacheValue, expireTime, timeUnit);
         }
 
@@ -215,7 +266,7 @@ public abstract class AbstractRedisCacheManager<K, V> extends AbstractCacheManag
         @Override
         public void putIfAbsent(K key, Object value) {
             K cacheKey = resolveCacheKey(getName(), key);
-            V cacheValue = resolveCacheValue(value);
+            V cacheValue = resolveCacheValue(NegativeCacheCodec.encode(value));
             redisTemplate.opsForValue()
                 .setIfAbsent(cacheKey, cacheValue, expireTime, timeUnit);
         }
@@ -0,0 +1,98 @@
+package cn.crane4j.extension.redis;
+
+import cn.crane4j.core.cache.TwoLevelCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * <p>An implementation of {@link TwoLevelCacheManager.InvalidationBroadcaster}
+ * based on the publish/subscribe of redis.<br />
+ * The invalidation will be serialized by the value serializer of {@link RedisTemplate},
+ * and published to the specified channel, all nodes subscribed to the channel will receive it.
+ *
+ * @author huangchengxing
+ * @see TwoLevelCacheManager
+ * @since 2.8.0
+ */
+@Slf4j
+public class RedisInvalidationBroadcaster
+    implements TwoLevelCacheManager.InvalidationBroadcaster, MessageListener {
+
+    /**
+     * Default channel of invalidation.
+     */
+    public static final String DEFAULT_CHANNEL = "crane4j:cache:invalidation";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final List<Consumer<TwoLevelCacheManager.Invalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a {@link RedisInvalidationBroadcaster} instance,
+     * and register it to the listener container.
+     *
+     * @param redisTemplate redis template
+     * @param listenerContainer listener container
+     * @param channel channel of invalidation
+     */
+    public RedisInvalidationBroadcaster(
+        @NonNull RedisTemplate<String, Object> redisTemplate,
+        @NonNull RedisMessageListenerContainer listenerContainer, @NonNull String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * Broadcast the invalidation to all nodes.
+     *
+     * @param invalidation invalidation
+     */
+    @Override
+    public void broadcast(TwoLevelCacheManager.Invalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, invalidation);
+        } catch (Exception ex) {
+            log.warn("broadcast invalidation of cache [{}] fail: {}", invalidation.getCacheName(), ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Subscribe the invalidation from all nodes.
+     *
+     * @param listener listener
+     */
+    @Override
+    public void subscribe(Consumer<TwoLevelCacheManager.Invalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Callback for processing received objects through Redis.
+     *
+     * @param message message must not be {@literal null}.
+     * @param pattern pattern matching the channel (if specified) - can be {@literal null}.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        RedisSerializer<?> serializer = redisTemplate.getValueSerializer();
+        Object body = serializer.deserialize(message.getBody());
+        if (!(body instanceof TwoLevelCacheManager.Invalidation)) {
+            log.warn("ignore unknown message from channel [{}]: {}", channel, body);
+            return;
+        }
+        TwoLevelCacheManager.Invalidation invalidation = (TwoLevelCacheManager.Invalidation)body;
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+}
@@ -0,0 +1,54 @@
+package cn.crane4j.extension.redis;
+
+import cn.crane4j.core.cache.TwoLevelCacheManager;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * test for {@link RedisInvalidationBroadcaster}
+ *
+ * @author huangchengxing
+ */
+public class RedisInvalidationBroadcasterTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void test() {
+        RedisTemplate<String, Object> redisTemplate = Mockito.mock(RedisTemplate.class);
+        JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+        Mockito.doReturn(serializer).when(redisTemplate).getValueSerializer();
+        RedisMessageListenerContainer listenerContainer = Mockito.mock(RedisMessageListenerContainer.class);
+        RedisInvalidationBroadcaster broadcaster = new RedisInvalidationBroadcaster(
+            redisTemplate, listenerContainer, RedisInvalidationBroadcaster.DEFAULT_CHANNEL
+        );
+        Mockito.verify(listenerContainer).addMessageListener(Mockito.eq(broadcaster), Mockito.any(Topic.class));
+
+        // broadcast
+        TwoLevelCacheManager.Invalidation invalidation = new TwoLevelCacheManager.Invalidation(
+            "node", "test", new ArrayList<>(Collections.singletonList("key"))
+        );
+        broadcaster.broadcast(invalidation);
+        Mockito.verify(redisTemplate).convertAndSend(RedisInvalidationBroadcaster.DEFAULT_CHANNEL, invalidation);
+
+        // receive
+        List<TwoLevelCacheManager.Invalidation> received = new ArrayList<>();
+        broadcaster.subscribe(received::add);
+        byte[] body = serializer.serialize(invalidation);
+        broadcaster.onMessage(new DefaultMessage(RedisInvalidationBroadcaster.DEFAULT_CHANNEL.getBytes(), body), null);
+        Assert.assertEquals(Collections.singletonList(invalidation), received);
+
+        // ignore unknown message
+        broadcaster.onMessage(new DefaultMessage(RedisInvalidationBroadcaster.DEFAULT_CHANNEL.getBytes(), serializer.serialize("unknown")), null);
+        Assert.assertEquals(1, received.size());
+    }
+}
@@ -0,0 +1,159 @@
+package cn.crane4j.extension.redis;
+
+import cn.crane4j.core.cache.AbstractMapCacheManager;
+import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.CacheObject;
+import cn.crane4j.core.cache.TwoLevelCacheManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * test for {@link RedisInvalidationBroadcaster} with real redis,
+ * it will be skipped if the redis on localhost:6379 is unavailable.
+ *
+ * @author huangchengxing
+ */
+public class RedisInvalidationBroadcasterWithRedisTest {
+
+    private static final String CHANNEL = RedisInvalidationBroadcaster.DEFAULT_CHANNEL + ":test";
+    private static final String CACHE_NAME = "invalidation-test";
+
+    private JedisConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    @Before
+    public void init() {
+        // default connect to localhost:6379
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
+        configuration.setDatabase(1);
+        configuration.setPort(6379);
+        configuration.setHostName("localhost");
+        connectionFactory = new JedisConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        Assume.assumeTrue("redis is unavailable", isRedisAvailable());
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @After
+    public void destroy() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        if (redisTemplate != null) {
+            redisTemplate.delete(resolveCacheKey("a"));
+            redisTemplate.delete(resolveCacheKey("b"));
+        }
+        connectionFactory.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvalidationBetweenNodes() throws InterruptedException {
+        CacheManager local1 = AbstractMapCacheManager.newConcurrentHashMapCacheManager();
+        CacheManager local2 = AbstractMapCacheManager.newConcurrentHashMapCacheManager();
+        RedisInvalidationBroadcaster broadcaster1 = createBroadcaster();
+        RedisInvalidationBroadcaster broadcaster2 = createBroadcaster();
+        Assert.assertTrue(awaitSubscribed(broadcaster1, broadcaster2));
+        TwoLevelCacheManager node1 = new TwoLevelCacheManager(local1, createRemoteCacheManager(), broadcaster1);
+        TwoLevelCacheManager node2 = new TwoLevelCacheManager(local2, createRemoteCacheManager(), broadcaster2);
+        CacheObject<String> cache1 = node1.createCache(CACHE_NAME, -1L, TimeUnit.MILLISECONDS);
+        CacheObject<String> cache2 = node2.createCache(CACHE_NAME, -1L, TimeUnit.MILLISECONDS);
+
+        // fill node1, then node2 loads the value from redis into its local cache
+        cache1.put("a", "a1");
+        Assert.assertEquals("a1", cache2.get("a"));
+        Assert.assertEquals("a1", local2.getCache(CACHE_NAME).get("a"));
+
+        // overwrite by node1 will evict the local cache of node2 through redis channel
+        ((TwoLevelCacheManager.TwoLevelCacheObject<String>)cache1).overwrite("a", "a2");
+        Assert.assertTrue(await(() -> local2.getCache(CACHE_NAME).get("a") == null));
+        Assert.assertEquals("a2", cache2.get("a"));
+        // the invalidation sent by node1 is ignored by itself
+        Assert.assertEquals("a2", local1.getCache(CACHE_NAME).get("a"));
+
+        // remove by node2 will evict the local cache of node1
+        cache2.remove("a");
+        Assert.assertTrue(await(() -> local1.getCache(CACHE_NAME).get("a") == null));
+        Assert.assertNull(cache1.get("a"));
+
+        // clear by node1 will clear the local cache of node2
+        cache2.put("b", "b1");
+        cache2.get("b");
+        cache1.clear();
+        Assert.assertTrue(await(() -> local2.getCache(CACHE_NAME).get("b") == null));
+    }
+
+    private GeneralRedisCacheManager<String, Object> createRemoteCacheManager() {
+        return new GeneralRedisCacheManager<>(redisTemplate, (cacheName, key) -> resolveCacheKey(key), v -> v);
+    }
+
+    private RedisInvalidationBroadcaster createBroadcaster() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainers.add(container);
+        return new RedisInvalidationBroadcaster(redisTemplate, container, CHANNEL);
+    }
+
+    /**
+     * the subscription of listener container is asynchronous,
+     * keep sending probe until all broadcasters receive it.
+     */
+    private static boolean awaitSubscribed(RedisInvalidationBroadcaster... broadcasters) throws InterruptedException {
+        Set<RedisInvalidationBroadcaster> received = ConcurrentHashMap.newKeySet();
+        for (RedisInvalidationBroadcaster broadcaster : broadcasters) {
+            broadcaster.subscribe(invalidation -> received.add(broadcaster));
+        }
+        TwoLevelCacheManager.Invalidation probe = new TwoLevelCacheManager.Invalidation("probe", "probe", null);
+        return await(() -> {
+            broadcasters[0].broadcast(probe);
+            return received.size() == broadcasters.length;
+        });
+    }
+
+    private boolean isRedisAvailable() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return "PONG".equals(connection.ping());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private static String resolveCacheKey(String key) {
+        return CACHE_NAME + ":" + key;
+    }
+}
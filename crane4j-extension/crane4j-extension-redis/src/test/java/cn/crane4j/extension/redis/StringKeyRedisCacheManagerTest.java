@@ -1,6 +1,8 @@
 package cn.crane4j.extension.redis;
 
+import cn.crane4j.core.cache.CacheDefinition;
 import cn.crane4j.core.cache.CacheObject;
+import cn.crane4j.core.cache.NegativeCacheCodec;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -133,6 +135,74 @@ public class StringKeyRedisCacheManagerTest {
         Assert.assertNull(redisTemplate.opsForValue().get(resolveCacheKey("key")));
     }
 
+    @Test
+    public void putNegative() {
+        // negative cache is disabled by default
+        cache.putNegative("key");
+        Assert.assertNull(redisTemplate.opsForValue().get(resolveCacheKey("key")));
+
+        CacheObject<String> negativeCache = createNegativeCache(-1L);
+        negativeCache.putNegative("key");
+        Assert.assertEquals(
+            NegativeCacheCodec.NEGATIVE_CACHE_VALUE, redisTemplate.opsForValue().get(resolveCacheKey("key"))
+        );
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, negativeCache.get("key"));
+        // never expire
+        Assert.assertEquals(Long.valueOf(-1L), redisTemplate.getExpire(resolveCacheKey("key")));
+        redisTemplate.delete(resolveCacheKey("key"));
+    }
+
+    @Test
+    public void putValueLikeNegativeCache() {
+        CacheObject<String> negativeCache = createNegativeCache(-1L);
+        negativeCache.put("key", NegativeCacheCodec.NEGATIVE_CACHE_VALUE);
+        Assert.assertEquals(NegativeCacheCodec.NEGATIVE_CACHE_VALUE, negativeCache.get("key"));
+        Assert.assertEquals(
+            NegativeCacheCodec.NEGATIVE_CACHE_VALUE,
+            negativeCache.getAll(Arrays.asList("key")).get("key")
+        );
+        redisTemplate.delete(resolveCacheKey("key"));
+    }
+
+    @Test
+    public void putNegativeWithExpireTime() throws InterruptedException {
+        CacheObject<String> negativeCache = createNegativeCache(1000L);
+        negativeCache.putNegative("key");
+        Long ttl = redisTemplate.getExpire(resolveCacheKey("key"), TimeUnit.MILLISECONDS);
+        Assert.assertNotNull(ttl);
+        Assert.assertTrue(ttl > 0L && ttl <= 1000L);
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, negativeCache.get("key"));
+
+        // expired by redis
+        Thread.sleep(1500L);
+        Assert.assertNull(negativeCache.get("key"));
+        Assert.assertNull(redisTemplate.opsForValue().get(resolveCacheKey("key")));
+    }
+
+    @Test
+    public void putAllNegative() {
+        CacheObject<String> negativeCache = createNegativeCache(EXPIRE_TIME);
+        negativeCache.putAllNegative(Arrays.asList("key1", "key2"));
+        negativeCache.put("key3", "value3");
+        Long ttl = redisTemplate.getExpire(resolveCacheKey("key1"), TimeUnit.MILLISECONDS);
+        Assert.assertNotNull(ttl);
+        Assert.assertTrue(ttl > 0L && ttl <= EXPIRE_TIME);
+
+        Map<String, Object> map = negativeCache.getAll(Arrays.asList("key1", "none", "key2", "key3"));
+        Assert.assertEquals(3, map.size());
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, map.get("key1"));
+        Assert.assertSame(CacheObject.NEGATIVE_VALUE, map.get("key2"));
+        Assert.assertEquals("value3", map.get("key3"));
+        Assert.assertFalse(map.containsKey("none"));
+        redisTemplate.delete(Arrays.asList(resolveCacheKey("key1"), resolveCacheKey("key2"), resolveCacheKey("key3")));
+    }
+
+    private CacheObject<String> createNegativeCache(long negativeExpireTime) {
+        CacheDefinition.Impl definition = new CacheDefinition.Impl(CACHE_NAME, null, EXPIRE_TIME, TIME_UNIT);
+        definition.setNegativeExpireTime(negativeExpireTime);
+        return cacheManager.createCache(definition);
+    }
+
     private String resolveCacheKey(String key) {
         return PREFIX + ":" + CACHE_NAME + ":" + key;
     }
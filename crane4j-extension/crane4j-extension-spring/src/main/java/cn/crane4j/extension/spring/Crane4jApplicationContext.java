@@ -38,7 +38,10 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.AnnotatedElement;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * <p>The global configuration class implemented based on the Spring context,
@@ -296,6 +299,24 @@ public class Crane4jApplicationContext extends DefaultContainerManager
         });
     }
 
+    /**
+     * <p>Sort the installed {@link ContainerLifecycleProcessor} according to the order of beans,
+     * which is specified by {@link Order} or {@link Ordered}, including the {@link Order} on the factory method.<br />
+     * Because the processors which are in creation when {@link #afterPropertiesSet} is called
+     * can only be installed later, the installation order may not be the order of beans.
+     * The processors which are not beans are placed at the end in the order of installation.
+     */
+    private void sortContainerLifecycleProcessors() {
+        List<ContainerLifecycleProcessor> orderedProcessors = applicationContext
+            .getBeanProvider(ContainerLifecycleProcessor.class)
+            .orderedStream()
+            .collect(Collectors.toList());
+        containerLifecycleProcessorList.sort(Comparator.comparingInt(processor -> {
+            int index = orderedProcessors.indexOf(processor);
+            return index < 0 ? Integer.MAX_VALUE : index;
+        }));
+    }
+
     /**
      * After Spring initializes all singleton beans,
      * register all beans that implement the {@link Container} interface with the current context.
@@ -307,6 +328,7 @@ public class Crane4jApplicationContext extends DefaultContainerManager
                 log.info("install container lifecycle processor [{}]", name);
             }
         });
+        sortContainerLifecycleProcessors();
         applicationContext.getBeansOfType(ContainerDefinition.class).forEach((beanName, definition) -> {
             beanNameNamespaceMapping.put(beanName, definition.getNamespace());
             log.info("register container definition bean [{}] from spring context, actual namespace is [{}]", beanName, definition.getNamespace());
@@ -1,6 +1,7 @@
 package cn.crane4j.extension.spring;
 
 import cn.crane4j.core.cache.AbstractMapCacheManager;
+import cn.crane4j.core.cache.CaffeineCacheManager;
 import cn.crane4j.core.cache.GuavaCacheManager;
 import cn.crane4j.core.condition.ConditionOnContainerParser;
 import cn.crane4j.core.condition.ConditionOnExpressionParser;
@@ -177,6 +178,11 @@ public class DefaultCrane4jSpringConfiguration implements SmartInitializingSingl
         return new GuavaCacheManager();
     }
 
+    @Bean
+    public CaffeineCacheManager caffeineCacheManager() {
+        return new CaffeineCacheManager();
+    }
+
     @Bean
     public SoftConcurrentMapCacheManager softConcurrentMapCacheManager() {
         return new SoftConcurrentMapCacheManager();
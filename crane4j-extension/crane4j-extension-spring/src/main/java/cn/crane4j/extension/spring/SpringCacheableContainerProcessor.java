@@ -4,6 +4,8 @@ import cn.crane4j.annotation.ContainerCache;
 import cn.crane4j.core.cache.CacheDefinition;
 import cn.crane4j.core.cache.CacheableContainerProcessor;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerDelegate;
+import cn.crane4j.core.util.ConfigurationUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.context.ApplicationContext;
@@ -36,9 +38,8 @@ public class SpringCacheableContainerProcessor extends CacheableContainerProcess
             return definition;
         }
         ContainerCache annotation = findAnnotation(container);
-        return Objects.isNull(annotation) ? null : new CacheDefinition.Impl(
-            container.getNamespace(), annotation.cacheManager(),
-            annotation.expirationTime(), annotation.timeUnit()
+        return Objects.isNull(annotation) ? null : ConfigurationUtil.createCacheDefinition(
+            container.getNamespace(), annotation.cacheManager(), annotation
         );
     }
 
@@ -50,7 +51,13 @@ public class SpringCacheableContainerProcessor extends CacheableContainerProcess
             ApplicationContext applicationContext = context.getApplicationContext();
             return applicationContext.findAnnotationOnBean(beanName, ContainerCache.class);
         }
-        Class<?> containerClass = AopUtils.getTargetClass(container);
-        return AnnotatedElementUtils.findMergedAnnotation(containerClass, ContainerCache.class);
+        // find annotation from the delegated containers if necessary
+        Container<?> current = container;
+        ContainerCache annotation = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getTargetClass(current), ContainerCache.class);
+        while (Objects.isNull(annotation) && current instanceof ContainerDelegate) {
+            current = ((ContainerDelegate<?>)current).getContainer();
+            annotation = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getTargetClass(current), ContainerCache.class);
+        }
+        return annotation;
     }
 }
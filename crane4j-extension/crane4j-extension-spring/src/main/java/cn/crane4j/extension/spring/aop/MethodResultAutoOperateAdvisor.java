@@ -52,13 +52,12 @@ public class MethodResultAutoOperateAdvisor
         Method method = methodInvocation.getMethod();
         Object result = methodInvocation.proceed();
         try {
-            methodResultAutoOperateSupport.getObject()
-                .afterMethodInvoke(method, result, methodInvocation.getArguments());
+            return methodResultAutoOperateSupport.getObject()
+                .processResult(method, result, methodInvocation.getArguments());
         } catch (Exception ex) {
             log.error("cannot auto operate result for method [{}]", method, ex);
             throw ex;
         }
-        return result;
     }
 
     @NonNull
@@ -24,7 +24,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class SpelExpressionEvaluator implements ExpressionEvaluator, DisposableBean, EmbeddedValueResolverAware {
 
-    private final Map<String, Expression> expressionCaches = CollectionUtils.newWeakConcurrentMap();
+    private static final int MAXIMUM_CACHE_SIZE = 1024;
+    private final Map<String, Expression> expressionCaches = CollectionUtils.newBoundedConcurrentMap(MAXIMUM_CACHE_SIZE);
     private final ExpressionParser expressionParser;
     @Setter
     private StringValueResolver embeddedValueResolver;
@@ -0,0 +1,471 @@
+package cn.crane4j.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>An annotation processor which generates a property descriptor for each class
+ * that declares the operation annotations of crane4j, such as {@code @Assemble} and {@code @Disassemble}.
+ *
+ * <p>The generated class implements {@code cn.crane4j.core.support.reflect.GeneratedPropDesc},
+ * it is placed in the same package as the annotated class,
+ * and accesses the properties through direct method calls or field access instead of reflection.<br />
+ * A property is supported by the generated class if:
+ * <ul>
+ *     <li>it has a getter named {@code getXxx} or {@code isXxx}, or a setter named {@code setXxx};</li>
+ *     <li>or it is a field, which has no getter or setter;</li>
+ *     <li>and the method or field is not static, and is accessible from the package of the annotated class.</li>
+ * </ul>
+ * The other properties are still accessed by the property operator at runtime.
+ *
+ * <p>In addition, an annotation metadata which implements {@code cn.crane4j.core.parser.handler.GeneratedOperationMetadata}
+ * is generated for the class, it records the declared fields and the methods without parameters
+ * which are annotated by any annotation that may be retained at runtime,
+ * so the operation annotation handlers only need to find annotations on these members at runtime.
+ *
+ * <p><b>NOTE</b>: If the getters and setters are generated by other annotation processors (e.g. Lombok),
+ * they should be declared before this processor.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.core.support.reflect.GeneratedPropDesc
+ * @see cn.crane4j.core.support.reflect.GeneratedPropertyOperator
+ * @see cn.crane4j.core.parser.handler.GeneratedOperationMetadata
+ * @since 2.8.0
+ */
+public class PropDescProcessor extends AbstractProcessor {
+
+    private static final String ANNOTATION_PACKAGE = "cn.crane4j.annotation.";
+    private static final Set<String> SUPPORTED_ANNOTATIONS = supportedAnnotations(
+        "Assemble", "AssembleConstant", "AssembleEnum", "AssembleKey", "AssembleMethod", "AssembleMp", "Disassemble"
+    );
+    private static final String CLASS_NAME_SUFFIX = "$$Crane4jPropDesc";
+    private static final String METADATA_CLASS_NAME_SUFFIX = "$$Crane4jOperationMetadata";
+    private static final String METHOD_INVOKER = "cn.crane4j.core.support.MethodInvoker";
+    private static final String GENERATED_PROP_DESC = "cn.crane4j.core.support.reflect.GeneratedPropDesc";
+    private static final String GENERATED_OPERATION_METADATA = "cn.crane4j.core.parser.handler.GeneratedOperationMetadata";
+
+    private final Set<String> generatedTypes = new HashSet<>();
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return SUPPORTED_ANNOTATIONS;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> beanTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement beanType = getDeclaringType(element);
+                if (beanType != null) {
+                    beanTypes.add(beanType);
+                }
+            }
+        }
+        for (TypeElement beanType : beanTypes) {
+            if (!isAccessible(beanType)) {
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                    "skip generating property descriptor for inaccessible type " + beanType, beanType);
+                continue;
+            }
+            String binaryName = elements.getBinaryName(beanType).toString();
+            if (generatedTypes.add(binaryName)) {
+                generate(beanType, binaryName);
+                generateMetadata(beanType, binaryName);
+            }
+        }
+        // do not claim the annotations, they may be processed by other processors
+        return false;
+    }
+
+    private static Set<String> supportedAnnotations(String... names) {
+        Set<String> annotations = new LinkedHashSet<>();
+        for (String name : names) {
+            annotations.add(ANNOTATION_PACKAGE + name);
+            // repeated annotations are wrapped in the container annotation
+            annotations.add(ANNOTATION_PACKAGE + name + ".List");
+        }
+        return Collections.unmodifiableSet(annotations);
+    }
+
+    private TypeElement getDeclaringType(Element element) {
+        if (element.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return null;
+        }
+        if (element.getKind().isClass() || element.getKind().isInterface()) {
+            return (TypeElement)element;
+        }
+        if (element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD) {
+            return (TypeElement)element.getEnclosingElement();
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement)current;
+            NestingKind nestingKind = currentType.getNestingKind();
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)
+                || nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    // region ========= collect properties =========
+
+    private Map<String, Property> collectProperties(TypeElement beanType) {
+        PackageElement beanPackage = elements.getPackageOf(beanType);
+        DeclaredType beanDeclaredType = (DeclaredType)beanType.asType();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(beanType))) {
+            if (!isAccessible(method, beanPackage) || isDeclaredInObject(method)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            // resolve the type variables declared in the super types
+            ExecutableType methodType = (ExecutableType)types.asMemberOf(beanDeclaredType, method);
+            if (parameterCount == 0 && method.getReturnType().getKind() != TypeKind.VOID) {
+                collectGetter(properties, method, name, methodType.getReturnType());
+            } else if (parameterCount == 1 && name.length() > 3 && name.startsWith("set")) {
+                Property property = properties.computeIfAbsent(decapitalize(name.substring(3)), Property::new);
+                if (property.setter == null) {
+                    property.setter = method;
+                    property.setterType = methodType.getParameterTypes().get(0);
+                }
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(elements.getAllMembers(beanType))) {
+            if (!isAccessible(field, beanPackage)) {
+                continue;
+            }
+            Property property = properties.computeIfAbsent(field.getSimpleName().toString(), Property::new);
+            property.field = field;
+            property.fieldType = types.asMemberOf(beanDeclaredType, field);
+        }
+        return properties;
+    }
+
+    private void collectGetter(
+        Map<String, Property> properties, ExecutableElement method, String name, TypeMirror returnType) {
+        if (name.length() > 3 && name.startsWith("get")) {
+            Property property = properties.computeIfAbsent(decapitalize(name.substring(3)), Property::new);
+            property.getter = method;
+            property.getterType = returnType;
+            return;
+        }
+        if (name.length() > 2 && name.startsWith("is") && isBoolean(method.getReturnType())) {
+            Property property = properties.computeIfAbsent(decapitalize(name.substring(2)), Property::new);
+            // getXxx is preferred
+            if (property.getter == null) {
+                property.getter = method;
+                property.getterType = returnType;
+            }
+        }
+    }
+
+    private boolean isAccessible(Element member, PackageElement beanPackage) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        // protected or package-private members are accessible in the same package
+        return elements.getPackageOf(member).equals(beanPackage);
+    }
+
+    private Set<String> collectAnnotatedFields(TypeElement beanType) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(beanType.getEnclosedElements())) {
+            if (hasRuntimeAnnotation(field)) {
+                fields.add(field.getSimpleName().toString());
+            }
+        }
+        return fields;
+    }
+
+    private Set<String> collectAnnotatedMethods(TypeElement beanType) {
+        Set<String> methods = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(beanType.getEnclosedElements())) {
+            if (method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID && hasRuntimeAnnotation(method)) {
+                methods.add(method.getSimpleName().toString());
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Whether the element is annotated by any annotation which may be retained at runtime,
+     * the operation annotations may be used as meta-annotations, so all of them are considered.<br />
+     * The retention of some annotation types (e.g. the nested container annotations in class files)
+     * may not be resolved during processing, they are considered as retained at runtime.
+     */
+    private static boolean hasRuntimeAnnotation(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+            if (retention == null || retention.value() == RetentionPolicy.RUNTIME) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDeclaredInObject(ExecutableElement method) {
+        return ((TypeElement)method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private static boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || type.toString().equals("java.lang.Boolean");
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    // endregion
+
+    // region ========= generate source =========
+
+    private void generate(TypeElement beanType, String binaryName) {
+        Map<String, Property> properties = collectProperties(beanType);
+        String packageName = elements.getPackageOf(beanType).getQualifiedName().toString();
+        String className = generatedClassName(packageName, binaryName, CLASS_NAME_SUFFIX);
+        String beanTypeName = typeName(beanType.asType());
+
+        StringBuilder getters = new StringBuilder();
+        StringBuilder setters = new StringBuilder();
+        StringBuilder propertyTypes = new StringBuilder();
+        for (Property property : properties.values()) {
+            String getter = property.getterExpression(beanTypeName);
+            if (getter != null) {
+                appendCase(getters, property.name, "(t, args) -> " + getter);
+            }
+            String setter = property.setterStatement(beanTypeName);
+            if (setter != null) {
+                appendCase(setters, property.name, "(t, args) -> { " + setter + " return null; }");
+            }
+            TypeMirror propertyType = property.getType();
+            if (propertyType != null) {
+                appendCase(propertyTypes, property.name, typeName(propertyType) + ".class");
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Property descriptor of {@link ").append(beanTypeName)
+            .append("}, generated by crane4j-processor, do not modify.\n */\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(className).append(" implements ").append(GENERATED_PROP_DESC).append(" {\n\n")
+            .append("    @Override\n")
+            .append("    public Class<?> getBeanType() {\n")
+            .append("        return ").append(beanTypeName).append(".class;\n")
+            .append("    }\n\n");
+        appendSwitch(source, METHOD_INVOKER, "getGetter", getters);
+        appendSwitch(source, METHOD_INVOKER, "getSetter", setters);
+        appendSwitch(source, "Class<?>", "getPropertyType", propertyTypes);
+        source.append("}\n");
+        write(beanType, packageName, className, source, "property descriptor");
+    }
+
+    private void generateMetadata(TypeElement beanType, String binaryName) {
+        String packageName = elements.getPackageOf(beanType).getQualifiedName().toString();
+        String className = generatedClassName(packageName, binaryName, METADATA_CLASS_NAME_SUFFIX);
+        String beanTypeName = typeName(beanType.asType());
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Operation annotation metadata of {@link ").append(beanTypeName)
+            .append("}, generated by crane4j-processor, do not modify.\n */\n")
+            .append("public final class ").append(className)
+            .append(" implements ").append(GENERATED_OPERATION_METADATA).append(" {\n\n");
+        appendNames(source, "FIELDS", collectAnnotatedFields(beanType));
+        appendNames(source, "METHODS", collectAnnotatedMethods(beanType));
+        source.append("    @Override\n")
+            .append("    public Class<?> getBeanType() {\n")
+            .append("        return ").append(beanTypeName).append(".class;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.Set<String> getAnnotatedFields() {\n")
+            .append("        return FIELDS;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.Set<String> getAnnotatedMethods() {\n")
+            .append("        return METHODS;\n")
+            .append("    }\n")
+            .append("}\n");
+        write(beanType, packageName, className, source, "operation metadata");
+    }
+
+    private static String generatedClassName(String packageName, String binaryName, String suffix) {
+        return (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + suffix;
+    }
+
+    private void write(
+        TypeElement beanType, String packageName, String className, StringBuilder source, String description) {
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = filer.createSourceFile(qualifiedName, beanType).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "cannot generate " + description + " for type " + beanType + ": " + e.getMessage(), beanType);
+        }
+    }
+
+    private static void appendNames(StringBuilder source, String constantName, Set<String> names) {
+        source.append("    private static final java.util.Set<String> ").append(constantName)
+            .append(" = java.util.Collections.unmodifiableSet(new java.util.HashSet<>(java.util.Arrays.asList(");
+        boolean first = true;
+        for (String name : names) {
+            source.append(first ? "" : ", ").append('"').append(name).append('"');
+            first = false;
+        }
+        source.append(")));\n\n");
+    }
+
+    private static void appendCase(StringBuilder cases, String propertyName, String value) {
+        cases.append("            case \"").append(propertyName).append("\":\n")
+            .append("                return ").append(value).append(";\n");
+    }
+
+    private static void appendSwitch(StringBuilder source, String returnType, String methodName, StringBuilder cases) {
+        source.append("    @Override\n")
+            .append("    public ").append(returnType).append(" ").append(methodName).append("(String propertyName) {\n")
+            .append("        switch (propertyName) {\n")
+            .append(cases)
+            .append("            default:\n")
+            .append("                return null;\n")
+            .append("        }\n")
+            .append("    }\n\n");
+    }
+
+    /**
+     * Get the name of the erased type which can be used in source code.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType)erased).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement)((DeclaredType)erased).asElement()).getQualifiedName().toString();
+            default:
+                return erased.getKind().isPrimitive() ? erased.getKind().name().toLowerCase() : erased.toString();
+        }
+    }
+
+    private String boxedTypeName(TypeMirror type) {
+        return type.getKind().isPrimitive() ?
+            types.boxedClass((PrimitiveType)type).getQualifiedName().toString() : typeName(type);
+    }
+
+    // endregion
+
+    /**
+     * Accessors of a property.
+     */
+    private class Property {
+
+        private final String name;
+        private ExecutableElement getter;
+        private TypeMirror getterType;
+        private ExecutableElement setter;
+        private TypeMirror setterType;
+        private VariableElement field;
+        private TypeMirror fieldType;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        String getterExpression(String beanTypeName) {
+            if (getter != null) {
+                return "((" + beanTypeName + ") t)." + getter.getSimpleName() + "()";
+            }
+            return field != null ? "((" + beanTypeName + ") t)." + field.getSimpleName() : null;
+        }
+
+        String setterStatement(String beanTypeName) {
+            if (setter != null) {
+                return "((" + beanTypeName + ") t)." + setter.getSimpleName()
+                    + "((" + boxedTypeName(setterType) + ") args[0]);";
+            }
+            if (field != null && !field.getModifiers().contains(Modifier.FINAL)) {
+                return "((" + beanTypeName + ") t)." + field.getSimpleName()
+                    + " = (" + boxedTypeName(fieldType) + ") args[0];";
+            }
+            return null;
+        }
+
+        TypeMirror getType() {
+            if (setter != null) {
+                return setterType;
+            }
+            if (getter != null) {
+                return getterType;
+            }
+            return fieldType;
+        }
+    }
+}
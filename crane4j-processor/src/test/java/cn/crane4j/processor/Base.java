@@ -0,0 +1,19 @@
+package cn.crane4j.processor;
+
+/**
+ * generic super class of {@link Foo}
+ *
+ * @author huangchengxing
+ */
+public class Base<T> {
+
+    private T value;
+
+    public T getValue() {
+        return value;
+    }
+
+    public void setValue(T value) {
+        this.value = value;
+    }
+}
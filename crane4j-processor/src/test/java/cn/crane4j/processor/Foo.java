@@ -0,0 +1,74 @@
+package cn.crane4j.processor;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Disassemble;
+
+/**
+ * bean for test
+ *
+ * @author huangchengxing
+ */
+public class Foo extends Base<String> {
+
+    public static String shared;
+
+    @Assemble(container = "foo")
+    private Integer id;
+    private int count;
+    private boolean active;
+    public String open;
+    String local;
+    public final String constant = "constant";
+    private String hidden;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @Assemble(container = "foo")
+    public String getCode() {
+        return local;
+    }
+
+    @Override
+    public String toString() {
+        return "Foo";
+    }
+
+    /**
+     * nested bean for test
+     */
+    public static class Nested {
+
+        @Disassemble(type = Foo.class)
+        private Foo foo;
+
+        @Assemble(container = "foo")
+        @Assemble(container = "bar")
+        Integer key;
+
+        public Foo getFoo() {
+            return foo;
+        }
+    }
+}
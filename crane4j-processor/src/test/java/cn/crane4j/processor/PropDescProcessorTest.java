@@ -0,0 +1,104 @@
+package cn.crane4j.processor;
+
+import cn.crane4j.core.parser.handler.GeneratedOperationMetadata;
+import cn.crane4j.core.support.reflect.GeneratedPropDesc;
+import cn.crane4j.core.support.reflect.GeneratedPropertyOperator;
+import cn.crane4j.core.support.reflect.PropertyOperator;
+import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * test for {@link PropDescProcessor}
+ *
+ * @author huangchengxing
+ */
+public class PropDescProcessorTest {
+
+    @Test
+    public void generate() throws Exception {
+        GeneratedPropDesc desc = loadGeneratedPropDesc(Foo.class);
+        Assert.assertEquals(Foo.class, desc.getBeanType());
+
+        // getters and setters
+        Assert.assertNotNull(desc.getGetter("id"));
+        Assert.assertNotNull(desc.getSetter("id"));
+        Assert.assertEquals(Integer.class, desc.getPropertyType("id"));
+        Assert.assertNotNull(desc.getGetter("count"));
+        Assert.assertEquals(int.class, desc.getPropertyType("count"));
+        Assert.assertNotNull(desc.getGetter("active"));
+        Assert.assertEquals(boolean.class, desc.getPropertyType("active"));
+        // inherited from generic super class
+        Assert.assertNotNull(desc.getGetter("value"));
+        Assert.assertEquals(String.class, desc.getPropertyType("value"));
+
+        // fields
+        Assert.assertNotNull(desc.getGetter("open"));
+        Assert.assertNotNull(desc.getSetter("open"));
+        Assert.assertNotNull(desc.getGetter("local"));
+        Assert.assertNotNull(desc.getGetter("constant"));
+        Assert.assertNull(desc.getSetter("constant"));
+
+        // unsupported properties
+        Assert.assertNull(desc.getGetter("hidden"));
+        Assert.assertNull(desc.getGetter("shared"));
+        Assert.assertNull(desc.getGetter("class"));
+        Assert.assertNull(desc.getPropertyType("none"));
+
+        // nested class with repeated annotations
+        desc = loadGeneratedPropDesc(Foo.Nested.class);
+        Assert.assertNotNull(desc.getGetter("foo"));
+        Assert.assertNull(desc.getSetter("foo"));
+        Assert.assertNotNull(desc.getSetter("key"));
+    }
+
+    @Test
+    public void generateMetadata() throws Exception {
+        GeneratedOperationMetadata metadata = loadGeneratedMetadata(Foo.class);
+        Assert.assertEquals(Foo.class, metadata.getBeanType());
+        Assert.assertEquals(Collections.singleton("id"), metadata.getAnnotatedFields());
+        // the annotations which are not retained at runtime are ignored
+        Assert.assertEquals(Collections.singleton("getCode"), metadata.getAnnotatedMethods());
+
+        metadata = loadGeneratedMetadata(Foo.Nested.class);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("foo", "key")), metadata.getAnnotatedFields());
+        Assert.assertTrue(metadata.getAnnotatedMethods().isEmpty());
+    }
+
+    @Test
+    public void readAndWriteProperty() {
+        PropertyOperator operator = new GeneratedPropertyOperator(new ReflectivePropertyOperator());
+        Foo foo = new Foo();
+        operator.writeProperty(Foo.class, foo, "id", 1);
+        operator.writeProperty(Foo.class, foo, "count", 2);
+        operator.writeProperty(Foo.class, foo, "active", true);
+        operator.writeProperty(Foo.class, foo, "value", "value");
+        operator.writeProperty(Foo.class, foo, "open", "open");
+        operator.writeProperty(Foo.class, foo, "local", "local");
+        operator.writeProperty(Foo.class, foo, "hidden", "hidden");
+
+        Assert.assertEquals(1, operator.readProperty(Foo.class, foo, "id"));
+        Assert.assertEquals(2, operator.readProperty(Foo.class, foo, "count"));
+        Assert.assertEquals(true, operator.readProperty(Foo.class, foo, "active"));
+        Assert.assertEquals("value", operator.readProperty(Foo.class, foo, "value"));
+        Assert.assertEquals("open", operator.readProperty(Foo.class, foo, "open"));
+        Assert.assertEquals("local", operator.readProperty(Foo.class, foo, "local"));
+        Assert.assertEquals("constant", operator.readProperty(Foo.class, foo, "constant"));
+        // fallback to reflection
+        Assert.assertEquals("hidden", operator.readProperty(Foo.class, foo, "hidden"));
+    }
+
+    private static GeneratedOperationMetadata loadGeneratedMetadata(Class<?> beanType) throws Exception {
+        Class<?> generatedType = Class.forName(beanType.getName() + GeneratedOperationMetadata.CLASS_NAME_SUFFIX);
+        return (GeneratedOperationMetadata)generatedType.getConstructor().newInstance();
+    }
+
+    private static GeneratedPropDesc loadGeneratedPropDesc(Class<?> beanType) throws Exception {
+        Class<?> generatedType = Class.forName(beanType.getName() + GeneratedPropDesc.CLASS_NAME_SUFFIX);
+        return (GeneratedPropDesc)generatedType.getConstructor().newInstance();
+    }
+}
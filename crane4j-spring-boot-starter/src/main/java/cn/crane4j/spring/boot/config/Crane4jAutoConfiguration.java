@@ -6,6 +6,7 @@ import cn.crane4j.annotation.ContainerMethod;
 import cn.crane4j.core.cache.AbstractMapCacheManager;
 import cn.crane4j.core.cache.CacheDefinition;
 import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.CaffeineCacheManager;
 import cn.crane4j.core.cache.GuavaCacheManager;
 import cn.crane4j.core.condition.ConditionOnContainerParser;
 import cn.crane4j.core.condition.ConditionOnExpressionParser;
@@ -17,12 +18,21 @@ import cn.crane4j.core.condition.ConditionParser;
 import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.container.Containers;
 import cn.crane4j.core.container.DefaultContainerManager;
+import cn.crane4j.core.container.MemoizationScope;
+import cn.crane4j.core.container.ScopedMemoizingContainer;
+import cn.crane4j.core.container.lifecycle.BatchingContainerProcessor;
 import cn.crane4j.core.container.lifecycle.ContainerInstanceLifecycleProcessor;
 import cn.crane4j.core.container.lifecycle.ContainerRegisterLogger;
+import cn.crane4j.core.container.lifecycle.ScopedMemoizingContainerProcessor;
+import cn.crane4j.core.executor.AbstractBeanOperationExecutor;
 import cn.crane4j.core.executor.AsyncBeanOperationExecutor;
 import cn.crane4j.core.executor.BeanOperationExecutor;
+import cn.crane4j.core.executor.DependencyAwareBeanOperationExecutor;
+import cn.crane4j.core.executor.CompositeOperationExecutionListener;
 import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.OperationExecutionListener;
 import cn.crane4j.core.executor.OrderedBeanOperationExecutor;
+import cn.crane4j.core.executor.VirtualThreadBeanOperationExecutor;
 import cn.crane4j.core.executor.handler.ManyToManyAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToManyAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
@@ -72,8 +82,11 @@ import cn.crane4j.core.support.operator.ParametersFillProxyMethodFactory;
 import cn.crane4j.core.support.proxy.DefaultProxyFactory;
 import cn.crane4j.core.support.proxy.ProxyFactory;
 import cn.crane4j.core.support.reflect.AsmReflectivePropertyOperator;
+import cn.crane4j.core.support.reflect.ByteBuddyPropertyMapperFactory;
 import cn.crane4j.core.support.reflect.CacheablePropertyOperator;
 import cn.crane4j.core.support.reflect.ChainAccessiblePropertyOperator;
+import cn.crane4j.core.support.reflect.GeneratedPropertyOperator;
+import cn.crane4j.core.support.reflect.LambdaMetafactoryPropertyOperator;
 import cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.support.reflect.PropertyOperatorHolder;
@@ -205,9 +218,18 @@ public class Crane4jAutoConfiguration {
 
     @Bean
     public PropertyOperator propertyOperator(Properties properties, ConverterManager converterManager) {
-        // reflect asm may only support jdk 1.8
-        PropertyOperator operator = properties.isEnableAsmReflect() && System.getProperty("java.version").contains("1.8") ?
-            new AsmReflectivePropertyOperator(converterManager) : new ReflectivePropertyOperator(converterManager);
+        PropertyOperator operator;
+        if (properties.isEnableLambdaMetafactoryReflect()) {
+            operator = new LambdaMetafactoryPropertyOperator(converterManager);
+        } else if (properties.isEnableAsmReflect() && System.getProperty("java.version").contains("1.8")) {
+            // reflect asm may only support jdk 1.8
+            operator = new AsmReflectivePropertyOperator(converterManager);
+        } else {
+            operator = new ReflectivePropertyOperator(converterManager);
+        }
+        if (properties.isEnableGeneratedPropDesc()) {
+            operator = new GeneratedPropertyOperator(operator, converterManager);
+        }
         operator = new CacheablePropertyOperator(operator);
         if (properties.isEnableMapOperate()) {
             operator = new MapAccessiblePropertyOperator(operator);
@@ -249,6 +271,12 @@ public class Crane4jAutoConfiguration {
         return new GuavaCacheManager();
     }
 
+    @ConditionalOnMissingBean(CaffeineCacheManager.class)
+    @Bean
+    public CaffeineCacheManager caffeineCacheManager() {
+        return new CaffeineCacheManager();
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public SoftConcurrentMapCacheManager softConcurrentMapCacheManager() {
@@ -271,15 +299,53 @@ public class Crane4jAutoConfiguration {
     @Order(2)
     @ConditionalOnMissingBean
     @Bean
+    public BatchingContainerProcessor batchingContainerProcessor(Properties properties) {
+        BatchingContainerProcessor processor = new BatchingContainerProcessor();
+        properties.getBatches().forEach(batch -> processor.registerBatching(
+            batch.getNamespace(), batch.getWindow(), batch.getTimeUnit(), batch.getMaxBatchSize()
+        ));
+        return processor;
+    }
+
+    /**
+     * Processor which applies cache to container,
+     * it is installed after {@link BatchingContainerProcessor},
+     * so the cached data sources are returned without waiting for the batching window.
+     */
+    @Order(3)
+    @ConditionalOnMissingBean
+    @Bean
     public SpringCacheableContainerProcessor springCacheableContainerProcessor(
         Crane4jApplicationContext configuration, Properties properties) {
         SpringCacheableContainerProcessor processor = new SpringCacheableContainerProcessor(configuration);
         Map<String, CacheDefinition> definitions = properties.getCaches().stream()
             .collect(Collectors.toMap(CacheDefinition::getName, Function.identity()));
         processor.setCacheDefinitionRetriever((d, c) -> definitions.get(c.getNamespace()));
+        // the refresh which exceeds the queue capacity will be rejected and retried on the next access
+        ThreadPoolTaskExecutor refreshExecutor = new ThreadPoolTaskExecutor();
+        refreshExecutor.setCorePoolSize(properties.getCacheRefreshThreads());
+        refreshExecutor.setMaxPoolSize(properties.getCacheRefreshThreads());
+        refreshExecutor.setQueueCapacity(properties.getCacheRefreshQueueCapacity());
+        refreshExecutor.setThreadNamePrefix("crane4j-cache-refresh-executor");
+        refreshExecutor.setDaemon(true);
+        refreshExecutor.setAllowCoreThreadTimeOut(true);
+        refreshExecutor.initialize();
+        processor.setRefreshExecutor(refreshExecutor);
         return processor;
     }
 
+    @Order(4)
+    @ConditionalOnProperty(
+        prefix = CRANE_PREFIX,
+        name = "enable-scoped-memoization",
+        havingValue = "true"
+    )
+    @ConditionalOnMissingBean
+    @Bean
+    public ScopedMemoizingContainerProcessor scopedMemoizingContainerProcessor() {
+        return new ScopedMemoizingContainerProcessor();
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public OperateTemplate operateTemplate(
@@ -497,15 +563,25 @@ public class Crane4jAutoConfiguration {
     @Primary
     @ConditionalOnMissingBean
     @Bean
-    public DisorderedBeanOperationExecutor disorderedBeanOperationExecutor(ContainerManager containerManager) {
-        return new DisorderedBeanOperationExecutor(containerManager);
+    public DisorderedBeanOperationExecutor disorderedBeanOperationExecutor(
+        ContainerManager containerManager, ObjectProvider<OperationExecutionListener> listeners, Properties properties) {
+        DisorderedBeanOperationExecutor executor = new DisorderedBeanOperationExecutor(containerManager);
+        executor.setMergeKeysAcrossHandlers(properties.isMergeKeysAcrossHandlers());
+        return configureExecutor(executor, listeners, properties);
     }
 
 
     @SuppressWarnings("all")
     @ConditionalOnMissingBean
     @Bean
-    public AsyncBeanOperationExecutor asyncBeanOperationExecutor(ContainerManager containerManager) {
+    public AsyncBeanOperationExecutor asyncBeanOperationExecutor(
+        ContainerManager containerManager, ObjectProvider<OperationExecutionListener> listeners, Properties properties) {
+        // prefer virtual threads on JDK 21+, they are not limited by the pool size when waiting for I/O
+        if (properties.isEnableVirtualThreadExecutor() && VirtualThreadBeanOperationExecutor.isSupported()) {
+            return configureExecutor(new VirtualThreadBeanOperationExecutor(
+                containerManager, properties.getVirtualThreadExecutorMaxConcurrency()
+            ), listeners, properties);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         int processors = Runtime.getRuntime().availableProcessors();
         executor.setCorePoolSize(processors);
@@ -515,13 +591,44 @@ public class Crane4jAutoConfiguration {
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setAllowCoreThreadTimeOut(true);
         executor.initialize();
-        return new AsyncBeanOperationExecutor(containerManager, executor);
+        return configureExecutor(new AsyncBeanOperationExecutor(containerManager, executor), listeners, properties);
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public OrderedBeanOperationExecutor orderedBeanOperationExecutor(ContainerManager containerManager) {
-        return new OrderedBeanOperationExecutor(containerManager, Comparator.comparing(AssembleOperation::getSort));
+    public OrderedBeanOperationExecutor orderedBeanOperationExecutor(
+        ContainerManager containerManager, ObjectProvider<OperationExecutionListener> listeners, Properties properties) {
+        return configureExecutor(
+            new OrderedBeanOperationExecutor(containerManager, Comparator.comparing(AssembleOperation::getSort)),
+            listeners, properties
+        );
+    }
+
+    @SuppressWarnings("all")
+    @ConditionalOnMissingBean
+    @Bean
+    public DependencyAwareBeanOperationExecutor dependencyAwareBeanOperationExecutor(
+        ContainerManager containerManager, ObjectProvider<OperationExecutionListener> listeners, Properties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int processors = Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("crane4j-dependency-aware-executor");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.initialize();
+        return configureExecutor(new DependencyAwareBeanOperationExecutor(
+            containerManager, Comparator.comparing(AssembleOperation::getSort), executor
+        ), listeners, properties);
+    }
+
+    private static <T extends AbstractBeanOperationExecutor> T configureExecutor(
+        T executor, ObjectProvider<OperationExecutionListener> listeners, Properties properties) {
+        List<OperationExecutionListener> listenerList = listeners.orderedStream().collect(Collectors.toList());
+        executor.setExecutionListener(CompositeOperationExecutionListener.of(listenerList));
+        executor.setParallelDisassembleThreshold(properties.getParallelDisassembleThreshold());
+        return executor;
     }
 
     @ConditionalOnMissingBean
@@ -552,6 +659,9 @@ public class Crane4jAutoConfiguration {
         PropertyOperator propertyOperator, ConverterManager converterManager, Properties properties) {
         OneToOneAssembleOperationHandler handler = new OneToOneAssembleOperationHandler(propertyOperator, converterManager);
         handler.setIgnoreNullKey(properties.isIgnoreNullKeyWhenAssembling());
+        if (properties.isEnableGeneratedPropertyMapper()) {
+            handler.setPropertyMapperFactory(ByteBuddyPropertyMapperFactory.INSTANCE);
+        }
         return handler;
     }
 
@@ -743,6 +853,84 @@ public class Crane4jAutoConfiguration {
          */
         private boolean enableAsmReflect = false;
 
+        /**
+         * <p>Whether to access object properties through the accessors generated by
+         * {@link java.lang.invoke.LambdaMetafactory}, it takes precedence over {@link #enableAsmReflect}.<br />
+         * <b><NOTE</b>:If the customized {@link PropertyOperator} is registered, the configuration will be overwritten.
+         *
+         * @see LambdaMetafactoryPropertyOperator
+         * @since 2.8.0
+         */
+        private boolean enableLambdaMetafactoryReflect = false;
+
+        /**
+         * <p>Whether to access object properties through the property descriptors
+         * generated by crane4j-processor at compile time if they exist,
+         * it only works when crane4j-processor is used to compile the beans.<br />
+         * <b><NOTE</b>:If the customized {@link PropertyOperator} is registered, the configuration will be overwritten.
+         *
+         * @see GeneratedPropertyOperator
+         * @since 2.8.0
+         */
+        private boolean enableGeneratedPropDesc = false;
+
+        /**
+         * <p>Whether to copy properties by the mappers generated by {@link ByteBuddyPropertyMapperFactory}
+         * in {@link OneToOneAssembleOperationHandler}, when the source type and target type of an operation are stable.<br />
+         * <b><NOTE</b>:The mappers do not access properties through {@link PropertyOperator}.
+         *
+         * @see OneToOneAssembleOperationHandler#setPropertyMapperFactory
+         * @since 2.8.0
+         */
+        private boolean enableGeneratedPropertyMapper = false;
+
+        /**
+         * <p>Whether to use {@link VirtualThreadBeanOperationExecutor} as the {@link AsyncBeanOperationExecutor}
+         * when the application is running on JDK 21 or later,
+         * otherwise the executor based on platform thread pool will be used.
+         *
+         * @since 2.8.0
+         * @see VirtualThreadBeanOperationExecutor
+         */
+        private boolean enableVirtualThreadExecutor = true;
+
+        /**
+         * <p>The max number of operation groups performed at the same time
+         * by {@link VirtualThreadBeanOperationExecutor}.
+         *
+         * @since 2.8.0
+         */
+        private int virtualThreadExecutorMaxConcurrency = 256;
+
+        /**
+         * <p>Whether {@link DisorderedBeanOperationExecutor} merges the keys of different handlers
+         * for the same container, and obtains the data sources by a single request.
+         *
+         * @since 2.8.0
+         * @see DisorderedBeanOperationExecutor#setMergeKeysAcrossHandlers
+         */
+        private boolean mergeKeysAcrossHandlers = false;
+
+        /**
+         * <p>Threshold of the number of targets to be disassembled in parallel by fork/join,
+         * the targets are disassembled in the current thread if it is less than or equal to 0.
+         *
+         * @since 2.8.0
+         * @see AbstractBeanOperationExecutor#setParallelDisassembleThreshold
+         */
+        private int parallelDisassembleThreshold = -1;
+
+        /**
+         * <p>Whether to wrap the containers as {@link ScopedMemoizingContainer},
+         * so that the data sources obtained in a {@link MemoizationScope} are memoized
+         * until the scope is closed.<br />
+         * The scope should be opened by the application, for example, in a filter of web request.
+         *
+         * @since 2.8.0
+         * @see ScopedMemoizingContainerProcessor
+         */
+        private boolean enableScopedMemoization = false;
+
         /**
          * <p>Scan the specified package path, adapt the enumeration
          * under the path and register it as a data source container.<br />
@@ -826,6 +1014,33 @@ public class Crane4jAutoConfiguration {
          */
         private List<ContainerCacheProperties> caches = new ArrayList<>();
 
+        /**
+         * The number of daemon threads used to refresh the stale cached values in background,
+         * the threads will be released when idle.
+         *
+         * @since 2.8.0
+         * @see CacheDefinition#getRefreshTime()
+         */
+        private int cacheRefreshThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The maximum number of pending refreshes of cached values,
+         * the refresh which exceeds it will be skipped and retried on the next access.
+         *
+         * @since 2.8.0
+         * @see CacheDefinition#getRefreshTime()
+         */
+        private int cacheRefreshQueueCapacity = 1024;
+
+        /**
+         * Container batching configuration,
+         * the keys of concurrent calls to these containers will be merged into one batch.
+         *
+         * @since 2.8.0
+         * @see BatchingContainerProcessor
+         */
+        private List<ContainerBatchProperties> batches = new ArrayList<>();
+
         /**
          * Configuration of cache.
          *
@@ -856,6 +1071,42 @@ public class Crane4jAutoConfiguration {
              */
             private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
 
+            /**
+             * The maximum number of entries of cache,
+             * it only works when the cache manager supports size-bounded cache
+             */
+            private long maximumSize = -1L;
+
+            /**
+             * The maximum weight of entries of cache,
+             * it only works when the cache manager supports weight-bounded cache
+             */
+            private long maximumWeight = -1L;
+
+            /**
+             * The expiry time of the negative cache which caches the keys without value,
+             * its time unit is same as {@link #timeUnit},
+             * 0 means disabled, and less than 0 means never expired
+             */
+            private long negativeExpireTime = 0L;
+
+            /**
+             * The time after which the cached value will be refreshed asynchronously,
+             * its time unit is same as {@link #timeUnit},
+             * less than or equal to 0 means disabled
+             */
+            private long refreshTime = -1L;
+
+            /**
+             * Whether to coalesce concurrent loads of the same keys into one load
+             */
+            private boolean coalesceLoading = false;
+
+            /**
+             * The maximum time in milliseconds to wait for a load which is performed by another thread
+             */
+            private long coalesceTimeout = 3000L;
+
             /**
              * Get the name of this cache.
              *
@@ -866,6 +1117,38 @@ public class Crane4jAutoConfiguration {
                 return namespace;
             }
         }
+
+        /**
+         * Configuration of batching.
+         *
+         * @author huangchengxing
+         * @since 2.8.0
+         */
+        @Data
+        public static class ContainerBatchProperties {
+
+            /**
+             * The namespace of container
+             */
+            private String namespace;
+
+            /**
+             * The max time to wait for other callers before the batch is dispatched
+             */
+            private long window = 5L;
+
+            /**
+             * The time unit of window,
+             * default is {@link TimeUnit#MILLISECONDS}
+             */
+            private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
+
+            /**
+             * The max number of keys in one batch,
+             * the batch will be dispatched immediately when it is full
+             */
+            private int maxBatchSize = 500;
+        }
     }
 
     /**
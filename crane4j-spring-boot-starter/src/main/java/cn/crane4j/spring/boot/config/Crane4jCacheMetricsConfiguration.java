@@ -0,0 +1,120 @@
+package cn.crane4j.spring.boot.config;
+
+import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.CacheStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Crane4j cache metrics configuration,
+ * which publishes the {@link CacheStatistics} of all caches as Micrometer meters.
+ *
+ * @author huangchengxing
+ * @see CacheStatistics
+ * @since 2.8.0
+ */
+@AutoConfiguration(after = { Crane4jAutoConfiguration.class })
+@ConditionalOnClass(MeterBinder.class)
+public class Crane4jCacheMetricsConfiguration {
+
+    @ConditionalOnMissingBean
+    @Bean
+    public CacheMetricsBinder crane4jCacheMetricsBinder(ObjectProvider<CacheManager> cacheManagers) {
+        List<CacheManager> managers = cacheManagers.orderedStream().collect(Collectors.toList());
+        return new CacheMetricsBinder(managers);
+    }
+
+    /**
+     * <p>A {@link MeterBinder} which registers meters for the statistics of caches.<br />
+     * Since the caches are created lazily,
+     * the meters of a cache will be registered when its statistics is created.
+     *
+     * <p>The following meters will be registered for each cache,
+     * and tagged with the name of cache and cache manager:
+     * <ul>
+     *     <li>{@code crane4j.cache.gets}: count of hits and misses, tagged with {@code result};</li>
+     *     <li>{@code crane4j.cache.loads}: count of successful and failed loads, tagged with {@code result};</li>
+     *     <li>{@code crane4j.cache.load.duration}: count and total time of loads;</li>
+     *     <li>{@code crane4j.cache.evictions}: count of evictions, only if the evictions are recorded;</li>
+     *     <li>{@code crane4j.cache.size}: current size of cache, only if the size is supported by the cache;</li>
+     * </ul>
+     *
+     * @author huangchengxing
+     * @see CacheManager#addStatisticsListener
+     * @since 2.8.0
+     */
+    @RequiredArgsConstructor
+    public static class CacheMetricsBinder implements MeterBinder {
+
+        private final Collection<CacheManager> cacheManagers;
+
+        /**
+         * Bind meters of all caches to the registry.
+         *
+         * @param registry registry
+         */
+        @Override
+        public void bindTo(@NonNull MeterRegistry registry) {
+            cacheManagers.forEach(cacheManager -> cacheManager.addStatisticsListener(
+                statistics -> bindStatistics(registry, cacheManager, statistics)
+            ));
+        }
+
+        private static void bindStatistics(
+            MeterRegistry registry, CacheManager cacheManager, CacheStatistics statistics) {
+            Tags tags = Tags.of("cache", statistics.getName(), "cacheManager", cacheManager.getName());
+            FunctionCounter.builder("crane4j.cache.gets", statistics, CacheStatistics::getHitCount)
+                .tags(tags).tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value")
+                .register(registry);
+            FunctionCounter.builder("crane4j.cache.gets", statistics, CacheStatistics::getMissCount)
+                .tags(tags).tag("result", "miss")
+                .description("The number of times cache lookup methods have not returned a cached value")
+                .register(registry);
+            FunctionCounter.builder("crane4j.cache.loads", statistics, CacheStatistics::getLoadSuccessCount)
+                .tags(tags).tag("result", "success")
+                .description("The number of times missed values have been loaded successfully")
+                .register(registry);
+            FunctionCounter.builder("crane4j.cache.loads", statistics, CacheStatistics::getLoadFailureCount)
+                .tags(tags).tag("result", "failure")
+                .description("The number of times loading missed values has failed")
+                .register(registry);
+            FunctionTimer.builder(
+                    "crane4j.cache.load.duration", statistics,
+                    CacheStatistics::getLoadCount, CacheStatistics::getTotalLoadTime, TimeUnit.NANOSECONDS
+                )
+                .tags(tags)
+                .description("The time spent on loading missed values")
+                .register(registry);
+            // the evictions and size of some caches are unknown, the meters of them will not be registered
+            if (statistics.getEvictionCount() >= 0L) {
+                FunctionCounter.builder("crane4j.cache.evictions", statistics, CacheStatistics::getEvictionCount)
+                    .tags(tags)
+                    .description("The number of times values have been evicted from the cache")
+                    .register(registry);
+            }
+            if (statistics.getSize() >= 0L) {
+                Gauge.builder("crane4j.cache.size", statistics, CacheStatistics::getSize)
+                    .tags(tags)
+                    .description("The number of entries in the cache")
+                    .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package cn.crane4j.spring.boot.config;
+
+import cn.crane4j.extension.micrometer.MicrometerOperationExecutionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * <p>Crane4j micrometer configuration.<br />
+ * It registers a {@link MicrometerOperationExecutionListener} to record the execution of operations,
+ * the listener will be set to the executors declared in {@link Crane4jAutoConfiguration}.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.extension.micrometer
+ * @since 2.8.0
+ */
+@AutoConfiguration(
+    after = Crane4jAutoConfiguration.class,
+    afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+)
+@ConditionalOnClass({MeterRegistry.class, MicrometerOperationExecutionListener.class})
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(
+    prefix = Crane4jMicrometerConfiguration.Properties.CRANE4J_MICROMETER_PREFIX,
+    name = "enabled", havingValue = "true", matchIfMissing = true
+)
+@EnableConfigurationProperties(Crane4jMicrometerConfiguration.Properties.class)
+public class Crane4jMicrometerConfiguration {
+
+    @ConditionalOnMissingBean
+    @Bean
+    public MicrometerOperationExecutionListener micrometerOperationExecutionListener(
+        MeterRegistry meterRegistry, Properties properties) {
+        MicrometerOperationExecutionListener listener = new MicrometerOperationExecutionListener(meterRegistry);
+        listener.setPublishPercentileHistogram(properties.isPublishPercentileHistogram());
+        return listener;
+    }
+
+    /**
+     * Configuration properties of micrometer extension.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @ConfigurationProperties(prefix = Properties.CRANE4J_MICROMETER_PREFIX)
+    @Data
+    public static class Properties {
+
+        public static final String CRANE4J_MICROMETER_PREFIX = Crane4jAutoConfiguration.CRANE_PREFIX + ".micrometer";
+
+        /**
+         * Whether to record the execution of operations by micrometer.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether to publish percentile histogram for timers and distribution summaries.
+         */
+        private boolean publishPercentileHistogram = false;
+    }
+}
@@ -44,11 +44,14 @@ public class Crane4jMybatisPlusAutoConfiguration {
     @ConditionalOnMissingBean
     public MybatisPlusQueryContainerProvider mybatisPlusQueryContainerProvider(
         MethodInvokerContainerCreator methodInvokerContainerCreator,
-        Crane4jGlobalConfiguration globalConfiguration, ApplicationContext applicationContext) {
-        return new MybatisPlusQueryContainerProvider(
+        Crane4jGlobalConfiguration globalConfiguration, ApplicationContext applicationContext,
+        Properties crane4jMybatisPlusProperties) {
+        MybatisPlusQueryContainerProvider provider = new MybatisPlusQueryContainerProvider(
             methodInvokerContainerCreator, globalConfiguration,
             mapperName -> applicationContext.getBean(mapperName, BaseMapper.class)
         );
+        provider.setMaxKeysPerCall(crane4jMybatisPlusProperties.getMaxKeysPerQuery());
+        return provider;
     }
 
     @Bean
@@ -104,6 +107,14 @@ public class Crane4jMybatisPlusAutoConfiguration {
          * whether to register mapper automatically
          */
         private boolean autoRegisterMapper = false;
+
+        /**
+         * max number of keys in the IN-list of one query, not limited if it is less than or equal to 0,
+         * the keys exceeding the limit will be split into multiple queries.
+         *
+         * @since 2.8.0
+         */
+        private int maxKeysPerQuery = -1;
     }
 
     /**
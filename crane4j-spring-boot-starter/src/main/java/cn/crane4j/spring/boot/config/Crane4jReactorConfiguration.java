@@ -0,0 +1,92 @@
+package cn.crane4j.spring.boot.config;
+
+import cn.crane4j.core.support.AnnotationFinder;
+import cn.crane4j.core.support.Crane4jGlobalConfiguration;
+import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.support.aop.MethodResultAutoOperateSupport;
+import cn.crane4j.core.support.auto.AutoOperateAnnotatedElementResolver;
+import cn.crane4j.core.support.auto.MethodBasedAutoOperateAnnotatedElementResolver;
+import cn.crane4j.core.support.expression.MethodBasedExpressionEvaluator;
+import cn.crane4j.extension.reactor.ReactiveMethodBasedAutoOperateAnnotatedElementResolver;
+import cn.crane4j.extension.reactor.ReactiveMethodResultAutoOperateSupport;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * <p>Crane4j reactor configuration.<br />
+ * It registers a {@link ReactiveMethodResultAutoOperateSupport} instead of
+ * the {@link MethodResultAutoOperateSupport} declared in {@link Crane4jAutoConfiguration},
+ * so that the method annotated by {@link cn.crane4j.annotation.AutoOperate}
+ * can return {@link reactor.core.publisher.Mono} or {@link Flux},
+ * and a {@link ReactiveMethodBasedAutoOperateAnnotatedElementResolver} instead of
+ * the {@link MethodBasedAutoOperateAnnotatedElementResolver},
+ * so that the {@link cn.crane4j.annotation.AutoOperate#on()} is resolved against the emitted elements.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.extension.reactor
+ * @since 2.8.0
+ */
+@AutoConfiguration(before = Crane4jAutoConfiguration.class)
+@ConditionalOnClass({Flux.class, ReactiveMethodResultAutoOperateSupport.class})
+@ConditionalOnProperty(
+    prefix = Crane4jReactorConfiguration.Properties.CRANE4J_REACTOR_PREFIX,
+    name = "enabled", havingValue = "true", matchIfMissing = true
+)
+@EnableConfigurationProperties(Crane4jReactorConfiguration.Properties.class)
+public class Crane4jReactorConfiguration {
+
+    @ConditionalOnMissingBean(MethodBasedAutoOperateAnnotatedElementResolver.class)
+    @Bean
+    public ReactiveMethodBasedAutoOperateAnnotatedElementResolver reactiveMethodBasedAutoOperateAnnotatedElementResolver(
+        Crane4jGlobalConfiguration crane4jGlobalConfiguration, TypeResolver typeResolver) {
+        return new ReactiveMethodBasedAutoOperateAnnotatedElementResolver(crane4jGlobalConfiguration, typeResolver);
+    }
+
+    @ConditionalOnMissingBean(MethodResultAutoOperateSupport.class)
+    @Bean
+    public ReactiveMethodResultAutoOperateSupport reactiveMethodResultAutoOperateSupport(
+        AutoOperateAnnotatedElementResolver autoOperateAnnotatedElementResolver,
+        MethodBasedExpressionEvaluator methodBasedExpressionEvaluator,
+        AnnotationFinder annotationFinder, Properties properties) {
+        return new ReactiveMethodResultAutoOperateSupport(
+            autoOperateAnnotatedElementResolver, methodBasedExpressionEvaluator, annotationFinder,
+            Schedulers.boundedElastic(), properties.getWindowSize(), properties.getConcurrency()
+        );
+    }
+
+    /**
+     * Configuration properties of reactor extension.
+     *
+     * @author huangchengxing
+     * @since 2.8.0
+     */
+    @ConfigurationProperties(prefix = Properties.CRANE4J_REACTOR_PREFIX)
+    @Data
+    public static class Properties {
+
+        public static final String CRANE4J_REACTOR_PREFIX = Crane4jAutoConfiguration.CRANE_PREFIX + ".reactor";
+
+        /**
+         * Whether to support the method which returns a reactive publisher.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Max number of elements emitted by flux which are processed in one batch.
+         */
+        private int windowSize = 256;
+
+        /**
+         * Max number of windows processed at the same time.
+         */
+        private int concurrency = 1;
+    }
+}
@@ -1,9 +1,20 @@
 package cn.crane4j.spring.boot.config.main;
 
+import cn.crane4j.annotation.ContainerCache;
+import cn.crane4j.core.cache.CacheDefinition;
 import cn.crane4j.core.cache.CacheManager;
 import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.cache.CacheableContainerProcessor;
+import cn.crane4j.core.container.BatchingContainer;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ImmutableMapContainer;
+import cn.crane4j.core.container.lifecycle.BatchingContainerProcessor;
+import cn.crane4j.core.container.lifecycle.ContainerLifecycleProcessor;
+import cn.crane4j.core.container.lifecycle.ScopedMemoizingContainerProcessor;
+import cn.crane4j.core.executor.AsyncBeanOperationExecutor;
+import cn.crane4j.core.executor.DependencyAwareBeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.VirtualThreadBeanOperationExecutor;
 import cn.crane4j.core.parser.BeanOperationParser;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.TypeHierarchyBeanOperationParser;
@@ -18,12 +29,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * test for {@link Crane4jAutoConfiguration.Properties}
@@ -78,6 +94,54 @@ public class Crane4jInitializerTest {
             applicationContext.getBean(CacheManager.class),
             ((CacheableContainer<?>)container).getCacheManager()
         );
+        CacheDefinition cacheDefinition = ((CacheableContainer<?>)container).getCacheDefinition();
+        Assert.assertEquals(60L, (long)cacheDefinition.getExpireTime());
+        Assert.assertEquals(TimeUnit.SECONDS, cacheDefinition.getTimeUnit());
+        Assert.assertEquals(10L, cacheDefinition.getNegativeExpireTime());
+        Assert.assertEquals(30L, cacheDefinition.getRefreshTime());
+        Assert.assertTrue(cacheDefinition.isCoalesceLoading());
+        Assert.assertEquals(500L, cacheDefinition.getCoalesceTimeout());
+        // 后台刷新缓存的线程池
+        Assert.assertEquals(2, properties.getCacheRefreshThreads());
+        Assert.assertEquals(100, properties.getCacheRefreshQueueCapacity());
+        Executor refreshExecutor = ((CacheableContainer<?>)container).getRefreshExecutor();
+        Assert.assertTrue(refreshExecutor instanceof ThreadPoolTaskExecutor);
+        Assert.assertTrue(((ThreadPoolTaskExecutor)refreshExecutor).isDaemon());
+        Assert.assertEquals(2, ((ThreadPoolTaskExecutor)refreshExecutor).getMaxPoolSize());
+        Assert.assertEquals(100, ((ThreadPoolTaskExecutor)refreshExecutor).getThreadPoolExecutor().getQueue().remainingCapacity());
+
+        // 合并批量查询
+        Assert.assertEquals(1, properties.getBatches().size());
+        Crane4jAutoConfiguration.Properties.ContainerBatchProperties batch = properties.getBatches().get(0);
+        Assert.assertEquals("batched", batch.getNamespace());
+        Assert.assertEquals(10L, batch.getWindow());
+        Assert.assertEquals(100, batch.getMaxBatchSize());
+        // 批量查询处理器在缓存处理器之前安装，即缓存容器包装批量查询容器
+        List<ContainerLifecycleProcessor> processors = new ArrayList<>(context.getContainerLifecycleProcessors());
+        int indexOfBatching = processors.indexOf(applicationContext.getBean(BatchingContainerProcessor.class));
+        int indexOfCacheable = processors.indexOf(applicationContext.getBean(CacheableContainerProcessor.class));
+        Assert.assertTrue(indexOfBatching >= 0);
+        Assert.assertTrue(indexOfBatching < indexOfCacheable);
+        // 被批量查询的容器类上声明的缓存配置仍然生效
+        context.registerContainer(new BatchedContainer());
+        Container<?> batched = context.getContainer("batched");
+        Assert.assertTrue(batched instanceof CacheableContainer);
+        Assert.assertTrue(((CacheableContainer<?>)batched).getContainer() instanceof BatchingContainer);
+        Assert.assertEquals(30L, ((CacheableContainer<?>)batched).getCacheDefinition().getExpireTime().longValue());
+
+        // 在JDK21+上使用虚拟线程执行器
+        Assert.assertEquals(
+            VirtualThreadBeanOperationExecutor.isSupported(),
+            applicationContext.getBean(AsyncBeanOperationExecutor.class) instanceof VirtualThreadBeanOperationExecutor
+        );
+        // 注册依赖感知的有序执行器
+        Assert.assertNotNull(applicationContext.getBean(DependencyAwareBeanOperationExecutor.class));
+        // 同一数据源的不同处理器合并key后查询
+        Assert.assertTrue(applicationContext.getBean(DisorderedBeanOperationExecutor.class).isMergeKeysAcrossHandlers());
+        // 并行拆分嵌套对象
+        Assert.assertEquals(1000, applicationContext.getBean(DisorderedBeanOperationExecutor.class).getParallelDisassembleThreshold());
+        // 作用域内复用数据源查询结果默认不启用
+        Assert.assertEquals(0, applicationContext.getBeanNamesForType(ScopedMemoizingContainerProcessor.class).length);
 
         // 注册常量类容器
         Assert.assertEquals(
@@ -101,4 +165,16 @@ public class Crane4jInitializerTest {
         Assert.assertTrue(parsedBeanOperations.containsKey(TestBean1.class));
         Assert.assertTrue(parsedBeanOperations.containsKey(TestBean2.class));
     }
+
+    @ContainerCache(expirationTime = 30L)
+    private static class BatchedContainer implements Container<Object> {
+        @Override
+        public String getNamespace() {
+            return "batched";
+        }
+        @Override
+        public Map<Object, ?> get(Collection<Object> keys) {
+            return Collections.emptyMap();
+        }
+    }
 }
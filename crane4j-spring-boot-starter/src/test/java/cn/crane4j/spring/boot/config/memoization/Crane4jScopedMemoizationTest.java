@@ -0,0 +1,54 @@
+package cn.crane4j.spring.boot.config.memoization;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.container.MemoizationScope;
+import cn.crane4j.core.container.ScopedMemoizingContainer;
+import cn.crane4j.extension.spring.Crane4jApplicationContext;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for scoped memoization configuration in {@link Crane4jAutoConfiguration}
+ *
+ * @author huangchengxing
+ */
+@TestPropertySource(properties = {
+    "spring.config.location = classpath:test.yml",
+    "crane4j.enable-scoped-memoization = true"
+})
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Crane4jAutoConfiguration.class)
+@ImportAutoConfiguration(Crane4jAutoConfiguration.class)
+public class Crane4jScopedMemoizationTest {
+
+    @Autowired
+    private Crane4jApplicationContext context;
+
+    @Test
+    public void test() {
+        AtomicInteger requests = new AtomicInteger();
+        context.registerContainer(LambdaContainer.<Integer>forLambda("memoized", keys -> {
+            requests.incrementAndGet();
+            return Collections.singletonMap(1, "one");
+        }));
+        Container<Integer> container = context.getContainer("memoized");
+        Assert.assertTrue(container instanceof ScopedMemoizingContainer);
+        try (MemoizationScope scope = MemoizationScope.open()) {
+            Assert.assertEquals("one", container.get(Arrays.asList(1, 2)).get(1));
+            Assert.assertEquals("one", container.get(Collections.singletonList(1)).get(1));
+        }
+        Assert.assertEquals(1, requests.get());
+    }
+}
@@ -0,0 +1,78 @@
+package cn.crane4j.spring.boot.config.metrics;
+
+import cn.crane4j.core.cache.AbstractMapCacheManager;
+import cn.crane4j.core.cache.CacheDefinition;
+import cn.crane4j.core.cache.CacheableContainer;
+import cn.crane4j.core.cache.CaffeineCacheManager;
+import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import cn.crane4j.spring.boot.config.Crane4jCacheMetricsConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link Crane4jCacheMetricsConfiguration}
+ *
+ * @author huangchengxing
+ */
+@SpringBootApplication
+@TestPropertySource(properties = "spring.config.location = classpath:test.yml")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {Crane4jAutoConfiguration.class, Crane4jCacheMetricsConfiguration.class})
+public class Crane4jCacheMetricsConfigurationTest {
+
+    @Autowired
+    private Crane4jCacheMetricsConfiguration.CacheMetricsBinder cacheMetricsBinder;
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+    @Autowired
+    private AbstractMapCacheManager mapCacheManager;
+
+    @Test
+    public void test() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cacheMetricsBinder.bindTo(registry);
+
+        CacheableContainer<String> container = new CacheableContainer<>(
+            LambdaContainer.forLambda("metrics", keys -> keys.stream()
+                .collect(Collectors.toMap(Function.identity(), Function.identity()))),
+            new CacheDefinition.Impl("metrics", null, -1L, TimeUnit.MILLISECONDS), caffeineCacheManager
+        );
+        container.get(Arrays.asList("a", "b"));
+        container.get(Collections.singletonList("a"));
+
+        Assert.assertEquals(1.0D, registry.get("crane4j.cache.gets")
+            .tag("cache", "metrics").tag("result", "hit").functionCounter().count(), 0.0D);
+        Assert.assertEquals(2.0D, registry.get("crane4j.cache.gets")
+            .tag("cache", "metrics").tag("result", "miss").functionCounter().count(), 0.0D);
+        Assert.assertEquals(1.0D, registry.get("crane4j.cache.loads")
+            .tag("cache", "metrics").tag("result", "success").functionCounter().count(), 0.0D);
+        Assert.assertEquals(1.0D, registry.get("crane4j.cache.load.duration")
+            .tag("cache", "metrics").functionTimer().count(), 0.0D);
+        Assert.assertEquals(0.0D, registry.get("crane4j.cache.evictions")
+            .tag("cache", "metrics").functionCounter().count(), 0.0D);
+        Assert.assertEquals(2.0D, registry.get("crane4j.cache.size")
+            .tag("cache", "metrics").tag("cacheManager", caffeineCacheManager.getName()).gauge().value(), 0.0D);
+
+        // the evictions of map cache are unknown, the meter is not registered
+        mapCacheManager.createCache("map-metrics", -1L, TimeUnit.MILLISECONDS);
+        Assert.assertNull(registry.find("crane4j.cache.evictions")
+            .tag("cache", "map-metrics").functionCounter());
+        Assert.assertEquals(0.0D, registry.get("crane4j.cache.size")
+            .tag("cache", "map-metrics").gauge().value(), 0.0D);
+    }
+}
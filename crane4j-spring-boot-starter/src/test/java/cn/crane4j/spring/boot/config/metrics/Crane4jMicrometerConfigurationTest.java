@@ -0,0 +1,54 @@
+package cn.crane4j.spring.boot.config.metrics;
+
+import cn.crane4j.core.executor.AbstractBeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.executor.OrderedBeanOperationExecutor;
+import cn.crane4j.extension.micrometer.MicrometerOperationExecutionListener;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import cn.crane4j.spring.boot.config.Crane4jMicrometerConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * test for {@link Crane4jMicrometerConfiguration}
+ *
+ * @author huangchengxing
+ */
+@TestPropertySource(properties = "spring.config.location = classpath:test.yml")
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Crane4jMicrometerConfigurationTest.MeterRegistryConfiguration.class)
+@ImportAutoConfiguration({Crane4jAutoConfiguration.class, Crane4jMicrometerConfiguration.class})
+public class Crane4jMicrometerConfigurationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void test() {
+        MicrometerOperationExecutionListener listener = applicationContext.getBean(MicrometerOperationExecutionListener.class);
+        Assert.assertNotNull(listener);
+        AbstractBeanOperationExecutor disorderedExecutor = applicationContext.getBean(DisorderedBeanOperationExecutor.class);
+        Assert.assertSame(listener, disorderedExecutor.getExecutionListener());
+        AbstractBeanOperationExecutor orderedExecutor = applicationContext.getBean(OrderedBeanOperationExecutor.class);
+        Assert.assertSame(listener, orderedExecutor.getExecutionListener());
+    }
+
+    @Configuration
+    protected static class MeterRegistryConfiguration {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
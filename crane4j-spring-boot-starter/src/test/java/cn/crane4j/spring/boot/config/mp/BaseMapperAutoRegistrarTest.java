@@ -50,5 +50,7 @@ public class BaseMapperAutoRegistrarTest {
         Map<String, AbstractQueryContainerProvider.Repository<BaseMapper<?>>> mapperInfoMap = containerRegister.getRegisteredRepositories();
         Assert.assertEquals(1, mapperInfoMap.size());
         Assert.assertTrue(mapperInfoMap.containsKey("fooMapper"));
+        // 单次查询的最大key数量
+        Assert.assertEquals(1000, containerRegister.getMaxKeysPerCall());
     }
 }
@@ -0,0 +1,47 @@
+package cn.crane4j.spring.boot.config.reactor;
+
+import cn.crane4j.core.support.aop.MethodResultAutoOperateSupport;
+import cn.crane4j.core.support.auto.MethodBasedAutoOperateAnnotatedElementResolver;
+import cn.crane4j.extension.reactor.ReactiveMethodBasedAutoOperateAnnotatedElementResolver;
+import cn.crane4j.extension.reactor.ReactiveMethodResultAutoOperateSupport;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import cn.crane4j.spring.boot.config.Crane4jReactorConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * test for {@link Crane4jReactorConfiguration}
+ *
+ * @author huangchengxing
+ */
+@TestPropertySource(properties = {
+    "spring.config.location = classpath:test.yml",
+    "crane4j.reactor.window-size = 64"
+})
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Crane4jReactorConfigurationTest.class)
+@ImportAutoConfiguration({Crane4jReactorConfiguration.class, Crane4jAutoConfiguration.class})
+public class Crane4jReactorConfigurationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void test() {
+        MethodResultAutoOperateSupport support = applicationContext.getBean(MethodResultAutoOperateSupport.class);
+        Assert.assertTrue(support instanceof ReactiveMethodResultAutoOperateSupport);
+        Assert.assertEquals(64, ((ReactiveMethodResultAutoOperateSupport)support).getWindowSize());
+        Assert.assertEquals(1, ((ReactiveMethodResultAutoOperateSupport)support).getConcurrency());
+        Assert.assertTrue(
+            applicationContext.getBean(MethodBasedAutoOperateAnnotatedElementResolver.class)
+                instanceof ReactiveMethodBasedAutoOperateAnnotatedElementResolver
+        );
+    }
+}
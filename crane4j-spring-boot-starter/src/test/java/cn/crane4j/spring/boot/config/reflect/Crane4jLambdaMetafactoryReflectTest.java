@@ -0,0 +1,47 @@
+package cn.crane4j.spring.boot.config.reflect;
+
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.reflect.LambdaMetafactoryPropertyOperator;
+import cn.crane4j.core.support.reflect.PropertyOperator;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * test for lambda metafactory reflect configuration in {@link Crane4jAutoConfiguration}
+ *
+ * @author huangchengxing
+ */
+@TestPropertySource(properties = {
+    "spring.config.location = classpath:test.yml",
+    "crane4j.enable-lambda-metafactory-reflect = true"
+})
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Crane4jAutoConfiguration.class)
+@ImportAutoConfiguration(Crane4jAutoConfiguration.class)
+public class Crane4jLambdaMetafactoryReflectTest {
+
+    @Autowired
+    private PropertyOperator propertyOperator;
+
+    @Test
+    public void test() {
+        MethodInvoker getter = propertyOperator.findGetter(Foo.class, "id");
+        Assert.assertTrue(getter instanceof LambdaMetafactoryPropertyOperator.LambdaGetter);
+        Assert.assertEquals(1, getter.invoke(new Foo(1)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Foo {
+        private Integer id;
+    }
+}